@@ -0,0 +1,29 @@
+package com.nhnacademy.common.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 프로세스 내 캐시의 적중/실패 통계 스냅샷입니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public final class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int size;
+
+    /**
+     * 적중률을 반환합니다.
+     *
+     * @return 0.0 ~ 1.0 사이의 적중률, 조회가 없었으면 0.0
+     */
+    public double getHitRate() {
+        long total = hitCount + missCount;
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+}
@@ -0,0 +1,202 @@
+package com.nhnacademy.common.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 크기 제한과 항목별 만료 시각을 가지는 프로세스 내 LRU 캐시입니다.
+ * <p>
+ * 키 해시로 세그먼트를 나누고 세그먼트마다 접근 순서 {@link LinkedHashMap}과 락을 두어 경합을 줄입니다.
+ * 세그먼트가 가득 차면 가장 오래 사용되지 않은 항목을 제거하고(LRU),
+ * 만료 시각이 지난 항목은 조회 시점에 제거합니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class ExpiringLruCache<K, V> {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final Segment<K, V>[] segments;
+    private final int segmentMask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * 캐시를 생성합니다.
+     *
+     * @param maxSize 최대 항목 수 (1 이상)
+     * @throws IllegalArgumentException maxSize가 1 미만인 경우
+     */
+    @SuppressWarnings("unchecked")
+    public ExpiringLruCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("캐시 최대 크기는 1 이상이어야 합니다: " + maxSize);
+        }
+
+        int segmentCount = 1;
+        while (segmentCount < MAX_SEGMENTS && segmentCount * 2 <= maxSize / 64) {
+            segmentCount *= 2;
+        }
+
+        this.segments = new Segment[segmentCount];
+        this.segmentMask = segmentCount - 1;
+
+        int perSegment = Math.max(1, maxSize / segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(perSegment, evictions);
+        }
+    }
+
+    /**
+     * 만료되지 않은 값을 조회합니다.
+     *
+     * @param key 키
+     * @param now 현재 시각 (epoch ms)
+     * @return 캐시된 값, 없거나 만료되었으면 null
+     */
+    public V get(K key, long now) {
+        V value = segmentFor(key).get(key, now);
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    /**
+     * 값을 저장합니다.
+     *
+     * @param key       키
+     * @param value     값
+     * @param expiresAt 만료 시각 (epoch ms), 만료가 없으면 {@link Long#MAX_VALUE}
+     */
+    public void put(K key, V value, long expiresAt) {
+        segmentFor(key).put(key, value, expiresAt);
+    }
+
+    /**
+     * 항목을 제거합니다.
+     *
+     * @param key 키
+     */
+    public void invalidate(K key) {
+        segmentFor(key).remove(key);
+    }
+
+    /**
+     * 모든 항목을 제거합니다.
+     */
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * 현재 항목 수를 반환합니다. (만료되었지만 아직 제거되지 않은 항목 포함)
+     *
+     * @return 항목 수
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * 적중/실패/제거 횟수 스냅샷을 반환합니다.
+     *
+     * @return 캐시 통계
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return segments[h & segmentMask];
+    }
+
+    private static final class Segment<K, V> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<K, Entry<V>> map;
+
+        Segment(int capacity, LongAdder evictions) {
+            this.map = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        V get(K key, long now) {
+            lock.lock();
+            try {
+                Entry<V> entry = map.get(key);
+                if (entry == null) {
+                    return null;
+                }
+                if (entry.expiresAt <= now) {
+                    map.remove(key);
+                    return null;
+                }
+                return entry.value;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void put(K key, V value, long expiresAt) {
+            lock.lock();
+            try {
+                map.put(key, new Entry<>(value, expiresAt));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(K key) {
+            lock.lock();
+            try {
+                map.remove(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear() {
+            lock.lock();
+            try {
+                map.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return map.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
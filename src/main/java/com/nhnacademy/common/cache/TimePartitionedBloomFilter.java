@@ -0,0 +1,156 @@
+package com.nhnacademy.common.cache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 항목의 만료 시각으로 구간을 나눈 Bloom filter입니다.
+ * <p>
+ * 항목은 만료 시각이 속한 구간의 필터에만 기록되고, 조회도 조회 대상의 만료 시각이 속한 구간 하나만 확인합니다.
+ * 구간이 끝나면 그 구간의 필터를 통째로 버리므로, 만료된 항목을 지우지 못하는 Bloom filter의 한계 없이
+ * 오탐률이 일정하게 유지됩니다.
+ * <p>
+ * 기록하는 쪽과 조회하는 쪽이 계산한 만료 시각이 조금 다를 수 있으므로(예: Redis TTL로 역산한 값),
+ * 기록할 때 만료 시각 앞뒤 {@code skewMillis} 범위가 걸치는 구간에 모두 기록합니다.
+ * <p>
+ * "없음"은 확실하고 "있음"은 오탐일 수 있습니다. 비트는 {@link AtomicLongArray}에 기록하므로 락 없이 동시에 사용할 수 있습니다.
+ */
+public class TimePartitionedBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final long sliceMillis;
+    private final long skewMillis;
+    private final int bitCount;
+    private final int hashCount;
+    private final ConcurrentMap<Long, AtomicLongArray> partitions = new ConcurrentHashMap<>();
+
+    /**
+     * 필터를 생성합니다.
+     *
+     * @param sliceMillis        구간 길이 (ms)
+     * @param skewMillis         만료 시각 허용 오차 (ms)
+     * @param expectedInsertions 구간 하나에 들어올 것으로 예상하는 항목 수
+     * @param falsePositiveRate  목표 오탐률 (0 초과 1 미만)
+     * @throws IllegalArgumentException 인자가 올바르지 않은 경우
+     */
+    public TimePartitionedBloomFilter(long sliceMillis, long skewMillis, int expectedInsertions, double falsePositiveRate) {
+        if (sliceMillis <= 0 || skewMillis < 0 || expectedInsertions < 1
+                || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Bloom filter 설정이 올바르지 않습니다.");
+        }
+
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, bits));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * LN2));
+        this.sliceMillis = sliceMillis;
+        this.skewMillis = skewMillis;
+    }
+
+    /**
+     * 항목을 기록합니다.
+     *
+     * @param member    항목
+     * @param expiresAt 항목의 만료 시각 (epoch ms)
+     */
+    public void put(String member, long expiresAt) {
+        long hash1 = hash(member);
+        long hash2 = mix(hash1 + 0x9E3779B97F4A7C15L) | 1L;
+
+        long first = sliceOf(expiresAt - skewMillis);
+        long last = sliceOf(expiresAt + skewMillis);
+        for (long slice = first; slice <= last; slice++) {
+            AtomicLongArray bits = partitions.computeIfAbsent(slice, s -> new AtomicLongArray((bitCount + 63) >>> 6));
+            for (int i = 0; i < hashCount; i++) {
+                int bit = index(hash1, hash2, i);
+                long mask = 1L << bit;
+                int word = bit >>> 6;
+                long current = bits.get(word);
+                while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                    current = bits.get(word);
+                }
+            }
+        }
+    }
+
+    /**
+     * 항목이 기록되었을 수 있는지 확인합니다.
+     *
+     * @param member    항목
+     * @param expiresAt 항목의 만료 시각 (epoch ms)
+     * @return 기록되지 않았음이 확실하면 false
+     */
+    public boolean mightContain(String member, long expiresAt) {
+        AtomicLongArray bits = partitions.get(sliceOf(expiresAt));
+        if (bits == null) {
+            return false;
+        }
+
+        long hash1 = hash(member);
+        long hash2 = mix(hash1 + 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            int bit = index(hash1, hash2, i);
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 끝난 구간의 필터를 버립니다.
+     *
+     * @param now 현재 시각 (epoch ms)
+     * @return 버린 구간 수
+     */
+    public int expire(long now) {
+        long current = sliceOf(now);
+        int before = partitions.size();
+        partitions.keySet().removeIf(slice -> slice < current);
+        return before - partitions.size();
+    }
+
+    /**
+     * @return 현재 유지 중인 구간 수
+     */
+    public int partitionCount() {
+        return partitions.size();
+    }
+
+    /**
+     * @return 구간 하나의 비트 수
+     */
+    public int bitsPerPartition() {
+        return bitCount;
+    }
+
+    private long sliceOf(long epochMillis) {
+        return Math.floorDiv(epochMillis, sliceMillis);
+    }
+
+    private int index(long hash1, long hash2, int i) {
+        return (int) Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+    }
+
+    /**
+     * 문자열의 64비트 해시 (문자 단위 FNV-1a 후 MurmurHash3 fmix64로 섞음)
+     */
+    private static long hash(String member) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < member.length(); i++) {
+            h ^= member.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,115 @@
+package com.nhnacademy.common.config;
+
+import com.nhnacademy.common.exception.AesCryptoException;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * AES-256-GCM 기반 구현체입니다. ({@code aes.cipher.mode=gcm})
+ * <p>
+ * AES-GCM은 JDK의 AES-NI/CLMUL intrinsic으로 처리되며, {@link Cipher} 인스턴스와 IV 생성용 {@link SecureRandom}을
+ * 스레드마다 하나씩 재사용하여 호출마다 provider 조회를 반복하지 않습니다.
+ * <p>
+ * 암호문 형식: {@code g1.} + Base64URL(IV 12바이트 || 암호문 || 인증 태그 16바이트).
+ * 접두사에 포함된 {@code .}는 표준 Base64에 없는 문자이므로 기존 {@code AESUtil} 암호문과 구분됩니다.
+ */
+class AesGcmUserIdCipher implements UserIdCipher {
+
+    static final String PREFIX = "g1.";
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+    private static final int TAG_LENGTH = TAG_BITS / 8;
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<Cipher> ciphers = ThreadLocal.withInitial(AesGcmUserIdCipher::newCipher);
+    private final ThreadLocal<SecureRandom> randoms = ThreadLocal.withInitial(SecureRandom::new);
+
+    /**
+     * 설정된 AES 비밀값의 SHA-256 해시를 AES-256 키로 사용합니다.
+     *
+     * @param secret aes.secret.key 설정값
+     */
+    AesGcmUserIdCipher(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("❌ aes.secret.key 설정이 누락되었습니다.");
+        }
+        this.key = new SecretKeySpec(sha256(secret), "AES");
+    }
+
+    @Override
+    public String encrypt(String userId) {
+        byte[] plain = userId.getBytes(StandardCharsets.UTF_8);
+        byte[] out = new byte[IV_LENGTH + plain.length + TAG_LENGTH];
+
+        byte[] iv = new byte[IV_LENGTH];
+        randoms.get().nextBytes(iv);
+        System.arraycopy(iv, 0, out, 0, IV_LENGTH);
+
+        try {
+            Cipher cipher = ciphers.get();
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.doFinal(plain, 0, plain.length, out, IV_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new AesCryptoException("사용자 ID 암호화 중 예외 발생", e);
+        }
+
+        return PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(out);
+    }
+
+    @Override
+    public String decrypt(String cipherText) {
+        if (!isGcmCipherText(cipherText)) {
+            throw new AesCryptoException("AES-GCM 암호문 형식이 아닙니다.");
+        }
+
+        try {
+            byte[] data = Base64.getUrlDecoder().decode(cipherText.substring(PREFIX.length()));
+            if (data.length < IV_LENGTH + TAG_LENGTH) {
+                throw new AesCryptoException("AES-GCM 암호문 길이가 올바르지 않습니다.");
+            }
+
+            Cipher cipher = ciphers.get();
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, data, 0, IV_LENGTH));
+            byte[] plain = cipher.doFinal(data, IV_LENGTH, data.length - IV_LENGTH);
+            return new String(plain, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new AesCryptoException("사용자 ID 복호화 중 예외 발생", e);
+        }
+    }
+
+    /**
+     * 이 구현체가 만든 암호문인지 접두사로 판별합니다.
+     *
+     * @param cipherText 암호문
+     * @return AES-GCM 암호문이면 true
+     */
+    static boolean isGcmCipherText(String cipherText) {
+        return cipherText != null && cipherText.startsWith(PREFIX);
+    }
+
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(TRANSFORMATION + " Cipher를 생성할 수 없습니다.", e);
+        }
+    }
+
+    private static byte[] sha256(String secret) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
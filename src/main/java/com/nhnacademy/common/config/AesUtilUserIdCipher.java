@@ -0,0 +1,39 @@
+package com.nhnacademy.common.config;
+
+import com.common.AESUtil;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기존 공용 라이브러리 {@link AESUtil}을 그대로 사용하는 구현체입니다. ({@code aes.cipher.mode=legacy})
+ * <p>
+ * AESUtil의 암호화 방식은 외부 라이브러리에 정해져 있으므로, 결정적인지 여부는 같은 값을 두 번 암호화해 확인합니다.
+ */
+@RequiredArgsConstructor
+class AesUtilUserIdCipher implements UserIdCipher {
+
+    private static final String DETERMINISM_PROBE = "determinism-probe@nhnacademy.com";
+
+    private final AESUtil aesUtil;
+    private volatile Boolean deterministic;
+
+    @Override
+    public String encrypt(String userId) {
+        return aesUtil.encrypt(userId);
+    }
+
+    @Override
+    public String decrypt(String cipherText) {
+        return aesUtil.decrypt(cipherText);
+    }
+
+    @Override
+    public boolean isDeterministic() {
+        Boolean result = deterministic;
+        if (result == null) {
+            String first = aesUtil.encrypt(DETERMINISM_PROBE);
+            result = first != null && first.equals(aesUtil.encrypt(DETERMINISM_PROBE));
+            deterministic = result;
+        }
+        return result;
+    }
+}
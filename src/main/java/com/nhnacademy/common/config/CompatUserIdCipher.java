@@ -0,0 +1,29 @@
+package com.nhnacademy.common.config;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AES-GCM으로 전환하는 동안 사용하는 호환 구현체입니다. ({@code aes.cipher.mode=compat})
+ * <p>
+ * 새로 발급하는 토큰은 AES-GCM으로 암호화하고, 복호화는 접두사를 보고 AES-GCM 또는 기존 {@code AESUtil} 중 하나로 처리합니다.
+ * 전환 전에 발급된 토큰도 만료될 때까지 그대로 사용할 수 있으므로 강제 로그아웃이 발생하지 않습니다.
+ */
+@RequiredArgsConstructor
+class CompatUserIdCipher implements UserIdCipher {
+
+    private final AesGcmUserIdCipher gcm;
+    private final UserIdCipher legacy;
+
+    @Override
+    public String encrypt(String userId) {
+        return gcm.encrypt(userId);
+    }
+
+    @Override
+    public String decrypt(String cipherText) {
+        if (AesGcmUserIdCipher.isGcmCipherText(cipherText)) {
+            return gcm.decrypt(cipherText);
+        }
+        return legacy.decrypt(cipherText);
+    }
+}
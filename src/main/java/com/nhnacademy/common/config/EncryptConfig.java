@@ -6,10 +6,20 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
- * AES 암호화 유틸 {@link AESUtil}을 Spring Bean으로 등록하는 설정 클래스입니다.
+ * AES 암호화 유틸 {@link AESUtil}과 사용자 ID 암호화 {@link UserIdCipher}를 Spring Bean으로 등록하는 설정 클래스입니다.
  * <p>
  * application.properties 또는 환경 변수에서 주입된 AES 키를 이용해
  * AESUtil에 키를 설정하고 단일 Bean으로 제공합니다.
+ * <p>
+ * {@code aes.cipher.mode}로 access token의 user_id 암호화 방식을 선택합니다.
+ * <ul>
+ *     <li>{@code legacy} (기본값): 기존 {@link AESUtil}</li>
+ *     <li>{@code compat}: AES-GCM으로 암호화하고, 복호화는 AES-GCM과 기존 AESUtil 암호문을 모두 지원</li>
+ *     <li>{@code gcm}: AES-GCM만 사용 (전환 전 토큰이 모두 만료된 뒤)</li>
+ * </ul>
+ * user_id를 직접 복호화하는 다른 서비스가 있다면 새 형식을 지원한 뒤에 {@code compat}으로 전환해야 합니다.
+ * <p>
+ * {@code aes.cipher.memo.enabled=true}이면 선택된 구현체 앞에 {@link MemoizingUserIdCipher}를 둡니다.
  */
 @Configuration
 public class EncryptConfig {
@@ -17,6 +27,15 @@ public class EncryptConfig {
     @Value("${aes.secret.key}")
     private String secretKey;
 
+    @Value("${aes.cipher.mode:legacy}")
+    private String cipherMode;
+
+    @Value("${aes.cipher.memo.enabled:false}")
+    private boolean memoEnabled;
+
+    @Value("${aes.cipher.memo.max-size:10000}")
+    private int memoMaxSize;
+
     /**
      * AESUtil Bean 등록
      *
@@ -28,4 +47,29 @@ public class EncryptConfig {
         aesUtil.setKey(secretKey);
         return aesUtil;
     }
+
+    /**
+     * UserIdCipher Bean 등록
+     *
+     * @param aesUtil 기존 AES 유틸 (legacy, compat 모드에서 사용)
+     * @return aes.cipher.mode에 맞는 UserIdCipher (메모이제이션 설정 시 캐시로 감싼 구현체)
+     * @throws IllegalStateException 지원하지 않는 모드인 경우
+     */
+    @Bean
+    public UserIdCipher userIdCipher(AESUtil aesUtil) {
+        UserIdCipher cipher = createCipher(aesUtil);
+        return memoEnabled ? new MemoizingUserIdCipher(cipher, memoMaxSize) : cipher;
+    }
+
+    private UserIdCipher createCipher(AESUtil aesUtil) {
+        UserIdCipher legacy = new AesUtilUserIdCipher(aesUtil);
+
+        return switch (cipherMode) {
+            case "legacy" -> legacy;
+            case "gcm" -> new AesGcmUserIdCipher(secretKey);
+            case "compat" -> new CompatUserIdCipher(new AesGcmUserIdCipher(secretKey), legacy);
+            default -> throw new IllegalStateException(
+                    "❌ 지원하지 않는 aes.cipher.mode 입니다: " + cipherMode + " (legacy, compat, gcm 중 하나)");
+        };
+    }
 }
@@ -0,0 +1,82 @@
+package com.nhnacademy.common.config;
+
+import com.nhnacademy.common.cache.CacheStats;
+import com.nhnacademy.common.cache.ExpiringLruCache;
+
+/**
+ * {@link UserIdCipher} 앞에 두는 크기 제한 양방향 메모이제이션 캐시입니다. ({@code aes.cipher.memo.enabled=true})
+ * <p>
+ * 같은 사용자들이 하루 종일 로그인과 재발급을 반복하므로, 사용자 ID → 암호문과 암호문 → 사용자 ID 결과를 재사용하여
+ * 토큰 발급/검증 경로의 AES 연산을 대부분 없앱니다.
+ * <p>
+ * 암호화가 결정적이지 않은 경우(AES-GCM 등) 암호화 결과는 캐시하지 않습니다.
+ * 대신 방금 만든 암호문 → 사용자 ID를 복호화 캐시에 넣어 두어, 발급한 토큰이 처음 돌아올 때도 복호화를 생략합니다.
+ */
+public class MemoizingUserIdCipher implements UserIdCipher {
+
+    private final UserIdCipher delegate;
+    private final ExpiringLruCache<String, String> encryptCache;
+    private final ExpiringLruCache<String, String> decryptCache;
+
+    /**
+     * @param delegate 실제 암호화를 수행하는 구현체
+     * @param maxSize  방향별 최대 항목 수
+     */
+    public MemoizingUserIdCipher(UserIdCipher delegate, int maxSize) {
+        this.delegate = delegate;
+        this.encryptCache = delegate.isDeterministic() ? new ExpiringLruCache<>(maxSize) : null;
+        this.decryptCache = new ExpiringLruCache<>(maxSize);
+    }
+
+    @Override
+    public String encrypt(String userId) {
+        if (encryptCache != null) {
+            String cached = encryptCache.get(userId, 0L);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        String cipherText = delegate.encrypt(userId);
+        if (encryptCache != null) {
+            encryptCache.put(userId, cipherText, Long.MAX_VALUE);
+        }
+        decryptCache.put(cipherText, userId, Long.MAX_VALUE);
+        return cipherText;
+    }
+
+    @Override
+    public String decrypt(String cipherText) {
+        String cached = decryptCache.get(cipherText, 0L);
+        if (cached != null) {
+            return cached;
+        }
+
+        String userId = delegate.decrypt(cipherText);
+        decryptCache.put(cipherText, userId, Long.MAX_VALUE);
+        return userId;
+    }
+
+    @Override
+    public boolean isDeterministic() {
+        return delegate.isDeterministic();
+    }
+
+    /**
+     * 암호화 방향 캐시 통계를 반환합니다.
+     *
+     * @return 캐시 통계, 비결정적 암호화라 암호화 결과를 캐시하지 않으면 null
+     */
+    public CacheStats getEncryptStats() {
+        return encryptCache != null ? encryptCache.stats() : null;
+    }
+
+    /**
+     * 복호화 방향 캐시 통계를 반환합니다.
+     *
+     * @return 캐시 통계
+     */
+    public CacheStats getDecryptStats() {
+        return decryptCache.stats();
+    }
+}
@@ -1,41 +1,213 @@
 package com.nhnacademy.common.config;
 
+import com.nhnacademy.common.exception.InvalidRedisConfigException;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
 /**
  * Redis 설정 클래스입니다.
  * <p>
- * 이 클래스는 RefreshToken, AccessToken 블랙리스트 용 Redis 인스턴스를 각각 설정하며,
- * 서로 다른 DB index를 사용하여 독립적으로 분리된 Redis 공간을 제공합니다.
+ * 이 클래스는 RefreshToken, AccessToken 블랙리스트 용 Redis 연결을 설정하며, {@code redis.layout}으로 구성을 선택합니다.
+ * <ul>
+ *     <li>{@code databases} (기본값): 저장소마다 서로 다른 DB index(270, 271)와 연결을 사용합니다.</li>
+ *     <li>{@code shared}: 두 저장소가 {@code redis.shared.database}의 한 연결을 함께 사용하고, key 접두사로만 구분합니다.
+ *     두 RedisTemplate이 같은 연결 팩토리를 쓰므로 로그아웃처럼 두 저장소를 함께 쓰는 작업을 한 파이프라인으로 보낼 수 있습니다.
+ *     기존 DB의 key는 {@link com.nhnacademy.common.redis.RedisLayoutMigrator}로 옮깁니다.</li>
+ * </ul>
+ * <p>
+ * 모든 연결 팩토리는 코어 수에 맞춘 하나의 {@link ClientResources}(I/O, 계산 스레드)를 함께 사용합니다.
+ * Redis가 멈추거나 연결이 끊기면 명령은 {@code redis.client.command-timeout-ms} 안에 실패하고,
+ * 응답을 기다리는 명령은 {@code redis.client.request-queue-size}까지만 쌓이므로 요청 스레드가 무한히 묶이지 않습니다.
+ * <p>
+ * {@code token.store.type=memory}이면 이 설정 전체를 등록하지 않으므로 Redis 서버와 {@code redis.*} 설정 없이 시작할 수 있습니다.
+ * <p>
+ * 모든 명령은 primary로 보내며 replica 읽기는 지원하지 않습니다. 블랙리스트와 폐기 기준 시각은 로그아웃 직후에도
+ * 바로 보여야 하고, refresh 세션은 재발급에서 읽은 값으로 바로 고쳐 쓰므로(read-modify-write) 복제 지연이 있는 값을 읽으면 안 됩니다.
+ * Sentinel, Cluster의 replica는 장애 조치에만 쓰입니다.
  * </p>
  */
 @Slf4j
 @Configuration
 @EnableRedisRepositories
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "token.store.type", havingValue = "redis", matchIfMissing = true)
 public class RedisConfig {
 
-    @Value("${redis.host}")
+    /**
+     * refresh token, subject 매핑을 저장하는 DB 인덱스
+     */
+    public static final int REFRESH_TOKEN_DATABASE = 270;
+
+    /**
+     * access token 블랙리스트, 사용자별 폐기 기준 시각을 저장하는 DB 인덱스
+     */
+    public static final int BLACKLIST_DATABASE = 271;
+
+    @Value("${redis.topology:standalone}")
+    private String topology;
+
+    @Value("${redis.host:localhost}")
     private String host;
 
-    @Value("${redis.port}")
+    @Value("${redis.port:6379}")
     private int port;
 
-    @Value("${redis.password}")
+    @Value("${redis.password:}")
     private String password;
 
+    @Value("${redis.layout:databases}")
+    private String layout;
+
+    @Value("${redis.shared.database:0}")
+    private int sharedDatabase;
+
+    @Value("${redis.sentinel.master:}")
+    private String sentinelMaster;
+
+    @Value("${redis.sentinel.nodes:}")
+    private List<String> sentinelNodes;
+
+    @Value("${redis.cluster.nodes:}")
+    private List<String> clusterNodes;
+
+    @Value("${redis.cluster.max-redirects:3}")
+    private int clusterMaxRedirects;
+
+    @Value("${redis.key.hash-tags:false}")
+    private boolean hashTags;
+
+    @Value("${redis.client.command-timeout-ms:2000}")
+    private long commandTimeoutMillis;
+
+    @Value("${redis.client.connect-timeout-ms:1000}")
+    private long connectTimeoutMillis;
+
+    @Value("${redis.client.request-queue-size:10000}")
+    private int requestQueueSize;
+
+    @Value("${redis.client.auto-reconnect:true}")
+    private boolean autoReconnect;
+
+    @Value("${redis.client.disconnected-behavior:reject-commands}")
+    private String disconnectedBehavior;
+
+    @Value("${redis.client.connection-mode:shared}")
+    private String connectionMode;
+
+    @Value("${redis.client.pool.max-active:16}")
+    private int poolMaxActive;
+
+    @Value("${redis.client.pool.max-idle:16}")
+    private int poolMaxIdle;
+
+    @Value("${redis.client.pool.min-idle:0}")
+    private int poolMinIdle;
+
+    @Value("${redis.client.pool.max-wait-ms:500}")
+    private long poolMaxWaitMillis;
+
+    /**
+     * 현재 Redis 구성
+     *
+     * @return 저장소별 DB 인덱스와 연결 공유 여부
+     */
+    @Bean
+    public RedisLayout redisLayout() {
+        RedisLayout redisLayout;
+        if ("shared".equalsIgnoreCase(layout)) {
+            log.info("[RedisConfig] 공유 연결 구성 - database={}", sharedDatabase);
+            redisLayout = new RedisLayout(true, sharedDatabase, sharedDatabase);
+        } else if ("databases".equalsIgnoreCase(layout)) {
+            redisLayout = new RedisLayout(false, REFRESH_TOKEN_DATABASE, BLACKLIST_DATABASE);
+        } else {
+            throw new InvalidRedisConfigException("redis.layout은 databases 또는 shared여야 합니다: " + layout);
+        }
+
+        if (RedisTopology.from(topology) == RedisTopology.CLUSTER) {
+            if (!redisLayout.shared() || redisLayout.refreshTokenDatabase() != 0) {
+                throw new InvalidRedisConfigException(
+                        "Redis Cluster는 DB 0만 사용하므로 redis.layout=shared, redis.shared.database=0이어야 합니다.");
+            }
+            if (!hashTags) {
+                throw new InvalidRedisConfigException(
+                        "Redis Cluster에서는 사용자별 key가 같은 slot에 있도록 redis.key.hash-tags=true여야 합니다.");
+            }
+        }
+        return redisLayout;
+    }
+
+    /**
+     * 모든 연결 팩토리가 함께 사용하는 Lettuce 스레드 자원 (I/O, 계산 스레드 모두 코어 수, 최소 2개)
+     *
+     * @return ClientResources
+     */
+    @Bean(name = "redisClientResources", destroyMethod = "shutdown")
+    public ClientResources redisClientResources() {
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        log.info("[RedisConfig] Lettuce 스레드 자원 생성 - ioThreads={}, computationThreads={}", threads, threads);
+        return DefaultClientResources.builder()
+                .ioThreadPoolSize(threads)
+                .computationThreadPoolSize(threads)
+                .build();
+    }
+
+    /**
+     * {@code redis.topology}에 맞는 연결 팩토리 생성 유틸리티
+     * <p>
+     * 저장소 Bean 밖에서 같은 서버, 같은 클라이언트 설정으로 다른 DB에 연결할 때도 사용하며,
+     * 그때 생명주기({@code afterPropertiesSet}, {@code destroy})는 호출한 쪽이 관리합니다.
+     * (예: {@link com.nhnacademy.common.redis.RedisLayoutMigrator}의 원본 DB 연결)
+     *
+     * @param database        Redis DB 인덱스 (예: 270 = refresh, 271 = blacklist, Cluster에서는 사용하지 않음)
+     * @param clientResources 함께 사용하는 Lettuce 스레드 자원
+     * @return 초기화되지 않은 LettuceConnectionFactory
+     */
+    public LettuceConnectionFactory connectionFactory(int database, ClientResources clientResources) {
+        RedisTopology redisTopology = RedisTopology.from(topology);
+        RedisConnectionMode mode = RedisConnectionMode.from(connectionMode);
+        log.info("[RedisConfig] 연결 구성 - topology={}, database={}, connectionMode={}", redisTopology, database, mode);
+
+        LettuceClientConfiguration clientConfig = clientConfig(redisTopology, mode, clientResources);
+        LettuceConnectionFactory factory = switch (redisTopology) {
+            case STANDALONE -> new LettuceConnectionFactory(redisConfig(database), clientConfig);
+            case SENTINEL -> new LettuceConnectionFactory(sentinelConfig(database), clientConfig);
+            case CLUSTER -> new LettuceConnectionFactory(clusterConfig(), clientConfig);
+        };
+        factory.setShareNativeConnection(mode == RedisConnectionMode.SHARED);
+        return factory;
+    }
+
     /**
      * Redis 연결 설정 생성 유틸리티
      *
@@ -51,6 +223,120 @@ public class RedisConfig {
         return config;
     }
 
+    /**
+     * Sentinel 연결 설정 생성 유틸리티 (현재 primary는 Sentinel에 물어서 찾음)
+     *
+     * @param database Redis DB 인덱스
+     * @return 구성된 RedisSentinelConfiguration
+     */
+    private RedisSentinelConfiguration sentinelConfig(int database) {
+        Set<String> nodes = new LinkedHashSet<>(nodesOf(sentinelNodes, "redis.sentinel.nodes"));
+        if (sentinelMaster == null || sentinelMaster.isBlank()) {
+            throw new InvalidRedisConfigException("redis.topology=sentinel에는 redis.sentinel.master가 필요합니다.");
+        }
+
+        RedisSentinelConfiguration config = new RedisSentinelConfiguration(sentinelMaster.trim(), nodes);
+        config.setPassword(RedisPassword.of(password));
+        config.setDatabase(database);
+        return config;
+    }
+
+    /**
+     * Cluster 연결 설정 생성 유틸리티 (나머지 노드와 slot 배치는 시작 노드에서 조회)
+     *
+     * @return 구성된 RedisClusterConfiguration
+     */
+    private RedisClusterConfiguration clusterConfig() {
+        RedisClusterConfiguration config = new RedisClusterConfiguration(nodesOf(clusterNodes, "redis.cluster.nodes"));
+        config.setMaxRedirects(clusterMaxRedirects);
+        config.setPassword(RedisPassword.of(password));
+        return config;
+    }
+
+    /**
+     * Lettuce 클라이언트 설정 생성 유틸리티
+     * <p>
+     * 타임아웃, 요청 큐 크기, 연결이 끊겼을 때의 동작과 연결 방식을 설정합니다. (읽기 노드는 지정하지 않으므로 모든 명령을 primary로 보냄)
+     *
+     * @param redisTopology   Redis 서버 구성 (Cluster는 Cluster용 클라이언트 옵션이 필요)
+     * @param mode            연결 방식
+     * @param clientResources 함께 사용하는 Lettuce 스레드 자원
+     * @return Lettuce 클라이언트 설정
+     */
+    private LettuceClientConfiguration clientConfig(RedisTopology redisTopology, RedisConnectionMode mode,
+                                                    ClientResources clientResources) {
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = mode == RedisConnectionMode.POOLED
+                ? LettucePoolingClientConfiguration.builder().poolConfig(poolConfig())
+                : LettuceClientConfiguration.builder();
+        return builder.clientResources(clientResources)
+                .clientOptions(clientOptions(redisTopology))
+                .commandTimeout(Duration.ofMillis(positive(commandTimeoutMillis, "redis.client.command-timeout-ms")))
+                .build();
+    }
+
+    /**
+     * 연결, 요청 큐, 재연결 옵션 생성 유틸리티
+     * <p>
+     * 명령 타임아웃을 켜 두어 응답이 없는 명령은 큐에서 빠지고, 연결이 끊긴 동안의 명령은
+     * {@code redis.client.disconnected-behavior}에 따라 바로 거절하거나 큐 크기까지만 받아 둡니다.
+     */
+    private ClientOptions clientOptions(RedisTopology redisTopology) {
+        ClientOptions.Builder options = redisTopology == RedisTopology.CLUSTER
+                ? ClusterClientOptions.builder()
+                : ClientOptions.builder();
+        return options
+                .autoReconnect(autoReconnect)
+                .requestQueueSize(positive(requestQueueSize, "redis.client.request-queue-size"))
+                .disconnectedBehavior(disconnectedBehavior())
+                .socketOptions(SocketOptions.builder()
+                        .connectTimeout(Duration.ofMillis(positive(connectTimeoutMillis, "redis.client.connect-timeout-ms")))
+                        .keepAlive(true)
+                        .build())
+                .timeoutOptions(TimeoutOptions.enabled())
+                .build();
+    }
+
+    /**
+     * {@code redis.client.connection-mode=pooled}일 때의 연결 풀 설정 (빌리는 쪽은 {@code max-wait-ms}까지만 대기)
+     */
+    private GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig() {
+        GenericObjectPoolConfig<StatefulConnection<?, ?>> config = new GenericObjectPoolConfig<>();
+        config.setMaxTotal(positive(poolMaxActive, "redis.client.pool.max-active"));
+        config.setMaxIdle(Math.min(poolMaxIdle, poolMaxActive));
+        config.setMinIdle(Math.min(poolMinIdle, poolMaxIdle));
+        config.setMaxWait(Duration.ofMillis(positive(poolMaxWaitMillis, "redis.client.pool.max-wait-ms")));
+        config.setBlockWhenExhausted(true);
+        return config;
+    }
+
+    private ClientOptions.DisconnectedBehavior disconnectedBehavior() {
+        String value = disconnectedBehavior == null ? "" : disconnectedBehavior.trim().replace('-', '_').toUpperCase(Locale.ROOT);
+        try {
+            return ClientOptions.DisconnectedBehavior.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRedisConfigException(
+                    "redis.client.disconnected-behavior는 default, accept-commands, reject-commands 중 하나여야 합니다: " + disconnectedBehavior);
+        }
+    }
+
+    private static <T extends Number> T positive(T value, String property) {
+        if (value.longValue() < 1) {
+            throw new InvalidRedisConfigException(property + "는 1 이상이어야 합니다: " + value);
+        }
+        return value;
+    }
+
+    private static List<String> nodesOf(List<String> values, String property) {
+        List<String> nodes = values == null ? List.of() : values.stream()
+                .map(String::trim)
+                .filter(node -> !node.isEmpty())
+                .toList();
+        if (nodes.isEmpty()) {
+            throw new InvalidRedisConfigException(property + "에 host:port 목록이 필요합니다.");
+        }
+        return nodes;
+    }
+
     /**
      * RedisTemplate 생성 유틸리티
      *
@@ -62,28 +348,35 @@ public class RedisConfig {
         template.setConnectionFactory(factory);
         template.setKeySerializer(new StringRedisSerializer());
         template.setValueSerializer(new StringRedisSerializer());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(new StringRedisSerializer());
         return template;
     }
 
     /**
-     * RefreshToken 용 Redis ConnectionFactory
+     * RefreshToken 용 Redis ConnectionFactory ({@code shared} 구성에서는 두 저장소가 함께 사용)
      *
-     * @return LettuceConnectionFactory (DB 270)
+     * @param redisLayout     현재 Redis 구성
+     * @param clientResources 함께 사용하는 Lettuce 스레드 자원
+     * @return LettuceConnectionFactory (DB 270, {@code shared} 구성이면 {@code redis.shared.database})
      */
     @Primary
     @Bean(name = "refreshTokenRedisConnectionFactory")
-    public LettuceConnectionFactory refreshTokenRedisConnectionFactory() {
-        return new LettuceConnectionFactory(redisConfig(270));
+    public LettuceConnectionFactory refreshTokenRedisConnectionFactory(RedisLayout redisLayout, ClientResources clientResources) {
+        return connectionFactory(redisLayout.refreshTokenDatabase(), clientResources);
     }
 
     /**
-     * AccessToken 블랙리스트 용 Redis ConnectionFactory
+     * AccessToken 블랙리스트 용 Redis ConnectionFactory ({@code databases} 구성에서만 등록)
      *
-     * @return LettuceConnectionFactory (DB 271)
+     * @param redisLayout     현재 Redis 구성
+     * @param clientResources 함께 사용하는 Lettuce 스레드 자원
+     * @return LettuceConnectionFactory (DB 271, {@code shared} 구성이면 {@code redis.shared.database})
      */
     @Bean(name = "accessTokenBlacklistRedisConnectionFactory")
-    public LettuceConnectionFactory accessTokenBlacklistRedisConnectionFactory() {
-        return new LettuceConnectionFactory(redisConfig(271));
+    @ConditionalOnProperty(name = "redis.layout", havingValue = "databases", matchIfMissing = true)
+    public LettuceConnectionFactory accessTokenBlacklistRedisConnectionFactory(RedisLayout redisLayout, ClientResources clientResources) {
+        return connectionFactory(redisLayout.blacklistDatabase(), clientResources);
     }
 
     /**
@@ -102,12 +395,14 @@ public class RedisConfig {
     /**
      * AccessToken 블랙리스트 RedisTemplate Bean
      *
-     * @param connectionFactory 블랙리스트용 Redis 연결 팩토리
+     * @param connectionFactory       블랙리스트용 Redis 연결 팩토리 ({@code shared} 구성이면 없음)
+     * @param sharedConnectionFactory {@code shared} 구성에서 함께 사용하는 연결 팩토리
      * @return RedisTemplate
      */
     @Bean(name = "accessTokenBlacklistRedisTemplate")
     public RedisTemplate<String, Object> accessTokenBlacklistRedisTemplate(
-            @Qualifier("accessTokenBlacklistRedisConnectionFactory") LettuceConnectionFactory connectionFactory) {
-        return createTemplate(connectionFactory);
+            @Qualifier("accessTokenBlacklistRedisConnectionFactory") ObjectProvider<LettuceConnectionFactory> connectionFactory,
+            @Qualifier("refreshTokenRedisConnectionFactory") LettuceConnectionFactory sharedConnectionFactory) {
+        return createTemplate(connectionFactory.getIfAvailable(() -> sharedConnectionFactory));
     }
 }
@@ -0,0 +1,36 @@
+package com.nhnacademy.common.config;
+
+import com.nhnacademy.common.exception.InvalidRedisConfigException;
+
+import java.util.Locale;
+
+/**
+ * 연결 팩토리가 명령을 보낼 연결을 얻는 방식입니다. ({@code redis.client.connection-mode})
+ */
+public enum RedisConnectionMode {
+
+    /**
+     * 모든 요청 스레드가 하나의 네이티브 연결을 함께 사용합니다. (Lettuce가 명령을 한 연결에 다중화)
+     */
+    SHARED,
+
+    /**
+     * 요청마다 연결 풀에서 연결을 빌려 사용합니다. 풀이 비면 {@code redis.client.pool.max-wait-ms}까지만 기다립니다.
+     */
+    POOLED;
+
+    /**
+     * 설정 값으로부터 연결 방식을 찾습니다.
+     *
+     * @param value {@code shared} 또는 {@code pooled} (대소문자 무시)
+     * @return 연결 방식
+     * @throws InvalidRedisConfigException 알 수 없는 값인 경우
+     */
+    public static RedisConnectionMode from(String value) {
+        return switch (value == null ? "" : value.trim().toLowerCase(Locale.ROOT)) {
+            case "shared" -> SHARED;
+            case "pooled" -> POOLED;
+            default -> throw new InvalidRedisConfigException("지원하지 않는 redis.client.connection-mode: " + value);
+        };
+    }
+}
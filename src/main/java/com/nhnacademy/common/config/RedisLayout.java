@@ -0,0 +1,14 @@
+package com.nhnacademy.common.config;
+
+/**
+ * refresh token 저장소와 블랙리스트 저장소가 Redis의 어느 DB에 있는지 나타냅니다.
+ * <p>
+ * 두 저장소의 key는 접두사로 서로 겹치지 않으므로({@code refreshToken:}, {@code sessions:}, {@code reissued:}, {@code subject:}
+ * / {@code bl:}, {@code blacklist:}, {@code revokedBefore:}) 같은 DB에 함께 둘 수 있습니다.
+ *
+ * @param shared               두 저장소가 하나의 연결과 DB를 함께 사용하면 true
+ * @param refreshTokenDatabase refresh token, 세션, subject 매핑 DB 인덱스
+ * @param blacklistDatabase    블랙리스트, 사용자별 폐기 기준 시각 DB 인덱스
+ */
+public record RedisLayout(boolean shared, int refreshTokenDatabase, int blacklistDatabase) {
+}
@@ -0,0 +1,71 @@
+package com.nhnacademy.common.config;
+
+import com.nhnacademy.common.exception.InvalidRedisConfigException;
+import com.nhnacademy.common.redis.TrackingNearCache;
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.RedisClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * 자주 읽는 key를 {@code CLIENT TRACKING}으로 무효화되는 로컬 near cache에 보관하는 설정입니다.
+ * <p>
+ * {@code redis.near-cache.enabled=true}일 때만 등록되며, 등록되지 않으면 각 서비스는 기존처럼 Redis에서 바로 읽습니다.
+ * 각 near cache는 RedisTemplate의 연결 팩토리가 사용하는 Lettuce 클라이언트로 전용 연결을 하나 더 엽니다.
+ * <ul>
+ *     <li>refresh token DB: subject 매핑({@code subject:{subjectId}})</li>
+ *     <li>블랙리스트 DB: 블랙리스트 key 단건 조회, 사용자별 폐기 기준 시각</li>
+ * </ul>
+ * Redis Cluster 구성({@code redis.topology=cluster})에서는 사용할 수 없습니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "redis.near-cache.enabled", havingValue = "true")
+public class RedisNearCacheConfig {
+
+    @Value("${redis.near-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${redis.near-cache.ttl-ms:600000}")
+    private long ttlMillis;
+
+    /**
+     * refresh token DB near cache
+     *
+     * @param template refresh token 저장용 RedisTemplate
+     * @return 시작된 near cache
+     */
+    @Bean(name = "refreshTokenNearCache", destroyMethod = "close")
+    public TrackingNearCache refreshTokenNearCache(
+            @Qualifier("refreshTokenRedisTemplate") RedisTemplate<String, Object> template) {
+        return create("refreshToken", template);
+    }
+
+    /**
+     * 블랙리스트 DB near cache
+     *
+     * @param template 블랙리스트용 RedisTemplate
+     * @return 시작된 near cache
+     */
+    @Bean(name = "blacklistNearCache", destroyMethod = "close")
+    public TrackingNearCache blacklistNearCache(
+            @Qualifier("accessTokenBlacklistRedisTemplate") RedisTemplate<String, Object> template) {
+        return create("blacklist", template);
+    }
+
+    private TrackingNearCache create(String name, RedisTemplate<String, Object> template) {
+        LettuceConnectionFactory factory = (LettuceConnectionFactory) template.getRequiredConnectionFactory();
+        AbstractRedisClient client = factory.getRequiredNativeClient();
+        if (!(client instanceof RedisClient redisClient)) {
+            throw new InvalidRedisConfigException("redis.near-cache는 standalone, sentinel 구성에서만 사용할 수 있습니다.");
+        }
+
+        TrackingNearCache nearCache = new TrackingNearCache(name, redisClient, factory.getDatabase(), maxSize, ttlMillis);
+        nearCache.start();
+        return nearCache;
+    }
+}
@@ -0,0 +1,42 @@
+package com.nhnacademy.common.config;
+
+import com.nhnacademy.common.exception.InvalidRedisConfigException;
+
+import java.util.Locale;
+
+/**
+ * Redis 서버 구성 방식입니다. ({@code redis.topology})
+ */
+public enum RedisTopology {
+
+    /**
+     * 단일 노드 ({@code redis.host}, {@code redis.port})
+     */
+    STANDALONE,
+
+    /**
+     * Sentinel이 감시하는 primary/replica ({@code redis.sentinel.master}, {@code redis.sentinel.nodes})
+     */
+    SENTINEL,
+
+    /**
+     * Redis Cluster ({@code redis.cluster.nodes}), DB 0만 사용할 수 있습니다.
+     */
+    CLUSTER;
+
+    /**
+     * 설정 값으로부터 구성 방식을 찾습니다.
+     *
+     * @param value {@code standalone}, {@code sentinel}, {@code cluster} (대소문자 무시)
+     * @return 구성 방식
+     * @throws InvalidRedisConfigException 알 수 없는 값인 경우
+     */
+    public static RedisTopology from(String value) {
+        return switch (value == null ? "" : value.trim().toLowerCase(Locale.ROOT)) {
+            case "standalone" -> STANDALONE;
+            case "sentinel" -> SENTINEL;
+            case "cluster" -> CLUSTER;
+            default -> throw new InvalidRedisConfigException("지원하지 않는 redis.topology: " + value);
+        };
+    }
+}
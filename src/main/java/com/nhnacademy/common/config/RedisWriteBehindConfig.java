@@ -0,0 +1,70 @@
+package com.nhnacademy.common.config;
+
+import com.nhnacademy.common.redis.RedisWriteBehindQueue;
+import com.nhnacademy.common.redis.WriteBehindDurability;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * refresh token 세션 쓰기와 블랙리스트 쓰기를 배치로 모아 보내는 write-behind 큐 설정입니다.
+ * <p>
+ * {@code redis.write-behind.enabled=true}일 때만 등록되며, 등록되지 않으면 각 서비스는 기존처럼 바로 씁니다.
+ * refresh token 세션 쓰기는 {@code HSET}, {@code PEXPIRE}, {@code HLEN}을 한 묶음으로 큐에 넣어 세션 수 확인도 배치에 싣습니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "redis.write-behind.enabled", havingValue = "true")
+public class RedisWriteBehindConfig {
+
+    @Value("${redis.write-behind.capacity:10000}")
+    private int capacity;
+
+    @Value("${redis.write-behind.batch-size:256}")
+    private int batchSize;
+
+    @Value("${redis.write-behind.linger-ms:2}")
+    private long lingerMillis;
+
+    @Value("${redis.write-behind.offer-timeout-ms:50}")
+    private long offerTimeoutMillis;
+
+    @Value("${redis.write-behind.wait-timeout-ms:2000}")
+    private long waitTimeoutMillis;
+
+    @Value("${redis.write-behind.durability:wait}")
+    private String durability;
+
+    /**
+     * refresh token 세션 쓰기용 큐 (DB 270)
+     *
+     * @param template refresh token용 RedisTemplate
+     * @return 시작된 write-behind 큐
+     */
+    @Bean(name = "refreshTokenWriteBehindQueue", destroyMethod = "close")
+    public RedisWriteBehindQueue refreshTokenWriteBehindQueue(
+            @Qualifier("refreshTokenRedisTemplate") RedisTemplate<String, Object> template) {
+        return create("refresh-token", template);
+    }
+
+    /**
+     * 블랙리스트 쓰기용 큐 (DB 271)
+     *
+     * @param template 블랙리스트용 RedisTemplate
+     * @return 시작된 write-behind 큐
+     */
+    @Bean(name = "blacklistWriteBehindQueue", destroyMethod = "close")
+    public RedisWriteBehindQueue blacklistWriteBehindQueue(
+            @Qualifier("accessTokenBlacklistRedisTemplate") RedisTemplate<String, Object> template) {
+        return create("blacklist", template);
+    }
+
+    private RedisWriteBehindQueue create(String name, RedisTemplate<String, Object> template) {
+        RedisWriteBehindQueue queue = new RedisWriteBehindQueue(name, template, capacity, batchSize,
+                lingerMillis, offerTimeoutMillis, waitTimeoutMillis, WriteBehindDurability.from(durability));
+        queue.start();
+        return queue;
+    }
+}
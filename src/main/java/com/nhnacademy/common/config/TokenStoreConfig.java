@@ -0,0 +1,115 @@
+package com.nhnacademy.common.config;
+
+import com.nhnacademy.common.exception.InvalidRedisConfigException;
+import com.nhnacademy.common.store.InMemoryTokenStore;
+import com.nhnacademy.common.store.RedisTokenStore;
+import com.nhnacademy.common.store.TokenStore;
+import com.nhnacademy.common.store.TokenStoreType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 토큰 상태 저장소 설정입니다.
+ * <p>
+ * {@code token.store.type}으로 저장소를 선택합니다.
+ * <ul>
+ *     <li>{@code redis} (기본값): 각 저장소의 RedisTemplate을 사용합니다. ({@link RedisTokenStore})</li>
+ *     <li>{@code memory}: 저장소마다 프로세스 메모리 저장소를 사용합니다. ({@link InMemoryTokenStore})
+ *     Redis 서버 없이 동작하므로 단일 노드 설치와 부하 테스트에 사용하며, Redis 전용 기능과 함께 쓸 수 없습니다.</li>
+ * </ul>
+ * {@code memory}에서는 {@link RedisConfig}의 연결 팩토리와 RedisTemplate이 등록되지 않으므로 RedisTemplate은 {@code redis}일 때만 찾습니다.
+ */
+@Slf4j
+@Configuration
+public class TokenStoreConfig {
+
+    @Value("${token.store.type:redis}")
+    private String type;
+
+    @Value("${token.store.memory.segments:64}")
+    private int segments;
+
+    @Value("${token.store.memory.tick-ms:100}")
+    private long tickMillis;
+
+    @Value("${redis.layout:databases}")
+    private String layout;
+
+    @Value("${redis.near-cache.enabled:false}")
+    private boolean nearCache;
+
+    @Value("${redis.write-behind.enabled:false}")
+    private boolean writeBehind;
+
+    @Value("${blacklist.bloom.enabled:false}")
+    private boolean bloomFilter;
+
+    /**
+     * refresh token 세션, subject 매핑 저장소
+     *
+     * @param template refresh token 저장용 RedisTemplate ({@code memory}이면 없음)
+     * @return 저장소
+     */
+    @Bean(name = "refreshTokenStore", destroyMethod = "close")
+    public TokenStore refreshTokenStore(
+            @Qualifier("refreshTokenRedisTemplate") ObjectProvider<RedisTemplate<String, Object>> template) {
+        return create("refreshToken", template);
+    }
+
+    /**
+     * access token 블랙리스트, 사용자별 폐기 기준 시각 저장소
+     *
+     * @param template 블랙리스트용 RedisTemplate ({@code memory}이면 없음)
+     * @return 저장소
+     */
+    @Bean(name = "blacklistTokenStore", destroyMethod = "close")
+    public TokenStore blacklistTokenStore(
+            @Qualifier("accessTokenBlacklistRedisTemplate") ObjectProvider<RedisTemplate<String, Object>> template) {
+        return create("blacklist", template);
+    }
+
+    private TokenStore create(String name, ObjectProvider<RedisTemplate<String, Object>> template) {
+        if (TokenStoreType.from(type) == TokenStoreType.REDIS) {
+            return new RedisTokenStore(template.getObject());
+        }
+
+        List<String> redisOnly = redisOnlySettings();
+        if (!redisOnly.isEmpty()) {
+            throw new InvalidRedisConfigException("token.store.type=memory에서는 Redis 전용 설정을 사용할 수 없습니다: " + redisOnly);
+        }
+
+        InMemoryTokenStore store = new InMemoryTokenStore(name, segments, tickMillis);
+        store.start();
+        log.warn("[TokenStoreConfig] 메모리 저장소 사용 - name={}, 재시작하면 토큰 상태가 사라지고 인스턴스 사이에 공유되지 않습니다.", name);
+        return store;
+    }
+
+    /**
+     * Redis 연결을 직접 사용하는 기능 중 켜져 있는 설정을 반환합니다.
+     * (재발급 스크립트는 {@code token.store.type=redis}일 때만 등록되므로 제외)
+     */
+    private List<String> redisOnlySettings() {
+        List<String> settings = new ArrayList<>();
+        if ("shared".equalsIgnoreCase(layout.trim())) {
+            settings.add("redis.layout=shared");
+        }
+        if (nearCache) {
+            settings.add("redis.near-cache.enabled");
+        }
+        if (writeBehind) {
+            settings.add("redis.write-behind.enabled");
+        }
+        if (bloomFilter) {
+            settings.add("blacklist.bloom.enabled");
+        }
+        return settings;
+    }
+}
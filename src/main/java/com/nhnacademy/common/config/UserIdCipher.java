@@ -0,0 +1,36 @@
+package com.nhnacademy.common.config;
+
+/**
+ * access token의 user_id 클레임에 들어가는 사용자 ID를 암호화/복호화하는 추상화입니다.
+ * <p>
+ * 구현체는 {@link EncryptConfig}에서 {@code aes.cipher.mode} 설정에 따라 선택됩니다.
+ */
+public interface UserIdCipher {
+
+    /**
+     * 사용자 ID를 암호화합니다.
+     *
+     * @param userId 사용자 ID (email)
+     * @return 암호문 문자열
+     */
+    String encrypt(String userId);
+
+    /**
+     * 암호문을 복호화합니다.
+     *
+     * @param cipherText 암호문 문자열
+     * @return 사용자 ID
+     */
+    String decrypt(String cipherText);
+
+    /**
+     * 같은 입력에 항상 같은 암호문을 만드는지 여부를 반환합니다.
+     * <p>
+     * 결정적인 경우에만 암호화 결과를 메모이제이션할 수 있습니다.
+     *
+     * @return 결정적 암호화이면 true
+     */
+    default boolean isDeterministic() {
+        return false;
+    }
+}
@@ -15,4 +15,14 @@ public class AesCryptoException extends RuntimeException {
     public AesCryptoException(String message) {
         super(message);
     }
+
+    /**
+     * 지정된 메시지와 원인 예외를 사용하여 {@link AesCryptoException} 예외를 생성합니다.
+     *
+     * @param message 예외 메시지
+     * @param cause   원인 예외
+     */
+    public AesCryptoException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
@@ -0,0 +1,29 @@
+package com.nhnacademy.common.redis;
+
+/**
+ * 사용자별 Redis key를 만드는 유틸입니다.
+ * <p>
+ * 해시 태그를 사용하면 사용자 ID를 중괄호로 감싸({@code sessions:{user@nhnacademy.com}})
+ * Redis Cluster가 중괄호 안의 문자열로만 slot을 계산하게 합니다.
+ * 같은 사용자의 세션, 전환 전 refresh token, 폐기 기준 시각 key가 한 slot(한 노드)에 모이므로
+ * 전체 로그아웃처럼 사용자 key를 함께 다루는 명령이 여러 노드로 나뉘지 않습니다. ({@code redis.key.hash-tags})
+ * <p>
+ * 해시 태그 사용 여부에 따라 key 이름이 달라지므로, 기존 데이터가 있는 Redis에서 설정을 바꾸면 기존 key를 읽지 못합니다.
+ */
+public final class RedisKeys {
+
+    private RedisKeys() {
+    }
+
+    /**
+     * 사용자별 key를 반환합니다.
+     *
+     * @param prefix  key 접두사 (예: {@code sessions:})
+     * @param userId  사용자 ID
+     * @param hashTag 사용자 ID를 해시 태그로 감쌀지 여부
+     * @return {@code prefix + userId} 또는 {@code prefix + "{" + userId + "}"}
+     */
+    public static String userKey(String prefix, String userId, boolean hashTag) {
+        return hashTag ? prefix + '{' + userId + '}' : prefix + userId;
+    }
+}
@@ -0,0 +1,146 @@
+package com.nhnacademy.common.redis;
+
+import com.nhnacademy.common.config.RedisConfig;
+import com.nhnacademy.common.config.RedisLayout;
+import io.lettuce.core.resource.ClientResources;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 저장소별 DB(270, 271)에 있던 key를 공유 DB로 옮기는 도우미입니다. ({@code redis.layout=shared}일 때만 등록)
+ * <p>
+ * 원본 DB를 {@code SCAN}하고 key마다 {@code MOVE}를 파이프라인으로 보냅니다.
+ * {@code MOVE}는 값과 TTL을 그대로 유지한 채 원자적으로 옮기며, 공유 DB에 같은 key가 이미 있으면 옮기지 않습니다.
+ * 두 저장소의 key 접두사는 겹치지 않으므로 충돌은 이미 옮긴 뒤 다시 쓰인 key에서만 생깁니다.
+ * <p>
+ * {@code redis.migration.enabled=true}이면 애플리케이션이 준비된 뒤 한 번 실행합니다.
+ * 원본 DB와 공유 DB가 같은 Redis 인스턴스에 있어야 합니다. ({@code redis.topology=sentinel}이면 현재 primary)
+ * 원본 DB 연결은 {@link RedisConfig#connectionFactory}로 만들어 저장소 연결과 같은 스레드 자원, 타임아웃 설정을 사용합니다.
+ * Redis Cluster는 DB가 하나뿐이므로 사용할 수 없습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "redis.layout", havingValue = "shared")
+public class RedisLayoutMigrator {
+
+    private static final int SCAN_BATCH = 1000;
+
+    private final LettuceConnectionFactory sharedConnectionFactory;
+    private final RedisLayout layout;
+    private final RedisConfig redisConfig;
+    private final ClientResources clientResources;
+
+    @Value("${redis.migration.enabled:false}")
+    private boolean migrateOnStartup;
+
+    /**
+     * 생성자
+     *
+     * @param sharedConnectionFactory 두 저장소가 함께 사용하는 연결 팩토리
+     * @param layout                  현재 Redis 구성
+     * @param redisConfig             원본 DB 연결을 만들 Redis 설정
+     * @param clientResources         함께 사용하는 Lettuce 스레드 자원
+     */
+    public RedisLayoutMigrator(
+            @Qualifier("refreshTokenRedisConnectionFactory") LettuceConnectionFactory sharedConnectionFactory,
+            RedisLayout layout,
+            RedisConfig redisConfig,
+            ClientResources clientResources
+    ) {
+        this.sharedConnectionFactory = sharedConnectionFactory;
+        this.layout = layout;
+        this.redisConfig = redisConfig;
+        this.clientResources = clientResources;
+    }
+
+    /**
+     * 설정되어 있으면 애플리케이션 시작 후 두 저장소의 key를 모두 옮깁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (!migrateOnStartup) {
+            return;
+        }
+        migrate(RedisConfig.REFRESH_TOKEN_DATABASE);
+        migrate(RedisConfig.BLACKLIST_DATABASE);
+    }
+
+    /**
+     * 원본 DB의 key를 모두 공유 DB로 옮깁니다.
+     *
+     * @param sourceDatabase 원본 DB 인덱스
+     * @return 옮긴 key 수
+     */
+    public long migrate(int sourceDatabase) {
+        int targetDatabase = layout.refreshTokenDatabase();
+        if (sourceDatabase == targetDatabase) {
+            return 0;
+        }
+
+        if (sharedConnectionFactory.isClusterAware()) {
+            throw new IllegalStateException("Redis Cluster는 DB 0만 사용하므로 DB 사이에 key를 옮길 수 없습니다.");
+        }
+
+        LettuceConnectionFactory sourceFactory = redisConfig.connectionFactory(sourceDatabase, clientResources);
+        sourceFactory.setShareNativeConnection(false);
+        sourceFactory.afterPropertiesSet();
+        sourceFactory.start();
+
+        long moved = 0;
+        long skipped = 0;
+        ScanOptions options = ScanOptions.scanOptions().count(SCAN_BATCH).build();
+        try (RedisConnection scanConnection = sourceFactory.getConnection();
+             RedisConnection moveConnection = sourceFactory.getConnection();
+             Cursor<byte[]> cursor = scanConnection.keyCommands().scan(options)) {
+            List<byte[]> batch = new ArrayList<>(SCAN_BATCH);
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == SCAN_BATCH) {
+                    long count = move(moveConnection, batch, targetDatabase);
+                    moved += count;
+                    skipped += batch.size() - count;
+                    batch.clear();
+                }
+            }
+            long count = move(moveConnection, batch, targetDatabase);
+            moved += count;
+            skipped += batch.size() - count;
+        } finally {
+            sourceFactory.destroy();
+        }
+
+        log.info("[RedisLayoutMigrator] key 이전 완료 - source={}, target={}, moved={}, skipped={}",
+                sourceDatabase, targetDatabase, moved, skipped);
+        return moved;
+    }
+
+    private static long move(RedisConnection connection, List<byte[]> keys, int targetDatabase) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
+        connection.openPipeline();
+        for (byte[] key : keys) {
+            connection.keyCommands().move(key, targetDatabase);
+        }
+        long moved = 0;
+        for (Object result : connection.closePipeline()) {
+            if (Boolean.TRUE.equals(result)) {
+                moved++;
+            }
+        }
+        return moved;
+    }
+}
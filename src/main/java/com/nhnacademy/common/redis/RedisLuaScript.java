@@ -0,0 +1,70 @@
+package com.nhnacademy.common.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * classpath의 Lua 스크립트를 서버에서 실행합니다.
+ * <p>
+ * {@code EVALSHA}로 실행하고, 서버에 캐시되어 있지 않으면({@code NOSCRIPT}) {@code EVAL}로 다시 실행합니다.
+ */
+@Slf4j
+public final class RedisLuaScript {
+
+    private static final String NO_SCRIPT = "NOSCRIPT";
+
+    private final String location;
+    private final byte[] script;
+    private final String sha1;
+
+    /**
+     * 생성자
+     *
+     * @param location 스크립트 classpath 경로
+     */
+    public RedisLuaScript(String location) {
+        DefaultRedisScript<Object> redisScript = new DefaultRedisScript<>();
+        redisScript.setLocation(new ClassPathResource(location));
+
+        this.location = location;
+        this.script = redisScript.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        this.sha1 = redisScript.getSha1();
+    }
+
+    /**
+     * 스크립트를 실행합니다.
+     *
+     * @param connection  명령을 보낼 연결
+     * @param returnType  결과 타입
+     * @param keyCount    {@code keysAndArgs} 중 key 수
+     * @param keysAndArgs key와 인자
+     * @return 실행 결과 (파이프라인 안에서는 null)
+     */
+    public <T> T execute(RedisConnection connection, ReturnType returnType, int keyCount, byte[]... keysAndArgs) {
+        try {
+            return connection.scriptingCommands().evalSha(sha1, returnType, keyCount, keysAndArgs);
+        } catch (DataAccessException e) {
+            if (!isNoScript(e)) {
+                throw e;
+            }
+            log.debug("[RedisLuaScript] 스크립트 캐시 없음, EVAL로 재실행 - location={}", location);
+            return connection.scriptingCommands().eval(script, returnType, keyCount, keysAndArgs);
+        }
+    }
+
+    private static boolean isNoScript(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.contains(NO_SCRIPT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,43 @@
+package com.nhnacademy.common.redis;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.function.Consumer;
+
+/**
+ * 결과가 필요 없는 쓰기 명령을 파이프라인으로 보내는 유틸입니다.
+ * <p>
+ * {@link SharedRedisPipeline}이 이미 파이프라인을 열어 둔 연결이면 그 파이프라인에 명령을 더하고,
+ * 아니면 새 파이프라인으로 보냅니다. {@link RedisTemplate#executePipelined(RedisCallback)}를 안에서 다시 호출하면
+ * 바깥 파이프라인이 먼저 닫히므로, 다른 저장소의 쓰기와 함께 묶일 수 있는 쓰기는 이 유틸을 사용합니다.
+ */
+public final class RedisPipelines {
+
+    private RedisPipelines() {
+    }
+
+    /**
+     * 명령을 파이프라인으로 보냅니다.
+     *
+     * @param template 명령을 보낼 RedisTemplate
+     * @param commands 연결에 명령을 쓰는 함수 (결과는 사용할 수 없음)
+     */
+    public static void pipelined(RedisTemplate<String, Object> template, Consumer<RedisConnection> commands) {
+        template.execute((RedisCallback<Object>) connection -> {
+            if (connection.isPipelined()) {
+                commands.accept(connection);
+                return null;
+            }
+
+            connection.openPipeline();
+            try {
+                commands.accept(connection);
+            } finally {
+                connection.closePipeline();
+            }
+            return null;
+        });
+    }
+}
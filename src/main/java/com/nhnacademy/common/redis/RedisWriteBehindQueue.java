@@ -0,0 +1,375 @@
+package com.nhnacademy.common.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@code SET key value PX ttl} 쓰기와 {@code HSET key field value} + {@code PEXPIRE key ttl} 쓰기를 모아
+ * 파이프라인 배치로 반영하는 write-behind 큐입니다.
+ * <p>
+ * 요청 스레드는 크기 제한이 있는 큐에 쓰기를 넣고, 전용 스레드가 큐를 비우며
+ * {@code batchSize}개가 모이거나 첫 쓰기 후 {@code lingerMillis}가 지나면 한 번의 파이프라인으로 보냅니다.
+ * <ul>
+ *     <li>큐가 가득 차면 {@code offerTimeoutMillis}까지 기다리고, 그래도 자리가 없으면 호출 스레드에서 바로 씁니다. (backpressure)</li>
+ *     <li>{@link WriteBehindDurability#WAIT}이면 배치가 반영될 때까지 기다리고, 실패는 호출자에게 전달합니다.</li>
+ *     <li>TTL은 큐에 넣은 시각 기준이므로 배치를 보낼 때 대기 시간만큼 줄여서 씁니다.</li>
+ *     <li>Hash 쓰기에는 {@code HLEN}이 함께 실려, 반영 후의 필드 수를 future로 돌려줍니다.</li>
+ * </ul>
+ * {@link #close()}는 남은 쓰기를 모두 반영한 뒤 반환합니다.
+ * 큐에 넣는 쪽은 읽기 잠금, 종료는 쓰기 잠금을 잡으므로 종료가 시작된 뒤에는 어떤 쓰기도 큐에 남지 않고 호출 스레드에서 바로 쓰입니다.
+ */
+@Slf4j
+public class RedisWriteBehindQueue implements AutoCloseable {
+
+    private static final long CLOSE_TIMEOUT_MILLIS = 10_000;
+
+    private final String name;
+    private final RedisTemplate<String, Object> template;
+    private final BlockingQueue<Write> queue;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final long offerTimeoutMillis;
+    private final long waitTimeoutMillis;
+    private final WriteBehindDurability durability;
+
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder directWrites = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder totalFlushNanos = new LongAdder();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+
+    private final ReadWriteLock offerLock = new ReentrantReadWriteLock();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    /**
+     * 큐를 생성합니다. {@link #start()}를 호출하기 전까지는 모든 쓰기를 호출 스레드에서 바로 씁니다.
+     *
+     * @param name               로그와 스레드 이름에 쓰는 이름
+     * @param template           쓰기를 반영할 RedisTemplate
+     * @param capacity           큐 최대 크기
+     * @param batchSize          한 번의 파이프라인으로 보낼 최대 쓰기 수
+     * @param lingerMillis       첫 쓰기 후 배치를 더 모으는 최대 시간
+     * @param offerTimeoutMillis 큐가 가득 찼을 때 자리를 기다리는 최대 시간
+     * @param waitTimeoutMillis  {@link WriteBehindDurability#WAIT}에서 반영을 기다리는 최대 시간
+     * @param durability         호출자가 반영을 기다릴지 여부
+     */
+    public RedisWriteBehindQueue(String name, RedisTemplate<String, Object> template, int capacity, int batchSize,
+                                 long lingerMillis, long offerTimeoutMillis, long waitTimeoutMillis,
+                                 WriteBehindDurability durability) {
+        if (capacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("write-behind 큐 크기와 배치 크기는 1 이상이어야 합니다.");
+        }
+        this.name = name;
+        this.template = template;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.durability = durability;
+    }
+
+    /**
+     * 배치를 보내는 스레드를 시작합니다.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::run, "redis-write-behind-" + name);
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("[RedisWriteBehindQueue] 시작 - name={}, capacity={}, batchSize={}, durability={}",
+                name, queue.remainingCapacity(), batchSize, durability);
+    }
+
+    /**
+     * 새 쓰기를 받지 않고, 남은 쓰기를 모두 반영한 뒤 스레드를 종료합니다.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        Thread thread;
+        offerLock.writeLock().lock();
+        try {
+            synchronized (this) {
+                running = false;
+                thread = flusher;
+                flusher = null;
+            }
+        } finally {
+            offerLock.writeLock().unlock();
+        }
+        if (thread != null) {
+            thread.join(CLOSE_TIMEOUT_MILLIS);
+        }
+
+        List<Write> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (Write write : remaining) {
+            try {
+                write.complete(writeDirect(write));
+            } catch (RuntimeException e) {
+                failed.increment();
+                write.fail(e);
+            }
+        }
+        log.info("[RedisWriteBehindQueue] 종료 - name={}, {}", name, stats());
+    }
+
+    /**
+     * {@code SET key value PX ttlMillis}를 큐에 넣습니다.
+     * <p>
+     * {@link WriteBehindDurability#ASYNC}에서는 반환된 future로 반영 시점을 알 수 있습니다.
+     * 쓰기 이후에 해야 하는 작업(로컬 캐시 갱신 등)은 이 future에 연결합니다.
+     *
+     * @param key       Redis key
+     * @param value     값
+     * @param ttlMillis TTL (ms)
+     * @return Redis에 반영되면 완료되고, 배치가 실패하면 예외로 완료되는 future
+     */
+    public CompletableFuture<Void> set(byte[] key, byte[] value, long ttlMillis) {
+        return submit(new Write(key, null, value, System.currentTimeMillis() + ttlMillis, new CompletableFuture<>()))
+                .thenApply(count -> null);
+    }
+
+    /**
+     * {@code HSET key field value}와 {@code PEXPIRE key ttlMillis}를 큐에 넣습니다.
+     * <p>
+     * 같은 배치에 {@code HLEN key}를 함께 보내므로, 호출자는 추가 왕복 없이 반영 후의 필드 수를 알 수 있습니다.
+     *
+     * @param key       Redis Hash key
+     * @param field     필드
+     * @param value     값
+     * @param ttlMillis key 전체의 TTL (ms)
+     * @return 반영 후의 필드 수로 완료되는 future (TTL이 지나 쓰지 않았으면 null), 배치가 실패하면 예외로 완료
+     */
+    public CompletableFuture<Long> putField(byte[] key, byte[] field, byte[] value, long ttlMillis) {
+        return submit(new Write(key, field, value, System.currentTimeMillis() + ttlMillis, new CompletableFuture<>()));
+    }
+
+    /**
+     * 현재 통계를 반환합니다.
+     *
+     * @return 통계 스냅샷
+     */
+    public WriteBehindStats stats() {
+        return new WriteBehindStats(queue.size(), enqueued.sum(), directWrites.sum(), failed.sum(),
+                flushes.sum(), flushed.sum(), totalFlushNanos.sum(), maxFlushNanos.get());
+    }
+
+    /**
+     * 통계를 주기적으로 info 로그로 남깁니다. (누적 값)
+     */
+    @Scheduled(initialDelayString = "${stats.log-interval-ms:60000}", fixedDelayString = "${stats.log-interval-ms:60000}")
+    public void logStats() {
+        log.info("[RedisWriteBehindQueue] 통계 - name={}, {}", name, stats());
+    }
+
+    private CompletableFuture<Long> submit(Write write) {
+        if (!offer(write)) {
+            directWrites.increment();
+            write.complete(writeDirect(write));
+            return write.done;
+        }
+        enqueued.increment();
+
+        if (durability == WriteBehindDurability.WAIT) {
+            await(write.done);
+        }
+        return write.done;
+    }
+
+    private boolean offer(Write write) {
+        offerLock.readLock().lock();
+        try {
+            if (!running) {
+                return false;
+            }
+            return queue.offer(write, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            offerLock.readLock().unlock();
+        }
+    }
+
+    private void await(CompletableFuture<Void> done) {
+        try {
+            done.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new QueryTimeoutException("write-behind 반영 대기 시간 초과: " + name, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueryTimeoutException("write-behind 반영 대기 중 인터럽트: " + name, e);
+        }
+    }
+
+    private void run() {
+        List<Write> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Write first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("[RedisWriteBehindQueue] 배치 처리 중 예외 - name={}", name, e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 이미 쌓인 쓰기를 가져오고, 배치가 덜 찼으면 linger 시간 동안 더 기다립니다.
+     */
+    private void collect(List<Write> batch) throws InterruptedException {
+        queue.drainTo(batch, batchSize - batch.size());
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            Write next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+    }
+
+    private void flush(List<Write> batch) {
+        long start = System.nanoTime();
+        long now = System.currentTimeMillis();
+        try {
+            List<Object> results = template.executePipelined((RedisCallback<Object>) connection -> {
+                for (Write write : batch) {
+                    long ttl = write.expiresAt - now;
+                    if (ttl > 0) {
+                        write.append(connection, ttl);
+                    }
+                }
+                return null;
+            });
+
+            int index = 0;
+            for (Write write : batch) {
+                if (write.expiresAt - now <= 0) {
+                    write.complete(null);
+                    continue;
+                }
+                index += write.commandCount();
+                write.complete(write.field == null ? null : countAt(results, index - 1));
+            }
+        } catch (RuntimeException e) {
+            failed.add(batch.size());
+            log.warn("[RedisWriteBehindQueue] 배치 반영 실패 - name={}, size={}: {}", name, batch.size(), e.getMessage());
+            batch.forEach(write -> write.fail(e));
+        }
+
+        long elapsed = System.nanoTime() - start;
+        flushes.increment();
+        flushed.add(batch.size());
+        totalFlushNanos.add(elapsed);
+        maxFlushNanos.accumulateAndGet(elapsed, Math::max);
+        log.debug("[RedisWriteBehindQueue] 배치 반영 - name={}, size={}, latency(us)={}, queueDepth={}",
+                name, batch.size(), elapsed / 1000, queue.size());
+    }
+
+    /**
+     * 호출 스레드에서 바로 씁니다.
+     *
+     * @return Hash 쓰기이면 반영 후의 필드 수, 그 밖에는 null
+     */
+    private Long writeDirect(Write write) {
+        long ttl = write.expiresAt - System.currentTimeMillis();
+        if (ttl <= 0) {
+            return null;
+        }
+        if (write.field == null) {
+            template.execute((RedisCallback<Boolean>) connection -> connection.stringCommands().set(
+                    write.key, write.value, Expiration.milliseconds(ttl), RedisStringCommands.SetOption.upsert()));
+            return null;
+        }
+        List<Object> results = template.executePipelined((RedisCallback<Object>) connection -> {
+            write.append(connection, ttl);
+            return null;
+        });
+        return countAt(results, write.commandCount() - 1);
+    }
+
+    private static Long countAt(List<Object> results, int index) {
+        return results != null && index < results.size() && results.get(index) instanceof Long count ? count : null;
+    }
+
+    /**
+     * 큐에 넣은 쓰기 하나
+     *
+     * @param field Hash 필드, {@code SET} 쓰기이면 null
+     */
+    private record Write(byte[] key, byte[] field, byte[] value, long expiresAt, CompletableFuture<Long> done) {
+
+        /**
+         * 파이프라인에 명령을 추가합니다. ({@code SET} 한 개 또는 {@code HSET}, {@code PEXPIRE}, {@code HLEN} 세 개)
+         */
+        void append(RedisConnection connection, long ttl) {
+            if (field == null) {
+                connection.stringCommands().set(key, value, Expiration.milliseconds(ttl), RedisStringCommands.SetOption.upsert());
+                return;
+            }
+            connection.hashCommands().hSet(key, field, value);
+            connection.keyCommands().pExpire(key, ttl);
+            connection.hashCommands().hLen(key);
+        }
+
+        int commandCount() {
+            return field == null ? 1 : 3;
+        }
+
+        void complete(Long count) {
+            done.complete(count);
+        }
+
+        void fail(RuntimeException e) {
+            done.completeExceptionally(e);
+        }
+    }
+}
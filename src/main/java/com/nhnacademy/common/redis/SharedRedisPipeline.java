@@ -0,0 +1,51 @@
+package com.nhnacademy.common.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * refresh token 저장소와 블랙리스트 저장소의 쓰기를 한 번의 파이프라인으로 묶습니다.
+ * <p>
+ * {@code redis.layout=shared}일 때만 등록됩니다. 이때 두 RedisTemplate은 같은 연결 팩토리를 사용하므로,
+ * 파이프라인을 연 연결이 스레드에 묶여 있는 동안 어느 저장소의 쓰기든 같은 파이프라인에 쌓입니다.
+ * <p>
+ * 파이프라인 안의 명령은 결과가 null이므로 쓰기만 묶어야 합니다. (로그아웃, 전체 로그아웃 등)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "redis.layout", havingValue = "shared")
+public class SharedRedisPipeline {
+
+    private final RedisTemplate<String, Object> template;
+
+    /**
+     * 생성자
+     *
+     * @param template 두 저장소가 함께 사용하는 연결의 RedisTemplate
+     */
+    public SharedRedisPipeline(@Qualifier("refreshTokenRedisTemplate") RedisTemplate<String, Object> template) {
+        this.template = template;
+    }
+
+    /**
+     * 쓰기 작업을 한 번의 파이프라인으로 실행합니다.
+     *
+     * @param writes 두 저장소에 쓰는 작업
+     */
+    public void run(Runnable writes) {
+        template.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                writes.run();
+                return null;
+            }
+        });
+        log.debug("[SharedRedisPipeline] 파이프라인 실행 완료");
+    }
+}
@@ -0,0 +1,279 @@
+package com.nhnacademy.common.redis;
+
+import com.nhnacademy.common.cache.CacheStats;
+import com.nhnacademy.common.cache.ExpiringLruCache;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.ByteArrayCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Redis 서버 지원 클라이언트 캐싱({@code CLIENT TRACKING})을 사용하는 프로세스 내 near cache입니다.
+ * <p>
+ * 전용 RESP3 연결에서 {@code CLIENT TRACKING ON}을 켜고 그 연결로만 {@code GET}을 보냅니다.
+ * 서버는 이 연결이 읽은 key가 바뀌거나(다른 인스턴스의 쓰기, 삭제, 만료 포함) 지워지면 같은 연결로 {@code invalidate} 메시지를 보내고,
+ * 받은 key는 로컬에서 바로 제거되므로 바뀌지 않은 key는 Redis 왕복 없이 읽으면서도 인스턴스 사이의 일관성을 유지합니다.
+ * <ul>
+ *     <li>없는 key도 "없음"으로 보관합니다. 나중에 key가 만들어지면 서버가 무효화합니다.</li>
+ *     <li>조회 중에 같은 key의 무효화가 도착하면 읽은 값을 보관하지 않습니다.</li>
+ *     <li>연결이 끊기면 그동안의 무효화를 받을 수 없으므로 모두 비우고, 다시 연결되어 추적이 켜질 때까지 Redis에서 바로 읽습니다.</li>
+ *     <li>최대 항목 수를 넘으면 LRU로 제거하고, 무효화를 놓친 경우에 대비해 항목은 최대 {@code ttlMillis}까지만 보관합니다.</li>
+ * </ul>
+ * Redis 6 이상의 단일 노드 또는 Sentinel 구성에서만 사용할 수 있습니다.
+ */
+@Slf4j
+public class TrackingNearCache implements AutoCloseable {
+
+    private static final String INVALIDATE = "invalidate";
+
+    private final String name;
+    private final RedisClient client;
+    private final int database;
+    private final long ttlMillis;
+    private final ExpiringLruCache<ByteBuffer, Cached> cache;
+    private final ConcurrentMap<ByteBuffer, Object> pending = new ConcurrentHashMap<>();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder bypassed = new LongAdder();
+    private final AtomicLong generation = new AtomicLong();
+    private final PushListener pushListener = this::onPushMessage;
+    private final RedisConnectionStateListener stateListener = new RedisConnectionStateListener() {
+        @Override
+        public void onRedisConnected(RedisChannelHandler<?, ?> handler, SocketAddress socketAddress) {
+            if (handler == connection) {
+                onReconnected();
+            }
+        }
+
+        @Override
+        public void onRedisDisconnected(RedisChannelHandler<?, ?> handler) {
+            if (handler == connection) {
+                onDisconnected();
+            }
+        }
+
+        @Override
+        public void onRedisExceptionCaught(RedisChannelHandler<?, ?> handler, Throwable cause) {
+            // 연결 끊김은 onRedisDisconnected에서 처리
+        }
+    };
+
+    private volatile StatefulRedisConnection<byte[], byte[]> connection;
+    private volatile boolean tracking;
+
+    /**
+     * 생성자
+     *
+     * @param name      로그에 표시할 이름
+     * @param client    연결을 만들 Lettuce 클라이언트 (RedisTemplate의 연결 팩토리가 사용하는 클라이언트)
+     * @param database  읽을 DB 인덱스
+     * @param maxSize   최대 항목 수
+     * @param ttlMillis 항목 최대 보관 시간 (ms)
+     */
+    public TrackingNearCache(String name, RedisClient client, int database, int maxSize, long ttlMillis) {
+        this.name = name;
+        this.client = client;
+        this.database = database;
+        this.ttlMillis = ttlMillis;
+        this.cache = new ExpiringLruCache<>(maxSize);
+    }
+
+    /**
+     * 전용 연결을 열고 추적을 켭니다.
+     */
+    public void start() {
+        client.addListener(stateListener);
+        StatefulRedisConnection<byte[], byte[]> opened = client.connect(ByteArrayCodec.INSTANCE);
+        opened.addListener(pushListener);
+        if (database != 0) {
+            opened.sync().select(database);
+        }
+        opened.sync().clientTracking(TrackingArgs.Builder.enabled());
+
+        connection = opened;
+        tracking = true;
+        log.info("[TrackingNearCache] 시작 - name={}, database={}", name, database);
+    }
+
+    /**
+     * 값을 조회합니다. 로컬에 없으면 추적 연결로 {@code GET}을 보내고 결과를 보관합니다.
+     * <p>
+     * key 바이트열은 캐시의 key로 그대로 사용하므로 호출한 뒤 바꾸면 안 됩니다.
+     *
+     * @param key Redis key 바이트열
+     * @return 값, key가 없으면 null
+     */
+    public byte[] get(byte[] key) {
+        StatefulRedisConnection<byte[], byte[]> current = connection;
+        if (!tracking || current == null) {
+            bypassed.increment();
+            return current != null ? current.sync().get(key) : null;
+        }
+
+        long now = System.currentTimeMillis();
+        ByteBuffer cacheKey = ByteBuffer.wrap(key);
+        Cached cached = cache.get(cacheKey, now);
+        if (cached != null) {
+            return cached.value();
+        }
+
+        Object ticket = new Object();
+        long readGeneration = generation.get();
+        pending.put(cacheKey, ticket);
+        byte[] value;
+        try {
+            value = current.sync().get(key);
+        } catch (RuntimeException e) {
+            pending.remove(cacheKey, ticket);
+            throw e;
+        }
+
+        if (pending.remove(cacheKey, ticket) && tracking && readGeneration == generation.get()) {
+            cache.put(cacheKey, new Cached(value), now + ttlMillis);
+        }
+        return value;
+    }
+
+    /**
+     * 이 인스턴스가 key를 바꾼 직후 로컬 항목을 바로 제거합니다.
+     * <p>
+     * 서버 무효화는 쓰기 응답과 다른 연결로 도착하므로, 쓴 직후의 조회가 무효화보다 먼저 처리되어 이전 값을 보는 것을 막습니다.
+     *
+     * @param key Redis key 바이트열
+     */
+    public void invalidate(byte[] key) {
+        ByteBuffer cacheKey = ByteBuffer.wrap(key);
+        pending.remove(cacheKey);
+        cache.invalidate(cacheKey);
+    }
+
+    /**
+     * 캐시 통계를 반환합니다.
+     * <p>
+     * hit은 Redis 왕복 없이 응답한 수, miss는 Redis로 보낸 수, eviction은 크기 제한으로 제거된 수입니다.
+     * (추적이 꺼져 있는 동안 바로 읽은 조회와 서버 무효화는 {@link #bypassedCount()}, {@link #invalidationCount()})
+     *
+     * @return 통계 스냅샷
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * @return 서버에서 받은 무효화 key 수 (전체 무효화는 1)
+     */
+    public long invalidationCount() {
+        return invalidations.sum();
+    }
+
+    /**
+     * @return 추적이 꺼져 있어 캐시를 거치지 않은 조회 수
+     */
+    public long bypassedCount() {
+        return bypassed.sum();
+    }
+
+    /**
+     * 캐시 통계(hit 비율 포함), 무효화 수, 우회 조회 수를 주기적으로 info 로그로 남깁니다. (누적 값)
+     */
+    @Scheduled(initialDelayString = "${stats.log-interval-ms:60000}", fixedDelayString = "${stats.log-interval-ms:60000}")
+    public void logStats() {
+        log.info("[TrackingNearCache] 통계 - name={}, tracking={}, {}, invalidations={}, bypassed={}",
+                name, tracking, stats(), invalidationCount(), bypassedCount());
+    }
+
+    /**
+     * 서버가 보낸 {@code invalidate} 메시지를 반영합니다. (key 목록이 없으면 전체 무효화)
+     *
+     * @param message RESP3 push 메시지
+     */
+    void onPushMessage(PushMessage message) {
+        if (!INVALIDATE.equals(message.getType())) {
+            return;
+        }
+
+        List<Object> content = message.getContent(ByteArrayCodec.INSTANCE::decodeKey);
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        if (!(keys instanceof List<?> invalidated)) {
+            invalidateAll();
+            invalidations.increment();
+            return;
+        }
+
+        for (Object key : invalidated) {
+            ByteBuffer cacheKey = ByteBuffer.wrap((byte[]) key);
+            pending.remove(cacheKey);
+            cache.invalidate(cacheKey);
+            invalidations.increment();
+        }
+    }
+
+    /**
+     * 연결이 끊기면 그동안의 무효화를 받을 수 없으므로 캐시를 비우고 추적을 끈 것으로 봅니다.
+     */
+    void onDisconnected() {
+        tracking = false;
+        invalidateAll();
+        log.warn("[TrackingNearCache] 연결 끊김, 캐시 비움 - name={}", name);
+    }
+
+    /**
+     * 다시 연결된 연결에 추적을 켜고, 성공하면 캐시를 다시 사용합니다.
+     */
+    void onReconnected() {
+        StatefulRedisConnection<byte[], byte[]> current = connection;
+        if (current == null) {
+            return;
+        }
+
+        current.async().clientTracking(TrackingArgs.Builder.enabled()).whenComplete((reply, e) -> {
+            if (e != null) {
+                log.warn("[TrackingNearCache] 재연결 후 추적 설정 실패 - name={}, cause={}", name, e.getMessage());
+                return;
+            }
+            invalidateAll();
+            tracking = true;
+            log.info("[TrackingNearCache] 재연결 후 추적 재개 - name={}", name);
+        });
+    }
+
+    /**
+     * 전용 연결을 닫습니다.
+     */
+    @Override
+    public void close() {
+        tracking = false;
+        client.removeListener(stateListener);
+        StatefulRedisConnection<byte[], byte[]> current = connection;
+        connection = null;
+        if (current != null) {
+            current.close();
+        }
+        log.info("[TrackingNearCache] 종료 - name={}, {}, invalidations={}", name, stats(), invalidationCount());
+    }
+
+    private void invalidateAll() {
+        generation.incrementAndGet();
+        pending.clear();
+        cache.clear();
+    }
+
+    /**
+     * 보관한 값 (key가 없었으면 value가 null)
+     */
+    private record Cached(byte[] value) {
+    }
+}
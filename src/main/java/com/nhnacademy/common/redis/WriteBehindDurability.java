@@ -0,0 +1,34 @@
+package com.nhnacademy.common.redis;
+
+import java.util.Locale;
+
+/**
+ * write-behind 큐에 넣은 쓰기를 호출자가 어디까지 기다릴지 정합니다.
+ */
+public enum WriteBehindDurability {
+
+    /**
+     * 쓰기가 포함된 배치가 Redis에 반영될 때까지 기다립니다. 실패하면 호출자에게 예외가 전달됩니다.
+     */
+    WAIT,
+
+    /**
+     * 큐에 넣는 즉시 반환합니다. 반영 전에 프로세스가 종료되거나 배치가 실패하면 쓰기가 유실될 수 있습니다.
+     */
+    ASYNC;
+
+    /**
+     * 설정 값으로부터 durability를 찾습니다.
+     *
+     * @param value {@code wait} 또는 {@code async} (대소문자 무시)
+     * @return durability
+     * @throws IllegalStateException 알 수 없는 값인 경우
+     */
+    public static WriteBehindDurability from(String value) {
+        return switch (value == null ? "" : value.trim().toLowerCase(Locale.ROOT)) {
+            case "wait" -> WAIT;
+            case "async" -> ASYNC;
+            default -> throw new IllegalStateException("지원하지 않는 write-behind durability: " + value);
+        };
+    }
+}
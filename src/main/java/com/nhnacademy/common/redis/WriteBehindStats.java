@@ -0,0 +1,72 @@
+package com.nhnacademy.common.redis;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * write-behind 큐의 통계 스냅샷입니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public final class WriteBehindStats {
+
+    /**
+     * 현재 큐에 대기 중인 쓰기 수
+     */
+    private final int queueDepth;
+
+    /**
+     * 큐에 넣은 쓰기 수
+     */
+    private final long enqueuedCount;
+
+    /**
+     * 큐가 가득 차 호출 스레드에서 바로 쓴 수
+     */
+    private final long directWriteCount;
+
+    /**
+     * 실패한 배치에 포함된 쓰기 수
+     */
+    private final long failedCount;
+
+    /**
+     * 실행한 배치 수
+     */
+    private final long flushCount;
+
+    /**
+     * 배치로 반영한 쓰기 수
+     */
+    private final long flushedCount;
+
+    /**
+     * 배치 실행 시간 합계 (ns)
+     */
+    private final long totalFlushNanos;
+
+    /**
+     * 가장 오래 걸린 배치 실행 시간 (ns)
+     */
+    private final long maxFlushNanos;
+
+    /**
+     * 배치당 평균 실행 시간을 반환합니다.
+     *
+     * @return 평균 실행 시간 (ms), 배치가 없었으면 0.0
+     */
+    public double getAverageFlushMillis() {
+        return flushCount == 0 ? 0.0 : totalFlushNanos / 1_000_000.0 / flushCount;
+    }
+
+    /**
+     * 배치당 평균 쓰기 수를 반환합니다.
+     *
+     * @return 평균 배치 크기, 배치가 없었으면 0.0
+     */
+    public double getAverageBatchSize() {
+        return flushCount == 0 ? 0.0 : (double) flushedCount / flushCount;
+    }
+}
@@ -0,0 +1,473 @@
+package com.nhnacademy.common.store;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 프로세스 메모리에 토큰 상태를 저장하는 {@link TokenStore}입니다.
+ * <p>
+ * key 해시로 세그먼트를 나누고 세그먼트마다 {@link HashMap}, 락, {@link TimingWheel}을 두어 경합을 줄입니다.
+ * 값을 쓸 때 세그먼트의 타이밍 휠에 만료 타이머를 등록하고(덮어쓰거나 지우면 이전 타이머를 취소),
+ * 전용 스레드가 {@code tickMillis}마다 각 세그먼트의 휠을 돌려 만료된 key만 제거하므로 전체를 훑지 않습니다.
+ * 조회는 만료 시각을 직접 확인하므로 휠이 아직 제거하지 않은 key도 만료 즉시 없는 것으로 봅니다.
+ * <p>
+ * 저장한 값은 프로세스가 종료되면 사라지고 다른 인스턴스와 공유되지 않으므로 단일 노드 설치와 부하 테스트에만 사용합니다.
+ */
+@Slf4j
+public class InMemoryTokenStore implements TokenStore {
+
+    private static final int MAX_SEGMENTS = 1 << 16;
+
+    private final String name;
+    private final long tickMillis;
+    private final LongSupplier clock;
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final LongAdder expired = new LongAdder();
+
+    private volatile boolean running;
+    private Thread expirer;
+
+    /**
+     * 저장소를 생성합니다. {@link #start()}를 호출하기 전에는 만료된 key를 조회 시점에만 제거합니다.
+     *
+     * @param name       로그와 스레드 이름에 쓰는 이름
+     * @param segments   세그먼트 수 (2의 거듭제곱으로 올림)
+     * @param tickMillis 만료 처리 간격 (ms)
+     */
+    public InMemoryTokenStore(String name, int segments, long tickMillis) {
+        this(name, segments, tickMillis, System::currentTimeMillis);
+    }
+
+    InMemoryTokenStore(String name, int segments, long tickMillis, LongSupplier clock) {
+        if (segments < 1 || segments > MAX_SEGMENTS) {
+            throw new IllegalArgumentException("세그먼트 수는 1 이상 " + MAX_SEGMENTS + " 이하여야 합니다: " + segments);
+        }
+        int segmentCount = Integer.highestOneBit(segments);
+        if (segmentCount < segments) {
+            segmentCount <<= 1;
+        }
+
+        this.name = name;
+        this.tickMillis = tickMillis;
+        this.clock = clock;
+        this.segments = new Segment[segmentCount];
+        this.segmentMask = segmentCount - 1;
+
+        long now = clock.getAsLong();
+        for (int i = 0; i < segmentCount; i++) {
+            this.segments[i] = new Segment(new TimingWheel<>(tickMillis, now), expired);
+        }
+    }
+
+    /**
+     * 만료 처리 스레드를 시작합니다.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        expirer = new Thread(this::run, "token-store-expiry-" + name);
+        expirer.setDaemon(true);
+        expirer.start();
+        log.info("[InMemoryTokenStore] 시작 - name={}, segments={}, tick(ms)={}", name, segments.length, tickMillis);
+    }
+
+    /**
+     * 만료 처리 스레드를 종료합니다.
+     */
+    @Override
+    public void close() {
+        Thread thread;
+        synchronized (this) {
+            running = false;
+            thread = expirer;
+            expirer = null;
+        }
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(tickMillis * 10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("[InMemoryTokenStore] 종료 - name={}, size={}, expired={}", name, size(), expiredCount());
+    }
+
+    @Override
+    public void put(byte[] key, byte[] value, long ttlMillis) {
+        long now = clock.getAsLong();
+        segmentFor(key).put(ByteBuffer.wrap(key), value, now + ttlMillis);
+    }
+
+    @Override
+    public boolean putIfAbsent(byte[] key, byte[] value, long ttlMillis) {
+        long now = clock.getAsLong();
+        return segmentFor(key).putIfAbsent(ByteBuffer.wrap(key), value, now, now + ttlMillis);
+    }
+
+    @Override
+    public byte[] get(byte[] key) {
+        return segmentFor(key).get(ByteBuffer.wrap(key), clock.getAsLong());
+    }
+
+    @Override
+    public List<byte[]> getAll(List<byte[]> keys) {
+        long now = clock.getAsLong();
+        List<byte[]> values = new ArrayList<>(keys.size());
+        for (byte[] key : keys) {
+            values.add(segmentFor(key).get(ByteBuffer.wrap(key), now));
+        }
+        return values;
+    }
+
+    @Override
+    public boolean exists(byte[] key) {
+        return segmentFor(key).exists(ByteBuffer.wrap(key), clock.getAsLong());
+    }
+
+    @Override
+    public long delete(List<byte[]> keys) {
+        long now = clock.getAsLong();
+        long deleted = 0;
+        for (byte[] key : keys) {
+            if (segmentFor(key).remove(ByteBuffer.wrap(key), now)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public long putField(byte[] key, byte[] field, byte[] value, long ttlMillis) {
+        long now = clock.getAsLong();
+        return segmentFor(key).putField(ByteBuffer.wrap(key), field, value, now, now + ttlMillis);
+    }
+
+    @Override
+    public byte[] getField(byte[] key, byte[] field) {
+        return segmentFor(key).getField(ByteBuffer.wrap(key), field, clock.getAsLong());
+    }
+
+    @Override
+    public Map<byte[], byte[]> getFields(byte[] key) {
+        return segmentFor(key).getFields(ByteBuffer.wrap(key), clock.getAsLong());
+    }
+
+    @Override
+    public long deleteFields(byte[] key, List<byte[]> fields) {
+        return segmentFor(key).deleteFields(ByteBuffer.wrap(key), fields, clock.getAsLong());
+    }
+
+    @Override
+    public boolean replaceField(byte[] key, byte[] field, byte[] newField, byte[] value, long ttlMillis) {
+        long now = clock.getAsLong();
+        return segmentFor(key).replaceField(ByteBuffer.wrap(key), field, newField, value, now,
+                ttlMillis > 0 ? now + ttlMillis : 0L);
+    }
+
+    @Override
+    public void writeBatch(Consumer<TokenStore> writes) {
+        writes.accept(this);
+    }
+
+    /**
+     * 모든 세그먼트의 휠을 현재 시각까지 돌려 만료된 key를 제거합니다.
+     *
+     * @return 제거한 key 수
+     */
+    int expire() {
+        long now = clock.getAsLong();
+        int count = 0;
+        for (Segment segment : segments) {
+            count += segment.expire(now);
+        }
+        return count;
+    }
+
+    /**
+     * @return 저장된 key 수 (만료되었지만 아직 제거되지 않은 key 포함)
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * @return 타이밍 휠이 만료로 제거한 key 수
+     */
+    public long expiredCount() {
+        return expired.sum();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                Thread.sleep(tickMillis);
+                expire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("[InMemoryTokenStore] 만료 처리 실패 - name={}, cause={}", name, e.getMessage());
+            }
+        }
+    }
+
+    private Segment segmentFor(byte[] key) {
+        int h = ByteBuffer.wrap(key).hashCode();
+        h ^= (h >>> 16);
+        return segments[h & segmentMask];
+    }
+
+    private static final class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final HashMap<ByteBuffer, Entry> map = new HashMap<>();
+        private final TimingWheel<ByteBuffer> wheel;
+        private final LongAdder expired;
+
+        Segment(TimingWheel<ByteBuffer> wheel, LongAdder expired) {
+            this.wheel = wheel;
+            this.expired = expired;
+        }
+
+        void put(ByteBuffer key, byte[] value, long expiresAt) {
+            lock.lock();
+            try {
+                Entry entry = map.get(key);
+                if (entry == null) {
+                    entry = new Entry();
+                    map.put(key, entry);
+                }
+                entry.value = value;
+                entry.fields = null;
+                expireAt(key, entry, expiresAt);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean putIfAbsent(ByteBuffer key, byte[] value, long now, long expiresAt) {
+            lock.lock();
+            try {
+                if (live(key, now) != null) {
+                    return false;
+                }
+                Entry entry = new Entry();
+                entry.value = value;
+                map.put(key, entry);
+                expireAt(key, entry, expiresAt);
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        byte[] get(ByteBuffer key, long now) {
+            lock.lock();
+            try {
+                Entry entry = live(key, now);
+                return entry != null ? entry.value : null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean exists(ByteBuffer key, long now) {
+            lock.lock();
+            try {
+                return live(key, now) != null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean remove(ByteBuffer key, long now) {
+            lock.lock();
+            try {
+                Entry entry = live(key, now);
+                if (entry == null) {
+                    return false;
+                }
+                discard(key, entry);
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int putField(ByteBuffer key, byte[] field, byte[] value, long now, long expiresAt) {
+            lock.lock();
+            try {
+                Entry entry = hash(key, now);
+                entry.fields.put(ByteBuffer.wrap(field), value);
+                expireAt(key, entry, expiresAt);
+                return entry.fields.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        byte[] getField(ByteBuffer key, byte[] field, long now) {
+            lock.lock();
+            try {
+                Entry entry = live(key, now);
+                return entry != null && entry.fields != null ? entry.fields.get(ByteBuffer.wrap(field)) : null;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        Map<byte[], byte[]> getFields(ByteBuffer key, long now) {
+            lock.lock();
+            try {
+                Entry entry = live(key, now);
+                if (entry == null || entry.fields == null) {
+                    return Map.of();
+                }
+                Map<byte[], byte[]> fields = new LinkedHashMap<>();
+                for (Map.Entry<ByteBuffer, byte[]> field : entry.fields.entrySet()) {
+                    fields.put(field.getKey().array(), field.getValue());
+                }
+                return fields;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int deleteFields(ByteBuffer key, List<byte[]> fields, long now) {
+            lock.lock();
+            try {
+                Entry entry = live(key, now);
+                if (entry == null || entry.fields == null) {
+                    return 0;
+                }
+                int deleted = 0;
+                for (byte[] field : fields) {
+                    if (entry.fields.remove(ByteBuffer.wrap(field)) != null) {
+                        deleted++;
+                    }
+                }
+                if (entry.fields.isEmpty()) {
+                    discard(key, entry);
+                }
+                return deleted;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean replaceField(ByteBuffer key, byte[] field, byte[] newField, byte[] value, long now, long expiresAt) {
+            lock.lock();
+            try {
+                Entry entry = live(key, now);
+                if (entry == null || entry.fields == null || entry.fields.remove(ByteBuffer.wrap(field)) == null) {
+                    return false;
+                }
+                entry.fields.put(ByteBuffer.wrap(newField), value);
+                if (expiresAt > 0) {
+                    expireAt(key, entry, expiresAt);
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int expire(long now) {
+            lock.lock();
+            try {
+                return wheel.advance(now, timer -> {
+                    Entry entry = map.get(timer.key());
+                    if (entry != null && entry.timer == timer) {
+                        map.remove(timer.key());
+                        expired.increment();
+                    }
+                });
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return map.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 만료되지 않은 항목을 반환합니다. 만료된 항목은 여기서 제거합니다.
+         */
+        private Entry live(ByteBuffer key, long now) {
+            Entry entry = map.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt <= now) {
+                discard(key, entry);
+                return null;
+            }
+            return entry;
+        }
+
+        /**
+         * Hash 항목을 반환합니다. 없거나 값 항목이면 TTL이 없는 빈 Hash로 바꿉니다.
+         */
+        private Entry hash(ByteBuffer key, long now) {
+            Entry entry = live(key, now);
+            if (entry != null && entry.fields != null) {
+                return entry;
+            }
+            if (entry != null) {
+                discard(key, entry);
+            }
+            entry = new Entry();
+            entry.fields = new LinkedHashMap<>();
+            map.put(key, entry);
+            return entry;
+        }
+
+        private void expireAt(ByteBuffer key, Entry entry, long expiresAt) {
+            if (entry.timer != null) {
+                wheel.cancel(entry.timer);
+            }
+            entry.expiresAt = expiresAt;
+            entry.timer = wheel.schedule(key, expiresAt);
+        }
+
+        private void discard(ByteBuffer key, Entry entry) {
+            if (entry.timer != null) {
+                wheel.cancel(entry.timer);
+            }
+            map.remove(key);
+        }
+    }
+
+    /**
+     * 저장된 항목 (값 또는 Hash)
+     */
+    private static final class Entry {
+        private byte[] value;
+        private LinkedHashMap<ByteBuffer, byte[]> fields;
+        private long expiresAt = Long.MAX_VALUE;
+        private TimingWheel.Timer<ByteBuffer> timer;
+    }
+}
@@ -0,0 +1,169 @@
+package com.nhnacademy.common.store;
+
+import com.nhnacademy.common.redis.RedisLuaScript;
+import com.nhnacademy.common.redis.RedisPipelines;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Redis에 토큰 상태를 저장하는 {@link TokenStore}입니다.
+ * <p>
+ * 각 연산은 서비스가 RedisTemplate으로 직접 보내던 것과 같은 명령을 보냅니다.
+ * <ul>
+ *     <li>{@link #put}: {@code SET key value PX ttl}</li>
+ *     <li>{@link #putIfAbsent}: {@code SET key value PX ttl NX}</li>
+ *     <li>{@link #getAll}: {@code MGET} 한 번</li>
+ *     <li>{@link #putField}: {@code HSET}, {@code PEXPIRE}, {@code HLEN}을 한 번의 파이프라인으로</li>
+ *     <li>{@link #replaceField}: {@code HEXISTS}, {@code HSET}, {@code HDEL}, ({@code PEXPIRE})를 한 번의 스크립트 실행({@code scripts/replace_field.lua})으로</li>
+ *     <li>{@link #writeBatch}: {@link RedisPipelines}로 열린 파이프라인에 더하거나 새 파이프라인으로</li>
+ * </ul>
+ */
+public class RedisTokenStore implements TokenStore {
+
+    private static final byte[][] NO_KEYS = new byte[0][];
+    private static final RedisLuaScript REPLACE_FIELD = new RedisLuaScript("scripts/replace_field.lua");
+
+    private final RedisTemplate<String, Object> template;
+    private final RedisConnection pipeline;
+
+    /**
+     * 생성자
+     *
+     * @param template 명령을 보낼 RedisTemplate
+     */
+    public RedisTokenStore(RedisTemplate<String, Object> template) {
+        this(template, null);
+    }
+
+    /**
+     * {@link #writeBatch}에 넘기는 저장소 (파이프라인이 열린 연결에 명령을 씀)
+     */
+    private RedisTokenStore(RedisTemplate<String, Object> template, RedisConnection pipeline) {
+        this.template = template;
+        this.pipeline = pipeline;
+    }
+
+    @Override
+    public void put(byte[] key, byte[] value, long ttlMillis) {
+        execute(connection -> connection.stringCommands().set(
+                key,
+                value,
+                Expiration.milliseconds(ttlMillis),
+                RedisStringCommands.SetOption.upsert()
+        ));
+    }
+
+    @Override
+    public boolean putIfAbsent(byte[] key, byte[] value, long ttlMillis) {
+        return Boolean.TRUE.equals(execute(connection -> connection.stringCommands().set(
+                key,
+                value,
+                Expiration.milliseconds(ttlMillis),
+                RedisStringCommands.SetOption.ifAbsent()
+        )));
+    }
+
+    @Override
+    public byte[] get(byte[] key) {
+        return execute(connection -> connection.stringCommands().get(key));
+    }
+
+    @Override
+    public List<byte[]> getAll(List<byte[]> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        List<byte[]> values = execute(connection -> connection.stringCommands().mGet(keys.toArray(NO_KEYS)));
+        return values != null ? values : Collections.nCopies(keys.size(), null);
+    }
+
+    @Override
+    public boolean exists(byte[] key) {
+        return Boolean.TRUE.equals(execute(connection -> connection.keyCommands().exists(key)));
+    }
+
+    @Override
+    public long delete(List<byte[]> keys) {
+        if (keys.isEmpty()) {
+            return 0L;
+        }
+        Long deleted = execute(connection -> connection.keyCommands().del(keys.toArray(NO_KEYS)));
+        return deleted != null ? deleted : 0L;
+    }
+
+    @Override
+    public long putField(byte[] key, byte[] field, byte[] value, long ttlMillis) {
+        List<Object> results = pipelined(connection -> {
+            connection.hashCommands().hSet(key, field, value);
+            connection.keyCommands().pExpire(key, ttlMillis);
+            connection.hashCommands().hLen(key);
+        });
+        return results.size() == 3 && results.get(2) instanceof Long count ? count : 0L;
+    }
+
+    @Override
+    public byte[] getField(byte[] key, byte[] field) {
+        return execute(connection -> connection.hashCommands().hGet(key, field));
+    }
+
+    @Override
+    public Map<byte[], byte[]> getFields(byte[] key) {
+        Map<byte[], byte[]> entries = execute(connection -> connection.hashCommands().hGetAll(key));
+        return entries != null ? entries : Map.of();
+    }
+
+    @Override
+    public long deleteFields(byte[] key, List<byte[]> fields) {
+        if (fields.isEmpty()) {
+            return 0L;
+        }
+        Long deleted = execute(connection -> connection.hashCommands().hDel(key, fields.toArray(NO_KEYS)));
+        return deleted != null ? deleted : 0L;
+    }
+
+    @Override
+    public boolean replaceField(byte[] key, byte[] field, byte[] newField, byte[] value, long ttlMillis) {
+        byte[] ttl = String.valueOf(Math.max(0L, ttlMillis)).getBytes(StandardCharsets.UTF_8);
+        Long replaced = execute(connection ->
+                REPLACE_FIELD.<Long>execute(connection, ReturnType.INTEGER, 1, key, field, newField, value, ttl));
+        return replaced != null && replaced == 1L;
+    }
+
+    @Override
+    public void writeBatch(Consumer<TokenStore> writes) {
+        if (pipeline != null) {
+            writes.accept(this);
+            return;
+        }
+        RedisPipelines.pipelined(template, connection -> writes.accept(new RedisTokenStore(template, connection)));
+    }
+
+    private <T> T execute(RedisCallback<T> callback) {
+        return pipeline != null ? callback.doInRedis(pipeline) : template.execute(callback);
+    }
+
+    /**
+     * 결과가 필요한 여러 명령을 한 번의 파이프라인으로 보냅니다. ({@link #writeBatch} 안에서는 열린 파이프라인에 더하고 빈 결과를 반환)
+     */
+    private List<Object> pipelined(Consumer<RedisConnection> commands) {
+        if (pipeline != null) {
+            commands.accept(pipeline);
+            return List.of();
+        }
+        List<Object> results = template.executePipelined((RedisCallback<Object>) connection -> {
+            commands.accept(connection);
+            return null;
+        });
+        return results != null ? results : List.of();
+    }
+}
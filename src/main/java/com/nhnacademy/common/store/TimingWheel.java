@@ -0,0 +1,238 @@
+package com.nhnacademy.common.store;
+
+import java.util.function.Consumer;
+
+/**
+ * 만료 시각을 처리하는 계층형 타이밍 휠입니다.
+ * <p>
+ * 단계마다 64칸이 있고, 0단계의 한 칸은 {@code tickMillis}, 위 단계의 한 칸은 아래 단계 한 바퀴입니다.
+ * 타이머는 남은 시간에 맞는 단계의 칸에 넣고, 아래 단계가 한 바퀴 돌 때마다 위 단계의 다음 칸을 꺼내 다시 나누어 넣습니다.
+ * 등록, 취소, 만료 모두 칸의 연결 리스트만 다루므로 항목 수와 관계없이 O(1)이며 전체를 훑지 않습니다.
+ * 아래 단계가 비어 있으면 다음에 다시 나누어 넣을 칸까지 건너뛰므로, 먼 타이머만 남아 있어도 빈 tick을 하나씩 돌지 않습니다.
+ * <p>
+ * 5단계로 약 {@code tickMillis * 2^30}까지 담고, 그보다 먼 타이머는 최상위 단계의 가장 먼 칸에 두었다가 내려올 때 다시 넣습니다.
+ * <p>
+ * 스레드에 안전하지 않으므로 호출하는 쪽에서 락으로 보호해야 합니다.
+ *
+ * @param <K> 타이머에 붙이는 key 타입
+ */
+final class TimingWheel<K> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 5;
+    private static final long MAX_DELTA = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final long origin;
+    private final long tickMillis;
+    private final Timer<K>[][] slots;
+    private final int[] levelSizes = new int[LEVELS];
+    private long currentTick;
+    private int size;
+
+    /**
+     * 휠을 생성합니다.
+     *
+     * @param tickMillis 0단계 한 칸의 길이 (ms), 만료는 최대 이 시간만큼 늦게 처리됨
+     * @param now        현재 시각 (epoch ms)
+     */
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickMillis, long now) {
+        if (tickMillis < 1) {
+            throw new IllegalArgumentException("타이밍 휠 tick은 1ms 이상이어야 합니다: " + tickMillis);
+        }
+        this.origin = now;
+        this.tickMillis = tickMillis;
+        this.slots = new Timer[LEVELS][SLOTS];
+    }
+
+    /**
+     * 타이머를 등록합니다.
+     *
+     * @param key       key
+     * @param expiresAt 만료 시각 (epoch ms)
+     * @return 취소에 사용할 타이머
+     */
+    Timer<K> schedule(K key, long expiresAt) {
+        long deadline = Math.floorDiv(expiresAt - origin + tickMillis - 1, tickMillis);
+        Timer<K> timer = new Timer<>(key, expiresAt, Math.max(deadline, currentTick + 1));
+        place(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * 타이머를 취소합니다. 이미 만료되었거나 취소된 타이머는 무시합니다.
+     *
+     * @param timer 취소할 타이머
+     */
+    void cancel(Timer<K> timer) {
+        if (timer.level < 0) {
+            return;
+        }
+        unlink(timer);
+        size--;
+    }
+
+    /**
+     * 현재 시각까지 휠을 돌리며 만료된 타이머를 넘깁니다.
+     *
+     * @param now     현재 시각 (epoch ms)
+     * @param expired 만료된 타이머를 받는 함수 (안에서 휠을 다시 사용할 수 있음)
+     * @return 만료된 타이머 수
+     */
+    int advance(long now, Consumer<Timer<K>> expired) {
+        long target = Math.floorDiv(now - origin, tickMillis);
+        if (size == 0) {
+            currentTick = Math.max(currentTick, target);
+            return 0;
+        }
+
+        int count = 0;
+        while (currentTick < target) {
+            int lowest = lowestLevel();
+            if (lowest > 0) {
+                long boundary = ((currentTick >>> (SLOT_BITS * lowest)) + 1) << (SLOT_BITS * lowest);
+                if (boundary > target) {
+                    currentTick = target;
+                    break;
+                }
+                currentTick = boundary - 1;
+            }
+
+            currentTick++;
+            cascade();
+
+            int index = (int) (currentTick & MASK);
+            Timer<K> timer = slots[0][index];
+            slots[0][index] = null;
+            while (timer != null) {
+                Timer<K> next = timer.next;
+                timer.detach();
+                levelSizes[0]--;
+                size--;
+                count++;
+                expired.accept(timer);
+                timer = next;
+            }
+            if (size == 0) {
+                currentTick = target;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return 등록된 타이머 수
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * 타이머가 있는 가장 낮은 단계를 반환합니다. (그보다 낮은 단계는 다음 칸 경계까지 만료될 타이머가 없음)
+     */
+    private int lowestLevel() {
+        int level = 0;
+        while (level < LEVELS - 1 && levelSizes[level] == 0) {
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * 아래 단계가 한 바퀴를 돈 위 단계의 칸을 꺼내 남은 시간에 맞게 다시 넣습니다. (위 단계부터)
+     */
+    private void cascade() {
+        int top = 0;
+        while (top < LEVELS - 1 && (currentTick & ((1L << (SLOT_BITS * (top + 1))) - 1)) == 0) {
+            top++;
+        }
+        for (int level = top; level > 0; level--) {
+            int index = (int) ((currentTick >>> (SLOT_BITS * level)) & MASK);
+            Timer<K> timer = slots[level][index];
+            slots[level][index] = null;
+            while (timer != null) {
+                Timer<K> next = timer.next;
+                timer.detach();
+                levelSizes[level]--;
+                place(timer);
+                timer = next;
+            }
+        }
+    }
+
+    private void place(Timer<K> timer) {
+        long delta = timer.deadline - currentTick;
+        long slotTick = timer.deadline;
+        if (delta > MAX_DELTA) {
+            slotTick = currentTick + MAX_DELTA;
+            delta = MAX_DELTA;
+        }
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int index = (int) ((slotTick >>> (SLOT_BITS * level)) & MASK);
+
+        Timer<K> head = slots[level][index];
+        timer.level = level;
+        timer.index = index;
+        levelSizes[level]++;
+        timer.next = head;
+        if (head != null) {
+            head.prev = timer;
+        }
+        slots[level][index] = timer;
+    }
+
+    private void unlink(Timer<K> timer) {
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else {
+            slots[timer.level][timer.index] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+        levelSizes[timer.level]--;
+        timer.detach();
+    }
+
+    /**
+     * 휠에 등록된 타이머
+     *
+     * @param <K> key 타입
+     */
+    static final class Timer<K> {
+        private final K key;
+        private final long expiresAt;
+        private final long deadline;
+        private Timer<K> prev;
+        private Timer<K> next;
+        private int level = -1;
+        private int index;
+
+        private Timer(K key, long expiresAt, long deadline) {
+            this.key = key;
+            this.expiresAt = expiresAt;
+            this.deadline = deadline;
+        }
+
+        K key() {
+            return key;
+        }
+
+        long expiresAt() {
+            return expiresAt;
+        }
+
+        private void detach() {
+            prev = null;
+            next = null;
+            level = -1;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.nhnacademy.common.store;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 토큰 상태(refresh 세션, 블랙리스트, 폐기 기준 시각, subject 매핑)를 저장하는 저장소입니다.
+ * <p>
+ * key, 값, Hash field는 모두 바이트열이며 key마다 만료 시각(TTL)을 가집니다.
+ * Hash field 연산은 사용자별 refresh 세션({@code sessions:{userId}})처럼 한 key 아래 여러 값을 두는 데 사용하고,
+ * TTL은 field가 아닌 key 단위로 적용됩니다. 한 key에 값과 Hash를 함께 쓰지 않습니다.
+ * <ul>
+ *     <li>{@link RedisTokenStore}: RedisTemplate으로 Redis에 저장합니다. (기본값)</li>
+ *     <li>{@link InMemoryTokenStore}: 프로세스 메모리에 저장합니다. (단일 노드 설치, 부하 테스트용)</li>
+ * </ul>
+ * 넘긴 바이트열과 돌려받은 바이트열은 저장소가 그대로 보관할 수 있으므로 호출한 뒤 바꾸면 안 됩니다.
+ */
+public interface TokenStore extends AutoCloseable {
+
+    /**
+     * 값을 저장합니다. 같은 key가 있으면 값과 TTL을 바꿉니다.
+     *
+     * @param key       key
+     * @param value     값
+     * @param ttlMillis 유지 시간 (ms)
+     */
+    void put(byte[] key, byte[] value, long ttlMillis);
+
+    /**
+     * key가 없을 때만 값을 저장합니다. 여러 요청 중 하나만 저장에 성공하므로 짧은 선점 표시에 사용합니다.
+     *
+     * @param key       key
+     * @param value     값
+     * @param ttlMillis 유지 시간 (ms)
+     * @return 저장했으면 true, 만료되지 않은 key가 이미 있으면 false ({@link #writeBatch(Consumer)} 안에서는 false)
+     */
+    boolean putIfAbsent(byte[] key, byte[] value, long ttlMillis);
+
+    /**
+     * 값을 조회합니다.
+     *
+     * @param key key
+     * @return 값, 없거나 만료되었으면 null
+     */
+    byte[] get(byte[] key);
+
+    /**
+     * 여러 값을 한 번에 조회합니다.
+     *
+     * @param keys key 목록
+     * @return key별 값 (입력 순서와 같음, 없는 key는 null)
+     */
+    List<byte[]> getAll(List<byte[]> keys);
+
+    /**
+     * key가 있는지 확인합니다.
+     *
+     * @param key key
+     * @return 만료되지 않은 key가 있으면 true
+     */
+    boolean exists(byte[] key);
+
+    /**
+     * 여러 key를 한 번에 삭제합니다.
+     *
+     * @param keys key 목록
+     * @return 삭제한 key 수 ({@link #writeBatch(Consumer)} 안에서는 0)
+     */
+    long delete(List<byte[]> keys);
+
+    /**
+     * Hash field를 저장하고 key의 TTL을 바꿉니다.
+     *
+     * @param key       Hash key
+     * @param field     field
+     * @param value     값
+     * @param ttlMillis key 유지 시간 (ms)
+     * @return 저장 후 field 수 ({@link #writeBatch(Consumer)} 안에서는 0)
+     */
+    long putField(byte[] key, byte[] field, byte[] value, long ttlMillis);
+
+    /**
+     * Hash field를 조회합니다.
+     *
+     * @param key   Hash key
+     * @param field field
+     * @return 값, 없으면 null
+     */
+    byte[] getField(byte[] key, byte[] field);
+
+    /**
+     * Hash의 모든 field를 조회합니다.
+     * <p>
+     * 결과의 key는 바이트열이므로 조회가 아닌 순회에만 사용합니다.
+     *
+     * @param key Hash key
+     * @return field별 값, key가 없으면 빈 Map
+     */
+    Map<byte[], byte[]> getFields(byte[] key);
+
+    /**
+     * Hash field를 삭제합니다. field가 모두 삭제되면 key도 삭제됩니다.
+     *
+     * @param key    Hash key
+     * @param fields 삭제할 field 목록
+     * @return 삭제한 field 수 ({@link #writeBatch(Consumer)} 안에서는 0)
+     */
+    long deleteFields(byte[] key, List<byte[]> fields);
+
+    /**
+     * Hash field 하나를 지우고 새 field에 값을 저장합니다. (세션 ID 교체)
+     * <p>
+     * 지울 field가 있을 때만 원자적으로 교체하므로, 같은 field를 동시에 교체하면 하나만 성공합니다.
+     * field나 key가 없으면 아무것도 쓰지 않으며 Hash를 새로 만들지 않습니다.
+     *
+     * @param key       Hash key
+     * @param field     지울 field
+     * @param newField  저장할 field
+     * @param value     값
+     * @param ttlMillis key 유지 시간 (ms), 0 이하이면 TTL을 바꾸지 않음
+     * @return 교체했으면 true, 지울 field가 없으면 false ({@link #writeBatch(Consumer)} 안에서는 false)
+     */
+    boolean replaceField(byte[] key, byte[] field, byte[] newField, byte[] value, long ttlMillis);
+
+    /**
+     * 결과가 필요 없는 쓰기를 한 번에 보냅니다.
+     * <p>
+     * Redis는 한 번의 파이프라인으로 보내며, 이미 열린 파이프라인({@link com.nhnacademy.common.redis.SharedRedisPipeline})이 있으면 거기에 더합니다.
+     * 함수에 넘어온 저장소의 조회 결과와 삭제 수는 사용할 수 없습니다.
+     *
+     * @param writes 저장소에 쓰는 함수
+     */
+    void writeBatch(Consumer<TokenStore> writes);
+
+    /**
+     * 저장소가 사용하는 자원을 정리합니다.
+     */
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,36 @@
+package com.nhnacademy.common.store;
+
+import com.nhnacademy.common.exception.InvalidRedisConfigException;
+
+import java.util.Locale;
+
+/**
+ * 토큰 상태 저장소 종류입니다. ({@code token.store.type})
+ */
+public enum TokenStoreType {
+
+    /**
+     * Redis ({@link RedisTokenStore})
+     */
+    REDIS,
+
+    /**
+     * 프로세스 메모리 ({@link InMemoryTokenStore}), 재시작하면 사라지고 인스턴스 사이에 공유되지 않습니다.
+     */
+    MEMORY;
+
+    /**
+     * 설정 값으로부터 저장소 종류를 찾습니다.
+     *
+     * @param value {@code redis} 또는 {@code memory} (대소문자 무시)
+     * @return 저장소 종류
+     * @throws InvalidRedisConfigException 알 수 없는 값인 경우
+     */
+    public static TokenStoreType from(String value) {
+        return switch (value == null ? "" : value.trim().toLowerCase(Locale.ROOT)) {
+            case "redis" -> REDIS;
+            case "memory" -> MEMORY;
+            default -> throw new InvalidRedisConfigException("지원하지 않는 token.store.type: " + value);
+        };
+    }
+}
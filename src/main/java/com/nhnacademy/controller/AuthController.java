@@ -3,15 +3,20 @@ package com.nhnacademy.controller;
 import com.nhnacademy.adapter.GoogleUserInfoClient;
 import com.nhnacademy.adapter.UserAdapter;
 import com.nhnacademy.dto.GoogleUserInfoResponse;
+import com.nhnacademy.dto.IntrospectRequest;
+import com.nhnacademy.dto.IntrospectResponse;
+import com.nhnacademy.dto.RefreshSession;
 import com.nhnacademy.dto.SocialUserRegisterRequest;
 import com.nhnacademy.dto.UserSignInRequest;
 import com.nhnacademy.dto.UserSignUpRequest;
 import com.nhnacademy.service.auth.AuthService;
+import com.nhnacademy.service.introspect.IntrospectService;
 import com.nhnacademy.service.refresh_token.RefreshTokenService;
 import com.nhnacademy.common.exception.FailSignUpException;
 import com.nhnacademy.token.provider.JwtProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
@@ -19,6 +24,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 인증 관련 요청을 처리하는 REST 컨트롤러입니다.
  *
@@ -27,7 +36,11 @@ import org.springframework.web.bind.annotation.*;
  *     <li>회원가입</li>
  *     <li>로그인 (access token 발급 및 refresh token 저장)</li>
  *     <li>로그아웃 (access token 블랙리스트 등록 및 refresh token 삭제)</li>
+ *     <li>전체 로그아웃 (사용자의 모든 토큰 폐기)</li>
+ *     <li>로그인 세션(기기) 조회 및 개별 종료</li>
  *     <li>access token 재발급</li>
+ *     <li>토큰 검증용 공개 키(JWKS) 제공</li>
+ *     <li>토큰 검사 (유효성 및 폐기 여부 일괄 확인)</li>
  * </ul>
  * access token은 httpOnly 쿠키로 응답되며, refresh token은 Redis에 저장됩니다.
  */
@@ -39,12 +52,14 @@ public class AuthController {
 
     private static final String ACCESS_TOKEN = "accessToken";
     private static final String SAME_SITE = "None";
+    private static final Duration JWKS_MAX_AGE = Duration.ofHours(1);
 
     private final AuthService authService;
     private final RefreshTokenService refreshTokenService;
     private final JwtProvider jwtProvider;
     private final UserAdapter userAdapter;
     private final GoogleUserInfoClient googleUserInfoClient;
+    private final IntrospectService introspectService;
 
     /**
      * 사용자 회원가입 요청을 처리합니다. 회원가입 성공 시 자동 로그인 처리도 수행됩니다.
@@ -119,7 +134,7 @@ public class AuthController {
         log.info("[AuthController] 로그인 요청 - email={}", userSignInRequest.getUserEmail());
 
         String accessToken = authService.signIn(userSignInRequest);
-        long ttl = jwtProvider.getRemainingExpiration(accessToken);
+        long ttl = jwtProvider.getAccessTokenValidity();
 
         log.info("[AuthController] 로그인 성공 - email={}, TTL(ms)={}", userSignInRequest.getUserEmail(), ttl);
 
@@ -143,21 +158,80 @@ public class AuthController {
 
         authService.signOut(accessToken);
 
-        ResponseCookie expiredCookie = ResponseCookie.from(ACCESS_TOKEN, "")
-                .httpOnly(true)
-                .secure(true)
-                .path("/")
-                .maxAge(0)
-                .sameSite(SAME_SITE)
-                .build();
-
         log.info("[AuthController] 로그아웃 처리 완료 - accessToken 블랙리스트 등록 및 쿠키 제거");
 
         return ResponseEntity.ok()
-                .header(HttpHeaders.SET_COOKIE, expiredCookie.toString())
+                .header(HttpHeaders.SET_COOKIE, expiredAccessTokenCookie().toString())
                 .body("로그아웃 되었습니다.");
     }
 
+    /**
+     * 사용자의 모든 기기에서 로그아웃합니다.
+     * <p>
+     * 지금까지 발급된 사용자의 토큰이 모두 폐기되며, 토큰 수와 관계없이 Redis 쓰기는 한 번입니다.
+     *
+     * @param accessToken 쿠키에서 추출한 access token
+     * @return 로그아웃 완료 메시지와 쿠키 제거 헤더
+     */
+    @PostMapping("/logout/all")
+    public ResponseEntity<String> logoutAll(@CookieValue(value = ACCESS_TOKEN, required = false) String accessToken) {
+        if (accessToken == null || accessToken.isBlank()) {
+            log.warn("[AuthController] 전체 로그아웃 요청 실패 - accessToken 쿠키 없음");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("AccessToken이 없습니다.");
+        }
+
+        log.info("[AuthController] 전체 로그아웃 요청");
+
+        authService.signOutAll(accessToken);
+
+        log.info("[AuthController] 전체 로그아웃 처리 완료 - 사용자 토큰 전체 폐기 및 쿠키 제거");
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, expiredAccessTokenCookie().toString())
+                .body("모든 기기에서 로그아웃 되었습니다.");
+    }
+
+    /**
+     * 사용자의 로그인 세션(기기) 목록을 조회합니다.
+     *
+     * @param accessToken 쿠키에서 추출한 access token
+     * @return 세션 목록 (요청한 세션은 {@code current=true})
+     */
+    @GetMapping("/sessions")
+    public ResponseEntity<List<RefreshSession>> sessions(@CookieValue(value = ACCESS_TOKEN, required = false) String accessToken) {
+        if (accessToken == null || accessToken.isBlank()) {
+            log.warn("[AuthController] 세션 조회 실패 - accessToken 쿠키 없음");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(authService.getSessions(accessToken));
+    }
+
+    /**
+     * 사용자의 세션 하나를 종료합니다. (다른 기기 로그아웃)
+     *
+     * @param accessToken 쿠키에서 추출한 access token
+     * @param sessionId   종료할 세션 ID
+     * @return 종료 결과 메시지, 세션이 없으면 404
+     */
+    @DeleteMapping("/sessions/{sessionId}")
+    public ResponseEntity<String> logoutSession(@CookieValue(value = ACCESS_TOKEN, required = false) String accessToken,
+                                                @PathVariable String sessionId) {
+        if (accessToken == null || accessToken.isBlank()) {
+            log.warn("[AuthController] 세션 종료 실패 - accessToken 쿠키 없음");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("AccessToken이 없습니다.");
+        }
+
+        log.info("[AuthController] 세션 종료 요청 - sessionId={}", sessionId);
+
+        if (!authService.signOutSession(accessToken, sessionId)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("세션을 찾을 수 없습니다.");
+        }
+        return ResponseEntity.ok("세션이 종료되었습니다.");
+    }
+
     /**
      * access token 재발급 요청을 처리합니다.
      *
@@ -174,10 +248,54 @@ public class AuthController {
         log.info("[AuthController] AccessToken 재발급 요청");
 
         String newAccessToken = refreshTokenService.reissueAccessToken(accessToken);
-        long ttl = jwtProvider.getRemainingExpiration(newAccessToken);
+        long ttl = jwtProvider.getAccessTokenValidity();
 
         log.info("[AuthController] AccessToken 재발급 성공 - TTL(ms)={}", ttl);
 
         return ResponseEntity.ok(newAccessToken);
     }
+
+    /**
+     * 토큰 서명 검증용 공개 키를 JWK Set으로 제공합니다.
+     * <p>
+     * 게이트웨이와 다른 서비스는 이 응답을 캐시해 두고 auth-service 호출 없이 토큰을 검증할 수 있습니다.
+     * 키를 교체할 때는 새 키를 먼저 공개한 뒤 최소 캐시 시간이 지나고 나서 서명에 사용해야 합니다.
+     *
+     * @return JWK Set (HS256 모드에서는 빈 목록)
+     */
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(JWKS_MAX_AGE).cachePublic())
+                .body(jwtProvider.getJwkSet());
+    }
+
+    /**
+     * 토큰 하나 또는 여러 개의 유효성과 폐기 여부를 확인합니다.
+     * <p>
+     * 게이트웨이는 요청마다 호출하는 대신 여러 요청의 토큰을 모아 한 번에 확인할 수 있습니다.
+     * 결과는 요청의 토큰 순서와 같으며, 캐시되지 않아야 합니다.
+     *
+     * @param introspectRequest 검사할 토큰
+     * @return 토큰별 active 여부, sub, 발급/만료 시각
+     */
+    @PostMapping("/introspect")
+    public ResponseEntity<IntrospectResponse> introspect(@RequestBody @Validated IntrospectRequest introspectRequest) {
+        IntrospectResponse response = new IntrospectResponse(
+                introspectService.introspect(introspectRequest.getAllTokens()));
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(response);
+    }
+
+    private ResponseCookie expiredAccessTokenCookie() {
+        return ResponseCookie.from(ACCESS_TOKEN, "")
+                .httpOnly(true)
+                .secure(true)
+                .path("/")
+                .maxAge(0)
+                .sameSite(SAME_SITE)
+                .build();
+    }
 }
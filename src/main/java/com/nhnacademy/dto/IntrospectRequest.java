@@ -0,0 +1,64 @@
+package com.nhnacademy.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 토큰 검사(introspection) 요청 DTO 클래스입니다.
+ * <p>
+ * 토큰 하나는 {@code token}, 여러 개는 {@code tokens}로 보내며 둘을 함께 보낼 수도 있습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IntrospectRequest {
+
+    /**
+     * 한 번에 검사할 수 있는 최대 토큰 수
+     */
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    /**
+     * 검사할 토큰 하나
+     */
+    @JsonProperty("token")
+    String token;
+
+    /**
+     * 검사할 토큰 목록
+     */
+    @JsonProperty("tokens")
+    @Size(max = MAX_BATCH_SIZE, message = "한 번에 검사할 수 있는 토큰은 최대 1000개입니다.")
+    List<String> tokens;
+
+    /**
+     * 요청의 모든 토큰을 순서대로 반환합니다. ({@code token}이 있으면 맨 앞)
+     *
+     * @return 검사할 토큰 목록
+     */
+    @JsonIgnore
+    public List<String> getAllTokens() {
+        List<String> all = new ArrayList<>();
+        if (token != null) {
+            all.add(token);
+        }
+        if (tokens != null) {
+            all.addAll(tokens);
+        }
+        return all;
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "검사할 토큰이 없습니다.")
+    public boolean isNotEmpty() {
+        return token != null || (tokens != null && !tokens.isEmpty());
+    }
+}
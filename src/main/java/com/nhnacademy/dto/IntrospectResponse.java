@@ -0,0 +1,25 @@
+package com.nhnacademy.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 토큰 검사(introspection) 응답 DTO 클래스입니다.
+ * <p>
+ * {@code results}는 요청의 토큰 순서와 같습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class IntrospectResponse {
+
+    /**
+     * 토큰별 검사 결과
+     */
+    @JsonProperty("results")
+    List<TokenIntrospection> results;
+}
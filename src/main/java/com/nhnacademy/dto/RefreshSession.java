@@ -0,0 +1,35 @@
+package com.nhnacademy.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자의 로그인 세션(기기) 하나를 나타내는 DTO 클래스입니다.
+ * <p>
+ * 세션 ID는 그 세션에서 마지막으로 발급된 access token의 jti이므로 재발급할 때마다 바뀝니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshSession {
+
+    /**
+     * 세션 ID (세션의 최신 access token jti)
+     */
+    @JsonProperty("session_id")
+    String sessionId;
+
+    /**
+     * 세션 만료 시각 (epoch ms)
+     */
+    @JsonProperty("expires_at")
+    long expiresAt;
+
+    /**
+     * 요청에 사용된 access token의 세션이면 true
+     */
+    @JsonProperty("current")
+    boolean current;
+}
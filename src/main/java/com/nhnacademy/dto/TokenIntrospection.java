@@ -0,0 +1,55 @@
+package com.nhnacademy.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 토큰 하나의 검사 결과 DTO 클래스입니다.
+ * <p>
+ * 유효하지 않은 토큰은 {@code active=false}만 가지며, 이유는 공개하지 않습니다.
+ * 사용자 ID(email)는 개인 정보이므로 반환하지 않습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenIntrospection {
+
+    private static final TokenIntrospection INACTIVE = new TokenIntrospection(false, null, null, null);
+
+    /**
+     * 서명과 만료가 유효하고 폐기되지 않은 access token이면 true
+     */
+    @JsonProperty("active")
+    boolean active;
+
+    /**
+     * 토큰의 sub 클레임 그대로 (compact 프로필 토큰의 subject 식별자, standard 프로필 토큰은 없음)
+     */
+    @JsonProperty("sub")
+    String subject;
+
+    /**
+     * 발급 시각 (epoch seconds)
+     */
+    @JsonProperty("iat")
+    Long issuedAt;
+
+    /**
+     * 만료 시각 (epoch seconds)
+     */
+    @JsonProperty("exp")
+    Long expiresAt;
+
+    /**
+     * 유효하지 않은 토큰의 결과를 반환합니다.
+     *
+     * @return active=false 결과
+     */
+    public static TokenIntrospection inactive() {
+        return INACTIVE;
+    }
+}
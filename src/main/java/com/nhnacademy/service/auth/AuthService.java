@@ -1,6 +1,10 @@
 package com.nhnacademy.service.auth;
 
+import com.nhnacademy.dto.RefreshSession;
 import com.nhnacademy.dto.UserSignInRequest;
+import com.nhnacademy.token.provider.VerifiedToken;
+
+import java.util.List;
 
 public interface AuthService {
     String signIn(UserSignInRequest userSignInRequest);
@@ -8,4 +12,12 @@ public interface AuthService {
     String socialSignIn(String userEmail);
 
     void signOut(String accessToken);
+
+    void signOut(VerifiedToken accessToken);
+
+    void signOutAll(String accessToken);
+
+    List<RefreshSession> getSessions(String accessToken);
+
+    boolean signOutSession(String accessToken, String sessionId);
 }
@@ -1,24 +1,33 @@
 package com.nhnacademy.service.auth.impl;
 
 import com.nhnacademy.adapter.UserAdapter;
+import com.nhnacademy.common.redis.SharedRedisPipeline;
+import com.nhnacademy.dto.RefreshSession;
 import com.nhnacademy.dto.UserSignInRequest;
 import com.nhnacademy.service.auth.AuthService;
 import com.nhnacademy.service.blacklist.BlacklistService;
 import com.nhnacademy.service.refresh_token.RefreshTokenService;
 import com.nhnacademy.common.exception.FailSignInException;
+import com.nhnacademy.token.exception.TokenException;
 import com.nhnacademy.token.provider.JwtProvider;
+import com.nhnacademy.token.provider.VerifiedToken;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * 인증 관련 서비스 구현체입니다.
  *
- * <p>회원 로그인 시 accessToken, refreshToken을 발급 및 저장하며,
- * 로그아웃 시 accessToken을 블랙리스트에 등록하고 refreshToken을 삭제합니다.
+ * <p>회원 로그인 시 accessToken, refreshToken을 발급하고 기기별 세션으로 저장하며,
+ * 로그아웃 시 accessToken을 블랙리스트에 등록하고 해당 세션을 삭제합니다.
+ * 전체 로그아웃 시에는 사용자의 모든 토큰과 세션을 한 번에 폐기합니다.
+ * 두 저장소가 한 연결을 공유하는 구성({@code redis.layout=shared})에서는 로그아웃의 쓰기를 한 번의 파이프라인으로 보냅니다.
  */
 @Slf4j
 @Service
@@ -30,13 +39,25 @@ public class AuthServiceImpl implements AuthService {
     private final BlacklistService blacklistService;
     private final RefreshTokenService refreshTokenService;
     private final JwtProvider jwtProvider;
+    private SharedRedisPipeline sharedRedisPipeline;
+
+    /**
+     * 저장소 공유 파이프라인 주입 ({@code redis.layout=shared}일 때만 존재)
+     *
+     * @param sharedRedisPipeline 두 저장소의 쓰기를 묶는 파이프라인
+     */
+    @Autowired(required = false)
+    public void setSharedRedisPipeline(SharedRedisPipeline sharedRedisPipeline) {
+        this.sharedRedisPipeline = sharedRedisPipeline;
+    }
 
     /**
      * 사용자 로그인을 처리합니다.
      * <p>
      * - 유저 인증 어댑터를 통해 로그인
-     * - refreshToken 발급 및 Redis 저장
-     * - accessToken 발급 후 반환
+     * - accessToken 발급 (jti가 세션 ID)
+     * - refreshToken 발급 및 세션으로 Redis 저장
+     * - accessToken 반환
      *
      * @param userSignInRequest 로그인 요청 정보 (이메일, 비밀번호)
      * @return accessToken 문자열
@@ -47,16 +68,7 @@ public class AuthServiceImpl implements AuthService {
         ResponseEntity<String> responseEntity = userAdapter.loginUser(userSignInRequest);
 
         if (responseEntity.getStatusCode() == HttpStatus.OK) {
-            String userId = userSignInRequest.getUserEmail();
-
-            String refreshToken = jwtProvider.createRefreshToken();
-            refreshTokenService.setRefreshToken(refreshToken, userId);
-            log.debug("[AuthService] RefreshToken 저장 - userId={}, token={}", userId, refreshToken);
-
-            String accessToken = jwtProvider.createAccessToken(userId);
-            log.debug("[AuthService] AccessToken 생성 - userId={}, token={}", userId, accessToken);
-
-            return accessToken;
+            return issueTokens(userSignInRequest.getUserEmail());
         }
 
         int statusCode = responseEntity.getStatusCode().value();
@@ -66,14 +78,23 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public String socialSignIn(String userEmail) {
-            String refreshToken = jwtProvider.createRefreshToken();
-            refreshTokenService.setRefreshToken(refreshToken, userEmail);
-            log.debug("[AuthService] RefreshToken 저장 - userId={}, token={}", userEmail, refreshToken);
+        return issueTokens(userEmail);
+    }
+
+    /**
+     * 새 세션의 accessToken과 refreshToken을 발급하고 refreshToken을 세션으로 저장합니다.
+     */
+    private String issueTokens(String userId) {
+        String sessionId = jwtProvider.newAccessTokenId();
+
+        String accessToken = jwtProvider.createAccessToken(userId, sessionId);
+        log.debug("[AuthService] AccessToken 생성 - userId={}, token={}", userId, accessToken);
 
-            String accessToken = jwtProvider.createAccessToken(userEmail);
-            log.debug("[AuthService] AccessToken 생성 - userId={}, token={}", userEmail, accessToken);
+        String refreshToken = jwtProvider.createRefreshToken();
+        refreshTokenService.setRefreshToken(refreshToken, userId, sessionId);
+        log.debug("[AuthService] RefreshToken 저장 - userId={}, sessionId={}, token={}", userId, sessionId, refreshToken);
 
-            return accessToken;
+        return accessToken;
     }
 
     /**
@@ -86,10 +107,117 @@ public class AuthServiceImpl implements AuthService {
      */
     @Override
     public void signOut(String accessToken) {
-        blacklistService.addBlacklist(accessToken);
-        log.debug("[AuthService] AccessToken 블랙리스트 등록 완료");
+        signOut(jwtProvider.verify(accessToken));
+    }
+
+    /**
+     * 검증된 access token으로 로그아웃을 처리합니다.
+     * <p>
+     * 블랙리스트 등록과 refreshToken 삭제가 같은 검증 결과를 공유하므로 토큰은 한 번만 파싱됩니다.
+     *
+     * @param accessToken 로그아웃 대상의 검증된 access token
+     */
+    @Override
+    public void signOut(VerifiedToken accessToken) {
+        runWrites(() -> {
+            blacklistService.addBlacklist(accessToken);
+            refreshTokenService.removeRefreshToken(accessToken);
+        });
+        log.debug("[AuthService] AccessToken 블랙리스트 등록 및 RefreshToken 삭제 완료");
+    }
 
-        refreshTokenService.removeRefreshToken(accessToken);
-        log.debug("[AuthService] RefreshToken 삭제 완료");
+    /**
+     * 사용자의 모든 기기에서 로그아웃합니다. (비밀번호 변경, 계정 잠금 등)
+     * <p>
+     * - 이미 폐기된 accessToken이면 거절
+     * - 사용자별 폐기 기준 시각 기록 (토큰 수와 관계없이 Redis key 하나)
+     * - 요청에 사용된 accessToken과 각 세션의 최신 accessToken 블랙리스트 등록
+     * (기준 시각은 초 단위로 내림하므로 같은 초에 발급된 토큰 대비)
+     * - 사용자의 모든 세션 Redis에서 삭제 ({@code DEL} 한 번)
+     *
+     * @param accessToken 로그아웃 대상 access token
+     * @throws TokenException 폐기된 access token인 경우
+     */
+    @Override
+    public void signOutAll(String accessToken) {
+        VerifiedToken verifiedToken = verifyNotRevoked(accessToken);
+        String userId = requireUserId(verifiedToken);
+        List<RefreshSession> sessions = refreshTokenService.getSessions(verifiedToken);
+        long tokenValidity = jwtProvider.getAccessTokenValidity();
+
+        runWrites(() -> {
+            blacklistService.revokeAll(userId);
+            blacklistService.addBlacklist(verifiedToken);
+            for (RefreshSession session : sessions) {
+                if (!session.isCurrent()) {
+                    blacklistService.addBlacklistByTokenId(session.getSessionId(), tokenValidity);
+                }
+            }
+            refreshTokenService.removeAllSessions(userId);
+        });
+        log.debug("[AuthService] 사용자 토큰 전체 폐기 완료 - userId={}", userId);
+    }
+
+    /**
+     * 사용자의 로그인 세션(기기) 목록을 조회합니다.
+     *
+     * @param accessToken 요청에 사용된 access token
+     * @return 세션 목록 (요청한 세션은 {@code current=true})
+     * @throws TokenException 폐기된 access token인 경우
+     */
+    @Override
+    public List<RefreshSession> getSessions(String accessToken) {
+        return refreshTokenService.getSessions(verifyNotRevoked(accessToken));
+    }
+
+    /**
+     * 사용자의 세션 하나를 종료합니다. (다른 기기 로그아웃)
+     * <p>
+     * - 세션 삭제 ({@code HDEL} 한 번)
+     * - 세션의 최신 accessToken 블랙리스트 등록 (세션 ID가 그 토큰의 jti)
+     *
+     * @param accessToken 요청에 사용된 access token
+     * @param sessionId   종료할 세션 ID
+     * @return 세션이 있어서 종료했으면 true
+     * @throws TokenException 폐기된 access token인 경우
+     */
+    @Override
+    public boolean signOutSession(String accessToken, String sessionId) {
+        String userId = requireUserId(verifyNotRevoked(accessToken));
+
+        boolean removed = refreshTokenService.removeSession(userId, sessionId);
+        if (removed) {
+            blacklistService.addBlacklistByTokenId(sessionId, jwtProvider.getAccessTokenValidity());
+        }
+        log.debug("[AuthService] 세션 종료 - userId={}, sessionId={}, removed={}", userId, sessionId, removed);
+        return removed;
+    }
+
+    private void runWrites(Runnable writes) {
+        if (sharedRedisPipeline != null) {
+            sharedRedisPipeline.run(writes);
+        } else {
+            writes.run();
+        }
+    }
+
+    /**
+     * access token을 검증하고, 블랙리스트에 등록되었거나 전체 로그아웃 전에 발급된 토큰이면 거절합니다.
+     */
+    private VerifiedToken verifyNotRevoked(String accessToken) {
+        VerifiedToken verifiedToken = jwtProvider.verify(accessToken);
+        if (blacklistService.isBlacklisted(verifiedToken)) {
+            log.warn("[AuthService] 폐기된 access token - userId={}", verifiedToken.getUserId());
+            throw new TokenException("폐기된 access token입니다.");
+        }
+        return verifiedToken;
+    }
+
+    private static String requireUserId(VerifiedToken verifiedToken) {
+        String userId = verifiedToken.getUserId();
+        if (userId == null) {
+            throw new TokenException("토큰에 사용자 ID가 존재하지 않습니다.");
+        }
+        return userId;
     }
 }
@@ -1,8 +1,27 @@
 package com.nhnacademy.service.blacklist;
 
+import com.nhnacademy.token.provider.VerifiedToken;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 public interface BlacklistService {
     void addBlacklist(String token);
+
+    void addBlacklist(VerifiedToken token);
+
+    void addBlacklistByTokenId(String tokenId, long ttlMillis);
+
+    void addRotated(VerifiedToken token);
+
+    void recordRevoked(VerifiedToken token);
+
+    void revokeAll(String userId);
+
+    boolean isBlacklisted(VerifiedToken token);
+
+    boolean isRotated(VerifiedToken token);
+
+    List<Boolean> areBlacklisted(List<VerifiedToken> tokens);
 }
@@ -0,0 +1,133 @@
+package com.nhnacademy.service.blacklist.impl;
+
+import com.nhnacademy.common.redis.RedisKeys;
+import com.nhnacademy.token.provider.VerifiedToken;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 블랙리스트 DB의 Redis key를 만드는 유틸리티입니다.
+ * <p>
+ * jti가 있는 토큰은 {@code "bl:" + jti 원본 12바이트}의 15바이트 고정 길이 binary key를 사용합니다.
+ * jti가 없는 이전 토큰은 기존과 같이 {@code blacklist:{token}} key를 사용합니다.
+ * <p>
+ * 로컬 Bloom filter와 pub/sub 메시지에는 binary key 대신 {@code "bl:" + jti} 문자열을 사용합니다.
+ * <p>
+ * 사용자별 폐기 기준 시각은 {@code revokedBefore:{userId}} key를 사용합니다.
+ * <p>
+ * 값은 로그아웃이면 빈 값(이전 key는 {@code "logout"}), 재발급으로 교체되었으면 {@link #ROTATED_VALUE}입니다.
+ */
+public final class BlacklistKeys {
+
+    static final String LEGACY_PREFIX = "blacklist:";
+    static final String LEGACY_VALUE = "logout";
+    static final String PREFIX = "bl:";
+    static final String REVOKED_BEFORE_PREFIX = "revokedBefore:";
+
+    /**
+     * 재발급으로 교체된 토큰의 블랙리스트 값 (로그아웃과 구분하여 재사용을 감지하는 데 사용)
+     */
+    public static final String ROTATED_VALUE = "r";
+
+    private static final byte[] PREFIX_BYTES = PREFIX.getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EMPTY_VALUE = new byte[0];
+    private static final byte[] LEGACY_VALUE_BYTES = LEGACY_VALUE.getBytes(StandardCharsets.UTF_8);
+    private static final int TOKEN_ID_BYTES = 12;
+    private static final int TOKEN_ID_LENGTH = 16;
+
+    private BlacklistKeys() {
+    }
+
+    /**
+     * @param token 검증된 토큰
+     * @return binary key를 쓸 수 있는 jti를 가지고 있으면 true
+     */
+    public static boolean hasCompactKey(VerifiedToken token) {
+        String tokenId = token.getTokenId();
+        if (tokenId == null || tokenId.length() != TOKEN_ID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < TOKEN_ID_LENGTH; i++) {
+            char c = tokenId.charAt(i);
+            boolean base64Url = (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+            if (!base64Url) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 토큰의 블랙리스트 key를 반환합니다.
+     *
+     * @param token 검증된 토큰
+     * @return Redis key 바이트열
+     */
+    public static byte[] keyOf(VerifiedToken token) {
+        if (!hasCompactKey(token)) {
+            return (LEGACY_PREFIX + token.getRawToken()).getBytes(StandardCharsets.UTF_8);
+        }
+
+        byte[] tokenId = Base64.getUrlDecoder().decode(token.getTokenId());
+        byte[] key = new byte[PREFIX_BYTES.length + TOKEN_ID_BYTES];
+        System.arraycopy(PREFIX_BYTES, 0, key, 0, PREFIX_BYTES.length);
+        System.arraycopy(tokenId, 0, key, PREFIX_BYTES.length, TOKEN_ID_BYTES);
+        return key;
+    }
+
+    /**
+     * 토큰의 블랙리스트 값을 반환합니다.
+     *
+     * @param token 검증된 토큰
+     * @return binary key는 빈 값, 이전 key는 {@code "logout"}
+     */
+    public static byte[] valueOf(VerifiedToken token) {
+        return hasCompactKey(token) ? EMPTY_VALUE : LEGACY_VALUE_BYTES;
+    }
+
+    /**
+     * 사용자별 폐기 기준 시각 key를 반환합니다.
+     *
+     * @param userId  사용자 ID
+     * @param hashTag 사용자 ID를 해시 태그로 감쌀지 여부 ({@code redis.key.hash-tags})
+     * @return {@code revokedBefore:{userId}}
+     */
+    public static String revokedBeforeKeyOf(String userId, boolean hashTag) {
+        return RedisKeys.userKey(REVOKED_BEFORE_PREFIX, userId, hashTag);
+    }
+
+    /**
+     * 토큰의 Bloom filter 항목 문자열을 반환합니다.
+     *
+     * @param token 검증된 토큰
+     * @return {@code bl:{jti}} 또는 {@code blacklist:{token}}
+     */
+    static String memberOf(VerifiedToken token) {
+        return hasCompactKey(token) ? PREFIX + token.getTokenId() : LEGACY_PREFIX + token.getRawToken();
+    }
+
+    /**
+     * SCAN으로 읽은 key의 Bloom filter 항목 문자열을 반환합니다.
+     *
+     * @param key Redis key 바이트열
+     * @return {@link #memberOf(VerifiedToken)}와 같은 형식의 문자열
+     */
+    static String memberOf(byte[] key) {
+        if (key.length == PREFIX_BYTES.length + TOKEN_ID_BYTES && startsWith(key, PREFIX_BYTES)) {
+            return PREFIX + Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(Arrays.copyOfRange(key, PREFIX_BYTES.length, key.length));
+        }
+        return new String(key, StandardCharsets.UTF_8);
+    }
+
+    private static boolean startsWith(byte[] key, byte[] prefix) {
+        for (int i = 0; i < prefix.length; i++) {
+            if (key[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,289 @@
+package com.nhnacademy.service.blacklist.impl;
+
+import com.nhnacademy.common.cache.CacheStats;
+import com.nhnacademy.common.cache.TimePartitionedBloomFilter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 블랙리스트 조회 앞에 두는 프로세스 내 Bloom filter 음성 캐시입니다.
+ * <p>
+ * 대부분의 토큰은 폐기되지 않았으므로, 필터가 "없음"이라고 답하면 Redis를 조회하지 않습니다.
+ * 필터는 블랙리스트 key의 만료 시각으로 구간을 나누어({@link TimePartitionedBloomFilter}) 토큰이 만료되면 함께 비워집니다.
+ * <ul>
+ *     <li>필터 member는 {@link BlacklistKeys#memberOf(com.nhnacademy.token.provider.VerifiedToken)} 문자열입니다.</li>
+ *     <li>시작 시 블랙리스트 DB를 SCAN하여 필터를 채우고, 그 전까지는 모든 조회를 Redis로 보냅니다.</li>
+ *     <li>블랙리스트 등록은 Redis pub/sub 채널 {@value #CHANNEL}로 모든 인스턴스에 전파합니다.</li>
+ *     <li>pub/sub 메시지는 연결이 끊기면 유실될 수 있으므로 주기적으로 SCAN하여 필터를 새로 만듭니다.</li>
+ * </ul>
+ * {@code blacklist.bloom.enabled=true}일 때만 등록됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "blacklist.bloom.enabled", havingValue = "true")
+public class BlacklistNegativeCache {
+
+    static final String CHANNEL = "blacklist:added";
+
+    private static final char SEPARATOR = '|';
+    private static final int SCAN_BATCH = 1000;
+
+    private final RedisTemplate<String, Object> template;
+
+    @Value("${blacklist.bloom.key-patterns:bl:*,blacklist:*}")
+    private String[] keyPatterns;
+
+    @Value("${blacklist.bloom.slice-ms:900000}")
+    private long sliceMillis;
+
+    @Value("${blacklist.bloom.skew-ms:5000}")
+    private long skewMillis;
+
+    @Value("${blacklist.bloom.expected-insertions:100000}")
+    private int expectedInsertions;
+
+    @Value("${blacklist.bloom.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    private volatile TimePartitionedBloomFilter filter;
+    private volatile TimePartitionedBloomFilter rebuilding;
+    private volatile boolean ready;
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final LongAdder negatives = new LongAdder();
+    private final LongAdder possibleHits = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    /**
+     * 생성자
+     *
+     * @param template 블랙리스트용 RedisTemplate (pub/sub 구독도 같은 연결 팩토리를 사용)
+     */
+    public BlacklistNegativeCache(@Qualifier("accessTokenBlacklistRedisTemplate") RedisTemplate<String, Object> template) {
+        this.template = template;
+    }
+
+    /**
+     * 등록 메시지 구독을 먼저 시작한 뒤 필터를 채웁니다.
+     * 구독 전에 등록된 key는 SCAN으로, 이후에 등록된 key는 메시지로 받으므로 빠지는 key가 없습니다.
+     */
+    @PostConstruct
+    public void init() {
+        this.filter = newFilter();
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(template.getRequiredConnectionFactory());
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("[BlacklistNegativeCache] 초기 필터 구성 실패, 다음 재동기화까지 Redis 직접 조회: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void destroy() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+
+    /**
+     * 블랙리스트 key가 등록되었을 수 있는지 확인합니다.
+     *
+     * @param key       블랙리스트 항목 ({@link BlacklistKeys} 참고)
+     * @param expiresAt 토큰 만료 시각 (epoch ms)
+     * @return 등록되지 않았음이 확실하면 false, 필터가 준비되지 않았으면 true
+     */
+    public boolean mightBeBlacklisted(String key, long expiresAt) {
+        if (!ready) {
+            possibleHits.increment();
+            return true;
+        }
+        if (filter.mightContain(key, expiresAt)) {
+            possibleHits.increment();
+            return true;
+        }
+        negatives.increment();
+        return false;
+    }
+
+    /**
+     * 필터가 있다고 답했지만 Redis에는 없었던 경우를 기록합니다.
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /**
+     * Redis에 등록한 블랙리스트 key를 로컬 필터에 기록하고 다른 인스턴스에 전파합니다.
+     *
+     * @param key       블랙리스트 항목 ({@link BlacklistKeys} 참고)
+     * @param expiresAt 토큰 만료 시각 (epoch ms)
+     */
+    public void recordAdded(String key, long expiresAt) {
+        put(key, expiresAt);
+        try {
+            template.convertAndSend(CHANNEL, expiresAt + String.valueOf(SEPARATOR) + key);
+        } catch (Exception e) {
+            log.warn("[BlacklistNegativeCache] 블랙리스트 등록 전파 실패 (다음 재동기화에 반영): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 전파한 등록 메시지를 반영합니다. 형식: {@code {expiresAt}|{key}}
+     */
+    void onMessage(String payload) {
+        int separator = payload.indexOf(SEPARATOR);
+        if (separator <= 0) {
+            log.warn("[BlacklistNegativeCache] 잘못된 등록 메시지 무시: {}", payload);
+            return;
+        }
+        try {
+            put(payload.substring(separator + 1), Long.parseLong(payload.substring(0, separator)));
+        } catch (NumberFormatException e) {
+            log.warn("[BlacklistNegativeCache] 잘못된 등록 메시지 무시: {}", payload);
+        }
+    }
+
+    /**
+     * 블랙리스트 DB를 SCAN하여 필터를 새로 만들고 교체합니다.
+     * <p>
+     * 구성하는 동안 등록되는 key는 기존 필터와 새 필터에 모두 기록합니다.
+     * 새 필터에는 살아 있는 key만 들어가므로 끝난 구간도 함께 정리됩니다.
+     */
+    @Scheduled(initialDelayString = "${blacklist.bloom.resync-interval-ms:300000}",
+            fixedDelayString = "${blacklist.bloom.resync-interval-ms:300000}")
+    public synchronized void rebuild() {
+        TimePartitionedBloomFilter next = newFilter();
+        rebuilding = next;
+        int count = 0;
+        try {
+            for (String keyPattern : keyPatterns) {
+                count += scan(next, keyPattern);
+            }
+
+            filter = next;
+            ready = true;
+        } finally {
+            rebuilding = null;
+        }
+
+        log.info("[BlacklistNegativeCache] 필터 재구성 완료 - key 수={}, 구간 수={}, 구간당 비트={}",
+                count, next.partitionCount(), next.bitsPerPartition());
+    }
+
+    /**
+     * 음성 캐시 통계를 반환합니다.
+     * <p>
+     * hit은 Redis 조회를 생략한 수, miss는 Redis로 보낸 수, eviction은 오탐 수입니다.
+     *
+     * @return 통계 스냅샷
+     */
+    public CacheStats stats() {
+        return new CacheStats(negatives.sum(), possibleHits.sum(), falsePositives.sum(), filter.partitionCount());
+    }
+
+    /**
+     * key는 binary일 수 있으므로({@link BlacklistKeys}) 연결에서 바이트 그대로 SCAN합니다.
+     * Redis Cluster에서는 primary 노드마다 따로 SCAN합니다.
+     */
+    private int scan(TimePartitionedBloomFilter target, String keyPattern) {
+        ScanOptions options = ScanOptions.scanOptions().match(keyPattern).count(SCAN_BATCH).build();
+        Integer count = template.execute((RedisCallback<Integer>) connection -> {
+            if (!(connection instanceof RedisClusterConnection clusterConnection)) {
+                return scan(target, connection.keyCommands().scan(options));
+            }
+
+            int loaded = 0;
+            for (RedisClusterNode node : clusterConnection.clusterGetNodes()) {
+                if (node.isMaster()) {
+                    loaded += scan(target, clusterConnection.scan(node, options));
+                }
+            }
+            return loaded;
+        });
+        return count == null ? 0 : count;
+    }
+
+    private int scan(TimePartitionedBloomFilter target, Cursor<byte[]> keys) {
+        int loaded = 0;
+        List<byte[]> batch = new ArrayList<>(SCAN_BATCH);
+        try (Cursor<byte[]> cursor = keys) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == SCAN_BATCH) {
+                    loaded += load(target, batch);
+                    batch.clear();
+                }
+            }
+        }
+        return loaded + load(target, batch);
+    }
+
+    private int load(TimePartitionedBloomFilter target, List<byte[]> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
+        long now = System.currentTimeMillis();
+        List<Object> ttls = template.executePipelined((RedisCallback<Object>) connection -> {
+            for (byte[] key : keys) {
+                connection.keyCommands().pTtl(key);
+            }
+            return null;
+        });
+
+        int loaded = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            Object ttl = ttls.get(i);
+            String member = BlacklistKeys.memberOf(keys.get(i));
+            if (ttl instanceof Long remaining && remaining > 0) {
+                target.put(member, now + remaining);
+                loaded++;
+            } else if (ttl instanceof Long remaining && remaining == -1) {
+                log.warn("[BlacklistNegativeCache] TTL 없는 블랙리스트 key 무시: {}", member);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 재구성 중인 필터를 먼저 읽어야 교체 직전에 기록한 key가 새 필터에서 빠지지 않습니다.
+     */
+    private void put(String key, long expiresAt) {
+        TimePartitionedBloomFilter next = rebuilding;
+        filter.put(key, expiresAt);
+        if (next != null) {
+            next.put(key, expiresAt);
+        }
+    }
+
+    private TimePartitionedBloomFilter newFilter() {
+        return new TimePartitionedBloomFilter(sliceMillis, skewMillis, expectedInsertions, falsePositiveRate);
+    }
+}
@@ -1,64 +1,311 @@
 package com.nhnacademy.service.blacklist.impl;
 
+import com.nhnacademy.common.redis.RedisWriteBehindQueue;
+import com.nhnacademy.common.redis.TrackingNearCache;
+import com.nhnacademy.common.store.TokenStore;
 import com.nhnacademy.service.blacklist.BlacklistService;
+import com.nhnacademy.token.exception.TokenException;
 import com.nhnacademy.token.provider.JwtProvider;
+import com.nhnacademy.token.provider.VerifiedToken;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
- * AccessToken 블랙리스트 등록을 처리하는 서비스 구현체입니다.
+ * AccessToken 블랙리스트 등록과 조회를 처리하는 서비스 구현체입니다.
  * <p>
- * 로그아웃 시 access token을 Redis에 저장하여 재사용을 방지합니다.
+ * 로그아웃 시 access token을 토큰 저장소({@link TokenStore}, 기본값 Redis)에 저장하여 재사용을 방지합니다.
+ * jti가 있는 토큰은 토큰 전체 대신 jti로 만든 15바이트 binary key와 빈 값만 저장합니다. ({@link BlacklistKeys})
+ * <p>
+ * 사용자의 토큰을 한 번에 폐기할 때는 토큰별 key 대신 사용자별 폐기 기준 시각({@link UserRevocationEpochs})만 기록하고,
+ * 조회 시 토큰의 발급 시각이 그보다 이르면 폐기된 것으로 봅니다.
+ * <p>
+ * {@link BlacklistNegativeCache}가 등록되어 있으면 조회 전에 로컬 Bloom filter를 확인하여
+ * 등록되지 않았음이 확실한 토큰은 Redis를 조회하지 않습니다.
+ * <p>
+ * {@link TrackingNearCache}가 등록되어 있으면 단건 조회는 서버 무효화로 갱신되는 로컬 결과(등록되지 않음 포함)를 사용합니다.
  */
 @Slf4j
 @Service
 public class BlacklistServiceImpl implements BlacklistService {
 
-    private static final String BLACKLIST_PREFIX = "blacklist:";
-    private static final String LOGOUT_VALUE = "logout";
+    private static final byte[] ROTATED_VALUE = BlacklistKeys.ROTATED_VALUE.getBytes(StandardCharsets.UTF_8);
 
-    private final RedisTemplate<String, Object> template;
+    private final TokenStore store;
     private final JwtProvider jwtProvider;
+    private final UserRevocationEpochs revocationEpochs;
+    private BlacklistNegativeCache negativeCache;
+    private RedisWriteBehindQueue writeBehindQueue;
+    private TrackingNearCache nearCache;
 
     /**
-     * 생성자 주입 - Redis 템플릿과 JWT 유틸 주입
+     * 생성자 주입 - 토큰 저장소와 JWT 유틸 주입
      *
-     * @param template     블랙리스트용 RedisTemplate
-     * @param jwtProvider  JWT 유틸리티 (만료 시간 계산용)
+     * @param store            블랙리스트 저장소
+     * @param jwtProvider      JWT 유틸리티 (토큰 검증 및 검증 캐시 제거용)
+     * @param revocationEpochs 사용자별 폐기 기준 시각
      */
     public BlacklistServiceImpl(
-            @Qualifier("accessTokenBlacklistRedisTemplate") RedisTemplate<String, Object> template,
-            JwtProvider jwtProvider
+            @Qualifier("blacklistTokenStore") TokenStore store,
+            JwtProvider jwtProvider,
+            UserRevocationEpochs revocationEpochs
     ) {
-        this.template = template;
+        this.store = store;
         this.jwtProvider = jwtProvider;
+        this.revocationEpochs = revocationEpochs;
+    }
+
+    /**
+     * Bloom filter 음성 캐시 주입 ({@code blacklist.bloom.enabled=true}일 때만 존재)
+     *
+     * @param negativeCache 블랙리스트 음성 캐시
+     */
+    @Autowired(required = false)
+    public void setNegativeCache(BlacklistNegativeCache negativeCache) {
+        this.negativeCache = negativeCache;
+    }
+
+    /**
+     * write-behind 큐 주입 ({@code redis.write-behind.enabled=true}일 때만 존재)
+     *
+     * @param writeBehindQueue 블랙리스트 쓰기용 write-behind 큐
+     */
+    @Autowired(required = false)
+    public void setWriteBehindQueue(@Qualifier("blacklistWriteBehindQueue") RedisWriteBehindQueue writeBehindQueue) {
+        this.writeBehindQueue = writeBehindQueue;
     }
 
     /**
-     * 주어진 AccessToken을 Redis 블랙리스트에 등록합니다.
+     * near cache 주입 ({@code redis.near-cache.enabled=true}일 때만 존재)
+     *
+     * @param nearCache 블랙리스트 DB near cache
+     */
+    @Autowired(required = false)
+    public void setNearCache(@Qualifier("blacklistNearCache") TrackingNearCache nearCache) {
+        this.nearCache = nearCache;
+    }
+
+    /**
+     * 주어진 AccessToken을 검증한 뒤 Redis 블랙리스트에 등록합니다.
+     *
+     * @param token 블랙리스트에 등록할 access token
+     * @see #addBlacklist(VerifiedToken)
+     */
+    @Override
+    public void addBlacklist(String token) {
+        addBlacklist(jwtProvider.verify(token));
+    }
+
+    /**
+     * 이미 검증된 AccessToken을 Redis 블랙리스트에 등록합니다.
      * <p>
+     * jti가 있는 토큰<br>
+     * Redis key: {@code "bl:" + jti 12바이트} (binary)<br>
+     * Value: 빈 값<br>
+     * jti가 없는 이전 토큰<br>
      * Redis key: {@code blacklist:{token}}<br>
      * Value: {@code "logout"}<br>
-     * TTL: access token의 남은 만료 시간(ms)
+     * TTL: access token의 남은 만료 시간(ms)<br>
+     * write-behind 큐가 있으면 같은 쓰기를 큐를 거쳐 배치로 반영합니다.<br>
+     * 등록 후 {@link JwtProvider}의 검증 캐시에서도 제거합니다.
+     * write-behind 큐에서는 쓰기가 Redis에 반영된 뒤에 로컬 상태를 갱신하므로,
+     * {@code async} 모드에서는 이 메서드가 반환된 뒤에도 배치가 반영될 때까지 이 인스턴스를 포함해 어디에서도 폐기가 보이지 않을 수 있습니다.
      *
-     * @param token 블랙리스트에 등록할 access token
+     * @param token 블랙리스트에 등록할 검증된 access token
      */
     @Override
-    public void addBlacklist(String token) {
-        long ttl = jwtProvider.getRemainingExpiration(token);
+    public void addBlacklist(VerifiedToken token) {
+        add(token, BlacklistKeys.valueOf(token));
+    }
+
+    /**
+     * 재발급으로 교체된 AccessToken을 {@link BlacklistKeys#ROTATED_VALUE} 값으로 블랙리스트에 등록합니다.
+     * <p>
+     * 재발급 스크립트와 같은 값을 쓰므로, 교체된 토큰을 다시 사용하면 로그아웃한 토큰과 구분하여 재사용으로 판단할 수 있습니다.
+     * ({@link #isRotated(VerifiedToken)}) 등록 방식은 {@link #addBlacklist(VerifiedToken)}와 같습니다.
+     *
+     * @param token 재발급으로 교체된 검증된 access token
+     */
+    @Override
+    public void addRotated(VerifiedToken token) {
+        add(token, ROTATED_VALUE);
+    }
+
+    /**
+     * 원본 토큰 없이 jti만 아는 access token을 블랙리스트에 등록합니다. (다른 기기의 세션 종료 등)
+     * <p>
+     * 16자 jti만 등록할 수 있으며, 그 밖의 값은 무시합니다.
+     *
+     * @param tokenId   access token jti
+     * @param ttlMillis 등록 유지 시간 (토큰의 남은 만료 시간을 모르면 access token 유효 기간)
+     */
+    @Override
+    public void addBlacklistByTokenId(String tokenId, long ttlMillis) {
+        VerifiedToken token = new VerifiedToken(null, null, tokenId, 0L, System.currentTimeMillis() + ttlMillis, null, null);
+        if (!BlacklistKeys.hasCompactKey(token)) {
+            log.warn("[BlacklistService] jti 형식이 아니므로 등록하지 않음 - tokenId={}", tokenId);
+            return;
+        }
+        addBlacklist(token);
+    }
 
-        template.opsForValue().set(
-                BLACKLIST_PREFIX + token,
-                LOGOUT_VALUE,
-                ttl,
-                TimeUnit.MILLISECONDS
-        );
+    /**
+     * 다른 경로(재발급 스크립트 등)에서 Redis에 이미 블랙리스트로 기록된 토큰을 로컬 상태에 반영합니다.
+     * <p>
+     * Bloom filter 음성 캐시에 추가하고 near cache와 {@link JwtProvider}의 검증 캐시에서 제거합니다.
+     *
+     * @param token 블랙리스트에 기록된 검증된 access token
+     */
+    @Override
+    public void recordRevoked(VerifiedToken token) {
+        if (negativeCache != null) {
+            negativeCache.recordAdded(BlacklistKeys.memberOf(token), token.getExpiresAt());
+        }
+        if (nearCache != null) {
+            nearCache.invalidate(BlacklistKeys.keyOf(token));
+        }
+        jwtProvider.evictVerified(token.getRawToken());
+    }
+
+    /**
+     * 지금까지 발급된 사용자의 토큰을 모두 폐기합니다.
+     * <p>
+     * 토큰 수와 관계없이 사용자별 폐기 기준 시각 key 하나만 기록합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    @Override
+    public void revokeAll(String userId) {
+        long revokedBefore = revocationEpochs.revokeAll(userId);
+        log.info("[BlacklistService] 사용자 토큰 전체 폐기 - userId={}, revokedBefore={}", userId, revokedBefore);
+    }
 
-        log.debug("[BlacklistService] accessToken 블랙리스트 등록 - key={}, ttl(ms)={}",
-                BLACKLIST_PREFIX + token, ttl);
+    /**
+     * 토큰의 폐기 여부를 확인합니다.
+     * <p>
+     * 사용자별 폐기 기준 시각 전에 발급되었거나 블랙리스트에 등록되어 있으면 폐기된 토큰입니다.
+     *
+     * @param token 검증된 access token
+     * @return 폐기되었으면 true
+     */
+    @Override
+    public boolean isBlacklisted(VerifiedToken token) {
+        String userId = userIdOf(token);
+        if (userId != null && revocationEpochs.isRevoked(userId, token.getIssuedAt())) {
+            return true;
+        }
+        if (negativeCache != null && !negativeCache.mightBeBlacklisted(BlacklistKeys.memberOf(token), token.getExpiresAt())) {
+            return false;
+        }
+
+        byte[] key = BlacklistKeys.keyOf(token);
+        boolean blacklisted = nearCache != null ? nearCache.get(key) != null : store.exists(key);
+        if (!blacklisted && negativeCache != null) {
+            negativeCache.recordFalsePositive();
+        }
+        return blacklisted;
+    }
+
+    /**
+     * 토큰이 재발급으로 교체되어서만 폐기되었는지 확인합니다.
+     * <p>
+     * {@link #isBlacklisted(VerifiedToken)}가 true인 토큰에만 호출하며, 값을 읽어야 하므로 Bloom filter를 거치지 않습니다.
+     * 사용자별 폐기 기준 시각 전에 발급된 토큰은 교체되었더라도 전체 로그아웃으로 폐기된 것으로 보고 false를 반환합니다.
+     *
+     * @param token 검증된 access token
+     * @return 블랙리스트 값이 {@link BlacklistKeys#ROTATED_VALUE}이고 전체 로그아웃으로 폐기되지 않았으면 true
+     */
+    @Override
+    public boolean isRotated(VerifiedToken token) {
+        String userId = userIdOf(token);
+        if (userId != null && revocationEpochs.isRevoked(userId, token.getIssuedAt())) {
+            return false;
+        }
+        byte[] key = BlacklistKeys.keyOf(token);
+        byte[] value = nearCache != null ? nearCache.get(key) : store.get(key);
+        return value != null && Arrays.equals(value, ROTATED_VALUE);
+    }
+
+    /**
+     * 여러 토큰의 폐기 여부를 조회합니다.
+     * <p>
+     * 사용자별 폐기 기준 시각을 먼저 확인하고, 남은 토큰의 블랙리스트 등록 여부를 한 번의 {@code MGET}으로 조회합니다.
+     * 음성 캐시가 있으면 등록되었을 수 있는 토큰만 조회하며, 그런 토큰이 없으면 Redis를 조회하지 않습니다.
+     *
+     * @param tokens 검증된 access token 목록
+     * @return 토큰별 폐기 여부 (입력 순서와 같음)
+     */
+    @Override
+    public List<Boolean> areBlacklisted(List<VerifiedToken> tokens) {
+        List<String> userIds = new ArrayList<>(tokens.size());
+        for (VerifiedToken token : tokens) {
+            userIds.add(userIdOf(token));
+        }
+        Map<String, Long> revokedBefore = revocationEpochs.revokedBefore(
+                userIds.stream().filter(Objects::nonNull).toList());
+
+        List<Boolean> result = new ArrayList<>(tokens.size());
+        List<byte[]> keys = new ArrayList<>(tokens.size());
+        List<Integer> positions = new ArrayList<>(tokens.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            VerifiedToken token = tokens.get(i);
+            String userId = userIds.get(i);
+            if (userId != null && token.getIssuedAt() < revokedBefore.getOrDefault(userId, 0L)) {
+                result.add(true);
+                continue;
+            }
+            result.add(false);
+            if (negativeCache == null || negativeCache.mightBeBlacklisted(BlacklistKeys.memberOf(token), token.getExpiresAt())) {
+                keys.add(BlacklistKeys.keyOf(token));
+                positions.add(result.size() - 1);
+            }
+        }
+        if (keys.isEmpty()) {
+            return result;
+        }
+
+        List<byte[]> values = store.getAll(keys);
+        for (int i = 0; i < keys.size(); i++) {
+            boolean blacklisted = values.get(i) != null;
+            if (blacklisted) {
+                result.set(positions.get(i), true);
+            } else if (negativeCache != null) {
+                negativeCache.recordFalsePositive();
+            }
+        }
+        return result;
+    }
+
+    private void add(VerifiedToken token, byte[] value) {
+        long ttl = token.getRemainingExpiration();
+
+        if (writeBehindQueue != null) {
+            writeBehindQueue.set(BlacklistKeys.keyOf(token), value, ttl)
+                    .thenRun(() -> recordRevoked(token));
+        } else {
+            store.put(BlacklistKeys.keyOf(token), value, ttl);
+            recordRevoked(token);
+        }
+
+        log.debug("[BlacklistService] accessToken 블랙리스트 등록 - key={}, ttl(ms)={}", BlacklistKeys.memberOf(token), ttl);
+    }
+
+    /**
+     * 사용자 ID를 확인할 수 없는 토큰(refresh token, subject 매핑이 사라진 토큰)은 기준 시각 확인을 건너뜁니다.
+     */
+    private static String userIdOf(VerifiedToken token) {
+        try {
+            return token.getUserId();
+        } catch (TokenException e) {
+            return null;
+        }
     }
 }
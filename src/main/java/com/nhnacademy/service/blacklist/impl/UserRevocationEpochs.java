@@ -0,0 +1,189 @@
+package com.nhnacademy.service.blacklist.impl;
+
+import com.nhnacademy.common.cache.ExpiringLruCache;
+import com.nhnacademy.common.redis.TrackingNearCache;
+import com.nhnacademy.common.store.TokenStore;
+import com.nhnacademy.token.provider.JwtProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 폐기 기준 시각("이 시각 전에 발급된 토큰은 모두 무효")을 관리합니다.
+ * <p>
+ * key: {@code revokedBefore:{userId}} ({@link BlacklistKeys#revokedBeforeKeyOf(String, boolean)})<br>
+ * Value: 기준 시각 (epoch ms, 초 단위로 내림)<br>
+ * TTL: refresh token 유효 기간 (그 뒤에는 기준 시각 전에 발급된 토큰이 모두 만료되어 있음)
+ * <p>
+ * 사용자의 토큰이 몇 개든 전체 폐기는 key 하나를 쓰는 것으로 끝납니다.
+ * 조회 결과(기준 시각이 없는 경우 포함)는 {@code blacklist.revocation.cache-ttl-ms} 동안 로컬에 보관하므로,
+ * 다른 인스턴스에서 폐기한 결과는 최대 그 시간만큼 늦게 반영됩니다.
+ * <p>
+ * {@link TrackingNearCache}가 등록되어 있으면 단건 조회는 TTL 캐시 대신 서버 무효화로 갱신되는 near cache를 사용하므로
+ * 다른 인스턴스의 전체 로그아웃이 바로 반영됩니다.
+ * <p>
+ * {@code iat}는 초 단위이므로 기준 시각도 초 단위로 내림합니다.
+ * 따라서 폐기 직후 같은 초에 새로 발급한 토큰(비밀번호 변경 후 재로그인 등)은 폐기되지 않습니다.
+ * 폐기 직전 같은 초에 발급된 토큰도 기준 시각만으로는 막히지 않으므로, 전체 로그아웃은 각 세션의 최신 access token jti를
+ * 블랙리스트에 함께 등록합니다. (이전 토큰은 재발급할 때 이미 블랙리스트에 등록됨)
+ */
+@Slf4j
+@Component
+public class UserRevocationEpochs {
+
+    private static final Long NONE = 0L;
+    private static final int CACHE_SIZE = 10000;
+
+    private final TokenStore store;
+    private final JwtProvider jwtProvider;
+    private final ExpiringLruCache<String, Long> cache = new ExpiringLruCache<>(CACHE_SIZE);
+    private TrackingNearCache nearCache;
+
+    @Value("${blacklist.revocation.cache-ttl-ms:1000}")
+    private long cacheTtlMillis;
+
+    @Value("${redis.key.hash-tags:false}")
+    private boolean hashTags;
+
+    /**
+     * 생성자
+     *
+     * @param store       블랙리스트 저장소
+     * @param jwtProvider 토큰 유효 기간 조회용 JWT 유틸
+     */
+    public UserRevocationEpochs(
+            @Qualifier("blacklistTokenStore") TokenStore store,
+            JwtProvider jwtProvider
+    ) {
+        this.store = store;
+        this.jwtProvider = jwtProvider;
+    }
+
+    /**
+     * near cache 주입 ({@code redis.near-cache.enabled=true}일 때만 존재)
+     *
+     * @param nearCache 블랙리스트 DB near cache
+     */
+    @Autowired(required = false)
+    public void setNearCache(@Qualifier("blacklistNearCache") TrackingNearCache nearCache) {
+        this.nearCache = nearCache;
+    }
+
+    /**
+     * 지금까지 발급된 사용자의 토큰을 모두 폐기합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 기록한 기준 시각 (epoch ms)
+     */
+    public long revokeAll(String userId) {
+        long now = System.currentTimeMillis();
+        long revokedBefore = now / 1000 * 1000;
+        long ttl = jwtProvider.getRefreshTokenValidity();
+
+        store.put(keyOf(userId), utf8(String.valueOf(revokedBefore)), ttl);
+        cache.put(userId, revokedBefore, now + cacheTtlMillis);
+        if (nearCache != null) {
+            nearCache.invalidate(keyOf(userId));
+        }
+
+        log.debug("[UserRevocationEpochs] 사용자 토큰 전체 폐기 - userId={}, revokedBefore={}", userId, revokedBefore);
+        return revokedBefore;
+    }
+
+    /**
+     * 토큰이 사용자의 폐기 기준 시각 전에 발급되었는지 확인합니다.
+     *
+     * @param userId   사용자 ID
+     * @param issuedAt 토큰 발급 시각 (epoch ms)
+     * @return 폐기되었으면 true
+     */
+    public boolean isRevoked(String userId, long issuedAt) {
+        return issuedAt < revokedBefore(userId);
+    }
+
+    /**
+     * 사용자의 폐기 기준 시각을 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 기준 시각 (epoch ms), 없으면 0
+     */
+    public long revokedBefore(String userId) {
+        if (nearCache != null) {
+            return parse(nearCache.get(keyOf(userId)));
+        }
+
+        long now = System.currentTimeMillis();
+        Long cached = cache.get(userId, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        Long value = parse(store.get(keyOf(userId)));
+        cache.put(userId, value, now + cacheTtlMillis);
+        return value;
+    }
+
+    /**
+     * 여러 사용자의 폐기 기준 시각을 로컬 캐시에 없는 사용자만 한 번의 {@code MGET}으로 조회합니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID별 기준 시각 (없는 사용자는 0)
+     */
+    public Map<String, Long> revokedBefore(List<String> userIds) {
+        long now = System.currentTimeMillis();
+        Map<String, Long> result = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String userId : userIds) {
+            if (result.containsKey(userId)) {
+                continue;
+            }
+            Long cached = cache.get(userId, now);
+            if (cached != null) {
+                result.put(userId, cached);
+            } else {
+                result.put(userId, NONE);
+                missing.add(userId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        List<byte[]> values = store.getAll(missing.stream().map(this::keyOf).toList());
+        for (int i = 0; i < missing.size(); i++) {
+            Long value = parse(values.get(i));
+            result.put(missing.get(i), value);
+            cache.put(missing.get(i), value, now + cacheTtlMillis);
+        }
+        return result;
+    }
+
+    private static Long parse(byte[] value) {
+        if (value == null) {
+            return NONE;
+        }
+        String text = new String(value, StandardCharsets.UTF_8);
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            log.warn("[UserRevocationEpochs] 잘못된 폐기 기준 시각 무시: {}", text);
+            return NONE;
+        }
+    }
+
+    private byte[] keyOf(String userId) {
+        return utf8(BlacklistKeys.revokedBeforeKeyOf(userId, hashTags));
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,19 @@
+package com.nhnacademy.service.introspect;
+
+import com.nhnacademy.dto.TokenIntrospection;
+
+import java.util.List;
+
+/**
+ * 게이트웨이 등 다른 서비스가 토큰의 유효성과 폐기 여부를 확인하는 서비스입니다.
+ */
+public interface IntrospectService {
+
+    /**
+     * 토큰들을 검사합니다.
+     *
+     * @param tokens 검사할 access token 목록
+     * @return 토큰별 검사 결과 (입력 순서와 같음)
+     */
+    List<TokenIntrospection> introspect(List<String> tokens);
+}
@@ -0,0 +1,155 @@
+package com.nhnacademy.service.introspect.impl;
+
+import com.nhnacademy.dto.TokenIntrospection;
+import com.nhnacademy.service.blacklist.BlacklistService;
+import com.nhnacademy.service.introspect.IntrospectService;
+import com.nhnacademy.token.exception.TokenException;
+import com.nhnacademy.token.provider.JwtProvider;
+import com.nhnacademy.token.provider.VerifiedToken;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 토큰 검사 서비스 구현체입니다.
+ * <p>
+ * 서명 검증은 CPU 작업이므로 토큰이 많으면 이 서비스가 가진 고정 크기 스레드 풀에서 나누어 수행하고,
+ * 폐기 여부는 검증을 통과한 토큰 전체를 {@link BlacklistService#areBlacklisted(List)}로 한 번에 조회합니다.
+ * 풀의 대기열이 차면 요청 스레드가 직접 검증하므로, 공용 ForkJoinPool을 쓰는 다른 작업과 CPU를 다투지 않고 부하도 요청 수만큼만 늘어납니다.
+ * <p>
+ * 검사 결과는 토큰에 담긴 클레임만 반환합니다. compact 프로필 토큰의 사용자 ID는 조회하지 않으므로 토큰마다 Redis를 읽지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IntrospectServiceImpl implements IntrospectService {
+
+    /**
+     * 이 수 이상일 때만 병렬로 검증합니다. 작은 배치는 작업 분배 비용이 더 큽니다.
+     */
+    private static final int PARALLEL_THRESHOLD = 16;
+    private static final int PARALLELISM = Math.max(1, Runtime.getRuntime().availableProcessors());
+    private static final int QUEUE_CAPACITY = PARALLELISM * 4;
+
+    private final JwtProvider jwtProvider;
+    private final BlacklistService blacklistService;
+    private final ThreadPoolExecutor verifyExecutor = newVerifyExecutor();
+
+    @Override
+    public List<TokenIntrospection> introspect(List<String> tokens) {
+        VerifiedToken[] verified = new VerifiedToken[tokens.size()];
+        if (tokens.size() >= PARALLEL_THRESHOLD && PARALLELISM > 1) {
+            verifyInParallel(tokens, verified);
+        } else {
+            verifyRange(tokens, verified, 0, tokens.size());
+        }
+
+        List<VerifiedToken> candidates = Arrays.stream(verified).filter(Objects::nonNull).toList();
+        List<Boolean> revoked = candidates.isEmpty() ? List.of() : blacklistService.areBlacklisted(candidates);
+
+        List<TokenIntrospection> results = new ArrayList<>(tokens.size());
+        int candidate = 0;
+        int active = 0;
+        for (VerifiedToken token : verified) {
+            if (token == null) {
+                results.add(TokenIntrospection.inactive());
+                continue;
+            }
+            TokenIntrospection result = Boolean.TRUE.equals(revoked.get(candidate++))
+                    ? TokenIntrospection.inactive()
+                    : toIntrospection(token);
+            if (result.isActive()) {
+                active++;
+            }
+            results.add(result);
+        }
+
+        log.debug("[IntrospectService] 토큰 검사 - 요청={}, 유효={}", tokens.size(), active);
+        return results;
+    }
+
+    @PreDestroy
+    public void destroy() {
+        verifyExecutor.shutdown();
+    }
+
+    /**
+     * 토큰을 스레드 수만큼 구간으로 나누어, 첫 구간은 요청 스레드가 직접 검증하고 나머지는 풀에 맡깁니다.
+     */
+    private void verifyInParallel(List<String> tokens, VerifiedToken[] verified) {
+        int chunkSize = Math.max(PARALLEL_THRESHOLD / 2, (tokens.size() + PARALLELISM - 1) / PARALLELISM);
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int from = chunkSize; from < tokens.size(); from += chunkSize) {
+            int start = from;
+            int end = Math.min(tokens.size(), from + chunkSize);
+            chunks.add(CompletableFuture.runAsync(() -> verifyRange(tokens, verified, start, end), verifyExecutor));
+        }
+        verifyRange(tokens, verified, 0, Math.min(tokens.size(), chunkSize));
+
+        try {
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void verifyRange(List<String> tokens, VerifiedToken[] verified, int from, int to) {
+        for (int i = from; i < to; i++) {
+            verified[i] = verifyQuietly(tokens.get(i));
+        }
+    }
+
+    private VerifiedToken verifyQuietly(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            return jwtProvider.verify(token);
+        } catch (TokenException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 사용자 클레임(user_id 또는 sub)이 있는 access token만 유효한 것으로 봅니다. (서명 없는 refresh token 이전의 JWT refresh token 제외)
+     */
+    private TokenIntrospection toIntrospection(VerifiedToken token) {
+        if (!token.hasUserClaim() || token.getRemainingExpiration() <= 0) {
+            return TokenIntrospection.inactive();
+        }
+
+        return new TokenIntrospection(
+                true,
+                token.getSubject(),
+                token.getIssuedAt() / 1000,
+                token.getExpiresAt() / 1000
+        );
+    }
+
+    private static ThreadPoolExecutor newVerifyExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(PARALLELISM, PARALLELISM, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "introspect-verify-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
@@ -1,7 +1,17 @@
 package com.nhnacademy.service.refresh_token;
 
+import com.nhnacademy.dto.RefreshSession;
+import com.nhnacademy.token.provider.VerifiedToken;
+
+import java.util.List;
+
 public interface RefreshTokenService {
-    void setRefreshToken(String refreshToken, String userId);
+    void setRefreshToken(String refreshToken, String userId, String sessionId);
     void removeRefreshToken(String accessToken);
+    void removeRefreshToken(VerifiedToken accessToken);
+    List<RefreshSession> getSessions(VerifiedToken accessToken);
+    boolean removeSession(String userId, String sessionId);
+    void removeAllSessions(String userId);
     String reissueAccessToken(String accessToken);
+    String reissueAccessToken(VerifiedToken accessToken);
 }
@@ -1,112 +1,670 @@
 package com.nhnacademy.service.refresh_token.impl;
 
+import com.nhnacademy.common.cache.ExpiringLruCache;
+import com.nhnacademy.common.redis.RedisKeys;
+import com.nhnacademy.common.redis.RedisWriteBehindQueue;
+import com.nhnacademy.common.store.TokenStore;
+import com.nhnacademy.dto.RefreshSession;
 import com.nhnacademy.service.blacklist.BlacklistService;
 import com.nhnacademy.service.refresh_token.RefreshTokenService;
 import com.nhnacademy.token.exception.InvalidRefreshTokenException;
 import com.nhnacademy.token.exception.RefreshTokenNotFoundException;
+import com.nhnacademy.token.exception.RefreshTokenReusedException;
+import com.nhnacademy.token.exception.TokenException;
 import com.nhnacademy.token.provider.JwtProvider;
+import com.nhnacademy.token.provider.VerifiedToken;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * RefreshToken 관련 기능을 처리하는 서비스 구현체입니다.
  * <p>
  * 토큰 저장, 삭제, accessToken 재발급 기능을 제공합니다.
+ * <p>
+ * 세션은 토큰 저장소({@link TokenStore}, 기본값 Redis)에 저장합니다.
+ * 사용자의 로그인 세션(기기)은 모두 하나의 Hash에 저장하므로, Redis에서는 세션이 적은 동안 listpack 인코딩으로 유지됩니다.<br>
+ * Redis key: {@code sessions:{userId}}<br>
+ * Field: 세션 ID (세션에서 마지막으로 발급된 access token의 jti, 16자)<br>
+ * Value: {@code {만료 시각(epoch ms)}:{refresh token의 SHA-256 digest}} (57바이트)<br>
+ * TTL: 가장 늦게 만료되는 세션 기준
+ * <p>
+ * refresh token은 클라이언트에 전달하지 않으므로 세션은 access token jti로만 식별합니다.
+ * 값의 digest는 로그인할 때 만든 refresh token을 기록할 뿐 재발급에서 비교하지 않으며, 재발급해도 바꾸지 않습니다.
+ * <p>
+ * 세션별 만료는 {@code HEXPIRE} 대신 값에 기록한 만료 시각으로 판단하고, 조회할 때 만료된 세션을 지웁니다.
+ * <p>
+ * 세션은 재발급할 때 슬라이딩 방식으로 연장됩니다. ({@code refresh.session.sliding-expiry.enabled})
+ * 남은 기간이 유효 기간의 절반보다 짧아졌을 때만 만료 시각을 지금부터 유효 기간만큼 늦추고 key의 {@code PEXPIRE}를 갱신하므로,
+ * 대부분의 재발급은 만료 시각을 그대로 둔 채 세션 ID만 바꿉니다.
+ * 세션 수가 {@code refresh.session.max-per-user}를 넘으면 로그인할 때 만료된 세션과 가장 오래된 세션부터 정리합니다.
+ * <p>
+ * 전환 전 단일 세션 key({@code refreshToken:{userId}})는 재발급할 때 세션으로 옮기고 삭제합니다.
+ * <p>
+ * {@code redis.key.hash-tags=true}이면 사용자 ID를 해시 태그로 감싸 같은 사용자의 key를 Redis Cluster의 한 slot에 둡니다.
+ * ({@link RedisKeys})
+ * <p>
+ * 여러 탭에서 같은 access token으로 동시에 재발급을 요청하면 한 번만 발급하고 같은 세션의 access token을 돌려줍니다.
+ * <ul>
+ *     <li>같은 인스턴스 안의 동시 요청은 진행 중인 재발급 결과를 기다려 공유합니다.</li>
+ *     <li>{@code reissue.grace-window-ms} 안에 다시 들어온 요청은 로컬 보관값을 돌려주거나,
+ *     {@code reissued:{기존 토큰 jti}}에 먼저 예약된 새 세션 ID로 서명합니다. 그 사이 폐기된 세션이면 돌려주지 않습니다.</li>
+ *     <li>교체된 access token은 {@link com.nhnacademy.service.blacklist.impl.BlacklistKeys#ROTATED_VALUE} 값으로 블랙리스트에 등록하고,
+ *     유예 시간이 지난 뒤 다시 사용하면 탈취로 보고 사용자의 세션 전체를 폐기합니다.</li>
+ * </ul>
+ * <p>
+ * 서명이 올바른 access token은 만료된 뒤 {@code reissue.expired-token-window-ms} 동안 재발급에 사용할 수 있습니다.
+ * 이미 만료된 토큰은 폐기할 필요가 없으므로 블랙리스트에 등록하지 않습니다.
  */
 @Slf4j
 @Service
 public class RefreshTokenServiceImpl implements RefreshTokenService {
-    private static final String REFRESH_TOKEN_PREFIX = "refreshToken:";
+    static final String REFRESH_TOKEN_PREFIX = "refreshToken:";
+    static final String SESSIONS_PREFIX = "sessions:";
+    static final String REISSUED_PREFIX = "reissued:";
+    private static final char SESSION_VALUE_SEPARATOR = ':';
+    private static final int REISSUED_CACHE_SIZE = 10000;
 
-    private final RedisTemplate<String, Object> template;
+    private final TokenStore store;
     private final JwtProvider jwtProvider;
     private final BlacklistService blacklistService;
+    private ReissueScript reissueScript;
+    private RedisWriteBehindQueue writeBehindQueue;
+
+    private final ConcurrentMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final ExpiringLruCache<String, String> reissued = new ExpiringLruCache<>(REISSUED_CACHE_SIZE);
+    private final LongAdder extended = new LongAdder();
+    private final LongAdder extensionSkipped = new LongAdder();
+
+    @Value("${reissue.grace-window-ms:10000}")
+    private long graceWindowMillis;
+
+    @Value("${reissue.expired-token-window-ms:0}")
+    private long expiredTokenWindowMillis;
+
+    @Value("${refresh.session.sliding-expiry.enabled:true}")
+    private boolean slidingExpiry;
+
+    @Value("${refresh.session.max-per-user:20}")
+    private int maxSessionsPerUser;
+
+    @Value("${redis.key.hash-tags:false}")
+    private boolean hashTags;
 
     /**
      * 생성자
      *
      * @param jwtProvider JWT 유틸리티
      * @param blacklistService accessToken 블랙리스트 처리용 서비스
-     * @param template refresh token 저장용 RedisTemplate
+     * @param store refresh token 저장소
      */
     public RefreshTokenServiceImpl(
             JwtProvider jwtProvider,
             BlacklistService blacklistService,
-            @Qualifier("refreshTokenRedisTemplate") RedisTemplate<String, Object> template
+            @Qualifier("refreshTokenStore") TokenStore store
     ) {
         this.jwtProvider = jwtProvider;
         this.blacklistService = blacklistService;
-        this.template = template;
+        this.store = store;
     }
 
     /**
-     * 주어진 사용자 ID에 대한 refreshToken을 Redis에 저장합니다.
+     * 재발급 스크립트 주입 ({@code reissue.script.enabled=true}일 때만 존재)
+     *
+     * @param reissueScript 단일 실행 재발급 스크립트
+     */
+    @Autowired(required = false)
+    public void setReissueScript(ReissueScript reissueScript) {
+        this.reissueScript = reissueScript;
+    }
+
+    /**
+     * write-behind 큐 주입 ({@code redis.write-behind.enabled=true}일 때만 존재)
+     *
+     * @param writeBehindQueue refresh token 세션 쓰기용 write-behind 큐
+     */
+    @Autowired(required = false)
+    public void setWriteBehindQueue(@Qualifier("refreshTokenWriteBehindQueue") RedisWriteBehindQueue writeBehindQueue) {
+        this.writeBehindQueue = writeBehindQueue;
+    }
+
+    /**
+     * 새 세션을 만들고 refreshToken의 digest를 저장합니다.
+     * <p>
+     * 세션 저장, key TTL 갱신, 세션 수 확인을 한 번에 보내고 (Redis: {@code HSET}, {@code PEXPIRE}, {@code HLEN} 파이프라인),
+     * 세션 수가 상한을 넘었을 때만 정리를 위해 한 번 더 조회합니다.
+     * write-behind 큐가 있으면 같은 세 명령을 큐를 거쳐 다른 로그인의 쓰기와 한 배치로 보내고, 세션 수는 반영된 뒤에 확인합니다.
+     * {@code async} 모드에서는 상한 정리가 배치 반영 직후 큐의 스레드에서 실행되므로, 잠시 동안 세션 수가 상한을 넘을 수 있습니다.
      *
      * @param refreshToken 저장할 토큰
      * @param userId 사용자 ID
+     * @param sessionId 세션 ID (세션의 첫 access token jti)
      */
     @Override
-    public void setRefreshToken(String refreshToken, String userId) {
+    public void setRefreshToken(String refreshToken, String userId, String sessionId) {
         long ttl = jwtProvider.getRefreshTokenValidity();
+        long now = System.currentTimeMillis();
+        String value = sessionValue(now + ttl, jwtProvider.digestRefreshToken(refreshToken));
 
-        template.opsForValue().set(
-                REFRESH_TOKEN_PREFIX + userId,
-                refreshToken,
-                ttl,
-                TimeUnit.MILLISECONDS
-        );
+        if (writeBehindQueue != null) {
+            writeBehindQueue.putField(utf8(sessionsKey(userId)), utf8(sessionId), utf8(value), ttl)
+                    .thenAccept(count -> {
+                        if (count != null && count > maxSessionsPerUser) {
+                            pruneSessions(userId, now);
+                        }
+                    });
+        } else {
+            long count = store.putField(utf8(sessionsKey(userId)), utf8(sessionId), utf8(value), ttl);
+            if (count > maxSessionsPerUser) {
+                pruneSessions(userId, now);
+            }
+        }
 
-        log.debug("[RefreshTokenService] 저장 완료 - userId={}, ttl(ms)={}", userId, ttl);
+        log.debug("[RefreshTokenService] 세션 저장 완료 - userId={}, sessionId={}, ttl(ms)={}", userId, sessionId, ttl);
     }
 
     /**
-     * accessToken을 기반으로 사용자 ID를 추출하여 해당 사용자의 refreshToken을 Redis에서 삭제합니다.
+     * accessToken을 기반으로 사용자 ID를 추출하여 해당 세션의 refreshToken을 Redis에서 삭제합니다.
      *
      * @param accessToken 로그아웃한 사용자의 accessToken
      */
     @Override
     public void removeRefreshToken(String accessToken) {
-        String userId = jwtProvider.getUserIdFromToken(accessToken);
-        template.delete(REFRESH_TOKEN_PREFIX + userId);
+        removeRefreshToken(jwtProvider.verify(accessToken));
+    }
+
+    /**
+     * 검증된 accessToken의 세션을 저장소에서 삭제합니다.
+     * <p>
+     * 세션 삭제와 전환 전 단일 세션 key 삭제를 한 번에 보냅니다. (Redis: 한 번의 파이프라인, 로그아웃 파이프라인이 열려 있으면 거기에 더함)
+     * 다른 기기의 세션은 유지됩니다.
+     *
+     * @param accessToken 로그아웃한 사용자의 검증된 accessToken
+     */
+    @Override
+    public void removeRefreshToken(VerifiedToken accessToken) {
+        String userId = requireUserId(accessToken);
+        String sessionId = accessToken.getTokenId();
+
+        store.writeBatch(batch -> {
+            if (sessionId != null) {
+                batch.deleteFields(utf8(sessionsKey(userId)), List.of(utf8(sessionId)));
+            }
+            batch.delete(List.of(utf8(legacyKey(userId))));
+        });
+
+        log.debug("[RefreshTokenService] 세션 삭제 완료 - userId={}, sessionId={}", userId, sessionId);
+    }
 
-        log.debug("[RefreshTokenService] 삭제 완료 - userId={}", userId);
+    /**
+     * 사용자의 세션 목록을 한 번에 조회합니다. (Redis: {@code HGETALL})
+     * <p>
+     * 만료된 세션은 목록에서 뺍니다.
+     *
+     * @param accessToken 요청에 사용된 검증된 access token
+     * @return 만료 시각이 늦은 순서의 세션 목록
+     */
+    @Override
+    public List<RefreshSession> getSessions(VerifiedToken accessToken) {
+        String userId = requireUserId(accessToken);
+        long now = System.currentTimeMillis();
+
+        List<RefreshSession> sessions = new ArrayList<>();
+        for (Map.Entry<byte[], byte[]> entry : store.getFields(utf8(sessionsKey(userId))).entrySet()) {
+            String sessionId = string(entry.getKey());
+            long expiresAt = expiresAtOf(string(entry.getValue()));
+            if (expiresAt > now) {
+                sessions.add(new RefreshSession(sessionId, expiresAt, sessionId.equals(accessToken.getTokenId())));
+            }
+        }
+        sessions.sort(Comparator.comparingLong(RefreshSession::getExpiresAt).reversed());
+        return sessions;
     }
 
     /**
-     * 주어진 accessToken의 사용자 ID를 기준으로 refreshToken을 조회 및 검증 후, 새 accessToken을 발급합니다.
-     * 기존 accessToken은 블랙리스트에 등록됩니다.
+     * 세션 하나를 삭제합니다. (Redis: {@code HDEL} 한 번)
      *
-     * @param accessToken 기존 access token
+     * @param userId    사용자 ID
+     * @param sessionId 세션 ID
+     * @return 삭제되었으면 true
+     */
+    @Override
+    public boolean removeSession(String userId, String sessionId) {
+        long removed = store.deleteFields(utf8(sessionsKey(userId)), List.of(utf8(sessionId)));
+        log.debug("[RefreshTokenService] 세션 삭제 - userId={}, sessionId={}, removed={}", userId, sessionId, removed);
+        return removed > 0;
+    }
+
+    /**
+     * 사용자의 모든 세션을 한 번에 삭제합니다. (Redis: {@code DEL} 한 번, 전환 전 단일 세션 key 포함)
+     *
+     * @param userId 사용자 ID
+     */
+    @Override
+    public void removeAllSessions(String userId) {
+        store.delete(List.of(utf8(sessionsKey(userId)), utf8(legacyKey(userId))));
+        log.debug("[RefreshTokenService] 전체 세션 삭제 완료 - userId={}", userId);
+    }
+
+    /**
+     * 주어진 accessToken의 세션을 기준으로 refreshToken을 조회 및 검증 후, 새 accessToken을 발급합니다.
+     * 기존 accessToken은 아직 만료되지 않았으면 블랙리스트에 등록됩니다.
+     * <p>
+     * 만료된 지 {@code reissue.expired-token-window-ms}가 지나지 않은 accessToken도 받습니다.
+     *
+     * @param accessToken 기존 access token (만료 후 허용 시간 이내 포함)
      * @return 새로 생성된 access token
      * @throws RefreshTokenNotFoundException refresh token이 없을 경우
      * @throws InvalidRefreshTokenException refresh token이 유효하지 않은 경우
      */
     @Override
     public String reissueAccessToken(String accessToken) {
-        String userId = jwtProvider.getUserIdFromToken(accessToken);
+        VerifiedToken verified = expiredTokenWindowMillis > 0
+                ? jwtProvider.verifyAllowingExpired(accessToken, expiredTokenWindowMillis)
+                : jwtProvider.verify(accessToken);
+        return reissueAccessToken(verified);
+    }
+
+    /**
+     * 검증된 accessToken으로 새 accessToken을 발급합니다.
+     * <p>
+     * 사용자 ID 추출과 블랙리스트 TTL 계산 모두 이미 검증된 값을 사용하므로 토큰을 다시 파싱하지 않습니다.
+     * 폐기된 access token(블랙리스트 등록, 전체 로그아웃 이전 발급)으로는 재발급할 수 없습니다.
+     * 세션 ID는 새 access token의 jti로 바뀝니다.
+     * <p>
+     * 재발급 스크립트({@link ReissueScript})가 있으면 확인과 블랙리스트 등록, refresh token 교체를 한 번의 왕복으로 원자적으로 처리하고,
+     * 없으면 세션 조회와 블랙리스트 등록을 차례로 수행합니다. 이때 세션 교체는 조회한 세션이 남아 있을 때만 성공하며,
+     * 그 사이 다른 요청이 먼저 교체했거나 로그아웃으로 삭제했으면 access token을 서명하지 않고 실패합니다.
+     * 같은 access token으로 들어온 동시 요청과 유예 시간 안의 재요청은 먼저 발급한 access token을 돌려받습니다.
+     *
+     * @param accessToken 기존의 검증된 access token
+     * @return 새로 생성된 access token
+     * @throws RefreshTokenNotFoundException refresh token이 없을 경우
+     * @throws InvalidRefreshTokenException refresh token이 유효하지 않은 경우
+     * @throws TokenException access token이 폐기된 경우
+     * @throws RefreshTokenReusedException 유예 시간이 지난 뒤 교체된 access token을 다시 사용한 경우
+     */
+    @Override
+    public String reissueAccessToken(VerifiedToken accessToken) {
+        String userId = requireUserId(accessToken);
+        String sessionKey = ReissueScript.sessionKeyOf(accessToken);
+
+        String recent = reissued.get(sessionKey, System.currentTimeMillis());
+        if (recent != null) {
+            if (blacklistService.isBlacklisted(jwtProvider.verify(recent))) {
+                reissued.invalidate(sessionKey);
+                log.warn("[RefreshTokenService] 유예 시간 내 재요청이지만 발급된 토큰이 폐기됨 - userId={}", userId);
+                throw new TokenException("폐기된 access token입니다.");
+            }
+            log.debug("[RefreshTokenService] 유예 시간 내 재요청, 발급된 토큰 반환 - userId={}", userId);
+            return recent;
+        }
+
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(sessionKey, mine);
+        if (running != null) {
+            log.debug("[RefreshTokenService] 진행 중인 재발급 결과 공유 - userId={}", userId);
+            return await(running);
+        }
+
+        try {
+            String newAccessToken = reissue(accessToken, userId);
+            if (graceWindowMillis > 0) {
+                reissued.put(sessionKey, newAccessToken, System.currentTimeMillis() + graceWindowMillis);
+            }
+            mine.complete(newAccessToken);
+            return newAccessToken;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(sessionKey, mine);
+        }
+    }
+
+    private String reissue(VerifiedToken accessToken, String userId) {
         log.debug("[RefreshTokenService] 재발급 시도 - userId={}", userId);
 
-        String refreshToken = (String) template.opsForValue().get(REFRESH_TOKEN_PREFIX + userId);
+        if (reissueScript != null) {
+            String newAccessToken = reissueWithScript(accessToken, userId);
+            if (newAccessToken != null) {
+                return newAccessToken;
+            }
+        }
+
+        String sessionKey = ReissueScript.sessionKeyOf(accessToken);
+        if (blacklistService.isBlacklisted(accessToken)) {
+            if (!blacklistService.isRotated(accessToken)) {
+                log.warn("[RefreshTokenService] 폐기된 access token - userId={}", userId);
+                throw new TokenException("폐기된 access token입니다.");
+            }
+            String reserved = reservedSessionId(sessionKey);
+            if (reserved == null) {
+                throw reuseDetected(userId);
+            }
+            return signReserved(userId, reserved);
+        }
+
+        String sessionId = accessToken.getTokenId();
+        String session = sessionId != null ? string(store.getField(utf8(sessionsKey(userId)), utf8(sessionId))) : null;
+        String newTokenId = jwtProvider.newAccessTokenId();
+        String newAccessToken;
+
+        if (session != null) {
+            long now = System.currentTimeMillis();
+            if (expiresAtOf(session) <= now) {
+                removeSession(userId, sessionId);
+                log.warn("[RefreshTokenService] 만료된 세션 - userId={}", userId);
+                throw new RefreshTokenNotFoundException();
+            }
+
+            boolean claimed = graceWindowMillis > 0
+                    && store.putIfAbsent(utf8(reissuedKey(sessionKey)), utf8(newTokenId), graceWindowMillis);
+            if (graceWindowMillis > 0 && !claimed) {
+                String coalesced = reservedSessionId(sessionKey);
+                if (coalesced != null) {
+                    return signReserved(userId, coalesced);
+                }
+            }
+            if (!rotateSession(userId, sessionId, newTokenId, session, now)) {
+                if (claimed) {
+                    releaseReservation(sessionKey, newTokenId);
+                }
+                log.warn("[RefreshTokenService] 세션이 동시에 교체되었거나 삭제됨 - userId={}", userId);
+                throw new RefreshTokenNotFoundException();
+            }
+            newAccessToken = jwtProvider.createAccessToken(userId, newTokenId);
+        } else {
+            String reserved = reservedSessionId(sessionKey);
+            if (reserved != null) {
+                return signReserved(userId, reserved);
+            }
+            newAccessToken = reissueFromLegacyKey(userId, newTokenId);
+        }
+
+        if (accessToken.getRemainingExpiration() > 0) {
+            blacklistService.addRotated(accessToken);
+        }
+
+        log.debug("[RefreshTokenService] 재발급 완료 - userId={}, newAccessToken={}", userId, newAccessToken);
+        return newAccessToken;
+    }
+
+    /**
+     * 다른 요청이 같은 access token으로 먼저 예약한 새 세션 ID를 조회합니다. (유예 시간 동안만 보관)
+     *
+     * @return 예약된 세션 ID, 없으면 null
+     */
+    private String reservedSessionId(String sessionKey) {
+        return graceWindowMillis > 0 ? string(store.get(utf8(reissuedKey(sessionKey)))) : null;
+    }
+
+    /**
+     * 먼저 예약된 세션 ID로 access token을 서명합니다. (유예 시간 안의 동시 재발급)
+     * <p>
+     * 예약 뒤에 그 세션이 로그아웃이나 전체 로그아웃으로 폐기되었으면 서명하지 않습니다.
+     */
+    private String signReserved(String userId, String sessionId) {
+        VerifiedToken reserved = new VerifiedToken(null, null, sessionId, 0L,
+                System.currentTimeMillis() + jwtProvider.getAccessTokenValidity(), null, null);
+        if (blacklistService.isBlacklisted(reserved)) {
+            log.warn("[RefreshTokenService] 예약된 세션이 폐기됨 - userId={}, sessionId={}", userId, sessionId);
+            throw new TokenException("폐기된 access token입니다.");
+        }
+        log.debug("[RefreshTokenService] 유예 시간 내 동시 재발급, 예약된 jti로 발급 - userId={}", userId);
+        return jwtProvider.createAccessToken(userId, sessionId);
+    }
+
+    /**
+     * 세션 교체에 실패한 예약을 지우고, 그 사이 예약된 jti로 서명된 토큰을 폐기합니다.
+     */
+    private void releaseReservation(String sessionKey, String newTokenId) {
+        store.delete(List.of(utf8(reissuedKey(sessionKey))));
+        blacklistService.addBlacklistByTokenId(newTokenId, jwtProvider.getAccessTokenValidity());
+    }
+
+    /**
+     * 교체된 access token의 재사용을 탈취로 보고 사용자의 토큰과 세션을 모두 폐기합니다.
+     *
+     * @return 호출자가 던질 예외
+     */
+    private RefreshTokenReusedException reuseDetected(String userId) {
+        log.warn("[RefreshTokenService] 교체된 토큰 재사용 감지, 세션 전체 폐기 - userId={}", userId);
+        blacklistService.revokeAll(userId);
+        removeAllSessions(userId);
+        return new RefreshTokenReusedException();
+    }
+
+    /**
+     * 세션 ID를 새 access token jti로 바꿉니다. (digest는 그대로 유지)
+     * 남은 기간이 연장 기준보다 짧을 때만 만료 시각과 key TTL을 연장합니다.
+     * <p>
+     * 조회한 뒤 다른 요청이 같은 세션을 먼저 교체했거나 로그아웃으로 삭제했으면 교체하지 않습니다. ({@link TokenStore#replaceField})
+     *
+     * @return 교체했으면 true
+     */
+    private boolean rotateSession(String userId, String sessionId, String newSessionId, String value, long now) {
+        long ttl = jwtProvider.getRefreshTokenValidity();
+        long expiresAt = expiresAtOf(value);
+        boolean extend = expiresAt - now < extendBelowMillis(ttl);
+        String newValue = sessionValue(extend ? now + ttl : expiresAt, digestOf(value));
+
+        if (!store.replaceField(utf8(sessionsKey(userId)), utf8(sessionId), utf8(newSessionId), utf8(newValue),
+                extend ? ttl : 0L)) {
+            return false;
+        }
+        recordExtension(extend);
+        return true;
+    }
+
+    /**
+     * 전환 전 단일 세션 key({@code refreshToken:{userId}})로 재발급하고, 새 access token의 세션으로 옮깁니다.
+     */
+    private String reissueFromLegacyKey(String userId, String newTokenId) {
+        String refreshToken = string(store.get(utf8(legacyKey(userId))));
 
         if (refreshToken == null || refreshToken.isBlank()) {
             log.warn("[RefreshTokenService] 없음 - userId={}", userId);
             throw new RefreshTokenNotFoundException();
         }
 
+        // 저장값은 digest이므로 형식만 확인하고, 전환 전에 저장된 JWT 값만 서명을 확인합니다.
         if (!jwtProvider.validateRefreshToken(refreshToken)) {
             log.warn("[RefreshTokenService] 유효하지 않음 - userId={}", userId);
             throw new InvalidRefreshTokenException();
         }
 
-        String newAccessToken = jwtProvider.createAccessToken(userId);
-        blacklistService.addBlacklist(accessToken);
-
-        log.debug("[RefreshTokenService] 재발급 완료 - userId={}, newAccessToken={}", userId, newAccessToken);
+        String newAccessToken = jwtProvider.createAccessToken(userId, newTokenId);
+        setRefreshToken(jwtProvider.createRefreshToken(), userId, newTokenId);
+        store.delete(List.of(utf8(legacyKey(userId))));
 
+        log.debug("[RefreshTokenService] 단일 세션 key를 세션으로 이전 - userId={}", userId);
         return newAccessToken;
     }
+
+    /**
+     * 재발급 스크립트로 세션 확인, 기존 access token 블랙리스트 등록, 세션 교체를 한 번에 처리합니다.
+     * <p>
+     * 스크립트에는 새 jti만 넘기고, access token은 재발급이 확정된 경우({@code REISSUED}, {@code COALESCED})에만 서명합니다.
+     * 동시 재발급은 먼저 예약된 jti로 서명하므로 같은 세션의 토큰이 되고, 블랙리스트도 jti 기준이라 함께 폐기됩니다.
+     *
+     * @return 새 access token, 전환 전 단일 세션 key라서 기존 경로로 처리해야 하면 null
+     */
+    private String reissueWithScript(VerifiedToken accessToken, String userId) {
+        long now = System.currentTimeMillis();
+        long refreshTtl = jwtProvider.getRefreshTokenValidity();
+        String newTokenId = jwtProvider.newAccessTokenId();
+
+        ReissueScript.Result result = reissueScript.reissue(userId, accessToken, newTokenId,
+                refreshTtl, extendBelowMillis(refreshTtl), graceWindowMillis, now);
+        switch (result.status()) {
+            case REISSUED -> {
+                String newAccessToken = jwtProvider.createAccessToken(userId, newTokenId);
+                recordExtension(result.extended());
+                if (accessToken.getRemainingExpiration() > 0) {
+                    blacklistService.recordRevoked(accessToken);
+                }
+                log.debug("[RefreshTokenService] 재발급 완료 - userId={}, newAccessToken={}", userId, newAccessToken);
+                return newAccessToken;
+            }
+            case COALESCED -> {
+                return signReserved(userId, result.sessionId());
+            }
+            case REFRESH_NOT_FOUND -> {
+                log.warn("[RefreshTokenService] 없음 - userId={}", userId);
+                throw new RefreshTokenNotFoundException();
+            }
+            case REVOKED -> {
+                log.warn("[RefreshTokenService] 폐기된 access token - userId={}", userId);
+                throw new TokenException("폐기된 access token입니다.");
+            }
+            case REUSED -> throw reuseDetected(userId);
+            default -> {
+                log.debug("[RefreshTokenService] 전환 전 단일 세션 key, 기존 경로로 재발급 - userId={}", userId);
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 슬라이딩 만료 통계를 반환합니다.
+     *
+     * @return 연장한 재발급 수와 연장하지 않은 재발급 수
+     */
+    public SlidingExpiryStats getSlidingExpiryStats() {
+        return new SlidingExpiryStats(extended.sum(), extensionSkipped.sum());
+    }
+
+    /**
+     * 슬라이딩 만료 통계를 주기적으로 로그에 남깁니다. ({@code stats.log-interval-ms}, 누적 값)
+     */
+    @Scheduled(initialDelayString = "${stats.log-interval-ms:60000}", fixedDelayString = "${stats.log-interval-ms:60000}")
+    public void logSlidingExpiryStats() {
+        SlidingExpiryStats stats = getSlidingExpiryStats();
+        log.info("[RefreshTokenService] 슬라이딩 만료 통계 - 연장={}, 생략={}, 생략 비율={}",
+                stats.getExtendedCount(), stats.getSkippedCount(), String.format("%.3f", stats.getSkipRatio()));
+    }
+
+    /**
+     * 세션을 연장하는 남은 기간의 기준을 반환합니다.
+     *
+     * @return 유효 기간의 절반 (ms), 슬라이딩 만료를 사용하지 않으면 0
+     */
+    private long extendBelowMillis(long ttl) {
+        return slidingExpiry ? ttl / 2 : 0L;
+    }
+
+    private void recordExtension(boolean extend) {
+        if (extend) {
+            extended.increment();
+        } else {
+            extensionSkipped.increment();
+        }
+    }
+
+    private String sessionsKey(String userId) {
+        return RedisKeys.userKey(SESSIONS_PREFIX, userId, hashTags);
+    }
+
+    private String legacyKey(String userId) {
+        return RedisKeys.userKey(REFRESH_TOKEN_PREFIX, userId, hashTags);
+    }
+
+    private static String reissuedKey(String sessionKey) {
+        return REISSUED_PREFIX + sessionKey;
+    }
+
+    /**
+     * 만료된 세션을 지우고, 그래도 상한을 넘으면 만료 시각이 이른 세션부터 지웁니다.
+     */
+    private void pruneSessions(String userId, long now) {
+        byte[] key = utf8(sessionsKey(userId));
+        List<Map.Entry<byte[], byte[]>> entries = new ArrayList<>(store.getFields(key).entrySet());
+        entries.sort(Comparator.comparingLong(entry -> expiresAtOf(string(entry.getValue()))));
+
+        List<byte[]> stale = new ArrayList<>();
+        int remaining = entries.size();
+        for (Map.Entry<byte[], byte[]> entry : entries) {
+            if (expiresAtOf(string(entry.getValue())) > now && remaining <= maxSessionsPerUser) {
+                break;
+            }
+            stale.add(entry.getKey());
+            remaining--;
+        }
+        if (!stale.isEmpty()) {
+            store.deleteFields(key, stale);
+            log.debug("[RefreshTokenService] 세션 정리 - userId={}, removed={}", userId, stale.size());
+        }
+    }
+
+    /**
+     * 세션 값을 만듭니다.
+     *
+     * @return {@code {expiresAt}:{digest}}
+     */
+    static String sessionValue(long expiresAt, String digest) {
+        return String.valueOf(expiresAt) + SESSION_VALUE_SEPARATOR + digest;
+    }
+
+    /**
+     * 세션 값의 만료 시각을 반환합니다.
+     *
+     * @return 만료 시각 (epoch ms), 형식이 잘못되었으면 0
+     */
+    static long expiresAtOf(String value) {
+        int separator = value.indexOf(SESSION_VALUE_SEPARATOR);
+        try {
+            return Long.parseLong(separator < 0 ? value : value.substring(0, separator));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * 세션 값의 refresh token digest를 반환합니다.
+     */
+    static String digestOf(String value) {
+        return value.substring(value.indexOf(SESSION_VALUE_SEPARATOR) + 1);
+    }
+
+    private static String await(CompletableFuture<String> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(byte[] value) {
+        return value == null ? null : new String(value, StandardCharsets.UTF_8);
+    }
+
+    private String requireUserId(VerifiedToken accessToken) {
+        String userId = accessToken.getUserId();
+        if (userId == null) {
+            throw new TokenException("토큰에 사용자 ID가 존재하지 않습니다.");
+        }
+        return userId;
+    }
 }
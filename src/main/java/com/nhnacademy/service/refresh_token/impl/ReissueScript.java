@@ -0,0 +1,185 @@
+package com.nhnacademy.service.refresh_token.impl;
+
+import com.nhnacademy.common.config.RedisLayout;
+import com.nhnacademy.common.redis.RedisKeys;
+import com.nhnacademy.common.redis.RedisLuaScript;
+import com.nhnacademy.service.blacklist.impl.BlacklistKeys;
+import com.nhnacademy.token.provider.VerifiedToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * access token 재발급을 한 번의 Redis 스크립트 실행({@code scripts/reissue.lua})으로 처리합니다.
+ * <p>
+ * 기존 access token 폐기 여부 확인, 세션 확인, 블랙리스트 등록, 세션 ID 교체, 세션 만료 연장(필요할 때만)을
+ * 서버에서 원자적으로 수행하므로, 같은 access token으로 동시에 재발급을 요청해도 하나만 새로 발급됩니다.
+ * <p>
+ * 교체된 access token은 {@link BlacklistKeys#ROTATED_VALUE} 값으로 블랙리스트에 등록되고,
+ * 새 세션 ID(새 access token jti)는 유예 시간 동안 {@code reissued:{기존 토큰 jti}}에 보관됩니다.
+ * 스크립트는 서명된 토큰을 받지 않고 jti만 예약하므로, 호출자는 재발급이 확정된 뒤에만 access token을 서명합니다.
+ * 유예 시간 안에 같은 토큰으로 다시 요청하면 보관된 세션 ID를 돌려주고, 그 뒤에 요청하면 재사용으로 판단합니다.
+ * 이미 만료된 access token은 블랙리스트에 등록하지 않으므로, 동시 재발급은 보관된 세션 ID로만 판단하고
+ * 유예 시간이 지난 뒤의 재요청은 세션 없음으로 처리됩니다.
+ * <p>
+ * refresh token DB 연결에서 실행하고 블랙리스트 DB는 스크립트 안에서 {@code SELECT}로 전환하므로
+ * 두 DB가 같은 Redis 인스턴스에 있는 단일 노드 구성에서만 사용할 수 있습니다.
+ * 두 저장소가 같은 DB를 쓰는 구성({@code redis.layout=shared})에서는 {@code SELECT} 없이 실행합니다.
+ * 블랙리스트 key는 사용자 해시 태그 없이 jti로만 만들어져 사용자 key와 slot이 다르므로,
+ * Redis Cluster({@code redis.topology=cluster})와 메모리 저장소({@code token.store.type=memory})에서는 등록하지 않고 기존 경로로 재발급합니다.
+ * 스크립트는 {@code EVALSHA}로 실행하고, 서버에 캐시되어 있지 않으면 {@code EVAL}로 다시 실행합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${reissue.script.enabled:false} and '${redis.topology:standalone}'.toLowerCase() != 'cluster'"
+        + " and '${token.store.type:redis}'.toLowerCase() == 'redis'")
+public class ReissueScript {
+
+    private static final RedisLuaScript SCRIPT = new RedisLuaScript("scripts/reissue.lua");
+    private static final int KEY_COUNT = 5;
+
+    private final RedisTemplate<String, Object> template;
+    private final RedisLayout layout;
+
+    @Value("${redis.key.hash-tags:false}")
+    private boolean hashTags;
+
+    /**
+     * 스크립트 실행 결과 상태
+     */
+    public enum Status {
+        /**
+         * 재발급 성공 (기존 access token 블랙리스트 등록 완료)
+         */
+        REISSUED,
+        /**
+         * 유예 시간 안의 동시 재발급, 먼저 예약된 세션 ID로 access token을 서명
+         */
+        COALESCED,
+        /**
+         * 세션 없음 또는 만료 (만료된 access token을 유예 시간 뒤에 다시 사용한 경우 포함)
+         */
+        REFRESH_NOT_FOUND,
+        /**
+         * 세션은 없고 전환 전 단일 세션 key만 있음, 기존 경로로 처리해야 함
+         */
+        LEGACY_VALUE,
+        /**
+         * 기존 access token이 이미 폐기됨 (로그아웃, 전체 로그아웃)
+         */
+        REVOKED,
+        /**
+         * 유예 시간이 지난 뒤 재발급으로 교체된 access token을 다시 사용함
+         */
+        REUSED
+    }
+
+    /**
+     * 스크립트 실행 결과
+     *
+     * @param status    결과 상태
+     * @param sessionId {@link Status#COALESCED}일 때 먼저 예약된 새 세션 ID (access token jti), 그 외에는 null
+     * @param extended  {@link Status#REISSUED}일 때 세션 만료 시각을 연장했으면 true
+     */
+    public record Result(Status status, String sessionId, boolean extended) {
+
+        public Result(Status status, String sessionId) {
+            this(status, sessionId, false);
+        }
+
+        static Result of(Status status) {
+            return new Result(status, null);
+        }
+    }
+
+    /**
+     * 생성자
+     *
+     * @param template refresh token 저장용 RedisTemplate
+     * @param layout   저장소별 DB 구성
+     */
+    public ReissueScript(@Qualifier("refreshTokenRedisTemplate") RedisTemplate<String, Object> template,
+                         RedisLayout layout) {
+        this.template = template;
+        this.layout = layout;
+    }
+
+    /**
+     * 재발급 스크립트를 실행합니다.
+     *
+     * @param userId            사용자 ID
+     * @param accessToken       기존의 검증된 access token
+     * @param newSessionId      새 세션 ID (재발급이 확정되면 서명할 새 access token jti)
+     * @param refreshTtlMillis  refresh token TTL (ms, 세션을 연장할 때의 유효 기간)
+     * @param extendBelowMillis 세션의 남은 기간이 이보다 짧을 때만 연장 (ms, 0이면 연장하지 않음)
+     * @param graceMillis       새 access token을 동시 재발급에 돌려줄 유예 시간 (ms)
+     * @param now               현재 시각 (epoch ms, 세션 만료 판단 기준)
+     * @return 실행 결과
+     */
+    public Result reissue(String userId, VerifiedToken accessToken, String newSessionId,
+                          long refreshTtlMillis, long extendBelowMillis, long graceMillis, long now) {
+        String sessionKey = sessionKeyOf(accessToken);
+        byte[][] keysAndArgs = {
+                utf8(RedisKeys.userKey(RefreshTokenServiceImpl.SESSIONS_PREFIX, userId, hashTags)),
+                BlacklistKeys.keyOf(accessToken),
+                utf8(BlacklistKeys.revokedBeforeKeyOf(userId, hashTags)),
+                utf8(RefreshTokenServiceImpl.REISSUED_PREFIX + sessionKey),
+                utf8(RedisKeys.userKey(RefreshTokenServiceImpl.REFRESH_TOKEN_PREFIX, userId, hashTags)),
+                utf8(String.valueOf(layout.refreshTokenDatabase())),
+                utf8(String.valueOf(layout.blacklistDatabase())),
+                utf8(String.valueOf(accessToken.getIssuedAt())),
+                utf8(BlacklistKeys.ROTATED_VALUE),
+                utf8(String.valueOf(Math.max(0L, accessToken.getRemainingExpiration()))),
+                utf8(sessionKey),
+                utf8(newSessionId),
+                utf8(String.valueOf(Math.max(1L, refreshTtlMillis))),
+                utf8(String.valueOf(Math.max(0L, graceMillis))),
+                utf8(String.valueOf(now)),
+                utf8(String.valueOf(Math.max(0L, extendBelowMillis))),
+                utf8(String.valueOf(now + refreshTtlMillis))
+        };
+
+        List<Object> reply = template.execute((RedisCallback<List<Object>>) connection ->
+                SCRIPT.execute(connection, ReturnType.MULTI, KEY_COUNT, keysAndArgs));
+        Result result = toResult(reply);
+        log.debug("[ReissueScript] 실행 - userId={}, status={}", userId, result.status());
+        return result;
+    }
+
+    /**
+     * 재발급 요청을 묶는 기준 문자열을 반환합니다.
+     *
+     * @param accessToken 기존의 검증된 access token
+     * @return jti가 있으면 jti, 없으면 원본 토큰
+     */
+    static String sessionKeyOf(VerifiedToken accessToken) {
+        return accessToken.getTokenId() != null ? accessToken.getTokenId() : accessToken.getRawToken();
+    }
+
+    private static Result toResult(List<Object> reply) {
+        if (reply == null || reply.isEmpty() || !(reply.get(0) instanceof Long code)) {
+            throw new IllegalStateException("재발급 스크립트 결과가 없습니다.");
+        }
+        return switch (code.intValue()) {
+            case 1 -> new Result(Status.REISSUED, null, reply.size() > 1 && Long.valueOf(1L).equals(reply.get(1)));
+            case 2 -> new Result(Status.COALESCED, new String((byte[]) reply.get(1), StandardCharsets.UTF_8));
+            case 0 -> Result.of(Status.REFRESH_NOT_FOUND);
+            case -1 -> Result.of(Status.LEGACY_VALUE);
+            case -2 -> Result.of(Status.REVOKED);
+            case -3 -> Result.of(Status.REUSED);
+            default -> throw new IllegalStateException("알 수 없는 재발급 스크립트 결과: " + code);
+        };
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
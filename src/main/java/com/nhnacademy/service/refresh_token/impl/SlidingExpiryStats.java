@@ -0,0 +1,34 @@
+package com.nhnacademy.service.refresh_token.impl;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * refresh 세션 슬라이딩 만료의 통계 스냅샷입니다.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public final class SlidingExpiryStats {
+
+    /**
+     * 남은 기간이 기준보다 짧아 세션 만료 시각을 연장한 재발급 수
+     */
+    private final long extendedCount;
+
+    /**
+     * 남은 기간이 충분하여 연장하지 않은 재발급 수 (만료 시각 갱신과 {@code PEXPIRE} 생략)
+     */
+    private final long skippedCount;
+
+    /**
+     * 연장하지 않은 비율을 반환합니다.
+     *
+     * @return 생략 비율 (0.0 ~ 1.0), 재발급이 없었으면 0.0
+     */
+    public double getSkipRatio() {
+        long total = extendedCount + skippedCount;
+        return total == 0 ? 0.0 : (double) skippedCount / total;
+    }
+}
@@ -0,0 +1,28 @@
+package com.nhnacademy.service.subject;
+
+import java.util.function.Supplier;
+
+/**
+ * compact 프로필 access token의 짧은 subject 식별자와 암호화된 사용자 ID의 매핑을 관리합니다.
+ */
+public interface SubjectService {
+
+    /**
+     * subject 식별자에 암호화된 사용자 ID를 등록합니다.
+     * <p>
+     * 이미 등록된 매핑이 이번에 발급하는 토큰보다 오래 유지된다면 저장을 생략하며, 이 경우 암호화도 수행하지 않습니다.
+     *
+     * @param subjectId           subject 식별자
+     * @param encryptedUserId     암호화된 사용자 ID를 만드는 함수
+     * @param tokenLifetimeMillis 발급하는 토큰의 유효 기간 (밀리초)
+     */
+    void register(String subjectId, Supplier<String> encryptedUserId, long tokenLifetimeMillis);
+
+    /**
+     * subject 식별자로 암호화된 사용자 ID를 조회합니다.
+     *
+     * @param subjectId subject 식별자
+     * @return 암호화된 사용자 ID, 없으면 null
+     */
+    String findEncryptedUserId(String subjectId);
+}
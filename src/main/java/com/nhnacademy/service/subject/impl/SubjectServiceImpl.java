@@ -0,0 +1,88 @@
+package com.nhnacademy.service.subject.impl;
+
+import com.nhnacademy.common.cache.ExpiringLruCache;
+import com.nhnacademy.common.redis.TrackingNearCache;
+import com.nhnacademy.common.store.TokenStore;
+import com.nhnacademy.service.subject.SubjectService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+/**
+ * subject 식별자 매핑을 토큰 저장소({@link TokenStore}, 기본값 Redis)에 저장하는 서비스 구현체입니다.
+ * <p>
+ * key: {@code subject:{subjectId}}<br>
+ * Value: 암호화된 사용자 ID<br>
+ * TTL: 토큰 유효 기간의 2배
+ * <p>
+ * TTL을 2배로 두고 마지막 저장 후 잠시(토큰 유효 기간과 1분 중 짧은 쪽) 동안은 다시 저장하지 않습니다.
+ * 이렇게 해도 그 사이에 발급된 토큰은 항상 매핑보다 먼저 만료되므로, 짧은 시간 안의 반복 발급은 저장소 쓰기 없이 처리됩니다.
+ * 건너뛰는 시간을 짧게 두고 조회에서 매핑을 찾지 못하면 기록을 지우므로, Redis 재시작이나 eviction으로 매핑이 사라져도 다음 발급에서 다시 저장됩니다.
+ * <p>
+ * {@link TrackingNearCache}가 등록되어 있으면 매핑 조회는 near cache를 거치므로, 바뀌지 않은 매핑은 Redis 왕복 없이 읽습니다.
+ */
+@Slf4j
+@Service
+public class SubjectServiceImpl implements SubjectService {
+
+    private static final String SUBJECT_PREFIX = "subject:";
+    private static final int REGISTERED_CACHE_SIZE = 10000;
+    private static final long REGISTERED_SKIP_MAX_MILLIS = 60_000L;
+
+    private final TokenStore store;
+    private final ExpiringLruCache<String, Boolean> registered = new ExpiringLruCache<>(REGISTERED_CACHE_SIZE);
+    private TrackingNearCache nearCache;
+
+    /**
+     * 생성자
+     *
+     * @param store subject 매핑 저장소 (refresh token 저장소)
+     */
+    public SubjectServiceImpl(@Qualifier("refreshTokenStore") TokenStore store) {
+        this.store = store;
+    }
+
+    /**
+     * near cache 주입 ({@code redis.near-cache.enabled=true}일 때만 존재)
+     *
+     * @param nearCache refresh token DB near cache
+     */
+    @Autowired(required = false)
+    public void setNearCache(@Qualifier("refreshTokenNearCache") TrackingNearCache nearCache) {
+        this.nearCache = nearCache;
+    }
+
+    @Override
+    public void register(String subjectId, Supplier<String> encryptedUserId, long tokenLifetimeMillis) {
+        long now = System.currentTimeMillis();
+        if (registered.get(subjectId, now) != null) {
+            return;
+        }
+
+        store.put(keyOf(subjectId), encryptedUserId.get().getBytes(StandardCharsets.UTF_8), tokenLifetimeMillis * 2);
+        registered.put(subjectId, Boolean.TRUE, now + Math.min(tokenLifetimeMillis, REGISTERED_SKIP_MAX_MILLIS));
+        if (nearCache != null) {
+            nearCache.invalidate(keyOf(subjectId));
+        }
+
+        log.debug("[SubjectService] subject 매핑 저장 - subjectId={}, ttl(ms)={}", subjectId, tokenLifetimeMillis * 2);
+    }
+
+    @Override
+    public String findEncryptedUserId(String subjectId) {
+        byte[] value = nearCache != null ? nearCache.get(keyOf(subjectId)) : store.get(keyOf(subjectId));
+        if (value == null) {
+            registered.invalidate(subjectId);
+            return null;
+        }
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] keyOf(String subjectId) {
+        return (SUBJECT_PREFIX + subjectId).getBytes(StandardCharsets.UTF_8);
+    }
+}
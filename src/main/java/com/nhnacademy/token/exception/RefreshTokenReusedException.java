@@ -0,0 +1,15 @@
+package com.nhnacademy.token.exception;
+
+public class RefreshTokenReusedException extends TokenException{
+    public RefreshTokenReusedException(){
+        super("이미 재발급에 사용된 토큰입니다. 모든 세션이 종료되었습니다.");
+    }
+
+    public RefreshTokenReusedException(String message) {
+        super(message);
+    }
+
+    public RefreshTokenReusedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,136 @@
+package com.nhnacademy.token.provider;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 패딩 없는 Base64URL 인코딩/디코딩을 호출자가 준비한 버퍼 위에서 수행하는 유틸리티입니다.
+ * <p>
+ * {@link java.util.Base64}는 입력/출력 배열을 매번 새로 만들기 때문에 토큰 발급/검증 경로에서는 이 클래스를 사용합니다.
+ */
+final class Base64Url {
+
+    private static final byte[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int[] DECODE = new int[128];
+
+    static {
+        Arrays.fill(DECODE, -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            DECODE[ALPHABET[i]] = i;
+        }
+    }
+
+    private Base64Url() {
+    }
+
+    /**
+     * 인코딩 결과 길이를 반환합니다.
+     *
+     * @param length 원본 바이트 수
+     * @return 인코딩된 문자 수
+     */
+    static int encodedLength(int length) {
+        return (length / 3) * 4 + (length % 3 == 0 ? 0 : length % 3 + 1);
+    }
+
+    /**
+     * src[srcOff, srcOff + length)를 인코딩하여 dst[dstOff]부터 기록합니다.
+     *
+     * @return 기록이 끝난 다음 위치
+     */
+    static int encode(byte[] src, int srcOff, int length, byte[] dst, int dstOff) {
+        int end = srcOff + length;
+        int i = srcOff;
+        int o = dstOff;
+        while (i + 3 <= end) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8 | (src[i + 2] & 0xff);
+            dst[o] = ALPHABET[bits >>> 18];
+            dst[o + 1] = ALPHABET[(bits >>> 12) & 0x3f];
+            dst[o + 2] = ALPHABET[(bits >>> 6) & 0x3f];
+            dst[o + 3] = ALPHABET[bits & 0x3f];
+            i += 3;
+            o += 4;
+        }
+        int remaining = end - i;
+        if (remaining == 1) {
+            int bits = (src[i] & 0xff) << 16;
+            dst[o++] = ALPHABET[bits >>> 18];
+            dst[o++] = ALPHABET[(bits >>> 12) & 0x3f];
+        } else if (remaining == 2) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8;
+            dst[o++] = ALPHABET[bits >>> 18];
+            dst[o++] = ALPHABET[(bits >>> 12) & 0x3f];
+            dst[o++] = ALPHABET[(bits >>> 6) & 0x3f];
+        }
+        return o;
+    }
+
+    /**
+     * src[from, to)를 디코딩하여 dst[dstOff]부터 기록합니다.
+     * <p>
+     * 알파벳 밖의 문자, 패딩, 불가능한 길이, 0이 아닌 잉여 비트가 있으면 정규 인코딩이 아니므로 -1을 반환합니다.
+     *
+     * @return 기록이 끝난 다음 위치, 정규 Base64URL이 아니면 -1
+     */
+    static int decode(String src, int from, int to, byte[] dst, int dstOff) {
+        int length = to - from;
+        if (length % 4 == 1) {
+            return -1;
+        }
+
+        int i = from;
+        int o = dstOff;
+        while (i + 4 <= to) {
+            int a = sextet(src.charAt(i));
+            int b = sextet(src.charAt(i + 1));
+            int c = sextet(src.charAt(i + 2));
+            int d = sextet(src.charAt(i + 3));
+            if ((a | b | c | d) < 0) {
+                return -1;
+            }
+            int bits = a << 18 | b << 12 | c << 6 | d;
+            dst[o] = (byte) (bits >>> 16);
+            dst[o + 1] = (byte) (bits >>> 8);
+            dst[o + 2] = (byte) bits;
+            i += 4;
+            o += 3;
+        }
+
+        int remaining = to - i;
+        if (remaining == 2) {
+            int a = sextet(src.charAt(i));
+            int b = sextet(src.charAt(i + 1));
+            if ((a | b) < 0 || (b & 0x0f) != 0) {
+                return -1;
+            }
+            dst[o++] = (byte) (a << 2 | b >>> 4);
+        } else if (remaining == 3) {
+            int a = sextet(src.charAt(i));
+            int b = sextet(src.charAt(i + 1));
+            int c = sextet(src.charAt(i + 2));
+            if ((a | b | c) < 0 || (c & 0x03) != 0) {
+                return -1;
+            }
+            int bits = a << 12 | b << 6 | c;
+            dst[o++] = (byte) (bits >>> 10);
+            dst[o++] = (byte) (bits >>> 2);
+        }
+        return o;
+    }
+
+    /**
+     * 디코딩 결과의 최대 길이를 반환합니다.
+     *
+     * @param length 인코딩된 문자 수
+     * @return 디코딩된 바이트 수의 상한
+     */
+    static int decodedLength(int length) {
+        return length / 4 * 3 + 2;
+    }
+
+    private static int sextet(char c) {
+        return c < 128 ? DECODE[c] : -1;
+    }
+}
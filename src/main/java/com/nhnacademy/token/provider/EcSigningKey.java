@@ -0,0 +1,114 @@
+package com.nhnacademy.token.provider;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ES256(P-256) 서명 키 쌍과 그 식별자(kid)입니다.
+ * <p>
+ * 개인 키는 토큰 서명에만 사용하고, 공개 키는 검증과 JWKS 응답({@link #toJwk()})에 사용합니다.
+ */
+final class EcSigningKey {
+
+    private static final int P256_FIELD_SIZE = 256;
+    private static final int COORDINATE_LENGTH = 32;
+
+    private final String keyId;
+    private final ECPrivateKey privateKey;
+    private final ECPublicKey publicKey;
+
+    private EcSigningKey(String keyId, ECPrivateKey privateKey, ECPublicKey publicKey) {
+        this.keyId = keyId;
+        this.privateKey = privateKey;
+        this.publicKey = publicKey;
+    }
+
+    /**
+     * Base64로 인코딩된 키로부터 서명 키를 만듭니다.
+     *
+     * @param keyId            kid
+     * @param privateKeyBase64 PKCS#8 DER 개인 키 (Base64, 검증 전용 키면 null)
+     * @param publicKeyBase64  X.509 DER 공개 키 (Base64)
+     * @return 서명 키
+     * @throws IllegalStateException 키가 없거나 P-256 키가 아닌 경우
+     */
+    static EcSigningKey load(String keyId, String privateKeyBase64, String publicKeyBase64) {
+        if (keyId == null || keyId.isBlank()) {
+            throw new IllegalStateException("❌ ES256 서명 키의 kid 설정이 누락되었습니다.");
+        }
+        if (publicKeyBase64 == null || publicKeyBase64.isBlank()) {
+            throw new IllegalStateException("❌ ES256 공개 키 설정이 누락되었습니다. kid=" + keyId);
+        }
+
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("EC");
+            ECPublicKey publicKey = (ECPublicKey) keyFactory.generatePublic(
+                    new X509EncodedKeySpec(Base64.getMimeDecoder().decode(publicKeyBase64)));
+            ECPrivateKey privateKey = null;
+            if (privateKeyBase64 != null && !privateKeyBase64.isBlank()) {
+                privateKey = (ECPrivateKey) keyFactory.generatePrivate(
+                        new PKCS8EncodedKeySpec(Base64.getMimeDecoder().decode(privateKeyBase64)));
+            }
+
+            if (publicKey.getParams().getCurve().getField().getFieldSize() != P256_FIELD_SIZE) {
+                throw new IllegalStateException("❌ ES256에는 P-256 키만 사용할 수 있습니다. kid=" + keyId);
+            }
+            return new EcSigningKey(keyId, privateKey, publicKey);
+        } catch (GeneralSecurityException | IllegalArgumentException | ClassCastException e) {
+            throw new IllegalStateException("❌ ES256 키를 읽을 수 없습니다. kid=" + keyId, e);
+        }
+    }
+
+    String keyId() {
+        return keyId;
+    }
+
+    /**
+     * @return 개인 키, 검증 전용 키면 null
+     */
+    ECPrivateKey privateKey() {
+        return privateKey;
+    }
+
+    ECPublicKey publicKey() {
+        return publicKey;
+    }
+
+    /**
+     * 공개 키를 RFC 7518 형식의 EC JWK로 변환합니다.
+     *
+     * @return kty, crv, kid, use, alg, x, y 를 가진 JWK
+     */
+    Map<String, Object> toJwk() {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("kid", keyId);
+        jwk.put("use", "sig");
+        jwk.put("alg", "ES256");
+        jwk.put("x", encoder.encodeToString(coordinate(publicKey.getW().getAffineX())));
+        jwk.put("y", encoder.encodeToString(coordinate(publicKey.getW().getAffineY())));
+        return jwk;
+    }
+
+    /**
+     * 좌표를 부호 없는 32바이트 big-endian 배열로 맞춥니다.
+     */
+    private static byte[] coordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] out = new byte[COORDINATE_LENGTH];
+        int copy = Math.min(bytes.length, COORDINATE_LENGTH);
+        System.arraycopy(bytes, bytes.length - copy, out, COORDINATE_LENGTH - copy, copy);
+        return out;
+    }
+}
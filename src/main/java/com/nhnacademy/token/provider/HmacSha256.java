@@ -0,0 +1,43 @@
+package com.nhnacademy.token.provider;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+
+/**
+ * 서명 키로 이미 초기화된 HmacSHA256 {@link Mac}을 스레드마다 하나씩 재사용합니다.
+ * <p>
+ * {@link Mac#doFinal()} 이후 Mac은 같은 키로 자동 초기화되므로 호출마다 {@code Mac.getInstance}와 {@code init}을 반복하지 않습니다.
+ */
+final class HmacSha256 {
+
+    static final int LENGTH = 32;
+
+    private final ThreadLocal<Mac> macs;
+
+    HmacSha256(Key key) {
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 Mac 초기화에 실패했습니다.", e);
+            }
+        });
+    }
+
+    /**
+     * data[0, length)의 HMAC을 out[outOff]부터 {@value #LENGTH}바이트로 기록합니다.
+     */
+    void sign(byte[] data, int length, byte[] out, int outOff) {
+        Mac mac = macs.get();
+        mac.update(data, 0, length);
+        try {
+            mac.doFinal(out, outOff);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException("HMAC 출력 버퍼가 부족합니다.", e);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.nhnacademy.token.provider;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+
+/**
+ * 이 서비스가 발급하는 고정된 형태(HS256, iat, exp, 선택적 jti/sub/user_id)의 토큰 전용 발급기입니다.
+ * <p>
+ * jjwt {@code JwtBuilder}와 같은 바이트열을 만들되, 변하지 않는 헤더는 미리 인코딩해 두고
+ * payload JSON은 스레드별 버퍼에 직접 기록하며, 서명은 키가 설정된 스레드별 {@code Mac}을 재사용합니다.
+ * 결과 문자열 외에는 호출마다 객체를 만들지 않습니다.
+ * 클레임은 jjwt 빌더 호출 순서와 같은 iat, exp, jti, sub, user_id 순서로 기록합니다.
+ * <p>
+ * 클레임 문자열에 JSON 이스케이프가 필요한 문자나 ASCII 밖의 문자가 있으면 null을 반환하며,
+ * 이 경우 호출자는 jjwt 빌더로 발급해야 합니다.
+ */
+final class Hs256TokenIssuer {
+
+    /**
+     * jjwt가 HS256 토큰에 쓰는 헤더 {@code {"alg":"HS256"}}의 Base64URL 인코딩
+     */
+    static final String ENCODED_HEADER = "eyJhbGciOiJIUzI1NiJ9";
+
+    private static final byte[] HEADER_PREFIX = (ENCODED_HEADER + ".").getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] IAT = "{\"iat\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EXP = ",\"exp\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] JTI = ",\"jti\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SUB = ",\"sub\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] USER_ID = ",\"user_id\":\"".getBytes(StandardCharsets.US_ASCII);
+    private static final int INITIAL_CLAIM_CAPACITY = 256;
+
+    private final HmacSha256 hmac;
+    private final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(() -> new Buffers(INITIAL_CLAIM_CAPACITY));
+
+    Hs256TokenIssuer(Key key) {
+        this.hmac = new HmacSha256(key);
+    }
+
+    /**
+     * 토큰을 발급합니다.
+     *
+     * @param issuedAtSeconds  iat (epoch seconds)
+     * @param expiresAtSeconds exp (epoch seconds)
+     * @param tokenId          jti 클레임 값, 없으면 null
+     * @param subject          sub 클레임 값, 없으면 null
+     * @param userIdClaim      user_id 클레임 값, 없으면 null
+     * @return compact JWS 문자열, 빠른 경로로 처리할 수 없는 클레임이면 null
+     */
+    String issue(long issuedAtSeconds, long expiresAtSeconds, String tokenId, String subject, String userIdClaim) {
+        if (!isPlainAscii(tokenId) || !isPlainAscii(subject) || !isPlainAscii(userIdClaim)) {
+            return null;
+        }
+
+        Buffers buf = buffers.get();
+        buf.ensureCapacity(length(tokenId) + length(subject) + length(userIdClaim));
+
+        byte[] json = buf.json;
+        int j = put(IAT, json, 0);
+        j = putLong(issuedAtSeconds, json, j);
+        j = put(EXP, json, j);
+        j = putLong(expiresAtSeconds, json, j);
+        j = putString(JTI, tokenId, json, j);
+        j = putString(SUB, subject, json, j);
+        j = putString(USER_ID, userIdClaim, json, j);
+        json[j++] = '}';
+
+        byte[] out = buf.out;
+        int o = put(HEADER_PREFIX, out, 0);
+        o = Base64Url.encode(json, 0, j, out, o);
+
+        hmac.sign(out, o, buf.signature, 0);
+
+        out[o++] = '.';
+        o = Base64Url.encode(buf.signature, 0, HmacSha256.LENGTH, out, o);
+
+        return new String(out, 0, o, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 이스케이프 없이 JSON 문자열에 그대로 쓸 수 있는 출력 가능한 ASCII 문자만으로 이루어졌는지 확인합니다.
+     */
+    private static boolean isPlainAscii(String value) {
+        if (value == null) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c > 0x7e || c == '"' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int length(String value) {
+        return value != null ? value.length() : 0;
+    }
+
+    private static int putString(byte[] key, String value, byte[] dst, int off) {
+        if (value == null) {
+            return off;
+        }
+        int o = put(key, dst, off);
+        for (int i = 0; i < value.length(); i++) {
+            dst[o++] = (byte) value.charAt(i);
+        }
+        dst[o++] = '"';
+        return o;
+    }
+
+    private static int put(byte[] src, byte[] dst, int off) {
+        System.arraycopy(src, 0, dst, off, src.length);
+        return off + src.length;
+    }
+
+    private static int putLong(long value, byte[] dst, int off) {
+        if (value < 0) {
+            dst[off++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        int end = off + digits;
+        for (int i = end - 1; i >= off; i--) {
+            dst[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return end;
+    }
+
+    private static final class Buffers {
+        /**
+         * 클레임 값을 제외한 payload JSON의 최대 길이 (두 개의 long과 모든 키 포함)
+         */
+        private static final int FIXED_JSON_LENGTH = 128;
+
+        private final byte[] signature = new byte[HmacSha256.LENGTH];
+        private byte[] json;
+        private byte[] out;
+        private int claimCapacity;
+
+        Buffers(int claimCapacity) {
+            allocate(claimCapacity);
+        }
+
+        void ensureCapacity(int claimLength) {
+            if (claimLength > claimCapacity) {
+                allocate(Math.max(claimLength, claimCapacity * 2));
+            }
+        }
+
+        private void allocate(int capacity) {
+            this.claimCapacity = capacity;
+            this.json = new byte[FIXED_JSON_LENGTH + capacity];
+            this.out = new byte[HEADER_PREFIX.length
+                    + Base64Url.encodedLength(json.length)
+                    + 1
+                    + Base64Url.encodedLength(HmacSha256.LENGTH)];
+        }
+    }
+}
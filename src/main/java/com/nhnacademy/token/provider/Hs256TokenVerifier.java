@@ -0,0 +1,254 @@
+package com.nhnacademy.token.provider;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+
+/**
+ * 이 서비스가 발급한 형태의 HS256 토큰만 처리하는 전용 검증기입니다.
+ * <p>
+ * compact 토큰을 직접 나누어 스레드별 {@code Mac}으로 서명을 계산하고 상수 시간으로 비교한 뒤,
+ * payload에서 {@code iat}, {@code exp}, {@code jti}, {@code sub}, {@code user_id}만 최소한의 순차 스캔으로 읽습니다.
+ * <p>
+ * 이 검증기는 "통과"만 판단합니다. 헤더가 다르거나, 처음 보는 클레임이 있거나, 서명이 맞지 않거나,
+ * 만료 경계에 있는 등 조금이라도 다른 경우에는 null을 반환하고 호출자가 jjwt 파서로 다시 검증합니다.
+ * 따라서 통과시키는 토큰은 jjwt가 통과시키는 토큰의 부분집합이고, 거절은 항상 jjwt가 결정합니다.
+ */
+final class Hs256TokenVerifier {
+
+    /**
+     * 이보다 긴 토큰은 빠른 경로에서 다루지 않습니다.
+     */
+    private static final int MAX_TOKEN_LENGTH = 8192;
+
+    private static final int SIGNATURE_LENGTH = Base64Url.encodedLength(HmacSha256.LENGTH);
+    private static final String HEADER_PREFIX = Hs256TokenIssuer.ENCODED_HEADER + ".";
+
+    private static final int FIELD_IAT = 1;
+    private static final int FIELD_EXP = 1 << 1;
+    private static final int FIELD_USER_ID = 1 << 2;
+    private static final int FIELD_JTI = 1 << 3;
+    private static final int FIELD_SUB = 1 << 4;
+
+    private final HmacSha256 hmac;
+    private final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(Buffers::new);
+
+    Hs256TokenVerifier(Key key) {
+        this.hmac = new HmacSha256(key);
+    }
+
+    /**
+     * 토큰을 검증합니다.
+     *
+     * @param token     compact JWS 문자열
+     * @param nowMillis 현재 시각 (epoch ms)
+     * @return 검증된 클레임, 빠른 경로로 통과시킬 수 없으면 null
+     */
+    ParsedClaims verify(String token, long nowMillis) {
+        if (token == null || token.length() > MAX_TOKEN_LENGTH || !token.startsWith(HEADER_PREFIX)) {
+            return null;
+        }
+
+        int payloadStart = HEADER_PREFIX.length();
+        int signatureDot = token.indexOf('.', payloadStart);
+        if (signatureDot < 0 || token.length() - signatureDot - 1 != SIGNATURE_LENGTH) {
+            return null;
+        }
+
+        Buffers buf = buffers.get();
+        byte[] input = buf.input;
+        for (int i = 0; i < signatureDot; i++) {
+            char c = token.charAt(i);
+            if (c > 0x7f) {
+                return null;
+            }
+            input[i] = (byte) c;
+        }
+        for (int i = signatureDot + 1, j = 0; i < token.length(); i++, j++) {
+            char c = token.charAt(i);
+            if (c > 0x7f) {
+                return null;
+            }
+            buf.presentedSignature[j] = (byte) c;
+        }
+
+        hmac.sign(input, signatureDot, buf.signature, 0);
+        Base64Url.encode(buf.signature, 0, HmacSha256.LENGTH, buf.expectedSignature, 0);
+        if (!MessageDigest.isEqual(buf.expectedSignature, buf.presentedSignature)) {
+            return null;
+        }
+
+        int jsonLength = Base64Url.decode(token, payloadStart, signatureDot, buf.json, 0);
+        if (jsonLength < 0) {
+            return null;
+        }
+
+        ParsedClaims claims = new PayloadScanner(buf.json, jsonLength).scan();
+        if (claims == null || nowMillis >= claims.expiresAt()) {
+            return null;
+        }
+        return claims;
+    }
+
+    /**
+     * jjwt가 만드는 형태의 평평한 JSON 객체만 읽는 스캐너입니다.
+     * 공백, 이스케이프, 실수, 중복 키, 알 수 없는 키처럼 예상과 다른 입력은 모두 null로 처리합니다.
+     */
+    private static final class PayloadScanner {
+        private static final long MAX_SECONDS = 999_999_999_999L;
+
+        private final byte[] json;
+        private final int length;
+        private int pos;
+
+        private long issuedAt;
+        private long expiresAt;
+        private String tokenId;
+        private String subject;
+        private String userIdClaim;
+        private int seen;
+
+        PayloadScanner(byte[] json, int length) {
+            this.json = json;
+            this.length = length;
+        }
+
+        ParsedClaims scan() {
+            if (!consume('{')) {
+                return null;
+            }
+            if (!consume('}')) {
+                do {
+                    if (!field()) {
+                        return null;
+                    }
+                } while (consume(','));
+                if (!consume('}')) {
+                    return null;
+                }
+            }
+            if (pos != length || (seen & FIELD_EXP) == 0) {
+                return null;
+            }
+            return new ParsedClaims(subject, tokenId, userIdClaim, issuedAt, expiresAt);
+        }
+
+        private boolean field() {
+            int field = key();
+            if (field == 0 || (seen & field) != 0 || !consume(':')) {
+                return false;
+            }
+            seen |= field;
+
+            if (field == FIELD_USER_ID) {
+                userIdClaim = string();
+                return userIdClaim != null;
+            }
+            if (field == FIELD_JTI) {
+                tokenId = string();
+                return tokenId != null;
+            }
+            if (field == FIELD_SUB) {
+                subject = string();
+                return subject != null;
+            }
+
+            long seconds = seconds();
+            if (seconds < 0) {
+                return false;
+            }
+            if (field == FIELD_IAT) {
+                issuedAt = seconds * 1000;
+            } else {
+                expiresAt = seconds * 1000;
+            }
+            return true;
+        }
+
+        private int key() {
+            if (matches("\"iat\"")) {
+                return FIELD_IAT;
+            }
+            if (matches("\"exp\"")) {
+                return FIELD_EXP;
+            }
+            if (matches("\"user_id\"")) {
+                return FIELD_USER_ID;
+            }
+            if (matches("\"jti\"")) {
+                return FIELD_JTI;
+            }
+            if (matches("\"sub\"")) {
+                return FIELD_SUB;
+            }
+            return 0;
+        }
+
+        private long seconds() {
+            int start = pos;
+            long value = 0;
+            while (pos < length && json[pos] >= '0' && json[pos] <= '9') {
+                value = value * 10 + (json[pos] - '0');
+                if (value > MAX_SECONDS) {
+                    return -1;
+                }
+                pos++;
+            }
+            int digits = pos - start;
+            if (digits == 0 || (digits > 1 && json[start] == '0')) {
+                return -1;
+            }
+            return value;
+        }
+
+        private String string() {
+            if (!consume('"')) {
+                return null;
+            }
+            int start = pos;
+            while (pos < length) {
+                byte b = json[pos];
+                if (b == '"') {
+                    String value = new String(json, start, pos - start, StandardCharsets.US_ASCII);
+                    pos++;
+                    return value;
+                }
+                if (b < 0x20 || b == '\\') {
+                    return null;
+                }
+                pos++;
+            }
+            return null;
+        }
+
+        private boolean matches(String literal) {
+            int n = literal.length();
+            if (pos + n > length) {
+                return false;
+            }
+            for (int i = 0; i < n; i++) {
+                if (json[pos + i] != literal.charAt(i)) {
+                    return false;
+                }
+            }
+            pos += n;
+            return true;
+        }
+
+        private boolean consume(char c) {
+            if (pos < length && json[pos] == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class Buffers {
+        private final byte[] input = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] json = new byte[Base64Url.decodedLength(MAX_TOKEN_LENGTH)];
+        private final byte[] signature = new byte[HmacSha256.LENGTH];
+        private final byte[] expectedSignature = new byte[SIGNATURE_LENGTH];
+        private final byte[] presentedSignature = new byte[SIGNATURE_LENGTH];
+    }
+}
@@ -0,0 +1,39 @@
+package com.nhnacademy.token.provider;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * {@code jwt.keys[n].*} 로 설정하는 키 링의 키 하나입니다.
+ * <p>
+ * HS256 키는 {@code secret}을, ES256 키는 {@code public-key}와 (서명에 쓸 키라면) {@code private-key}를 가집니다.
+ */
+@Getter
+@Setter
+public class JwtKeyProperties {
+
+    /**
+     * 토큰 헤더의 kid 값
+     */
+    private String kid;
+
+    /**
+     * 서명 알고리즘 (HS256, ES256)
+     */
+    private String algorithm = "HS256";
+
+    /**
+     * HS256 비밀 키
+     */
+    private String secret;
+
+    /**
+     * ES256 PKCS#8 DER 개인 키 (Base64), 검증 전용 키면 비워 둡니다.
+     */
+    private String privateKey;
+
+    /**
+     * ES256 X.509 DER 공개 키 (Base64)
+     */
+    private String publicKey;
+}
@@ -0,0 +1,287 @@
+package com.nhnacademy.token.provider;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 서명 키 하나와 여러 검증 키를 kid로 색인해 둔 불변 키 링입니다.
+ * <p>
+ * 키마다 파서를 미리 만들어 두므로 토큰 검증은 헤더의 kid로 해시 조회 한 번만 하면 됩니다.
+ * kid가 없는 토큰은 기존 {@code jwt.secret}으로 서명된 토큰으로 보고 legacy 키로 검증합니다.
+ * <p>
+ * 키를 바꿀 때는 새 키 링을 만들어 통째로 교체하므로, 검증 중인 요청은 항상 일관된 키 집합을 봅니다.
+ */
+final class JwtKeyRing {
+
+    private static final int MAX_HEADER_LENGTH = 512;
+    private static final String KID_FIELD = "\"kid\"";
+
+    private final Map<String, Entry> entries;
+    private final Entry legacy;
+    private final boolean legacyAccepted;
+    private final Entry signing;
+    private final HmacSha256 subjectMac;
+    private final Map<String, Object> jwkSet;
+
+    private JwtKeyRing(Map<String, Entry> entries, Entry legacy, boolean legacyAccepted, Entry signing,
+                       Map<String, Object> jwkSet) {
+        this.entries = entries;
+        this.legacy = legacy;
+        this.legacyAccepted = legacyAccepted;
+        this.signing = signing;
+        this.subjectMac = new HmacSha256(legacy.verificationKey);
+        this.jwkSet = jwkSet;
+    }
+
+    /**
+     * 키 링을 만듭니다.
+     *
+     * @param legacySecret    kid 없는 토큰의 HS256 비밀 키 ({@code jwt.secret})
+     * @param keys            kid를 가진 키 목록
+     * @param activeKid       서명에 사용할 kid, null이면 legacy 키로 서명
+     * @param legacyAccepted  kid 없는 토큰을 계속 검증할지 여부
+     * @param fastPathIssuer  legacy 키 서명에 빠른 발급기를 사용할지 여부
+     * @param fastPathVerifier legacy 키 검증에 빠른 검증기를 사용할지 여부
+     * @return 키 링
+     * @throws IllegalStateException 키 설정이 잘못된 경우
+     */
+    static JwtKeyRing create(String legacySecret, List<JwtKeyProperties> keys, String activeKid,
+                             boolean legacyAccepted, boolean fastPathIssuer, boolean fastPathVerifier) {
+        Key legacyKey = Keys.hmacShaKeyFor(legacySecret.getBytes(StandardCharsets.UTF_8));
+        Entry legacy = new Entry(null, SignatureAlgorithm.HS256, legacyKey, legacyKey,
+                fastPathIssuer ? new Hs256TokenIssuer(legacyKey) : null,
+                fastPathVerifier ? new Hs256TokenVerifier(legacyKey) : null,
+                null);
+
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        for (JwtKeyProperties properties : keys) {
+            Entry entry = entryOf(properties);
+            if (entries.putIfAbsent(entry.keyId, entry) != null) {
+                throw new IllegalStateException("❌ 중복된 kid 입니다: " + entry.keyId);
+            }
+            if (entry.jwk != null) {
+                jwks.add(entry.jwk);
+            }
+        }
+
+        Entry signing = legacy;
+        if (activeKid != null) {
+            signing = entries.get(activeKid);
+            if (signing == null || signing.signingKey == null) {
+                throw new IllegalStateException("❌ 서명에 사용할 키가 없습니다. kid=" + activeKid);
+            }
+        }
+
+        return new JwtKeyRing(Map.copyOf(entries), legacy, legacyAccepted || signing == legacy, signing,
+                Map.of("keys", List.copyOf(jwks)));
+    }
+
+    private static Entry entryOf(JwtKeyProperties properties) {
+        String kid = properties.getKid();
+        if (kid == null || kid.isBlank()) {
+            throw new IllegalStateException("❌ jwt.keys 의 kid 설정이 누락되었습니다.");
+        }
+
+        String algorithm = Objects.requireNonNullElse(properties.getAlgorithm(), "HS256").toUpperCase(Locale.ROOT);
+        if (SignatureAlgorithm.HS256.getValue().equals(algorithm)) {
+            String secret = properties.getSecret();
+            if (secret == null || secret.getBytes(StandardCharsets.UTF_8).length < 32) {
+                throw new IllegalStateException("❌ HS256 키는 최소 256비트(32바이트) 이상이어야 합니다. kid=" + kid);
+            }
+            Key key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            return new Entry(kid, SignatureAlgorithm.HS256, key, key, null, null, null);
+        }
+        if (SignatureAlgorithm.ES256.getValue().equals(algorithm)) {
+            EcSigningKey ecKey = EcSigningKey.load(kid, properties.getPrivateKey(), properties.getPublicKey());
+            return new Entry(kid, SignatureAlgorithm.ES256, ecKey.publicKey(), ecKey.privateKey(), null, null, ecKey.toJwk());
+        }
+        throw new IllegalStateException("❌ 지원하지 않는 알고리즘입니다: " + properties.getAlgorithm() + " (HS256, ES256 중 하나), kid=" + kid);
+    }
+
+    /**
+     * 토큰을 발급할 때 사용할 키입니다.
+     */
+    Entry signing() {
+        return signing;
+    }
+
+    /**
+     * 토큰 헤더의 kid로 검증 키를 찾습니다.
+     *
+     * @param token compact JWS 문자열
+     * @return 검증 키, 알 수 없는 kid이거나 더 이상 허용하지 않는 legacy 토큰이면 null
+     */
+    Entry verification(String token) {
+        String kid = readKeyId(token);
+        if (kid == null) {
+            return legacyAccepted ? legacy : null;
+        }
+        return entries.get(kid);
+    }
+
+    /**
+     * compact 프로필 subject 식별자를 만드는 HMAC입니다. legacy 비밀 키를 사용합니다.
+     */
+    HmacSha256 subjectMac() {
+        return subjectMac;
+    }
+
+    /**
+     * 공개할 수 있는 ES256 공개 키 목록입니다. 서명 키뿐 아니라 검증 전용 키도 포함하므로
+     * 다음 서명 키를 미리 공개해 둘 수 있습니다.
+     */
+    Map<String, Object> jwkSet() {
+        return jwkSet;
+    }
+
+    /**
+     * kid를 가진 키의 수
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * 헤더를 JSON 파서 없이 훑어 kid 값을 읽습니다.
+     * <p>
+     * 이 값은 키를 고르는 데만 쓰이고, 실제 kid와 alg가 고른 키와 같은지는 각 키의 파서가 다시 확인합니다.
+     * 따라서 읽기에 실패하더라도 잘못된 키로 검증이 통과하지는 않습니다.
+     *
+     * @return kid, 없거나 읽을 수 없으면 null
+     */
+    static String readKeyId(String token) {
+        if (token == null || token.startsWith(Hs256TokenIssuer.ENCODED_HEADER + ".")) {
+            return null;
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot > MAX_HEADER_LENGTH) {
+            return null;
+        }
+
+        byte[] decoded = new byte[Base64Url.decodedLength(dot)];
+        int length = Base64Url.decode(token, 0, dot, decoded, 0);
+        if (length < 0) {
+            return null;
+        }
+        String header = new String(decoded, 0, length, StandardCharsets.UTF_8);
+
+        int i = header.indexOf(KID_FIELD);
+        if (i < 0) {
+            return null;
+        }
+        i = skipWhitespace(header, i + KID_FIELD.length());
+        if (i >= header.length() || header.charAt(i) != ':') {
+            return null;
+        }
+        i = skipWhitespace(header, i + 1);
+        if (i >= header.length() || header.charAt(i) != '"') {
+            return null;
+        }
+        int end = header.indexOf('"', i + 1);
+        int escape = header.indexOf('\\', i + 1);
+        if (end < 0 || (escape >= 0 && escape < end)) {
+            return null;
+        }
+        return header.substring(i + 1, end);
+    }
+
+    private static int skipWhitespace(String s, int i) {
+        while (i < s.length() && Character.isWhitespace(s.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * 키 링의 키 하나와 그 키 전용 파서입니다.
+     */
+    static final class Entry {
+        private final String keyId;
+        private final SignatureAlgorithm algorithm;
+        private final Key verificationKey;
+        private final Key signingKey;
+        private final JwtParser parser;
+        private final Hs256TokenIssuer fastIssuer;
+        private final Hs256TokenVerifier fastVerifier;
+        private final Map<String, Object> jwk;
+
+        private Entry(String keyId, SignatureAlgorithm algorithm, Key verificationKey, Key signingKey,
+                      Hs256TokenIssuer fastIssuer, Hs256TokenVerifier fastVerifier, Map<String, Object> jwk) {
+            this.keyId = keyId;
+            this.algorithm = algorithm;
+            this.verificationKey = verificationKey;
+            this.signingKey = signingKey;
+            this.fastIssuer = fastIssuer;
+            this.fastVerifier = fastVerifier;
+            this.jwk = jwk != null ? Collections.unmodifiableMap(jwk) : null;
+            this.parser = Jwts.parserBuilder()
+                    .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                        @Override
+                        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                            return resolve(header);
+                        }
+                    })
+                    .build();
+        }
+
+        /**
+         * 헤더의 alg, kid가 이 키와 정확히 같을 때만 키를 돌려줍니다.
+         */
+        private Key resolve(JwsHeader<?> header) {
+            if (!algorithm.getValue().equals(header.getAlgorithm()) || !Objects.equals(keyId, header.getKeyId())) {
+                throw new UnsupportedJwtException("검증할 수 없는 서명 키입니다. alg=" + header.getAlgorithm() + ", kid=" + header.getKeyId());
+            }
+            return verificationKey;
+        }
+
+        /**
+         * @return kid, legacy 키면 null
+         */
+        String keyId() {
+            return keyId;
+        }
+
+        SignatureAlgorithm algorithm() {
+            return algorithm;
+        }
+
+        Key signingKey() {
+            return signingKey;
+        }
+
+        JwtParser parser() {
+            return parser;
+        }
+
+        /**
+         * @return 빠른 발급기, 사용하지 않으면 null
+         */
+        Hs256TokenIssuer fastIssuer() {
+            return fastIssuer;
+        }
+
+        /**
+         * @return 빠른 검증기, 사용하지 않으면 null
+         */
+        Hs256TokenVerifier fastVerifier() {
+            return fastVerifier;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.nhnacademy.token.provider;
 
-import com.common.AESUtil;
+import com.nhnacademy.common.cache.CacheStats;
+import com.nhnacademy.common.config.UserIdCipher;
+import com.nhnacademy.service.subject.SubjectService;
 import com.nhnacademy.token.exception.FailCreateAccessTokenException;
 import com.nhnacademy.token.exception.FailCreateRefreshTokenException;
 import com.nhnacademy.token.exception.TokenException;
@@ -10,51 +12,237 @@ import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
-import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * JWT 생성, 파싱, 검증을 담당하는 Provider 클래스입니다.
  * <p>
- * AccessToken은 userId를 암호화하여 포함하며, RefreshToken은 payload 없이 서명만 유지합니다.
+ * AccessToken은 userId를 암호화하여 포함하며, 무작위 jti(12바이트, Base64URL 16자)를 가집니다.
+ * 블랙리스트는 토큰 전체 대신 이 jti로 key를 만듭니다.
+ * <p>
+ * RefreshToken은 서명 없는 256비트 난수이며, Redis에는 SHA-256 digest만 저장합니다. ({@link #digestRefreshToken(String)})
+ * refresh token은 클라이언트에 전달하지 않으므로 재발급은 세션(access token jti)으로만 확인하며, digest를 비교하지 않습니다.
+ * <p>
+ * {@code jwt.profile=compact}이면 AccessToken은 암호화된 userId 대신 짧은 subject 식별자와 jti만 가지며,
+ * 암호화된 userId는 {@link SubjectService}에 저장해 두었다가 사용자 ID가 실제로 필요할 때만 조회합니다.
+ * <p>
+ * {@code jwt.signing.algorithm=ES256}이면 토큰을 P-256 개인 키로 서명하고 헤더에 {@code kid}를 기록합니다.
+ * 공개 키는 {@link #getJwkSet()}으로 공개되므로 다른 서비스는 비밀 키 없이 토큰을 직접 검증할 수 있습니다.
+ * <p>
+ * 서명 키와 검증 키는 kid로 색인된 {@link JwtKeyRing}에 있으며, {@code jwt.keys[n].*}로 여러 키를 함께 둘 수 있습니다.
+ * 키 설정이 바뀌면 {@link #reloadKeys()}로 재시작 없이 키 링을 교체합니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtProvider {
-    private final AESUtil aesUtil;
+    private final UserIdCipher userIdCipher;
+    private final SubjectService subjectService;
+    private final Environment environment;
 
     @Value("${jwt.secret}")
     private String jwtSecretKey;
 
-    private JwtParser parser;
-    private Key key;
+    @Value("${jwt.cache.enabled:false}")
+    private boolean verifiedTokenCacheEnabled;
+
+    @Value("${jwt.cache.max-size:10000}")
+    private int verifiedTokenCacheMaxSize;
+
+    @Value("${jwt.issuer.fast-path.enabled:true}")
+    private boolean fastIssuerEnabled;
+
+    @Value("${jwt.verifier.fast-path.enabled:true}")
+    private boolean fastVerifierEnabled;
+
+    @Value("${jwt.profile:standard}")
+    private String tokenProfile;
+
+    @Value("${jwt.signing.algorithm:HS256}")
+    private String signingAlgorithm;
+
+    @Value("${jwt.signing.key-id:}")
+    private String signingKeyId;
+
+    @Value("${jwt.signing.private-key:}")
+    private String signingPrivateKey;
+
+    @Value("${jwt.signing.public-key:}")
+    private String signingPublicKey;
+
+    @Value("${jwt.signing.active-kid:}")
+    private String signingActiveKid;
+
+    @Value("${jwt.signing.hs256-fallback:true}")
+    private boolean hs256FallbackEnabled;
+
+    private volatile JwtKeyRing keyRing;
+    private VerifiedTokenCache verifiedTokenCache;
+    private boolean compactProfile;
 
     private static final String CLAIM_USER_ID = "user_id";
     private static final Duration ACCESS_TOKEN_DURATION = Duration.ofHours(3);
     private static final Duration REFRESH_TOKEN_DURATION = Duration.ofDays(7);
+    private static final String PROFILE_STANDARD = "standard";
+    private static final String PROFILE_COMPACT = "compact";
+    private static final String HEADER_KEY_ID = "kid";
+    private static final String KEYS_PROPERTY = "jwt.keys";
+    private static final byte[] SUBJECT_DOMAIN = "sub:".getBytes(StandardCharsets.US_ASCII);
+    private static final int SUBJECT_ID_BYTES = 12;
+    private static final int TOKEN_ID_BYTES = 12;
+    private static final int REFRESH_TOKEN_BYTES = 32;
+    private static final int REFRESH_TOKEN_LENGTH = Base64Url.encodedLength(REFRESH_TOKEN_BYTES);
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(JwtProvider::sha256);
 
     /**
      * JWT Provider 초기화 메서드입니다.
-     * secret 키가 유효한지 검증하고, 키와 파서를 준비합니다.
+     * secret 키가 유효한지 검증하고, 키 링과 키별 파서를 준비합니다.
      *
      * @throws IllegalStateException 설정 오류 시
      */
     @PostConstruct
     public void init() {
-        if (jwtSecretKey == null || jwtSecretKey.isBlank()) {
+        this.keyRing = buildKeyRing(currentKeySettings());
+        this.verifiedTokenCache = verifiedTokenCacheEnabled ? new VerifiedTokenCache(verifiedTokenCacheMaxSize) : null;
+
+        if (!PROFILE_STANDARD.equals(tokenProfile) && !PROFILE_COMPACT.equals(tokenProfile)) {
+            throw new IllegalStateException("❌ jwt.profile 값이 올바르지 않습니다. (standard 또는 compact): " + tokenProfile);
+        }
+        this.compactProfile = PROFILE_COMPACT.equals(tokenProfile);
+    }
+
+    /**
+     * 현재 Environment에서 키 설정을 다시 읽어 키 링을 교체합니다.
+     * <p>
+     * 설정을 지역 변수로 읽어 새 키 링을 모두 만든 뒤 설정 필드와 키 링을 함께 교체하므로,
+     * 설정이 잘못되었으면 예외가 발생하고 기존 설정과 키 링이 그대로 유지됩니다.
+     * 키를 교체할 때는 새 키를 먼저 검증 키로 추가하고, 모든 인스턴스에 반영된 뒤 {@code jwt.signing.active-kid}를 바꾸며,
+     * 이전 키는 그 키로 서명된 토큰이 모두 만료된 뒤에 제거합니다.
+     *
+     * @throws IllegalStateException 키 설정이 잘못된 경우
+     */
+    public synchronized void reloadKeys() {
+        KeySettings settings = new KeySettings(
+                environment.getProperty("jwt.secret", jwtSecretKey),
+                environment.getProperty("jwt.signing.algorithm", "HS256"),
+                environment.getProperty("jwt.signing.key-id", ""),
+                environment.getProperty("jwt.signing.private-key", ""),
+                environment.getProperty("jwt.signing.public-key", ""),
+                environment.getProperty("jwt.signing.active-kid", ""),
+                environment.getProperty("jwt.signing.hs256-fallback", Boolean.class, true));
+        JwtKeyRing ring = buildKeyRing(settings);
+
+        this.jwtSecretKey = settings.secret();
+        this.signingAlgorithm = settings.algorithm();
+        this.signingKeyId = settings.keyId();
+        this.signingPrivateKey = settings.privateKey();
+        this.signingPublicKey = settings.publicKey();
+        this.signingActiveKid = settings.activeKid();
+        this.hs256FallbackEnabled = settings.hs256Fallback();
+        this.keyRing = ring;
+        if (verifiedTokenCache != null) {
+            verifiedTokenCache.clear();
+        }
+    }
+
+    /**
+     * {@code jwt.} 설정이 바뀌었다는 이벤트(예: 설정 서버의 refresh)를 받으면 키 링을 다시 만듭니다.
+     *
+     * @param event 변경된 설정 key 목록을 가진 이벤트
+     */
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        if (event.getKeys().stream().noneMatch(changed -> changed.startsWith("jwt."))) {
+            return;
+        }
+        try {
+            reloadKeys();
+        } catch (IllegalStateException e) {
+            log.error("[JwtProvider] 키 링 갱신 실패, 기존 키 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 필드 값으로 키 설정을 만듭니다.
+     */
+    private KeySettings currentKeySettings() {
+        return new KeySettings(jwtSecretKey, signingAlgorithm, signingKeyId, signingPrivateKey, signingPublicKey,
+                signingActiveKid, hs256FallbackEnabled);
+    }
+
+    /**
+     * 설정으로부터 키 링을 만듭니다.
+     * <p>
+     * {@code jwt.signing.algorithm=ES256}이면 {@code jwt.signing.*}의 키를 키 링에 추가하고 서명 키로 사용합니다.
+     * {@code jwt.signing.active-kid}가 있으면 그 kid의 키로 서명합니다.
+     * jjwt 0.11.x는 EdDSA를 지원하지 않으므로 비대칭 서명은 ES256만 지원합니다.
+     * 필드를 읽거나 바꾸지 않으므로, 검증에 실패해도 현재 설정은 그대로 남습니다.
+     */
+    private JwtKeyRing buildKeyRing(KeySettings settings) {
+        String secret = settings.secret();
+        if (secret == null || secret.isBlank()) {
             throw new IllegalStateException("❌ jwt.secret 설정이 누락되었습니다. application.properties 또는 환경변수를 확인하세요.");
         }
-        if (jwtSecretKey.getBytes(StandardCharsets.UTF_8).length < 32) {
+        if (secret.getBytes(StandardCharsets.UTF_8).length < 32) {
             throw new IllegalStateException("❌ jwt.secret 값이 너무 짧습니다. 최소 256비트(32바이트) 이상이어야 합니다.");
         }
 
-        this.key = Keys.hmacShaKeyFor(jwtSecretKey.getBytes(StandardCharsets.UTF_8));
-        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        List<JwtKeyProperties> keys = new ArrayList<>(Binder.get(environment)
+                .bind(KEYS_PROPERTY, Bindable.listOf(JwtKeyProperties.class))
+                .orElse(List.of()));
+
+        String activeKid = settings.activeKid() != null && !settings.activeKid().isBlank() ? settings.activeKid() : null;
+        String algorithm = settings.algorithm().toUpperCase(Locale.ROOT);
+        if (SignatureAlgorithm.ES256.getValue().equals(algorithm)) {
+            if (settings.privateKey() == null || settings.privateKey().isBlank()) {
+                throw new IllegalStateException("❌ ES256 개인 키 설정이 누락되었습니다. jwt.signing.private-key를 확인하세요.");
+            }
+            JwtKeyProperties signingKey = new JwtKeyProperties();
+            signingKey.setKid(settings.keyId());
+            signingKey.setAlgorithm(algorithm);
+            signingKey.setPrivateKey(settings.privateKey());
+            signingKey.setPublicKey(settings.publicKey());
+            keys.add(signingKey);
+            if (activeKid == null) {
+                activeKid = settings.keyId();
+            }
+        } else if (!SignatureAlgorithm.HS256.getValue().equals(algorithm)) {
+            throw new IllegalStateException("❌ 지원하지 않는 jwt.signing.algorithm 입니다: " + settings.algorithm() + " (HS256, ES256 중 하나)");
+        }
+
+        JwtKeyRing ring = JwtKeyRing.create(secret, keys, activeKid, settings.hs256Fallback(),
+                fastIssuerEnabled, fastVerifierEnabled);
+
+        log.info("[JwtProvider] 키 링 준비 - 서명 kid={}, alg={}, 검증 키 수={}, kid 없는 토큰 허용={}",
+                ring.signing().keyId(), ring.signing().algorithm().getValue(), ring.size(), settings.hs256Fallback());
+        return ring;
+    }
+
+    /**
+     * 다른 서비스가 토큰을 직접 검증할 수 있도록 공개 키 목록을 JWK Set 형식으로 반환합니다.
+     * <p>
+     * HS256 키는 공개할 수 없으므로 ES256 키만 포함하며, ES256 키가 없으면 빈 목록을 반환합니다.
+     *
+     * @return {@code {"keys": [...]}} 형식의 JWK Set
+     */
+    public Map<String, Object> getJwkSet() {
+        return keyRing.jwkSet();
     }
 
     /**
@@ -65,35 +253,136 @@ public class JwtProvider {
      * @throws FailCreateAccessTokenException 암호화 실패 시
      */
     public String createAccessToken(String userId) {
+        return createAccessToken(userId, newAccessTokenId());
+    }
+
+    /**
+     * 지정한 jti로 AccessToken을 생성합니다.
+     * <p>
+     * refresh 세션은 세션의 최신 access token jti를 세션 ID로 사용하므로, 발급 전에 jti를 알아야 할 때 사용합니다.
+     *
+     * @param userId  사용자 ID (email)
+     * @param tokenId jti ({@link #newAccessTokenId()}로 생성)
+     * @return 암호화된 access token 문자열
+     * @throws FailCreateAccessTokenException 암호화 실패 시
+     */
+    public String createAccessToken(String userId, String tokenId) {
         try {
-            String encryptedUserId = aesUtil.encrypt(userId);
-            return createToken(ACCESS_TOKEN_DURATION, encryptedUserId);
+            if (compactProfile) {
+                return createCompactAccessToken(userId, tokenId);
+            }
+            String encryptedUserId = userIdCipher.encrypt(userId);
+            return createToken(ACCESS_TOKEN_DURATION, tokenId, null, encryptedUserId);
         } catch (Exception e) {
             throw new FailCreateAccessTokenException();
         }
     }
 
     /**
-     * RefreshToken을 생성합니다. 사용자 정보 없이 서명만 포함됩니다.
+     * 새 access token jti를 생성합니다.
      *
-     * @return refresh token 문자열
+     * @return 12바이트 난수의 Base64URL 문자열 (16자)
+     */
+    public String newAccessTokenId() {
+        return RandomIdGenerator.generate(TOKEN_ID_BYTES);
+    }
+
+    /**
+     * compact 프로필 AccessToken을 생성합니다.
+     * <p>
+     * payload는 iat, exp, jti(16자), sub(16자)뿐이며, subject와 암호화된 userId의 매핑은 {@link SubjectService}에 등록합니다.
+     * 같은 사용자는 항상 같은 subject를 가지므로 매핑은 사용자마다 하나만 유지됩니다.
+     */
+    private String createCompactAccessToken(String userId, String tokenId) {
+        String subjectId = subjectIdOf(userId);
+        subjectService.register(subjectId, () -> userIdCipher.encrypt(userId), ACCESS_TOKEN_DURATION.toMillis());
+        return createToken(ACCESS_TOKEN_DURATION, tokenId, subjectId, null);
+    }
+
+    /**
+     * 사용자 ID로부터 subject 식별자를 만듭니다.
+     * <p>
+     * 서명 키로 계산한 HMAC-SHA256의 앞 96비트를 Base64URL로 인코딩하므로, 키 없이는 이메일을 추측하거나 역산할 수 없습니다.
+     */
+    String subjectIdOf(String userId) {
+        byte[] userIdBytes = userId.getBytes(StandardCharsets.UTF_8);
+        byte[] input = new byte[SUBJECT_DOMAIN.length + userIdBytes.length];
+        System.arraycopy(SUBJECT_DOMAIN, 0, input, 0, SUBJECT_DOMAIN.length);
+        System.arraycopy(userIdBytes, 0, input, SUBJECT_DOMAIN.length, userIdBytes.length);
+
+        byte[] mac = new byte[HmacSha256.LENGTH];
+        keyRing.subjectMac().sign(input, input.length, mac, 0);
+
+        byte[] encoded = new byte[Base64Url.encodedLength(SUBJECT_ID_BYTES)];
+        Base64Url.encode(mac, 0, SUBJECT_ID_BYTES, encoded, 0);
+        return new String(encoded, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * RefreshToken을 생성합니다.
+     * <p>
+     * 서버에 상태가 저장되는 토큰이므로 서명하지 않고, 스레드별 {@code SecureRandom}으로 만든 256비트 난수를 그대로 사용합니다.
+     *
+     * @return refresh token 문자열 (Base64URL 43자)
      * @throws FailCreateRefreshTokenException 생성 실패 시
      */
     public String createRefreshToken() {
         try {
-            return createToken(REFRESH_TOKEN_DURATION, null);
+            return RandomIdGenerator.generate(REFRESH_TOKEN_BYTES);
         } catch (Exception e) {
             throw new FailCreateRefreshTokenException();
         }
     }
 
-    private String createToken(Duration duration, String encryptedUserId) {
-        Date now = new Date();
+    /**
+     * Redis에 저장할 refresh token의 SHA-256 digest를 반환합니다.
+     * <p>
+     * 저장소에는 digest만 남으므로 Redis 덤프가 유출되어도 refresh token으로 쓸 수 없습니다.
+     *
+     * @param refreshToken refresh token
+     * @return SHA-256 digest (Base64URL 43자)
+     */
+    public String digestRefreshToken(String refreshToken) {
+        MessageDigest digest = SHA_256.get();
+        byte[] hash = digest.digest(refreshToken.getBytes(StandardCharsets.US_ASCII));
+        byte[] encoded = new byte[Base64Url.encodedLength(hash.length)];
+        Base64Url.encode(hash, 0, hash.length, encoded, 0);
+        return new String(encoded, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 토큰을 발급합니다.
+     * <p>
+     * 키 링의 서명 키로 서명합니다. kid 없는 legacy 키로 서명하고 빠른 발급기가 활성화되어 있으면
+     * jjwt 빌더와 같은 바이트열을 할당 없이 만들고, 빠른 경로로 처리할 수 없는 클레임이면 jjwt 빌더로 발급합니다.
+     */
+    private String createToken(Duration duration, String tokenId, String subject, String encryptedUserId) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + duration.toMillis();
+        JwtKeyRing.Entry signing = keyRing.signing();
+
+        if (signing.fastIssuer() != null) {
+            String token = signing.fastIssuer().issue(now / 1000, expiresAt / 1000, tokenId, subject, encryptedUserId);
+            if (token != null) {
+                return token;
+            }
+        }
+
         JwtBuilder builder = Jwts.builder()
-                .setIssuedAt(now)
-                .setExpiration(new Date(now.getTime() + duration.toMillis()))
-                .signWith(key, SignatureAlgorithm.HS256);
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(expiresAt));
 
+        if (signing.keyId() != null) {
+            builder.setHeaderParam(HEADER_KEY_ID, signing.keyId());
+        }
+        builder.signWith(signing.signingKey(), signing.algorithm());
+
+        if (tokenId != null) {
+            builder.setId(tokenId);
+        }
+        if (subject != null) {
+            builder.setSubject(subject);
+        }
         if (encryptedUserId != null) {
             builder.claim(CLAIM_USER_ID, encryptedUserId);
         }
@@ -101,6 +390,116 @@ public class JwtProvider {
         return builder.compact();
     }
 
+    /**
+     * 토큰을 한 번만 파싱하여 서명 검증, 클레임 추출, 사용자 ID 복호화를 모두 수행합니다.
+     * <p>
+     * 한 요청 안에서 같은 토큰을 여러 번 다루는 경우 이 메서드의 결과를 재사용해야 합니다.
+     * {@code jwt.cache.enabled=true}이면 검증 결과를 토큰 만료 시각까지 캐시하여 재시도 요청의 파싱과 복호화를 생략합니다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 정보
+     * @throws TokenException 파싱 실패 또는 복호화 실패 시
+     */
+    public VerifiedToken verify(String token) {
+        VerifiedToken cached = getCached(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = verifiedTokenCache != null ? verifiedTokenCache.generation() : 0L;
+        VerifiedToken verified = parseAndDecrypt(token, 0L);
+        if (verifiedTokenCache != null) {
+            verifiedTokenCache.put(verified, generation);
+        }
+        return verified;
+    }
+
+    /**
+     * 만료된 지 {@code maxExpiredMillis}가 지나지 않은 토큰까지 허용하여 검증합니다. (access token 재발급용)
+     * <p>
+     * 서명은 {@link #verify(String)}와 똑같이 확인하고 만료 시각만 유예합니다.
+     * 만료된 토큰의 결과는 검증 캐시에 넣지 않으며, 아직 만료되지 않은 토큰은 {@link #verify(String)}와 같습니다.
+     *
+     * @param token            JWT 토큰
+     * @param maxExpiredMillis 만료 후 허용할 시간 (ms, 0이면 만료된 토큰을 허용하지 않음)
+     * @return 검증된 토큰 정보 ({@link VerifiedToken#getRemainingExpiration()}이 0 이하일 수 있음)
+     * @throws TokenException 파싱 실패, 복호화 실패 또는 허용 시간이 지난 토큰인 경우
+     */
+    public VerifiedToken verifyAllowingExpired(String token, long maxExpiredMillis) {
+        VerifiedToken cached = getCached(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = verifiedTokenCache != null ? verifiedTokenCache.generation() : 0L;
+        VerifiedToken verified = parseAndDecrypt(token, Math.max(0L, maxExpiredMillis));
+        if (verifiedTokenCache != null && verified.getRemainingExpiration() > 0) {
+            verifiedTokenCache.put(verified, generation);
+        }
+        return verified;
+    }
+
+    /**
+     * 검증 캐시에서 토큰을 제거합니다.
+     * <p>
+     * 블랙리스트에 등록된 토큰이 캐시를 통해 다시 검증을 통과하지 않도록 블랙리스트 등록 시 호출됩니다.
+     *
+     * @param token 제거할 토큰
+     */
+    public void evictVerified(String token) {
+        if (verifiedTokenCache != null && token != null) {
+            verifiedTokenCache.evict(token);
+        }
+    }
+
+    /**
+     * 검증 캐시의 적중/실패 통계를 반환합니다.
+     *
+     * @return 캐시 통계, 캐시가 비활성화되어 있으면 null
+     */
+    public CacheStats getVerifiedTokenCacheStats() {
+        return verifiedTokenCache != null ? verifiedTokenCache.stats() : null;
+    }
+
+    private VerifiedToken getCached(String token) {
+        if (verifiedTokenCache == null || token == null) {
+            return null;
+        }
+        return verifiedTokenCache.get(token);
+    }
+
+    private VerifiedToken parseAndDecrypt(String token, long maxExpiredMillis) {
+        ParsedClaims claims = parse(token, maxExpiredMillis);
+
+        String userId = null;
+        Supplier<String> userIdResolver = null;
+        if (claims.userIdClaim() != null) {
+            userId = decryptUserId(claims.userIdClaim());
+        } else if (claims.subject() != null) {
+            String subject = claims.subject();
+            userIdResolver = () -> resolveSubject(subject);
+        }
+
+        return new VerifiedToken(token, claims.subject(), claims.tokenId(),
+                claims.issuedAt(), claims.expiresAt(), userId, userIdResolver);
+    }
+
+    private String resolveSubject(String subject) {
+        String encryptedUserId = subjectService.findEncryptedUserId(subject);
+        if (encryptedUserId == null) {
+            throw new TokenException("subject에 해당하는 사용자 정보가 존재하지 않습니다.");
+        }
+        return decryptUserId(encryptedUserId);
+    }
+
+    private String decryptUserId(String encryptedUserId) {
+        try {
+            return userIdCipher.decrypt(encryptedUserId);
+        } catch (Exception e) {
+            throw new TokenException("토큰에서 사용자 ID 복호화 중 예외 발생", e);
+        }
+    }
+
     /**
      * 토큰에서 사용자 ID를 추출하고 복호화합니다.
      *
@@ -109,12 +508,11 @@ public class JwtProvider {
      * @throws TokenException 복호화 실패 또는 파싱 실패 시
      */
     public String getUserIdFromToken(String token) {
-        try {
-            Claims claims = parser.parseClaimsJws(token).getBody();
-            return aesUtil.decrypt(claims.get(CLAIM_USER_ID, String.class));
-        } catch (Exception e) {
-            throw new TokenException("토큰에서 사용자 ID 복호화 중 예외 발생", e);
+        String userId = verify(token).getUserId();
+        if (userId == null) {
+            throw new TokenException("토큰에 사용자 ID가 존재하지 않습니다.");
         }
+        return userId;
     }
 
     /**
@@ -125,7 +523,11 @@ public class JwtProvider {
      * @throws TokenException 파싱 실패 시
      */
     public Long getExpiredAtFromToken(String token) {
-        return extractClaims(token).getExpiration().getTime();
+        VerifiedToken cached = getCached(token);
+        if (cached != null) {
+            return cached.getExpiresAt();
+        }
+        return parse(token).expiresAt();
     }
 
     /**
@@ -138,6 +540,17 @@ public class JwtProvider {
         return getExpiredAtFromToken(token) - System.currentTimeMillis();
     }
 
+    /**
+     * access token의 유효 기간을 반환합니다.
+     * <p>
+     * 방금 발급한 토큰의 TTL을 알기 위해 토큰을 다시 파싱할 필요가 없습니다.
+     *
+     * @return access token TTL (밀리초)
+     */
+    public Long getAccessTokenValidity() {
+        return ACCESS_TOKEN_DURATION.toMillis();
+    }
+
     /**
      * refresh token의 유효 기간을 반환합니다.
      *
@@ -148,27 +561,113 @@ public class JwtProvider {
     }
 
     /**
-     * RefreshToken의 서명을 검증합니다.
-     * <p>만료 여부는 검사하지 않고 서명 유효성만 확인합니다.
+     * RefreshToken 또는 저장된 digest의 형식을 검증합니다.
+     * <p>
+     * 난수 토큰과 digest는 Base64URL 43자인지만 확인하므로 서명 계산이 없습니다.
+     * 전환 전에 발급되어 Redis에 남아 있는 서명된 JWT refresh token은 만료 여부 없이 서명만 확인합니다.
      *
-     * @param token refresh token
+     * @param token refresh token 또는 Redis에 저장된 값
      * @return 유효하면 true, 실패 시 false
      */
     public boolean validateRefreshToken(String token) {
+        if (token == null) {
+            return false;
+        }
+        if (token.indexOf('.') < 0) {
+            return isOpaqueRefreshToken(token);
+        }
         try {
-            parser.parseClaimsJws(token);
+            parse(token);
             return true;
-        } catch (Exception e) {
-            log.warn("[JwtProvider] RefreshToken 유효성 검증 실패: {}", e.getMessage());
+        } catch (TokenException e) {
+            log.warn("[JwtProvider] RefreshToken 유효성 검증 실패: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
             return false;
         }
     }
 
-    private Claims extractClaims(String token) {
+    /**
+     * 토큰의 서명을 검증하고 클레임을 추출합니다.
+     * <p>
+     * 헤더의 kid로 키 링에서 검증 키를 한 번에 찾고, 그 키의 파서로만 검증합니다.
+     * 빠른 검증기가 통과시킨 토큰은 그대로 사용하고, 그 밖의 모든 토큰(다른 형태, 서명 불일치, 만료 등)은
+     * jjwt 파서가 다시 검증하여 통과 여부와 예외를 결정합니다.
+     */
+    private ParsedClaims parse(String token) {
+        return parse(token, 0L);
+    }
+
+    /**
+     * 만료 후 {@code maxExpiredMillis}까지 허용하여 서명을 검증하고 클레임을 추출합니다.
+     * <p>
+     * jjwt는 서명을 확인한 뒤에 만료를 검사하므로 {@link ExpiredJwtException}의 클레임은 서명이 확인된 값입니다.
+     */
+    private ParsedClaims parse(String token, long maxExpiredMillis) {
+        JwtKeyRing.Entry entry = keyRing.verification(token);
+        if (entry == null) {
+            throw new TokenException("토큰의 서명 키(kid)를 찾을 수 없습니다.");
+        }
+
+        long now = System.currentTimeMillis();
+        if (entry.fastVerifier() != null) {
+            ParsedClaims claims = entry.fastVerifier().verify(token, now - maxExpiredMillis);
+            if (claims != null) {
+                return claims;
+            }
+        }
+
         try {
-            return parser.parseClaimsJws(token).getBody();
+            return toParsedClaims(entry.parser().parseClaimsJws(token).getBody());
+        } catch (ExpiredJwtException e) {
+            ParsedClaims claims = toParsedClaims(e.getClaims());
+            if (maxExpiredMillis > 0 && claims.expiresAt() + maxExpiredMillis > now) {
+                return claims;
+            }
+            throw new TokenException("토큰 파싱 중 예외 발생", e);
         } catch (Exception e) {
             throw new TokenException("토큰 파싱 중 예외 발생", e);
         }
     }
+
+    private static ParsedClaims toParsedClaims(Claims claims) {
+        return new ParsedClaims(
+                claims.getSubject(),
+                claims.getId(),
+                claims.get(CLAIM_USER_ID, String.class),
+                toEpochMillis(claims.getIssuedAt()),
+                toEpochMillis(claims.getExpiration())
+        );
+    }
+
+    private static long toEpochMillis(Date date) {
+        return date != null ? date.getTime() : 0L;
+    }
+
+    private static boolean isOpaqueRefreshToken(String token) {
+        if (token.length() != REFRESH_TOKEN_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            boolean base64Url = (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+            if (!base64Url) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 키 링을 만드는 데 필요한 {@code jwt.secret}, {@code jwt.signing.*} 설정 묶음입니다.
+     */
+    private record KeySettings(String secret, String algorithm, String keyId, String privateKey, String publicKey,
+                               String activeKid, boolean hs256Fallback) {
+    }
 }
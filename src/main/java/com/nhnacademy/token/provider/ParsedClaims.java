@@ -0,0 +1,15 @@
+package com.nhnacademy.token.provider;
+
+/**
+ * 서명 검증이 끝난 토큰에서 이 서비스가 사용하는 클레임만 뽑아 둔 값입니다.
+ * <p>
+ * jjwt 파서와 {@link Hs256TokenVerifier} 어느 쪽으로 검증했든 같은 형태로 다루기 위해 사용합니다.
+ *
+ * @param subject     sub 클레임 (없으면 null)
+ * @param tokenId     jti 클레임 (없으면 null)
+ * @param userIdClaim 암호화된 user_id 클레임 (없으면 null)
+ * @param issuedAt    발급 시각 (epoch ms, 없으면 0)
+ * @param expiresAt   만료 시각 (epoch ms, 없으면 0)
+ */
+record ParsedClaims(String subject, String tokenId, String userIdClaim, long issuedAt, long expiresAt) {
+}
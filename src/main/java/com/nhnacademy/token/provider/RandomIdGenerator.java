@@ -0,0 +1,30 @@
+package com.nhnacademy.token.provider;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * jti 등 토큰 식별자로 쓰는 난수 문자열을 생성합니다.
+ * <p>
+ * {@link SecureRandom}을 스레드마다 하나씩 두어 발급 경로에서 공유 인스턴스의 락 경합이 생기지 않게 합니다.
+ */
+final class RandomIdGenerator {
+
+    private static final ThreadLocal<SecureRandom> RANDOMS = ThreadLocal.withInitial(SecureRandom::new);
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private RandomIdGenerator() {
+    }
+
+    /**
+     * 지정한 길이의 난수를 Base64URL(패딩 없음) 문자열로 반환합니다.
+     *
+     * @param byteLength 난수 바이트 수
+     * @return Base64URL 문자열
+     */
+    static String generate(int byteLength) {
+        byte[] bytes = new byte[byteLength];
+        RANDOMS.get().nextBytes(bytes);
+        return ENCODER.encodeToString(bytes);
+    }
+}
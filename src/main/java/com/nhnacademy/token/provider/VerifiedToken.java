@@ -0,0 +1,119 @@
+package com.nhnacademy.token.provider;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.function.Supplier;
+
+/**
+ * 서명 검증과 파싱이 끝난 JWT를 나타내는 불변 값 객체입니다.
+ * <p>
+ * {@link JwtProvider#verify(String)}가 한 번의 파싱으로 생성하며,
+ * 같은 요청 안에서 토큰을 다시 파싱하지 않도록 서비스 계층에 그대로 전달됩니다.
+ * <p>
+ * compact 프로필 토큰은 user_id 대신 짧은 subject 식별자만 가지므로,
+ * 사용자 ID는 {@link #getUserId()}가 처음 호출될 때 한 번만 조회됩니다.
+ */
+@Getter
+public final class VerifiedToken {
+
+    /**
+     * 원본 토큰 문자열
+     */
+    private final String rawToken;
+
+    /**
+     * sub 클레임 (없으면 null)
+     */
+    private final String subject;
+
+    /**
+     * jti 클레임 (없으면 null)
+     */
+    private final String tokenId;
+
+    /**
+     * 발급 시각 (epoch ms)
+     */
+    private final long issuedAt;
+
+    /**
+     * 만료 시각 (epoch ms)
+     */
+    private final long expiresAt;
+
+    @Getter(AccessLevel.NONE)
+    private final Supplier<String> userIdResolver;
+
+    @Getter(AccessLevel.NONE)
+    private volatile String userId;
+
+    /**
+     * 사용자 ID가 이미 확인된 토큰을 생성합니다.
+     *
+     * @param rawToken  원본 토큰
+     * @param subject   sub 클레임
+     * @param userId    복호화된 사용자 ID (없으면 null)
+     * @param issuedAt  발급 시각 (epoch ms)
+     * @param expiresAt 만료 시각 (epoch ms)
+     */
+    public VerifiedToken(String rawToken, String subject, String userId, long issuedAt, long expiresAt) {
+        this(rawToken, subject, null, issuedAt, expiresAt, userId, null);
+    }
+
+    /**
+     * 사용자 ID를 필요할 때 조회하는 토큰을 생성합니다.
+     *
+     * @param rawToken       원본 토큰
+     * @param subject        sub 클레임
+     * @param tokenId        jti 클레임
+     * @param issuedAt       발급 시각 (epoch ms)
+     * @param expiresAt      만료 시각 (epoch ms)
+     * @param userId         이미 확인된 사용자 ID (없으면 null)
+     * @param userIdResolver userId가 null일 때 사용자 ID를 조회하는 함수 (없으면 null)
+     */
+    public VerifiedToken(String rawToken, String subject, String tokenId, long issuedAt, long expiresAt,
+                         String userId, Supplier<String> userIdResolver) {
+        this.rawToken = rawToken;
+        this.subject = subject;
+        this.tokenId = tokenId;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+        this.userId = userId;
+        this.userIdResolver = userIdResolver;
+    }
+
+    /**
+     * 사용자 ID를 반환합니다.
+     * <p>
+     * compact 프로필 토큰은 처음 호출될 때 subject로 사용자 ID를 조회하고 결과를 보관합니다.
+     *
+     * @return 사용자 ID (refresh token 등 사용자 정보가 없으면 null)
+     */
+    public String getUserId() {
+        String resolved = userId;
+        if (resolved == null && userIdResolver != null) {
+            resolved = userIdResolver.get();
+            userId = resolved;
+        }
+        return resolved;
+    }
+
+    /**
+     * 사용자 ID를 조회하지 않고, 토큰에 사용자 클레임(user_id 또는 sub)이 있는지 확인합니다.
+     *
+     * @return access token이면 true, 사용자 정보가 없는 토큰(이전 JWT refresh token 등)이면 false
+     */
+    public boolean hasUserClaim() {
+        return userId != null || userIdResolver != null;
+    }
+
+    /**
+     * 토큰 만료까지 남은 시간을 반환합니다.
+     *
+     * @return 남은 시간 (밀리초)
+     */
+    public long getRemainingExpiration() {
+        return expiresAt - System.currentTimeMillis();
+    }
+}
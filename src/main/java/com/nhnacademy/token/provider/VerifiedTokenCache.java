@@ -0,0 +1,89 @@
+package com.nhnacademy.token.provider;
+
+import com.nhnacademy.common.cache.CacheStats;
+import com.nhnacademy.common.cache.ExpiringLruCache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검증이 끝난 토큰을 토큰 자체의 만료 시각까지 보관하는 캐시입니다.
+ * <p>
+ * 키는 토큰 원문의 SHA-256 앞 128비트이며, 적중 시 원문을 한 번 더 비교하므로 해시 충돌로 다른 토큰이 반환되지 않습니다.
+ * 이 캐시는 서명 검증과 복호화 비용만 줄여 줄 뿐, 폐기(블랙리스트) 여부는 판단하지 않습니다.
+ * <p>
+ * 제거({@link #evict(String)}, {@link #clear()})할 때마다 세대 번호를 올립니다.
+ * 캐시를 놓친 요청이 파싱하는 동안 같은 토큰이 제거되면, 파싱 전에 읽은 세대와 달라지므로 그 결과는 캐시에 남지 않습니다.
+ */
+class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private final ExpiringLruCache<TokenKey, VerifiedToken> cache;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    VerifiedTokenCache(int maxSize) {
+        this.cache = new ExpiringLruCache<>(maxSize);
+    }
+
+    VerifiedToken get(String token) {
+        VerifiedToken cached = cache.get(keyOf(token), System.currentTimeMillis());
+        if (cached != null && cached.getRawToken().equals(token)) {
+            return cached;
+        }
+        return null;
+    }
+
+    /**
+     * 현재 세대 번호를 반환합니다. 캐시를 놓친 뒤 토큰을 파싱하기 전에 읽어 {@link #put(VerifiedToken, long)}에 넘깁니다.
+     */
+    long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 검증 결과를 넣습니다. {@code observedGeneration} 이후 제거가 있었다면 넣은 항목을 바로 무효화합니다.
+     * <p>
+     * 제거는 세대를 먼저 올린 뒤 항목을 지우고, 삽입은 항목을 넣은 뒤 세대를 확인하므로 어느 순서로 겹쳐도 제거된 토큰이 남지 않습니다.
+     */
+    void put(VerifiedToken verifiedToken, long observedGeneration) {
+        TokenKey key = keyOf(verifiedToken.getRawToken());
+        cache.put(key, verifiedToken, verifiedToken.getExpiresAt());
+        if (generation.get() != observedGeneration) {
+            cache.invalidate(key);
+        }
+    }
+
+    void evict(String token) {
+        generation.incrementAndGet();
+        cache.invalidate(keyOf(token));
+    }
+
+    void clear() {
+        generation.incrementAndGet();
+        cache.clear();
+    }
+
+    CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static TokenKey keyOf(String token) {
+        MessageDigest digest = SHA_256.get();
+        ByteBuffer hash = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        return new TokenKey(hash.getLong(), hash.getLong());
+    }
+
+    private record TokenKey(long high, long low) {
+    }
+}
@@ -0,0 +1,95 @@
+-- access token 재발급을 한 번의 서버 측 실행으로 처리합니다.
+-- refresh token DB에서 실행되며, 블랙리스트 DB는 SELECT로 전환하여 사용합니다. (두 DB가 같으면 전환하지 않음)
+--
+-- KEYS[1]  sessions:{userId}              (refresh token DB, field: 세션 ID, value: {만료 시각}:{digest})
+-- KEYS[2]  기존 access token의 블랙리스트 key (블랙리스트 DB)
+-- KEYS[3]  revokedBefore:{userId}         (블랙리스트 DB)
+-- KEYS[4]  reissued:{기존 access token}    (refresh token DB, 유예 시간 동안 새 세션 ID 보관)
+-- KEYS[5]  refreshToken:{userId}          (refresh token DB, 전환 전 단일 세션 key)
+-- ARGV[1]  refresh token DB 인덱스
+-- ARGV[2]  블랙리스트 DB 인덱스 (ARGV[1]과 같으면 SELECT 생략)
+-- ARGV[3]  기존 access token 발급 시각 (epoch ms)
+-- ARGV[4]  블랙리스트 값 (재발급으로 교체된 토큰 표시)
+-- ARGV[5]  블랙리스트 TTL (ms, 0이면 이미 만료된 토큰이므로 등록하지 않음)
+-- ARGV[6]  기존 세션 ID (기존 access token jti)
+-- ARGV[7]  새 세션 ID (새 access token jti)
+-- ARGV[8]  refresh token TTL (ms)
+-- ARGV[9]  유예 시간 (ms, 0이면 보관하지 않음)
+-- ARGV[10] 현재 시각 (epoch ms)
+-- ARGV[11] 연장 기준 (ms, 세션의 남은 기간이 이보다 짧을 때만 연장, 0이면 연장하지 않음)
+-- ARGV[12] 연장할 때의 새 만료 시각 (epoch ms)
+--
+-- 반환: { 1, 연장 여부 }     재발급 성공 (만료되지 않은 기존 access token 블랙리스트 등록, 세션 ID 교체 완료)
+--       { 2, 세션 ID }      유예 시간 안의 동시 재발급, 먼저 예약된 새 세션 ID (호출자가 이 jti로 access token 서명)
+--       { 0 }               세션 없음 또는 만료
+--       { -1 }              세션은 없고 전환 전 단일 세션 key만 있음 (호출자가 기존 경로로 처리)
+--       { -2 }              기존 access token이 이미 폐기됨 (로그아웃, 전체 로그아웃)
+--       { -3 }              유예 시간이 지난 뒤 재발급으로 교체된 access token을 다시 사용함
+
+local shared = ARGV[1] == ARGV[2]
+local function use(db)
+    if not shared then
+        redis.call('SELECT', db)
+    end
+end
+
+use(ARGV[2])
+local revokedBefore = tonumber(redis.call('GET', KEYS[3]) or '0') or 0
+if tonumber(ARGV[3]) < revokedBefore then
+    use(ARGV[1])
+    return { -2 }
+end
+local reason = redis.call('GET', KEYS[2])
+use(ARGV[1])
+if reason then
+    if reason ~= ARGV[4] then
+        return { -2 }
+    end
+    local reissued = redis.call('GET', KEYS[4])
+    if reissued then
+        return { 2, reissued }
+    end
+    return { -3 }
+end
+
+local session = redis.call('HGET', KEYS[1], ARGV[6])
+if not session then
+    -- 만료된 토큰은 블랙리스트 표시가 없으므로 보관된 세션 ID로 동시 재발급을 판단합니다.
+    local reissued = redis.call('GET', KEYS[4])
+    if reissued then
+        return { 2, reissued }
+    end
+    if redis.call('EXISTS', KEYS[5]) == 1 then
+        return { -1 }
+    end
+    return { 0 }
+end
+local separator = string.find(session, ':', 1, true)
+local expiresAt = separator and tonumber(string.sub(session, 1, separator - 1)) or 0
+if expiresAt <= tonumber(ARGV[10]) then
+    redis.call('HDEL', KEYS[1], ARGV[6])
+    return { 0 }
+end
+
+if tonumber(ARGV[5]) > 0 then
+    use(ARGV[2])
+    redis.call('SET', KEYS[2], ARGV[4], 'PX', ARGV[5])
+    use(ARGV[1])
+end
+
+local extended = 0
+local newSession = session
+if expiresAt - tonumber(ARGV[10]) < tonumber(ARGV[11]) then
+    extended = 1
+    newSession = ARGV[12] .. string.sub(session, separator)
+end
+-- 새 field를 먼저 저장해야 유일한 세션을 지울 때 key가 삭제되었다가 TTL 없이 다시 만들어지지 않습니다.
+redis.call('HSET', KEYS[1], ARGV[7], newSession)
+redis.call('HDEL', KEYS[1], ARGV[6])
+if extended == 1 then
+    redis.call('PEXPIRE', KEYS[1], ARGV[8])
+end
+if tonumber(ARGV[9]) > 0 then
+    redis.call('SET', KEYS[4], ARGV[7], 'PX', ARGV[9])
+end
+return { 1, extended }
@@ -0,0 +1,21 @@
+-- Hash field 하나를 새 field로 교체합니다. (refresh 세션 ID 교체)
+-- 기존 field가 있을 때만 교체하므로, 동시에 교체되었거나 삭제된 세션은 다시 만들지 않습니다.
+--
+-- KEYS[1]  Hash key
+-- ARGV[1]  지울 field
+-- ARGV[2]  저장할 field
+-- ARGV[3]  값
+-- ARGV[4]  key 유지 시간 (ms, 0이면 TTL을 바꾸지 않음)
+--
+-- 반환: 1 교체함, 0 지울 field가 없음 (아무것도 쓰지 않음)
+
+if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 0 then
+    return 0
+end
+-- 새 field를 먼저 저장해야 유일한 field를 지울 때 key가 삭제되었다가 TTL 없이 다시 만들어지지 않습니다.
+redis.call('HSET', KEYS[1], ARGV[2], ARGV[3])
+redis.call('HDEL', KEYS[1], ARGV[1])
+if tonumber(ARGV[4]) > 0 then
+    redis.call('PEXPIRE', KEYS[1], ARGV[4])
+end
+return 1
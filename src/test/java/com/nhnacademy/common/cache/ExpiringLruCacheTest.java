@@ -0,0 +1,61 @@
+package com.nhnacademy.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpiringLruCacheTest {
+
+    @Test
+    @DisplayName("만료 시각이 지난 항목은 조회되지 않아야 한다")
+    void shouldNotReturnExpiredEntry() {
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10);
+
+        cache.put("key", "value", 1_000L);
+
+        assertEquals("value", cache.get("key", 999L));
+        assertNull(cache.get("key", 1_000L));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목이 제거되어야 한다")
+    void shouldEvictLeastRecentlyUsedEntry() {
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(2);
+
+        cache.put("a", "1", Long.MAX_VALUE);
+        cache.put("b", "2", Long.MAX_VALUE);
+        cache.get("a", 0L);
+        cache.put("c", "3", Long.MAX_VALUE);
+
+        assertEquals("1", cache.get("a", 0L));
+        assertNull(cache.get("b", 0L));
+        assertEquals("3", cache.get("c", 0L));
+        assertEquals(1, cache.stats().getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("적중/실패 횟수와 적중률을 집계해야 한다")
+    void shouldCountHitsAndMisses() {
+        ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10);
+        cache.put("key", "value", Long.MAX_VALUE);
+
+        cache.get("key", 0L);
+        cache.get("key", 0L);
+        cache.get("missing", 0L);
+        cache.invalidate("key");
+        cache.get("key", 0L);
+
+        CacheStats stats = cache.stats();
+        assertEquals(2, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(0.5, stats.getHitRate());
+    }
+
+    @Test
+    @DisplayName("최대 크기가 1 미만이면 예외가 발생해야 한다")
+    void shouldRejectInvalidMaxSize() {
+        assertThrows(IllegalArgumentException.class, () -> new ExpiringLruCache<String, String>(0));
+    }
+}
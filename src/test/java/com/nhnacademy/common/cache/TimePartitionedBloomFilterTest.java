@@ -0,0 +1,77 @@
+package com.nhnacademy.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimePartitionedBloomFilterTest {
+
+    private static final long SLICE = 60_000L;
+    private static final long SKEW = 1_000L;
+    private static final long NOW = 1_750_000_000_000L;
+
+    @Test
+    @DisplayName("기록한 항목은 항상 있다고 답해야 한다")
+    void shouldHaveNoFalseNegatives() {
+        TimePartitionedBloomFilter filter = new TimePartitionedBloomFilter(SLICE, SKEW, 10_000, 0.001);
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("blacklist:token-" + i, NOW + i * 100L);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("blacklist:token-" + i, NOW + i * 100L));
+        }
+    }
+
+    @Test
+    @DisplayName("기록하지 않은 항목의 오탐률은 목표 수준이어야 한다")
+    void shouldKeepFalsePositiveRateNearTarget() {
+        TimePartitionedBloomFilter filter = new TimePartitionedBloomFilter(SLICE, 0, 10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("revoked-" + i, NOW);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("active-" + i, NOW)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "오탐 수: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("기록한 만료 시각과 조회한 만료 시각이 허용 오차 안에서 달라도 찾아야 한다")
+    void shouldTolerateExpirySkew() {
+        TimePartitionedBloomFilter filter = new TimePartitionedBloomFilter(SLICE, SKEW, 1_000, 0.001);
+        long boundary = (NOW / SLICE + 1) * SLICE;
+
+        filter.put("before-boundary", boundary - 500);
+        filter.put("after-boundary", boundary + 500);
+
+        assertTrue(filter.mightContain("before-boundary", boundary + 200));
+        assertTrue(filter.mightContain("after-boundary", boundary - 200));
+    }
+
+    @Test
+    @DisplayName("구간이 끝나면 그 구간의 필터를 버려야 한다")
+    void shouldDropFinishedPartitions() {
+        TimePartitionedBloomFilter filter = new TimePartitionedBloomFilter(SLICE, 0, 1_000, 0.001);
+        filter.put("old", NOW);
+        filter.put("new", NOW + 10 * SLICE);
+
+        assertEquals(2, filter.partitionCount());
+        assertEquals(1, filter.expire(NOW + 2 * SLICE));
+        assertFalse(filter.mightContain("old", NOW));
+        assertTrue(filter.mightContain("new", NOW + 10 * SLICE));
+    }
+
+    @Test
+    @DisplayName("잘못된 설정은 IllegalArgumentException이 발생해야 한다")
+    void shouldRejectInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new TimePartitionedBloomFilter(0, 0, 1, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> new TimePartitionedBloomFilter(1, 0, 1, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new TimePartitionedBloomFilter(1, 0, 0, 0.1));
+    }
+}
@@ -1,15 +1,30 @@
 package com.nhnacademy.common.config;
 
+import com.nhnacademy.common.exception.InvalidRedisConfigException;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.resource.ClientResources;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.connection.RedisPassword;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @SpringBootTest
 @ActiveProfiles("dev")
@@ -17,9 +32,12 @@ class RedisConfigTest {
     @Autowired
     private RedisConfig redisConfig;
 
+    @Autowired
+    private ClientResources clientResources;
+
     @Test
     void testRefreshTokenRedisConnectionFactory() {
-        LettuceConnectionFactory factory = redisConfig.refreshTokenRedisConnectionFactory();
+        LettuceConnectionFactory factory = redisConfig.refreshTokenRedisConnectionFactory(redisConfig.redisLayout(), clientResources);
 
         assertThat(factory).isNotNull();
         assertThat(factory.getStandaloneConfiguration()).satisfies(config -> {
@@ -32,7 +50,7 @@ class RedisConfigTest {
 
     @Test
     void testAccessTokenBlacklistRedisConnectionFactory() {
-        LettuceConnectionFactory factory = redisConfig.accessTokenBlacklistRedisConnectionFactory();
+        LettuceConnectionFactory factory = redisConfig.accessTokenBlacklistRedisConnectionFactory(redisConfig.redisLayout(), clientResources);
 
         assertThat(factory).isNotNull();
         assertThat(factory.getStandaloneConfiguration()).satisfies(config -> {
@@ -43,9 +61,18 @@ class RedisConfigTest {
         });
     }
 
+    @Test
+    void testSharedLayoutBlacklistRedisTemplate() {
+        LettuceConnectionFactory shared = redisConfig.refreshTokenRedisConnectionFactory(new RedisLayout(true, 0, 0), clientResources);
+        RedisTemplate<String, Object> template = redisConfig.accessTokenBlacklistRedisTemplate(providerOf(null), shared);
+
+        assertThat(template.getConnectionFactory()).isEqualTo(shared);
+        assertThat(shared.getStandaloneConfiguration().getDatabase()).isZero();
+    }
+
     @Test
     void testRefreshTokenRedisTemplate() {
-        LettuceConnectionFactory factory = redisConfig.refreshTokenRedisConnectionFactory();
+        LettuceConnectionFactory factory = redisConfig.refreshTokenRedisConnectionFactory(redisConfig.redisLayout(), clientResources);
         RedisTemplate<String, Object> template = redisConfig.refreshTokenRedisTemplate(factory);
 
         assertThat(template).isNotNull();
@@ -56,12 +83,161 @@ class RedisConfigTest {
 
     @Test
     void testAccessTokenBlacklistRedisTemplate() {
-        LettuceConnectionFactory factory = redisConfig.accessTokenBlacklistRedisConnectionFactory();
-        RedisTemplate<String, Object> template = redisConfig.accessTokenBlacklistRedisTemplate(factory);
+        LettuceConnectionFactory factory = redisConfig.accessTokenBlacklistRedisConnectionFactory(redisConfig.redisLayout(), clientResources);
+        RedisTemplate<String, Object> template = redisConfig.accessTokenBlacklistRedisTemplate(providerOf(factory), null);
 
         assertThat(template).isNotNull();
         assertThat(template.getConnectionFactory()).isEqualTo(factory);
         assertThat(template.getKeySerializer()).isInstanceOf(StringRedisSerializer.class);
         assertThat(template.getValueSerializer()).isInstanceOf(StringRedisSerializer.class);
     }
+
+    @Test
+    void testSentinelTopology() {
+        RedisConfig sentinel = configOf("sentinel");
+        ReflectionTestUtils.setField(sentinel, "sentinelMaster", "mymaster");
+        ReflectionTestUtils.setField(sentinel, "sentinelNodes", List.of("127.0.0.1:26379", " 127.0.0.1:26380", ""));
+
+        LettuceConnectionFactory factory = sentinel.refreshTokenRedisConnectionFactory(sentinel.redisLayout(), clientResources);
+
+        assertThat(factory.getSentinelConfiguration()).satisfies(config -> {
+            assertThat(config.getMaster().getName()).isEqualTo("mymaster");
+            assertThat(config.getSentinels()).hasSize(2);
+            assertThat(config.getDatabase()).isEqualTo(270);
+        });
+        assertThat(factory.getClientConfiguration().getReadFrom()).isEmpty();
+    }
+
+    @Test
+    void testClusterTopology() {
+        RedisConfig cluster = configOf("cluster");
+        ReflectionTestUtils.setField(cluster, "layout", "shared");
+        ReflectionTestUtils.setField(cluster, "hashTags", true);
+        ReflectionTestUtils.setField(cluster, "clusterNodes", List.of("127.0.0.1:7000", "127.0.0.1:7001", "127.0.0.1:7002"));
+
+        LettuceConnectionFactory factory = cluster.refreshTokenRedisConnectionFactory(cluster.redisLayout(), clientResources);
+
+        assertThat(factory.isClusterAware()).isTrue();
+        assertThat(factory.getClusterConfiguration().getClusterNodes()).hasSize(3);
+        assertThat(factory.getClusterConfiguration().getMaxRedirects()).isEqualTo(3);
+        assertThat(factory.getClientConfiguration().getReadFrom()).isEmpty();
+    }
+
+    @Test
+    void testClusterTopologyRequiresSharedLayoutAndHashTags() {
+        RedisConfig databases = configOf("cluster");
+        ReflectionTestUtils.setField(databases, "hashTags", true);
+        assertThatThrownBy(databases::redisLayout).isInstanceOf(InvalidRedisConfigException.class);
+
+        RedisConfig noHashTags = configOf("cluster");
+        ReflectionTestUtils.setField(noHashTags, "layout", "shared");
+        assertThatThrownBy(noHashTags::redisLayout).isInstanceOf(InvalidRedisConfigException.class);
+
+        RedisConfig noNodes = configOf("cluster");
+        ReflectionTestUtils.setField(noNodes, "layout", "shared");
+        ReflectionTestUtils.setField(noNodes, "hashTags", true);
+        assertThatThrownBy(() -> noNodes.refreshTokenRedisConnectionFactory(noNodes.redisLayout(), clientResources))
+                .isInstanceOf(InvalidRedisConfigException.class);
+
+        assertThatThrownBy(() -> RedisTopology.from("replicated")).isInstanceOf(InvalidRedisConfigException.class);
+    }
+
+    @Test
+    void testClientOptions() {
+        LettuceConnectionFactory factory = configOf("standalone").refreshTokenRedisConnectionFactory(
+                new RedisLayout(false, 270, 271), clientResources);
+
+        assertThat(factory.getShareNativeConnection()).isTrue();
+        assertThat(factory.getClientConfiguration()).satisfies(config -> {
+            assertThat(config).isNotInstanceOf(LettucePoolingClientConfiguration.class);
+            assertThat(config.getCommandTimeout()).isEqualTo(Duration.ofMillis(2000));
+            assertThat(config.getClientResources()).contains(clientResources);
+            assertThat(config.getClientOptions()).get().satisfies(options -> {
+                assertThat(options.getRequestQueueSize()).isEqualTo(10000);
+                assertThat(options.isAutoReconnect()).isTrue();
+                assertThat(options.getDisconnectedBehavior()).isEqualTo(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS);
+                assertThat(options.getSocketOptions().getConnectTimeout()).isEqualTo(Duration.ofMillis(1000));
+                assertThat(options.getTimeoutOptions().isTimeoutCommands()).isTrue();
+            });
+        });
+    }
+
+    @Test
+    void testPooledConnectionMode() {
+        RedisConfig pooled = configOf("standalone");
+        ReflectionTestUtils.setField(pooled, "connectionMode", "pooled");
+        ReflectionTestUtils.setField(pooled, "poolMaxActive", 8);
+        ReflectionTestUtils.setField(pooled, "poolMaxIdle", 32);
+
+        LettuceConnectionFactory factory = pooled.refreshTokenRedisConnectionFactory(pooled.redisLayout(), clientResources);
+
+        assertThat(factory.getShareNativeConnection()).isFalse();
+        assertThat(factory.getClientConfiguration()).isInstanceOfSatisfying(LettucePoolingClientConfiguration.class, config -> {
+            assertThat(config.getPoolConfig().getMaxTotal()).isEqualTo(8);
+            assertThat(config.getPoolConfig().getMaxIdle()).isEqualTo(8);
+            assertThat(config.getPoolConfig().getMaxWaitDuration()).isEqualTo(Duration.ofMillis(500));
+        });
+    }
+
+    @Test
+    void testClusterClientOptions() {
+        RedisConfig cluster = configOf("cluster");
+        ReflectionTestUtils.setField(cluster, "layout", "shared");
+        ReflectionTestUtils.setField(cluster, "hashTags", true);
+        ReflectionTestUtils.setField(cluster, "clusterNodes", List.of("127.0.0.1:7000"));
+        ReflectionTestUtils.setField(cluster, "disconnectedBehavior", "accept-commands");
+
+        LettuceConnectionFactory factory = cluster.refreshTokenRedisConnectionFactory(cluster.redisLayout(), clientResources);
+
+        assertThat(factory.getClientConfiguration().getClientOptions()).get()
+                .isInstanceOf(ClusterClientOptions.class)
+                .extracting(ClientOptions::getDisconnectedBehavior)
+                .isEqualTo(ClientOptions.DisconnectedBehavior.ACCEPT_COMMANDS);
+    }
+
+    @Test
+    void testInvalidClientSettings() {
+        RedisConfig mode = configOf("standalone");
+        ReflectionTestUtils.setField(mode, "connectionMode", "sentinel-pool");
+        assertThatThrownBy(() -> mode.refreshTokenRedisConnectionFactory(mode.redisLayout(), clientResources))
+                .isInstanceOf(InvalidRedisConfigException.class);
+
+        RedisConfig behavior = configOf("standalone");
+        ReflectionTestUtils.setField(behavior, "disconnectedBehavior", "drop");
+        assertThatThrownBy(() -> behavior.refreshTokenRedisConnectionFactory(behavior.redisLayout(), clientResources))
+                .isInstanceOf(InvalidRedisConfigException.class);
+
+        RedisConfig queue = configOf("standalone");
+        ReflectionTestUtils.setField(queue, "requestQueueSize", 0);
+        assertThatThrownBy(() -> queue.refreshTokenRedisConnectionFactory(queue.redisLayout(), clientResources))
+                .isInstanceOf(InvalidRedisConfigException.class);
+    }
+
+    private static RedisConfig configOf(String topology) {
+        RedisConfig config = new RedisConfig();
+        ReflectionTestUtils.setField(config, "topology", topology);
+        ReflectionTestUtils.setField(config, "layout", "databases");
+        ReflectionTestUtils.setField(config, "password", "");
+        ReflectionTestUtils.setField(config, "clusterMaxRedirects", 3);
+        ReflectionTestUtils.setField(config, "commandTimeoutMillis", 2000L);
+        ReflectionTestUtils.setField(config, "connectTimeoutMillis", 1000L);
+        ReflectionTestUtils.setField(config, "requestQueueSize", 10000);
+        ReflectionTestUtils.setField(config, "autoReconnect", true);
+        ReflectionTestUtils.setField(config, "disconnectedBehavior", "reject-commands");
+        ReflectionTestUtils.setField(config, "connectionMode", "shared");
+        ReflectionTestUtils.setField(config, "poolMaxActive", 16);
+        ReflectionTestUtils.setField(config, "poolMaxIdle", 16);
+        ReflectionTestUtils.setField(config, "poolMinIdle", 0);
+        ReflectionTestUtils.setField(config, "poolMaxWaitMillis", 500L);
+        return config;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<LettuceConnectionFactory> providerOf(LettuceConnectionFactory factory) {
+        ObjectProvider<LettuceConnectionFactory> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable(any())).thenAnswer(invocation -> factory != null
+                ? factory
+                : ((Supplier<LettuceConnectionFactory>) invocation.getArgument(0)).get());
+        return provider;
+    }
 }
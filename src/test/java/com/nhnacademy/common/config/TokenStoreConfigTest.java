@@ -0,0 +1,99 @@
+package com.nhnacademy.common.config;
+
+import com.nhnacademy.common.exception.InvalidRedisConfigException;
+import com.nhnacademy.common.store.InMemoryTokenStore;
+import com.nhnacademy.common.store.RedisTokenStore;
+import com.nhnacademy.common.store.TokenStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TokenStoreConfigTest {
+
+    private final TokenStoreConfig config = new TokenStoreConfig();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(config, "type", "redis");
+        ReflectionTestUtils.setField(config, "segments", 4);
+        ReflectionTestUtils.setField(config, "tickMillis", 100L);
+        ReflectionTestUtils.setField(config, "layout", "databases");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRedisStoreByDefault() {
+        TokenStore store = config.refreshTokenStore(providerOf(mock(RedisTemplate.class)));
+
+        assertThat(store).isInstanceOf(RedisTokenStore.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMemoryStore() {
+        ReflectionTestUtils.setField(config, "type", "MEMORY");
+        ObjectProvider<RedisTemplate<String, Object>> template = mock(ObjectProvider.class);
+
+        TokenStore store = config.blacklistTokenStore(template);
+        try {
+            assertThat(store).isInstanceOf(InMemoryTokenStore.class);
+            verifyNoInteractions(template);
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    void testMemoryStoreStartsWithoutRedis() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(RedisConfig.class, TokenStoreConfig.class)
+                .withPropertyValues("token.store.type=memory")
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(context).doesNotHaveBean(RedisConfig.class);
+                    assertThat(context).doesNotHaveBean(RedisConnectionFactory.class);
+                    assertThat(context.getBean("refreshTokenStore")).isInstanceOf(InMemoryTokenStore.class);
+                    assertThat(context.getBean("blacklistTokenStore")).isInstanceOf(InMemoryTokenStore.class);
+                });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMemoryStoreRejectsRedisOnlySettings() {
+        ReflectionTestUtils.setField(config, "type", "memory");
+        ReflectionTestUtils.setField(config, "layout", "shared");
+        ReflectionTestUtils.setField(config, "nearCache", true);
+
+        assertThatThrownBy(() -> config.refreshTokenStore(providerOf(mock(RedisTemplate.class))))
+                .isInstanceOf(InvalidRedisConfigException.class)
+                .hasMessageContaining("redis.layout=shared")
+                .hasMessageContaining("redis.near-cache.enabled");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testUnknownType() {
+        ReflectionTestUtils.setField(config, "type", "etcd");
+
+        assertThatThrownBy(() -> config.refreshTokenStore(providerOf(mock(RedisTemplate.class))))
+                .isInstanceOf(InvalidRedisConfigException.class)
+                .hasMessageContaining("etcd");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<RedisTemplate<String, Object>> providerOf(RedisTemplate<String, Object> template) {
+        ObjectProvider<RedisTemplate<String, Object>> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(template);
+        return provider;
+    }
+}
@@ -0,0 +1,97 @@
+package com.nhnacademy.common.config;
+
+import com.common.AESUtil;
+import com.nhnacademy.common.exception.AesCryptoException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserIdCipherTest {
+
+    private static final String SECRET = "test-aes-secret-key";
+
+    private final AesGcmUserIdCipher gcm = new AesGcmUserIdCipher(SECRET);
+
+    @Test
+    @DisplayName("AES-GCM으로 암호화한 사용자 ID를 복호화할 수 있어야 한다")
+    void shouldRoundTrip_withGcm() {
+        String userId = "zzw123@naver.com";
+
+        String cipherText = gcm.encrypt(userId);
+
+        assertTrue(cipherText.startsWith(AesGcmUserIdCipher.PREFIX));
+        assertEquals(userId, gcm.decrypt(cipherText));
+        assertEquals(userId, new AesGcmUserIdCipher(SECRET).decrypt(cipherText));
+    }
+
+    @Test
+    @DisplayName("AES-GCM은 같은 사용자 ID라도 매번 다른 암호문을 만들어야 한다")
+    void shouldUseFreshIv_forEveryEncryption() {
+        assertNotEquals(gcm.encrypt("user@nhnacademy.com"), gcm.encrypt("user@nhnacademy.com"));
+    }
+
+    @Test
+    @DisplayName("변조되었거나 다른 키로 만든 암호문은 AesCryptoException이 발생해야 한다")
+    void shouldRejectTamperedCipherText() {
+        String cipherText = gcm.encrypt("user@nhnacademy.com");
+        char last = cipherText.charAt(cipherText.length() - 1);
+        String tampered = cipherText.substring(0, cipherText.length() - 1) + (last == 'A' ? 'B' : 'A');
+
+        assertThrows(AesCryptoException.class, () -> gcm.decrypt(tampered));
+        assertThrows(AesCryptoException.class, () -> new AesGcmUserIdCipher("other-secret").decrypt(cipherText));
+        assertThrows(AesCryptoException.class, () -> gcm.decrypt("not-gcm"));
+        assertThrows(AesCryptoException.class, () -> gcm.decrypt(AesGcmUserIdCipher.PREFIX + "AAAA"));
+    }
+
+    @Test
+    @DisplayName("compat 모드는 AES-GCM으로 암호화하고 기존 AESUtil 암호문도 복호화해야 한다")
+    void shouldDecryptBothFormats_inCompatMode() {
+        AESUtil aesUtil = mock(AESUtil.class);
+        when(aesUtil.decrypt("legacy-cipher-text")).thenReturn("legacy@nhnacademy.com");
+        UserIdCipher compat = new CompatUserIdCipher(gcm, new AesUtilUserIdCipher(aesUtil));
+
+        String cipherText = compat.encrypt("new@nhnacademy.com");
+
+        assertTrue(cipherText.startsWith(AesGcmUserIdCipher.PREFIX));
+        assertEquals("new@nhnacademy.com", compat.decrypt(cipherText));
+        assertEquals("legacy@nhnacademy.com", compat.decrypt("legacy-cipher-text"));
+        verify(aesUtil, never()).encrypt(anyString());
+    }
+
+    @Test
+    @DisplayName("결정적 암호화는 양방향 모두 메모이제이션되어야 한다")
+    void shouldMemoizeBothDirections_whenDeterministic() {
+        AESUtil aesUtil = mock(AESUtil.class);
+        when(aesUtil.encrypt(anyString())).thenAnswer(invocation -> "enc:" + invocation.getArgument(0));
+        when(aesUtil.decrypt(anyString())).thenAnswer(invocation -> ((String) invocation.getArgument(0)).substring(4));
+        MemoizingUserIdCipher memo = new MemoizingUserIdCipher(new AesUtilUserIdCipher(aesUtil), 100);
+
+        String cipherText = memo.encrypt("user@nhnacademy.com");
+        memo.encrypt("user@nhnacademy.com");
+        memo.decrypt(cipherText);
+        memo.decrypt("enc:other@nhnacademy.com");
+        memo.decrypt("enc:other@nhnacademy.com");
+
+        verify(aesUtil, times(1)).encrypt("user@nhnacademy.com");
+        verify(aesUtil, never()).decrypt(cipherText);
+        verify(aesUtil, times(1)).decrypt("enc:other@nhnacademy.com");
+        assertEquals(1, memo.getEncryptStats().getHitCount());
+        assertEquals(2, memo.getDecryptStats().getHitCount());
+    }
+
+    @Test
+    @DisplayName("비결정적 암호화는 복호화 방향만 메모이제이션되어야 한다")
+    void shouldMemoizeOnlyDecryption_whenNotDeterministic() {
+        MemoizingUserIdCipher memo = new MemoizingUserIdCipher(gcm, 100);
+
+        String first = memo.encrypt("user@nhnacademy.com");
+        String second = memo.encrypt("user@nhnacademy.com");
+
+        assertNotEquals(first, second);
+        assertNull(memo.getEncryptStats());
+        assertEquals("user@nhnacademy.com", memo.decrypt(first));
+        assertEquals(1, memo.getDecryptStats().getHitCount());
+    }
+}
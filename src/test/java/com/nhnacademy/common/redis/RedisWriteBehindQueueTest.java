@@ -0,0 +1,210 @@
+package com.nhnacademy.common.redis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RedisWriteBehindQueueTest {
+    @Mock
+    RedisTemplate<String, Object> template;
+
+    @Mock
+    RedisConnection connection;
+
+    @Mock
+    RedisStringCommands stringCommands;
+
+    @Mock
+    RedisHashCommands hashCommands;
+
+    @Mock
+    RedisKeyCommands keyCommands;
+
+    RedisWriteBehindQueue queue;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(template.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            ((RedisCallback<Object>) invocation.getArgument(0)).doInRedis(connection);
+            return List.of();
+        });
+        when(template.execute(any(RedisCallback.class)))
+                .thenAnswer(invocation -> ((RedisCallback<Object>) invocation.getArgument(0)).doInRedis(connection));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (queue != null) {
+            queue.close();
+        }
+    }
+
+    @Test
+    @DisplayName("WAIT 모드는 배치가 반영된 뒤 반환하고, TTL은 PX로 기록한다")
+    void waitModeTest() {
+        queue = new RedisWriteBehindQueue("test", template, 100, 10, 0, 50, 2000, WriteBehindDurability.WAIT);
+        queue.start();
+
+        queue.set(bytes("key"), bytes("value"), 60_000L);
+
+        verify(stringCommands, times(1)).set(
+                aryEq(bytes("key")),
+                aryEq(bytes("value")),
+                argThat((Expiration expiration) -> expiration.getExpirationTimeInMilliseconds() > 0
+                        && expiration.getExpirationTimeInMilliseconds() <= 60_000L),
+                eq(RedisStringCommands.SetOption.upsert()));
+        assertEquals(1, queue.stats().getFlushedCount());
+        verify(template, never()).execute(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("ASYNC 모드는 바로 반환하고, linger 시간 안에 들어온 쓰기를 한 번의 파이프라인으로 보낸다")
+    void asyncBatchTest() throws InterruptedException {
+        queue = new RedisWriteBehindQueue("test", template, 100, 10, 500, 50, 2000, WriteBehindDurability.ASYNC);
+        queue.start();
+
+        for (int i = 0; i < 5; i++) {
+            queue.set(bytes("key" + i), bytes("value"), 60_000L);
+        }
+        queue.close();
+
+        verify(template, times(1)).executePipelined(any(RedisCallback.class));
+        verify(stringCommands, times(5)).set(any(byte[].class), any(byte[].class), any(Expiration.class), any());
+        WriteBehindStats stats = queue.stats();
+        assertEquals(5, stats.getEnqueuedCount());
+        assertEquals(1, stats.getFlushCount());
+        assertEquals(5.0, stats.getAverageBatchSize());
+        assertEquals(0, stats.getQueueDepth());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출 스레드에서 바로 쓴다")
+    @SuppressWarnings("unchecked")
+    void backpressureTest() throws InterruptedException {
+        CountDownLatch flushing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(template.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            flushing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            ((RedisCallback<Object>) invocation.getArgument(0)).doInRedis(connection);
+            return List.of();
+        });
+        queue = new RedisWriteBehindQueue("test", template, 1, 10, 0, 0, 2000, WriteBehindDurability.ASYNC);
+        queue.start();
+
+        queue.set(bytes("first"), bytes("value"), 60_000L);
+        assertTrue(flushing.await(5, TimeUnit.SECONDS));
+        queue.set(bytes("queued"), bytes("value"), 60_000L);
+        queue.set(bytes("direct"), bytes("value"), 60_000L);
+
+        assertEquals(1, queue.stats().getDirectWriteCount());
+        assertEquals(1, queue.stats().getQueueDepth());
+        verify(template, times(1)).execute(any(RedisCallback.class));
+
+        release.countDown();
+        queue.close();
+        assertEquals(2, queue.stats().getFlushedCount());
+    }
+
+    @Test
+    @DisplayName("WAIT 모드에서 배치가 실패하면 호출자에게 예외를 전달한다")
+    void waitModeFailureTest() {
+        when(template.executePipelined(any(RedisCallback.class))).thenThrow(new RedisConnectionFailureException("down"));
+        queue = new RedisWriteBehindQueue("test", template, 100, 10, 0, 50, 2000, WriteBehindDurability.WAIT);
+        queue.start();
+
+        assertThrows(RedisConnectionFailureException.class, () -> queue.set(bytes("key"), bytes("value"), 60_000L));
+        assertEquals(1, queue.stats().getFailedCount());
+    }
+
+    @Test
+    @DisplayName("시작 전에는 큐를 거치지 않고 바로 쓴다")
+    void notStartedTest() {
+        queue = new RedisWriteBehindQueue("test", template, 100, 10, 0, 50, 2000, WriteBehindDurability.WAIT);
+
+        queue.set(bytes("key"), bytes("value"), 60_000L);
+
+        verify(template, times(1)).execute(any(RedisCallback.class));
+        verify(template, never()).executePipelined(any(RedisCallback.class));
+        assertEquals(1, queue.stats().getDirectWriteCount());
+    }
+
+    @Test
+    @DisplayName("ASYNC 모드의 future는 배치가 반영된 뒤 완료되고, 종료 후의 쓰기는 바로 쓴다")
+    void asyncFutureAndCloseTest() throws Exception {
+        queue = new RedisWriteBehindQueue("test", template, 100, 10, 200, 50, 2000, WriteBehindDurability.ASYNC);
+        queue.start();
+
+        CompletableFuture<Void> written = queue.set(bytes("key"), bytes("value"), 60_000L);
+        written.get(5, TimeUnit.SECONDS);
+        verify(template, times(1)).executePipelined(any(RedisCallback.class));
+
+        queue.close();
+        assertTrue(queue.set(bytes("late"), bytes("value"), 60_000L).isDone());
+        assertEquals(1, queue.stats().getDirectWriteCount());
+        assertEquals(0, queue.stats().getQueueDepth());
+    }
+
+    @Test
+    @DisplayName("Hash 쓰기는 HSET, PEXPIRE, HLEN을 같은 배치로 보내고 반영 후의 필드 수를 돌려준다")
+    @SuppressWarnings("unchecked")
+    void putFieldTest() throws Exception {
+        when(connection.hashCommands()).thenReturn(hashCommands);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        when(template.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            ((RedisCallback<Object>) invocation.getArgument(0)).doInRedis(connection);
+            return List.of(true, true, true, 3L);
+        });
+        queue = new RedisWriteBehindQueue("test", template, 100, 10, 200, 50, 2000, WriteBehindDurability.ASYNC);
+        queue.start();
+
+        CompletableFuture<Void> set = queue.set(bytes("key"), bytes("value"), 60_000L);
+        CompletableFuture<Long> count = queue.putField(bytes("sessions"), bytes("field"), bytes("value"), 60_000L);
+
+        assertEquals(3L, count.get(5, TimeUnit.SECONDS));
+        set.get(5, TimeUnit.SECONDS);
+        verify(template, times(1)).executePipelined(any(RedisCallback.class));
+        verify(hashCommands, times(1)).hSet(aryEq(bytes("sessions")), aryEq(bytes("field")), aryEq(bytes("value")));
+        verify(keyCommands, times(1)).pExpire(aryEq(bytes("sessions")), longThat(ttl -> ttl > 0 && ttl <= 60_000L));
+        verify(hashCommands, times(1)).hLen(aryEq(bytes("sessions")));
+    }
+
+    @Test
+    @DisplayName("durability 설정 값은 대소문자를 구분하지 않는다")
+    void durabilityTest() {
+        assertEquals(WriteBehindDurability.WAIT, WriteBehindDurability.from("wait"));
+        assertEquals(WriteBehindDurability.ASYNC, WriteBehindDurability.from("ASYNC"));
+        assertThrows(IllegalStateException.class, () -> WriteBehindDurability.from("sync"));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,169 @@
+package com.nhnacademy.common.redis;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TrackingNearCacheTest {
+    @Mock
+    RedisClient client;
+
+    @Mock
+    StatefulRedisConnection<byte[], byte[]> connection;
+
+    @Mock
+    RedisCommands<byte[], byte[]> commands;
+
+    @Mock
+    RedisAsyncCommands<byte[], byte[]> asyncCommands;
+
+    TrackingNearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        when(client.connect(ByteArrayCodec.INSTANCE)).thenReturn(connection);
+        when(connection.sync()).thenReturn(commands);
+        when(connection.async()).thenReturn(asyncCommands);
+        nearCache = new TrackingNearCache("test", client, 0, 100, 60_000L);
+        nearCache.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nearCache.close();
+    }
+
+    @Test
+    @DisplayName("시작하면 전용 연결에 CLIENT TRACKING을 켜고, 같은 key의 두 번째 조회는 Redis로 보내지 않는다")
+    void hitTest() {
+        when(commands.get(aryEq(bytes("key")))).thenReturn(bytes("value"));
+
+        assertArrayEquals(bytes("value"), nearCache.get(bytes("key")));
+        assertArrayEquals(bytes("value"), nearCache.get(bytes("key")));
+        assertNull(nearCache.get(bytes("missing")));
+        assertNull(nearCache.get(bytes("missing")));
+
+        verify(commands, times(1)).clientTracking(any(TrackingArgs.class));
+        verify(commands, times(1)).get(aryEq(bytes("key")));
+        verify(commands, times(1)).get(aryEq(bytes("missing")));
+        assertEquals(2, nearCache.stats().getHitCount());
+        assertEquals(0.5, nearCache.stats().getHitRate());
+    }
+
+    @Test
+    @DisplayName("서버가 무효화를 보내면 해당 key만 다시 Redis에서 읽는다")
+    void invalidateTest() {
+        when(commands.get(aryEq(bytes("key")))).thenReturn(bytes("old"), bytes("new"));
+        when(commands.get(aryEq(bytes("other")))).thenReturn(bytes("other"));
+        nearCache.get(bytes("key"));
+        nearCache.get(bytes("other"));
+
+        nearCache.onPushMessage(invalidate(List.of(bytes("key"))));
+
+        assertArrayEquals(bytes("new"), nearCache.get(bytes("key")));
+        assertArrayEquals(bytes("other"), nearCache.get(bytes("other")));
+        verify(commands, times(2)).get(aryEq(bytes("key")));
+        verify(commands, times(1)).get(aryEq(bytes("other")));
+        assertEquals(1, nearCache.invalidationCount());
+    }
+
+    @Test
+    @DisplayName("조회 중에 같은 key의 무효화가 도착하면 읽은 값을 보관하지 않는다")
+    void invalidateWhileReadingTest() {
+        when(commands.get(aryEq(bytes("key")))).thenAnswer(invocation -> {
+            nearCache.onPushMessage(invalidate(List.of(bytes("key"))));
+            return bytes("old");
+        }).thenReturn(bytes("new"));
+
+        assertArrayEquals(bytes("old"), nearCache.get(bytes("key")));
+        assertArrayEquals(bytes("new"), nearCache.get(bytes("key")));
+        verify(commands, times(2)).get(aryEq(bytes("key")));
+    }
+
+    @Test
+    @DisplayName("전체 무효화(FLUSHALL 등)를 받으면 모든 항목을 비운다")
+    void flushTest() {
+        when(commands.get(aryEq(bytes("key")))).thenReturn(bytes("value"));
+        nearCache.get(bytes("key"));
+
+        nearCache.onPushMessage(invalidate(null));
+        nearCache.get(bytes("key"));
+
+        verify(commands, times(2)).get(aryEq(bytes("key")));
+        assertEquals(0, nearCache.stats().getHitCount());
+    }
+
+    @Test
+    @DisplayName("연결이 끊기면 캐시를 비우고, 다시 연결되어 추적이 켜질 때까지 Redis에서 바로 읽는다")
+    @SuppressWarnings("unchecked")
+    void reconnectTest() {
+        RedisFuture<String> future = mock(RedisFuture.class);
+        when(asyncCommands.clientTracking(any(TrackingArgs.class))).thenReturn(future);
+        when(future.whenComplete(any())).thenAnswer(invocation -> {
+            ((BiConsumer<String, Throwable>) invocation.getArgument(0)).accept("OK", null);
+            return future;
+        });
+        when(commands.get(aryEq(bytes("key")))).thenReturn(bytes("value"));
+        nearCache.get(bytes("key"));
+
+        nearCache.onDisconnected();
+        nearCache.get(bytes("key"));
+        nearCache.get(bytes("key"));
+
+        assertEquals(2, nearCache.bypassedCount());
+        verify(commands, times(3)).get(aryEq(bytes("key")));
+
+        nearCache.onReconnected();
+        nearCache.get(bytes("key"));
+        nearCache.get(bytes("key"));
+
+        verify(commands, times(4)).get(aryEq(bytes("key")));
+        assertEquals(1, nearCache.stats().getHitCount());
+    }
+
+    @Test
+    @DisplayName("이 인스턴스가 쓴 key는 서버 무효화를 기다리지 않고 로컬에서 바로 제거한다")
+    void localInvalidateTest() {
+        when(commands.get(aryEq(bytes("key")))).thenReturn(null, bytes("value"));
+        assertNull(nearCache.get(bytes("key")));
+
+        nearCache.invalidate(bytes("key"));
+
+        assertArrayEquals(bytes("value"), nearCache.get(bytes("key")));
+    }
+
+    private static PushMessage invalidate(List<byte[]> keys) {
+        PushMessage message = mock(PushMessage.class);
+        when(message.getType()).thenReturn("invalidate");
+        when(message.getContent(any())).thenReturn(Arrays.asList("invalidate", keys));
+        return message;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
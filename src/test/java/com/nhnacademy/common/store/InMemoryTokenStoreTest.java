@@ -0,0 +1,184 @@
+package com.nhnacademy.common.store;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryTokenStoreTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final InMemoryTokenStore store = new InMemoryTokenStore("test", 3, 10L, clock::get);
+
+    @Test
+    @DisplayName("저장한 값은 TTL이 지나면 휠이 제거하기 전에도 조회되지 않는다")
+    void putAndGetTest() {
+        store.put(utf8("key"), utf8("value"), 100L);
+
+        assertArrayEquals(utf8("value"), store.get(utf8("key")));
+        assertTrue(store.exists(utf8("key")));
+
+        clock.set(100L);
+        assertNull(store.get(utf8("key")));
+        assertFalse(store.exists(utf8("key")));
+    }
+
+    @Test
+    @DisplayName("타이밍 휠은 만료된 key만 제거하고, 덮어쓴 key는 새 TTL로 다시 예약한다")
+    void expireTest() {
+        store.put(utf8("short"), utf8("v"), 100L);
+        store.put(utf8("renewed"), utf8("v"), 100L);
+        clock.set(50L);
+        store.put(utf8("renewed"), utf8("v2"), 100L);
+
+        clock.set(110L);
+        assertEquals(1, store.expire());
+        assertEquals(1, store.size());
+        assertArrayEquals(utf8("v2"), store.get(utf8("renewed")));
+
+        clock.set(160L);
+        assertEquals(1, store.expire());
+        assertEquals(0, store.size());
+        assertEquals(2L, store.expiredCount());
+    }
+
+    @Test
+    @DisplayName("지운 key의 타이머는 취소되어 만료로 세지 않는다")
+    void deleteTest() {
+        store.put(utf8("a"), utf8("v"), 100L);
+        store.put(utf8("b"), utf8("v"), 100L);
+
+        assertEquals(2L, store.delete(List.of(utf8("a"), utf8("b"), utf8("missing"))));
+
+        clock.set(200L);
+        assertEquals(0, store.expire());
+        assertEquals(0L, store.expiredCount());
+    }
+
+    @Test
+    @DisplayName("여러 key 조회는 요청 순서대로 값을 돌려주고 없는 key는 null로 채운다")
+    void getAllTest() {
+        store.put(utf8("a"), utf8("1"), 100L);
+        store.put(utf8("c"), utf8("3"), 100L);
+
+        List<byte[]> values = store.getAll(List.of(utf8("a"), utf8("b"), utf8("c")));
+
+        assertArrayEquals(utf8("1"), values.get(0));
+        assertNull(values.get(1));
+        assertArrayEquals(utf8("3"), values.get(2));
+    }
+
+    @Test
+    @DisplayName("세션 저장은 field 수를 돌려주고, 교체와 삭제 후 Hash가 비면 key를 지운다")
+    void fieldsTest() {
+        assertEquals(1L, store.putField(utf8("sessions:u"), utf8("s1"), utf8("v1"), 1000L));
+        assertEquals(2L, store.putField(utf8("sessions:u"), utf8("s2"), utf8("v2"), 1000L));
+
+        assertTrue(store.replaceField(utf8("sessions:u"), utf8("s1"), utf8("s3"), utf8("v3"), 0L));
+
+        assertNull(store.getField(utf8("sessions:u"), utf8("s1")));
+        assertArrayEquals(utf8("v3"), store.getField(utf8("sessions:u"), utf8("s3")));
+        Map<byte[], byte[]> fields = store.getFields(utf8("sessions:u"));
+        assertEquals(2, fields.size());
+        assertTrue(fields.keySet().stream().anyMatch(field -> Arrays.equals(field, utf8("s2"))));
+
+        assertEquals(2L, store.deleteFields(utf8("sessions:u"), List.of(utf8("s2"), utf8("s3"), utf8("missing"))));
+        assertEquals(0, store.size());
+        assertEquals(Map.of(), store.getFields(utf8("sessions:u")));
+    }
+
+    @Test
+    @DisplayName("key가 없거나 만료되었을 때만 선점 저장에 성공한다")
+    void putIfAbsentTest() {
+        assertTrue(store.putIfAbsent(utf8("reissued:t"), utf8("first"), 100L));
+        assertFalse(store.putIfAbsent(utf8("reissued:t"), utf8("second"), 100L));
+        assertArrayEquals(utf8("first"), store.get(utf8("reissued:t")));
+
+        clock.set(100L);
+
+        assertTrue(store.putIfAbsent(utf8("reissued:t"), utf8("second"), 100L));
+        assertArrayEquals(utf8("second"), store.get(utf8("reissued:t")));
+    }
+
+    @Test
+    @DisplayName("지울 field나 key가 없으면 교체하지 않고, Hash를 새로 만들지 않는다")
+    void replaceMissingFieldTest() {
+        store.putField(utf8("sessions:u"), utf8("s1"), utf8("v1"), 1000L);
+
+        assertTrue(store.replaceField(utf8("sessions:u"), utf8("s1"), utf8("s2"), utf8("v2"), 0L));
+        assertFalse(store.replaceField(utf8("sessions:u"), utf8("s1"), utf8("s3"), utf8("v3"), 0L));
+        assertFalse(store.replaceField(utf8("missing"), utf8("s1"), utf8("s2"), utf8("v2"), 0L));
+
+        assertNull(store.getField(utf8("sessions:u"), utf8("s3")));
+        assertArrayEquals(utf8("v2"), store.getField(utf8("sessions:u"), utf8("s2")));
+        assertFalse(store.exists(utf8("missing")));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    @DisplayName("TTL 없이 교체한 세션은 기존 key TTL을 유지하고, TTL을 주면 연장한다")
+    void replaceFieldTtlTest() {
+        store.putField(utf8("kept"), utf8("s1"), utf8("v"), 100L);
+        store.putField(utf8("extended"), utf8("s1"), utf8("v"), 100L);
+        clock.set(50L);
+        store.replaceField(utf8("kept"), utf8("s1"), utf8("s2"), utf8("v"), 0L);
+        store.replaceField(utf8("extended"), utf8("s1"), utf8("s2"), utf8("v"), 100L);
+
+        clock.set(110L);
+        store.expire();
+
+        assertNull(store.getField(utf8("kept"), utf8("s2")));
+        assertArrayEquals(utf8("v"), store.getField(utf8("extended"), utf8("s2")));
+    }
+
+    @Test
+    @DisplayName("배치 쓰기는 같은 저장소에 바로 반영한다")
+    void writeBatchTest() {
+        store.putField(utf8("sessions:u"), utf8("s1"), utf8("v"), 1000L);
+        store.put(utf8("refreshToken:u"), utf8("legacy"), 1000L);
+
+        store.writeBatch(batch -> {
+            batch.deleteFields(utf8("sessions:u"), List.of(utf8("s1")));
+            batch.delete(List.of(utf8("refreshToken:u")));
+        });
+
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    @DisplayName("만료 처리 스레드는 시작 후 주기적으로 만료된 key를 제거하고 종료할 수 있다")
+    void startAndCloseTest() throws InterruptedException {
+        InMemoryTokenStore running = new InMemoryTokenStore("running", 4, 5L);
+        running.start();
+        try {
+            running.put(utf8("key"), utf8("v"), 10L);
+
+            long deadline = System.currentTimeMillis() + 2000L;
+            while (running.expiredCount() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5L);
+            }
+
+            assertEquals(1L, running.expiredCount());
+            assertEquals(0, running.size());
+        } finally {
+            running.close();
+        }
+    }
+
+    @Test
+    @DisplayName("세그먼트 수가 범위를 벗어나면 생성할 수 없다")
+    void invalidSegmentsTest() {
+        assertThrows(IllegalArgumentException.class, () -> new InMemoryTokenStore("invalid", 0, 10L));
+        assertThrows(IllegalArgumentException.class, () -> new InMemoryTokenStore("invalid", (1 << 16) + 1, 10L));
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
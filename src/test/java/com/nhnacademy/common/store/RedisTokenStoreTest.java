@@ -0,0 +1,182 @@
+package com.nhnacademy.common.store;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RedisTokenStoreTest {
+    @Mock
+    RedisTemplate<String, Object> template;
+
+    @Mock
+    RedisConnection connection;
+
+    @Mock
+    RedisStringCommands stringCommands;
+
+    @Mock
+    RedisKeyCommands keyCommands;
+
+    @Mock
+    RedisHashCommands hashCommands;
+
+    @Mock
+    RedisScriptingCommands scriptingCommands;
+
+    RedisTokenStore store;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        when(connection.keyCommands()).thenReturn(keyCommands);
+        when(connection.hashCommands()).thenReturn(hashCommands);
+        when(connection.scriptingCommands()).thenReturn(scriptingCommands);
+        when(template.execute(any(RedisCallback.class)))
+                .thenAnswer(invocation -> ((RedisCallback<Object>) invocation.getArgument(0)).doInRedis(connection));
+        store = new RedisTokenStore(template);
+    }
+
+    @Test
+    @DisplayName("값 저장은 SET key value PX ttl 한 번으로 보낸다")
+    void putTest() {
+        store.put(utf8("key"), utf8("value"), 60_000L);
+
+        verify(stringCommands, times(1)).set(
+                aryEq(utf8("key")),
+                aryEq(utf8("value")),
+                argThat((Expiration expiration) -> expiration.getExpirationTimeInMilliseconds() == 60_000L),
+                eq(RedisStringCommands.SetOption.upsert())
+        );
+    }
+
+    @Test
+    @DisplayName("선점 저장은 SET key value PX ttl NX 한 번으로 보내고 저장 여부를 돌려준다")
+    void putIfAbsentTest() {
+        when(stringCommands.set(any(), any(), any(Expiration.class), eq(RedisStringCommands.SetOption.ifAbsent())))
+                .thenReturn(true, false);
+
+        assertTrue(store.putIfAbsent(utf8("reissued:t"), utf8("first"), 10_000L));
+        assertFalse(store.putIfAbsent(utf8("reissued:t"), utf8("second"), 10_000L));
+
+        verify(stringCommands, times(1)).set(
+                aryEq(utf8("reissued:t")),
+                aryEq(utf8("first")),
+                argThat((Expiration expiration) -> expiration.getExpirationTimeInMilliseconds() == 10_000L),
+                eq(RedisStringCommands.SetOption.ifAbsent())
+        );
+    }
+
+    @Test
+    @DisplayName("여러 key 조회는 MGET 한 번으로 보내고, 결과가 없으면 모두 null로 채운다")
+    void getAllTest() {
+        when(stringCommands.mGet(any(byte[][].class))).thenReturn(Arrays.asList(null, utf8("v")), (List<byte[]>) null);
+
+        List<byte[]> values = store.getAll(List.of(utf8("a"), utf8("b")));
+        assertNull(values.get(0));
+        assertArrayEquals(utf8("v"), values.get(1));
+        verify(stringCommands, times(1)).mGet(aryEq(utf8("a")), aryEq(utf8("b")));
+
+        assertEquals(Arrays.asList(null, null), store.getAll(List.of(utf8("a"), utf8("b"))));
+        assertEquals(List.of(), store.getAll(List.of()));
+        verify(stringCommands, times(2)).mGet(any(byte[][].class));
+    }
+
+    @Test
+    @DisplayName("세션 저장은 HSET, PEXPIRE, HLEN을 한 번의 파이프라인으로 보내고 HLEN 결과를 돌려준다")
+    void putFieldTest() {
+        when(template.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+            return List.of(true, true, 3L);
+        });
+
+        assertEquals(3L, store.putField(utf8("sessions:u"), utf8("s1"), utf8("value"), 60_000L));
+
+        verify(hashCommands, times(1)).hSet(aryEq(utf8("sessions:u")), aryEq(utf8("s1")), aryEq(utf8("value")));
+        verify(keyCommands, times(1)).pExpire(aryEq(utf8("sessions:u")), eq(60_000L));
+        verify(hashCommands, times(1)).hLen(aryEq(utf8("sessions:u")));
+        verify(template, never()).execute(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("세션 교체는 EVALSHA 한 번으로 보내고, 스크립트 결과로 교체 여부를 돌려준다")
+    void replaceFieldTest() {
+        when(scriptingCommands.evalSha(anyString(), eq(ReturnType.INTEGER), eq(1), any(byte[][].class)))
+                .thenReturn(1L, 0L);
+
+        assertTrue(store.replaceField(utf8("sessions:u"), utf8("old"), utf8("new"), utf8("value"), 60_000L));
+        assertFalse(store.replaceField(utf8("sessions:u"), utf8("old"), utf8("new"), utf8("value"), 0L));
+
+        verify(scriptingCommands, times(1)).evalSha(anyString(), eq(ReturnType.INTEGER), eq(1),
+                aryEq(utf8("sessions:u")), aryEq(utf8("old")), aryEq(utf8("new")), aryEq(utf8("value")), aryEq(utf8("60000")));
+        verify(hashCommands, never()).hDel(any(), any(byte[][].class));
+        verify(hashCommands, never()).hSet(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("세션 교체는 서버에 스크립트가 없으면 EVAL로 다시 실행한다")
+    void replaceFieldNoScriptTest() {
+        when(scriptingCommands.evalSha(anyString(), eq(ReturnType.INTEGER), eq(1), any(byte[][].class)))
+                .thenThrow(new RedisSystemException("NOSCRIPT No matching script", null));
+        when(scriptingCommands.eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1), any(byte[][].class)))
+                .thenReturn(1L);
+
+        assertTrue(store.replaceField(utf8("sessions:u"), utf8("old"), utf8("new"), utf8("value"), 0L));
+        verify(scriptingCommands, times(1)).eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1), any(byte[][].class));
+    }
+
+    @Test
+    @DisplayName("배치 쓰기는 새 파이프라인을 열어 한 번에 보낸다")
+    void writeBatchTest() {
+        store.writeBatch(batch -> {
+            batch.deleteFields(utf8("sessions:u"), List.of(utf8("s1")));
+            batch.delete(List.of(utf8("refreshToken:u")));
+        });
+
+        verify(connection, times(1)).openPipeline();
+        verify(hashCommands, times(1)).hDel(aryEq(utf8("sessions:u")), aryEq(utf8("s1")));
+        verify(keyCommands, times(1)).del(aryEq(utf8("refreshToken:u")));
+        verify(connection, times(1)).closePipeline();
+        verify(template, times(1)).execute(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("배치 쓰기는 이미 열린 파이프라인이 있으면 그 안에 명령을 더한다")
+    void writeBatchInOpenPipelineTest() {
+        when(connection.isPipelined()).thenReturn(true);
+
+        store.writeBatch(batch -> batch.deleteFields(utf8("sessions:u"), List.of(utf8("s1"))));
+
+        verify(hashCommands, times(1)).hDel(aryEq(utf8("sessions:u")), aryEq(utf8("s1")));
+        verify(connection, never()).openPipeline();
+        verify(connection, never()).closePipeline();
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
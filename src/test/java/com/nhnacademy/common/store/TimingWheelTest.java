@@ -0,0 +1,103 @@
+package com.nhnacademy.common.store;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("타이머는 만료 시각이 지난 첫 tick에 한 번만 만료된다")
+    void advanceTest() {
+        TimingWheel<String> wheel = new TimingWheel<>(10L, 0L);
+        List<String> expired = new ArrayList<>();
+        wheel.schedule("a", 25L);
+        wheel.schedule("b", 100L);
+
+        assertEquals(0, wheel.advance(20L, timer -> expired.add(timer.key())));
+        assertEquals(1, wheel.advance(30L, timer -> expired.add(timer.key())));
+        assertEquals(List.of("a"), expired);
+        assertEquals(1, wheel.size());
+
+        wheel.advance(100L, timer -> expired.add(timer.key()));
+        wheel.advance(200L, timer -> expired.add(timer.key()));
+        assertEquals(List.of("a", "b"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("취소한 타이머는 만료되지 않는다")
+    void cancelTest() {
+        TimingWheel<String> wheel = new TimingWheel<>(10L, 0L);
+        List<String> expired = new ArrayList<>();
+        TimingWheel.Timer<String> cancelled = wheel.schedule("cancelled", 50L);
+        wheel.schedule("kept", 50L);
+
+        wheel.cancel(cancelled);
+        wheel.cancel(cancelled);
+
+        assertEquals(1, wheel.advance(60L, timer -> expired.add(timer.key())));
+        assertEquals(List.of("kept"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("위 단계에 넣은 먼 타이머도 아래 단계로 내려와 제때 만료된다")
+    void cascadeTest() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1L, 0L);
+        List<Long> deadlines = List.of(5L, 64L, 65L, 4_095L, 4_096L, 300_000L);
+        List<long[]> fired = new ArrayList<>();
+        deadlines.forEach(deadline -> wheel.schedule(deadline, deadline));
+
+        for (long now = 0; now <= 300_000L; now += 7) {
+            long current = now;
+            wheel.advance(now, timer -> fired.add(new long[]{timer.key(), current}));
+        }
+        wheel.advance(300_007L, timer -> fired.add(new long[]{timer.key(), 300_007L}));
+
+        assertEquals(deadlines.size(), fired.size());
+        for (long[] entry : fired) {
+            assertTrue(entry[1] >= entry[0], "만료 시각 전에 만료됨: " + entry[0]);
+            assertTrue(entry[1] - entry[0] < 8, "너무 늦게 만료됨: " + entry[0] + " -> " + entry[1]);
+        }
+    }
+
+    @Test
+    @DisplayName("휠 범위보다 먼 타이머는 최상위 단계에 두었다가 다시 넣어 만료 시각 전에 만료되지 않는다")
+    void beyondRangeTest() {
+        TimingWheel<String> wheel = new TimingWheel<>(1L, 0L);
+        List<String> expired = new ArrayList<>();
+        long far = (1L << 30) + 1_000L;
+        wheel.schedule("far", far);
+
+        wheel.advance((1L << 30) - 1, timer -> expired.add(timer.key()));
+        assertTrue(expired.isEmpty());
+        assertEquals(1, wheel.size());
+
+        wheel.advance(far, timer -> expired.add(timer.key()));
+        assertEquals(List.of("far"), expired);
+    }
+
+    @Test
+    @DisplayName("이미 지난 만료 시각은 다음 tick에 만료된다")
+    void pastDeadlineTest() {
+        TimingWheel<String> wheel = new TimingWheel<>(10L, 1_000L);
+        wheel.advance(2_000L, timer -> { });
+        List<String> expired = new ArrayList<>();
+
+        wheel.schedule("past", 1_500L);
+        assertEquals(0, wheel.advance(2_000L, timer -> expired.add(timer.key())));
+        assertEquals(1, wheel.advance(2_010L, timer -> expired.add(timer.key())));
+        assertEquals(List.of("past"), expired);
+    }
+
+    @Test
+    @DisplayName("tick은 1ms 이상이어야 한다")
+    void invalidTickTest() {
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel<String>(0L, 0L));
+    }
+}
@@ -1,12 +1,17 @@
 package com.nhnacademy.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.adapter.GoogleUserInfoClient;
 import com.nhnacademy.adapter.UserAdapter;
 import com.nhnacademy.common.advice.CommonAdvice;
+import com.nhnacademy.dto.RefreshSession;
+import com.nhnacademy.dto.TokenIntrospection;
 import com.nhnacademy.dto.UserSignInRequest;
 import com.nhnacademy.dto.UserSignUpRequest;
 import com.nhnacademy.service.auth.AuthService;
+import com.nhnacademy.service.introspect.IntrospectService;
 import com.nhnacademy.service.refresh_token.RefreshTokenService;
+import com.nhnacademy.token.exception.TokenException;
 import com.nhnacademy.token.provider.JwtProvider;
 import jakarta.servlet.http.Cookie;
 import org.junit.jupiter.api.DisplayName;
@@ -20,8 +25,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -40,6 +50,12 @@ class AuthControllerTest {
     @MockitoBean
     UserAdapter userAdapter;
 
+    @MockitoBean
+    GoogleUserInfoClient googleUserInfoClient;
+
+    @MockitoBean
+    IntrospectService introspectService;
+
     @Autowired
     MockMvc mockMvc;
 
@@ -159,6 +175,102 @@ class AuthControllerTest {
                 .andExpect(content().string("AccessToken이 없습니다."));
     }
 
+    @Test
+    @DisplayName("전체 로그아웃 성공 + 쿠키 삭제")
+    void signOutAllTest() throws Exception{
+        String accessToken = "access_token";
+
+        mockMvc.perform(post("/auth/logout/all")
+                        .cookie(new Cookie("accessToken", accessToken)))
+                .andExpect(status().isOk())
+                .andExpect(content().string("모든 기기에서 로그아웃 되었습니다."))
+                .andExpect(header().string(HttpHeaders.SET_COOKIE,
+                        org.hamcrest.Matchers.containsString("Max-Age=0")));
+
+        verify(authService, times(1)).signOutAll(accessToken);
+    }
+
+    @Test
+    @DisplayName("전체 로그아웃 실패 테스트 - accessToken 없음")
+    void logoutAll_noAccessToken() throws Exception {
+        mockMvc.perform(post("/auth/logout/all"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().string("AccessToken이 없습니다."));
+
+        verify(authService, never()).signOutAll(anyString());
+    }
+
+    @Test
+    @DisplayName("세션 목록 조회 성공")
+    void sessionsTest() throws Exception {
+        String accessToken = "access_token";
+        when(authService.getSessions(accessToken)).thenReturn(List.of(
+                new RefreshSession("session-1", 2000L, true),
+                new RefreshSession("session-2", 1000L, false)));
+
+        mockMvc.perform(get("/auth/sessions")
+                        .cookie(new Cookie("accessToken", accessToken)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+                .andExpect(jsonPath("$[0].session_id").value("session-1"))
+                .andExpect(jsonPath("$[0].current").value(true))
+                .andExpect(jsonPath("$[1].expires_at").value(1000L));
+    }
+
+    @Test
+    @DisplayName("세션 목록 조회 실패 - accessToken 없음")
+    void sessions_noAccessToken() throws Exception {
+        mockMvc.perform(get("/auth/sessions"))
+                .andExpect(status().isUnauthorized());
+
+        verify(authService, never()).getSessions(anyString());
+    }
+
+    @Test
+    @DisplayName("세션 종료 성공")
+    void logoutSessionTest() throws Exception {
+        String accessToken = "access_token";
+        when(authService.signOutSession(accessToken, "session-2")).thenReturn(true);
+
+        mockMvc.perform(delete("/auth/sessions/session-2")
+                        .cookie(new Cookie("accessToken", accessToken)))
+                .andExpect(status().isOk())
+                .andExpect(content().string("세션이 종료되었습니다."));
+    }
+
+    @Test
+    @DisplayName("세션 종료 실패 - 세션 없음")
+    void logoutSession_notFound() throws Exception {
+        String accessToken = "access_token";
+        when(authService.signOutSession(accessToken, "unknown")).thenReturn(false);
+
+        mockMvc.perform(delete("/auth/sessions/unknown")
+                        .cookie(new Cookie("accessToken", accessToken)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("세션 목록 조회, 세션 종료 실패 - 로그아웃한 토큰, 전체 로그아웃 전에 발급된 토큰")
+    void sessions_revokedAccessToken() throws Exception {
+        for (String accessToken : List.of("logged_out_token", "revoked_before_token")) {
+            when(authService.getSessions(accessToken)).thenThrow(new TokenException("폐기된 access token입니다."));
+            when(authService.signOutSession(accessToken, "session-2")).thenThrow(new TokenException("폐기된 access token입니다."));
+
+            mockMvc.perform(get("/auth/sessions")
+                            .cookie(new Cookie("accessToken", accessToken)))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(content().string("인증 처리 중 오류가 발생했습니다."));
+
+            mockMvc.perform(delete("/auth/sessions/session-2")
+                            .cookie(new Cookie("accessToken", accessToken)))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(content().string("인증 처리 중 오류가 발생했습니다."));
+
+            verify(authService, times(1)).getSessions(accessToken);
+            verify(authService, times(1)).signOutSession(accessToken, "session-2");
+        }
+    }
+
     @Test
     @DisplayName("AccessToken 재발급 성공")
     void reissue_success() throws Exception {
@@ -184,4 +296,48 @@ class AuthControllerTest {
         mockMvc.perform(post("/auth/reissue"))
                 .andExpect(status().isUnauthorized());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("JWKS 조회 - 공개 키 목록과 캐시 헤더 반환")
+    void jwksTest() throws Exception {
+        when(jwtProvider.getJwkSet())
+                .thenReturn(Map.of("keys", List.of(Map.of("kty", "EC", "kid", "key-1"))));
+
+        mockMvc.perform(get("/auth/.well-known/jwks.json"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL,
+                        org.hamcrest.Matchers.containsString("max-age=3600")))
+                .andExpect(jsonPath("$.keys[0].kid").value("key-1"));
+    }
+
+    @Test
+    @DisplayName("토큰 검사 - token과 tokens를 순서대로 검사하고 캐시 금지 헤더 반환")
+    void introspectTest() throws Exception {
+        when(introspectService.introspect(List.of("a", "b", "c")))
+                .thenReturn(List.of(
+                        new TokenIntrospection(true, "subject-1", 1L, 2L),
+                        TokenIntrospection.inactive(),
+                        TokenIntrospection.inactive()));
+
+        mockMvc.perform(post("/auth/introspect")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"token\":\"a\",\"tokens\":[\"b\",\"c\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+                .andExpect(jsonPath("$.results[0].active").value(true))
+                .andExpect(jsonPath("$.results[0].sub").value("subject-1"))
+                .andExpect(jsonPath("$.results[0].user_id").doesNotExist())
+                .andExpect(jsonPath("$.results[0].exp").value(2))
+                .andExpect(jsonPath("$.results[1].active").value(false))
+                .andExpect(jsonPath("$.results[1].sub").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("토큰 검사 실패 - 토큰 없음")
+    void introspect_fail_empty() throws Exception {
+        mockMvc.perform(post("/auth/introspect")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,116 @@
+package com.nhnacademy.integration;
+
+import com.nhnacademy.common.config.RedisConfig;
+import com.nhnacademy.common.redis.RedisKeys;
+import io.lettuce.core.resource.ClientResources;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬에서 띄운 Redis 프로세스로 Sentinel, Cluster 구성을 확인합니다.
+ * <p>
+ * 환경 변수가 있을 때만 실행합니다.
+ * <ul>
+ *     <li>{@code REDIS_CLUSTER_NODES}: Cluster 시작 노드 (예: {@code 127.0.0.1:7000,127.0.0.1:7001,127.0.0.1:7002})</li>
+ *     <li>{@code REDIS_SENTINEL_NODES}, {@code REDIS_SENTINEL_MASTER}: Sentinel 노드와 감시 중인 master 이름</li>
+ * </ul>
+ * 기본 설정으로 띄운 Redis는 DB가 16개이므로 두 구성 모두 공유 DB 0을 사용합니다.
+ */
+class RedisTopologyTest {
+
+    private static final String USER_ID = "topology-test@nhnacademy.com";
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = "REDIS_CLUSTER_NODES", matches = ".+")
+    @DisplayName("Cluster : 한 사용자의 세션과 폐기 기준 시각 key는 같은 slot에 저장되어 한 번의 DEL로 지울 수 있다")
+    void clusterTest() {
+        RedisConfig config = configOf("cluster");
+        ReflectionTestUtils.setField(config, "layout", "shared");
+        ReflectionTestUtils.setField(config, "hashTags", true);
+        ReflectionTestUtils.setField(config, "clusterNodes", nodesOf("REDIS_CLUSTER_NODES"));
+
+        ClientResources clientResources = config.redisClientResources();
+        LettuceConnectionFactory factory = config.refreshTokenRedisConnectionFactory(config.redisLayout(), clientResources);
+        factory.afterPropertiesSet();
+        try {
+            RedisTemplate<String, Object> template = templateOf(config, factory);
+            String sessionsKey = RedisKeys.userKey("sessions:", USER_ID, true);
+            String revokedBeforeKey = RedisKeys.userKey("revokedBefore:", USER_ID, true);
+
+            template.opsForHash().put(sessionsKey, "session_id", "0:digest");
+            template.opsForValue().set(revokedBeforeKey, "1000", 60, TimeUnit.SECONDS);
+
+            assertEquals(ClusterSlotHashUtil.calculateSlot(sessionsKey), ClusterSlotHashUtil.calculateSlot(revokedBeforeKey));
+            assertEquals(2L, template.delete(List.of(sessionsKey, revokedBeforeKey)));
+        } finally {
+            factory.destroy();
+            clientResources.shutdown();
+        }
+    }
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = "REDIS_SENTINEL_NODES", matches = ".+")
+    @DisplayName("Sentinel : 읽기와 쓰기 모두 primary로 보내므로 방금 쓴 값을 바로 읽는다")
+    void sentinelTest() {
+        RedisConfig config = configOf("sentinel");
+        ReflectionTestUtils.setField(config, "sentinelMaster", System.getenv().getOrDefault("REDIS_SENTINEL_MASTER", "mymaster"));
+        ReflectionTestUtils.setField(config, "sentinelNodes", nodesOf("REDIS_SENTINEL_NODES"));
+        ReflectionTestUtils.setField(config, "layout", "shared");
+
+        ClientResources clientResources = config.redisClientResources();
+        LettuceConnectionFactory factory = config.refreshTokenRedisConnectionFactory(config.redisLayout(), clientResources);
+        factory.afterPropertiesSet();
+        try {
+            RedisTemplate<String, Object> template = templateOf(config, factory);
+            String key = RedisKeys.userKey("refreshToken:", USER_ID, false);
+
+            template.opsForValue().set(key, "refresh_token", 60, TimeUnit.SECONDS);
+
+            assertEquals("refresh_token", template.opsForValue().get(key));
+            assertTrue(template.delete(key));
+        } finally {
+            factory.destroy();
+            clientResources.shutdown();
+        }
+    }
+
+    private static RedisConfig configOf(String topology) {
+        RedisConfig config = new RedisConfig();
+        ReflectionTestUtils.setField(config, "topology", topology);
+        ReflectionTestUtils.setField(config, "layout", "databases");
+        ReflectionTestUtils.setField(config, "password", System.getenv().getOrDefault("REDIS_PASSWORD", ""));
+        ReflectionTestUtils.setField(config, "clusterMaxRedirects", 3);
+        ReflectionTestUtils.setField(config, "commandTimeoutMillis", 2000L);
+        ReflectionTestUtils.setField(config, "connectTimeoutMillis", 1000L);
+        ReflectionTestUtils.setField(config, "requestQueueSize", 10000);
+        ReflectionTestUtils.setField(config, "autoReconnect", true);
+        ReflectionTestUtils.setField(config, "disconnectedBehavior", "reject-commands");
+        ReflectionTestUtils.setField(config, "connectionMode", "shared");
+        ReflectionTestUtils.setField(config, "poolMaxActive", 16);
+        ReflectionTestUtils.setField(config, "poolMaxIdle", 16);
+        ReflectionTestUtils.setField(config, "poolMinIdle", 0);
+        ReflectionTestUtils.setField(config, "poolMaxWaitMillis", 500L);
+        return config;
+    }
+
+    private static RedisTemplate<String, Object> templateOf(RedisConfig config, LettuceConnectionFactory factory) {
+        RedisTemplate<String, Object> template = config.refreshTokenRedisTemplate(factory);
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    private static List<String> nodesOf(String name) {
+        return Arrays.asList(System.getenv(name).split(","));
+    }
+}
@@ -0,0 +1,135 @@
+package com.nhnacademy.integration;
+
+import com.nhnacademy.common.config.RedisLayout;
+import com.nhnacademy.common.redis.RedisKeys;
+import com.nhnacademy.service.blacklist.impl.BlacklistKeys;
+import com.nhnacademy.service.refresh_token.impl.ReissueScript;
+import com.nhnacademy.token.provider.VerifiedToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬에서 띄운 Redis 프로세스로 재발급 스크립트({@code scripts/reissue.lua})의 결과를 확인합니다.
+ * <p>
+ * 환경 변수 {@code REDIS_HOST}가 있을 때만 실행합니다. ({@code REDIS_PORT}, {@code REDIS_PASSWORD}는 선택)
+ * 기본 설정으로 띄운 Redis는 DB가 16개이므로 databases 구성은 DB 14(refresh token)와 15(블랙리스트),
+ * shared 구성은 DB 15만 사용하고, 테스트가 만든 key는 끝난 뒤 지웁니다.
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+class ReissueScriptTest {
+
+    private static final int REFRESH_TOKEN_DATABASE = 14;
+    private static final int BLACKLIST_DATABASE = 15;
+    private static final long REFRESH_TTL_MILLIS = 86_400_000L;
+    private static final long GRACE_MILLIS = 10_000L;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"databases", "shared"})
+    @DisplayName("재발급 후 같은 토큰은 유예 시간 안에는 COALESCED, 지나면 REUSED이고, 폐기 기준 시각 전에 발급된 토큰은 REVOKED이다")
+    void reissueTest(String layoutName) {
+        RedisLayout layout = "shared".equals(layoutName)
+                ? new RedisLayout(true, BLACKLIST_DATABASE, BLACKLIST_DATABASE)
+                : new RedisLayout(false, REFRESH_TOKEN_DATABASE, BLACKLIST_DATABASE);
+        LettuceConnectionFactory refreshFactory = factoryOf(layout.refreshTokenDatabase());
+        LettuceConnectionFactory blacklistFactory = factoryOf(layout.blacklistDatabase());
+
+        String userId = "reissue-" + newTokenId() + "@nhnacademy.com";
+        long now = System.currentTimeMillis();
+        VerifiedToken access = tokenOf(now - 1_000L);
+        VerifiedToken revokedAccess = tokenOf(now - 1_000L);
+        String newSessionId = newTokenId();
+        byte[] sessionsKey = utf8(RedisKeys.userKey("sessions:", userId, false));
+        byte[] revokedBeforeKey = utf8(BlacklistKeys.revokedBeforeKeyOf(userId, false));
+        byte[] reissuedKey = utf8("reissued:" + access.getTokenId());
+        try {
+            ReissueScript script = scriptOf(refreshFactory, layout);
+            String session = (now + REFRESH_TTL_MILLIS) + ":digest";
+            run(refreshFactory, connection -> connection.hashCommands().hSet(sessionsKey, utf8(access.getTokenId()), utf8(session)));
+
+            ReissueScript.Result reissued = script.reissue(userId, access, newSessionId,
+                    REFRESH_TTL_MILLIS, 0L, GRACE_MILLIS, now);
+            assertEquals(ReissueScript.Status.REISSUED, reissued.status());
+            assertArrayEquals(utf8(BlacklistKeys.ROTATED_VALUE),
+                    run(blacklistFactory, connection -> connection.stringCommands().get(BlacklistKeys.keyOf(access))));
+            assertNull(run(refreshFactory, connection -> connection.hashCommands().hGet(sessionsKey, utf8(access.getTokenId()))));
+            assertArrayEquals(utf8(session),
+                    run(refreshFactory, connection -> connection.hashCommands().hGet(sessionsKey, utf8(newSessionId))));
+
+            ReissueScript.Result coalesced = script.reissue(userId, access, newTokenId(),
+                    REFRESH_TTL_MILLIS, 0L, GRACE_MILLIS, now);
+            assertEquals(ReissueScript.Status.COALESCED, coalesced.status());
+            assertEquals(newSessionId, coalesced.sessionId());
+
+            run(refreshFactory, connection -> connection.keyCommands().del(reissuedKey));
+            ReissueScript.Result reused = script.reissue(userId, access, newTokenId(),
+                    REFRESH_TTL_MILLIS, 0L, GRACE_MILLIS, now);
+            assertEquals(ReissueScript.Status.REUSED, reused.status());
+
+            run(refreshFactory, connection -> connection.hashCommands().hSet(sessionsKey, utf8(revokedAccess.getTokenId()), utf8(session)));
+            run(blacklistFactory, connection -> connection.stringCommands().set(revokedBeforeKey, utf8(String.valueOf(now))));
+            ReissueScript.Result revoked = script.reissue(userId, revokedAccess, newTokenId(),
+                    REFRESH_TTL_MILLIS, 0L, GRACE_MILLIS, now);
+            assertEquals(ReissueScript.Status.REVOKED, revoked.status());
+        } finally {
+            run(refreshFactory, connection -> connection.keyCommands().del(sessionsKey, reissuedKey));
+            run(blacklistFactory, connection -> connection.keyCommands().del(revokedBeforeKey, BlacklistKeys.keyOf(access)));
+            refreshFactory.destroy();
+            blacklistFactory.destroy();
+        }
+    }
+
+    private static ReissueScript scriptOf(LettuceConnectionFactory factory, RedisLayout layout) {
+        RedisTemplate<String, Object> template = new RedisTemplate<>();
+        template.setConnectionFactory(factory);
+        template.afterPropertiesSet();
+
+        ReissueScript script = new ReissueScript(template, layout);
+        ReflectionTestUtils.setField(script, "hashTags", false);
+        return script;
+    }
+
+    private static LettuceConnectionFactory factoryOf(int database) {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getenv("REDIS_HOST"), Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+        configuration.setPassword(System.getenv().getOrDefault("REDIS_PASSWORD", ""));
+        configuration.setDatabase(database);
+
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(configuration);
+        factory.afterPropertiesSet();
+        return factory;
+    }
+
+    private static <T> T run(LettuceConnectionFactory factory, Function<RedisConnection, T> action) {
+        try (RedisConnection connection = factory.getConnection()) {
+            return action.apply(connection);
+        }
+    }
+
+    private static VerifiedToken tokenOf(long issuedAt) {
+        return new VerifiedToken("access-token", null, newTokenId(), issuedAt, issuedAt + 3_600_000L, null, null);
+    }
+
+    private static String newTokenId() {
+        byte[] bytes = new byte[12];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
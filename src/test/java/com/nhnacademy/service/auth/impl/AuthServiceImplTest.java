@@ -2,16 +2,27 @@ package com.nhnacademy.service.auth.impl;
 
 import com.nhnacademy.adapter.UserAdapter;
 import com.nhnacademy.common.exception.FailSignInException;
+import com.nhnacademy.common.redis.SharedRedisPipeline;
+import com.nhnacademy.common.store.InMemoryTokenStore;
+import com.nhnacademy.dto.RefreshSession;
 import com.nhnacademy.dto.UserSignInRequest;
 import com.nhnacademy.service.blacklist.BlacklistService;
+import com.nhnacademy.service.blacklist.impl.BlacklistServiceImpl;
+import com.nhnacademy.service.blacklist.impl.UserRevocationEpochs;
 import com.nhnacademy.service.refresh_token.RefreshTokenService;
+import com.nhnacademy.service.refresh_token.impl.RefreshTokenServiceImpl;
+import com.nhnacademy.token.exception.TokenException;
 import com.nhnacademy.token.provider.JwtProvider;
+import com.nhnacademy.token.provider.VerifiedToken;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -41,11 +52,13 @@ class AuthServiceImplTest {
 
         when(userAdapter.loginUser(any(UserSignInRequest.class))).thenReturn(ResponseEntity.ok(userSignInRequest.getUserEmail()));
         when(jwtProvider.createRefreshToken()).thenReturn("refresh_token");
-        when(jwtProvider.createAccessToken(userSignInRequest.getUserEmail())).thenReturn("access_token");
+        when(jwtProvider.newAccessTokenId()).thenReturn("session_id");
+        when(jwtProvider.createAccessToken(userSignInRequest.getUserEmail(), "session_id")).thenReturn("access_token");
 
         String accessToken = authService.signIn(userSignInRequest);
 
         assertEquals("access_token", accessToken);
+        verify(refreshTokenService, times(1)).setRefreshToken("refresh_token", userSignInRequest.getUserEmail(), "session_id");
     }
 
     @Test
@@ -62,10 +75,175 @@ class AuthServiceImplTest {
     @DisplayName("sign out 성공 test")
     void successSignOutTest(){
         String accessToken = "access_token";
+        VerifiedToken verifiedToken = new VerifiedToken(accessToken, null, "user_id", 0L, 3600000L);
+
+        when(jwtProvider.verify(accessToken)).thenReturn(verifiedToken);
 
         authService.signOut(accessToken);
 
-        verify(blacklistService, times(1)).addBlacklist(accessToken);
-        verify(refreshTokenService, times(1)).removeRefreshToken(accessToken);
+        verify(jwtProvider, times(1)).verify(accessToken);
+        verify(blacklistService, times(1)).addBlacklist(verifiedToken);
+        verify(refreshTokenService, times(1)).removeRefreshToken(verifiedToken);
+    }
+
+    @Test
+    @DisplayName("전체 로그아웃 test: 사용자 토큰 전체 폐기 후 현재 토큰과 다른 세션의 최신 토큰 블랙리스트 등록")
+    void successSignOutAllTest(){
+        String accessToken = "access_token";
+        VerifiedToken verifiedToken = new VerifiedToken(accessToken, null, "user_id", 0L, 3600000L);
+
+        when(jwtProvider.verify(accessToken)).thenReturn(verifiedToken);
+        when(jwtProvider.getAccessTokenValidity()).thenReturn(3600000L);
+        when(refreshTokenService.getSessions(verifiedToken)).thenReturn(List.of(
+                new RefreshSession("current_session", 3600000L, true),
+                new RefreshSession("other_session", 3600000L, false)));
+
+        authService.signOutAll(accessToken);
+
+        verify(jwtProvider, times(1)).verify(accessToken);
+        verify(blacklistService, times(1)).revokeAll("user_id");
+        verify(blacklistService, times(1)).addBlacklist(verifiedToken);
+        verify(blacklistService, times(1)).addBlacklistByTokenId("other_session", 3600000L);
+        verify(blacklistService, never()).addBlacklistByTokenId(eq("current_session"), anyLong());
+        verify(refreshTokenService, times(1)).removeAllSessions("user_id");
+    }
+
+    @Test
+    @DisplayName("전체 로그아웃 test: 폐기된 토큰이면 TokenException, 아무것도 폐기하지 않음")
+    void signOutAll_revokedTokenTest(){
+        String accessToken = "access_token";
+        VerifiedToken verifiedToken = new VerifiedToken(accessToken, null, "user_id", 0L, 3600000L);
+
+        when(jwtProvider.verify(accessToken)).thenReturn(verifiedToken);
+        when(blacklistService.isBlacklisted(verifiedToken)).thenReturn(true);
+
+        assertThrows(TokenException.class, () -> authService.signOutAll(accessToken));
+        verify(blacklistService, never()).revokeAll(anyString());
+        verify(refreshTokenService, never()).removeAllSessions(anyString());
+    }
+
+    @Test
+    @DisplayName("전체 로그아웃 test: 폐기 기준 시각과 같은 초에 발급된 다른 기기의 토큰도 폐기된다")
+    void signOutAll_sameSecondTest(){
+        InMemoryTokenStore store = new InMemoryTokenStore("test", 4, 10L);
+        when(jwtProvider.getRefreshTokenValidity()).thenReturn(604800000L);
+        when(jwtProvider.getAccessTokenValidity()).thenReturn(3600000L);
+        when(jwtProvider.digestRefreshToken(anyString())).thenReturn("digest");
+
+        UserRevocationEpochs revocationEpochs = new UserRevocationEpochs(store, jwtProvider);
+        ReflectionTestUtils.setField(revocationEpochs, "cacheTtlMillis", 60_000L);
+        BlacklistServiceImpl realBlacklistService = new BlacklistServiceImpl(store, jwtProvider, revocationEpochs);
+        RefreshTokenServiceImpl realRefreshTokenService = new RefreshTokenServiceImpl(jwtProvider, realBlacklistService, store);
+        ReflectionTestUtils.setField(realRefreshTokenService, "maxSessionsPerUser", 20);
+        AuthServiceImpl service = new AuthServiceImpl(userAdapter, realBlacklistService, realRefreshTokenService, jwtProvider);
+
+        long issuedAt = System.currentTimeMillis() / 1000 * 1000;
+        VerifiedToken laptop = new VerifiedToken("laptop_token", null, "laptopTokenId000", issuedAt, issuedAt + 3600000L, "user_id", null);
+        VerifiedToken phone = new VerifiedToken("phone_token", null, "phoneTokenId0000", issuedAt, issuedAt + 3600000L, "user_id", null);
+        realRefreshTokenService.setRefreshToken("laptop_refresh", "user_id", laptop.getTokenId());
+        realRefreshTokenService.setRefreshToken("phone_refresh", "user_id", phone.getTokenId());
+        when(jwtProvider.verify("phone_token")).thenReturn(phone);
+
+        service.signOutAll("phone_token");
+
+        assertTrue(realBlacklistService.isBlacklisted(phone));
+        assertTrue(realBlacklistService.isBlacklisted(laptop));
+        assertTrue(realRefreshTokenService.getSessions(laptop).isEmpty());
+    }
+
+    @Test
+    @DisplayName("sign out test: 저장소 공유 구성이면 블랙리스트 등록과 세션 삭제를 한 파이프라인으로 실행")
+    void signOutWithSharedPipelineTest(){
+        SharedRedisPipeline sharedRedisPipeline = mock(SharedRedisPipeline.class);
+        authService.setSharedRedisPipeline(sharedRedisPipeline);
+        VerifiedToken verifiedToken = new VerifiedToken("access_token", null, "user_id", 0L, 3600000L);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(sharedRedisPipeline).run(any(Runnable.class));
+
+        authService.signOut(verifiedToken);
+
+        verify(sharedRedisPipeline, times(1)).run(any(Runnable.class));
+        verify(blacklistService, times(1)).addBlacklist(verifiedToken);
+        verify(refreshTokenService, times(1)).removeRefreshToken(verifiedToken);
+    }
+
+    @Test
+    @DisplayName("세션 목록 조회 test")
+    void getSessionsTest(){
+        String accessToken = "access_token";
+        VerifiedToken verifiedToken = new VerifiedToken(accessToken, null, "user_id", 0L, 3600000L);
+        List<RefreshSession> sessions = List.of(new RefreshSession("session_id", 3600000L, true));
+
+        when(jwtProvider.verify(accessToken)).thenReturn(verifiedToken);
+        when(refreshTokenService.getSessions(verifiedToken)).thenReturn(sessions);
+
+        assertEquals(sessions, authService.getSessions(accessToken));
+    }
+
+    @Test
+    @DisplayName("세션 종료 test: 세션 삭제 후 세션의 access token 블랙리스트 등록")
+    void signOutSessionTest(){
+        String accessToken = "access_token";
+        VerifiedToken verifiedToken = new VerifiedToken(accessToken, null, "user_id", 0L, 3600000L);
+
+        when(jwtProvider.verify(accessToken)).thenReturn(verifiedToken);
+        when(jwtProvider.getAccessTokenValidity()).thenReturn(3600000L);
+        when(refreshTokenService.removeSession("user_id", "other_session")).thenReturn(true);
+
+        assertTrue(authService.signOutSession(accessToken, "other_session"));
+        verify(blacklistService, times(1)).addBlacklistByTokenId("other_session", 3600000L);
+    }
+
+    @Test
+    @DisplayName("세션 종료 test: 없는 세션이면 블랙리스트 등록하지 않음")
+    void signOutSession_notFoundTest(){
+        String accessToken = "access_token";
+        VerifiedToken verifiedToken = new VerifiedToken(accessToken, null, "user_id", 0L, 3600000L);
+
+        when(jwtProvider.verify(accessToken)).thenReturn(verifiedToken);
+        when(refreshTokenService.removeSession("user_id", "unknown")).thenReturn(false);
+
+        assertFalse(authService.signOutSession(accessToken, "unknown"));
+        verify(blacklistService, never()).addBlacklistByTokenId(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("세션 목록 조회, 세션 종료 test: 로그아웃으로 블랙리스트에 등록된 토큰이면 TokenException")
+    void sessions_blacklistedTokenTest(){
+        BlacklistServiceImpl realBlacklistService = inMemoryBlacklistService();
+        AuthServiceImpl service = new AuthServiceImpl(userAdapter, realBlacklistService, refreshTokenService, jwtProvider);
+        long now = System.currentTimeMillis();
+        VerifiedToken loggedOut = new VerifiedToken("logged_out_token", null, "loggedOutToken00", now, now + 3600000L, "user_id", null);
+        realBlacklistService.addBlacklist(loggedOut);
+        when(jwtProvider.verify("logged_out_token")).thenReturn(loggedOut);
+
+        assertThrows(TokenException.class, () -> service.getSessions("logged_out_token"));
+        assertThrows(TokenException.class, () -> service.signOutSession("logged_out_token", "other_session"));
+        verifyNoInteractions(refreshTokenService);
+    }
+
+    @Test
+    @DisplayName("세션 목록 조회, 세션 종료 test: 전체 로그아웃 전에 발급된 토큰이면 TokenException")
+    void sessions_epochRevokedTokenTest(){
+        BlacklistServiceImpl realBlacklistService = inMemoryBlacklistService();
+        AuthServiceImpl service = new AuthServiceImpl(userAdapter, realBlacklistService, refreshTokenService, jwtProvider);
+        long issuedAt = System.currentTimeMillis() - 60_000L;
+        VerifiedToken beforeSignOutAll = new VerifiedToken("old_token", null, "oldTokenId000000", issuedAt, issuedAt + 3600000L, "user_id", null);
+        realBlacklistService.revokeAll("user_id");
+        when(jwtProvider.verify("old_token")).thenReturn(beforeSignOutAll);
+
+        assertThrows(TokenException.class, () -> service.getSessions("old_token"));
+        assertThrows(TokenException.class, () -> service.signOutSession("old_token", "other_session"));
+        verifyNoInteractions(refreshTokenService);
+    }
+
+    private BlacklistServiceImpl inMemoryBlacklistService() {
+        InMemoryTokenStore store = new InMemoryTokenStore("test", 4, 10L);
+        when(jwtProvider.getRefreshTokenValidity()).thenReturn(604800000L);
+        UserRevocationEpochs revocationEpochs = new UserRevocationEpochs(store, jwtProvider);
+        ReflectionTestUtils.setField(revocationEpochs, "cacheTtlMillis", 60_000L);
+        return new BlacklistServiceImpl(store, jwtProvider, revocationEpochs);
     }
-}
\ No newline at end of file
+}
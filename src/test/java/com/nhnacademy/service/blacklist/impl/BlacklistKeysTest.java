@@ -0,0 +1,141 @@
+package com.nhnacademy.service.blacklist.impl;
+
+import com.common.AESUtil;
+import com.nhnacademy.common.config.UserIdCipher;
+import com.nhnacademy.common.redis.RedisKeys;
+import com.nhnacademy.token.provider.JwtProvider;
+import com.nhnacademy.token.provider.VerifiedToken;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 블랙리스트 key 형식과, 토큰 하나를 폐기할 때 Redis가 사용하는 메모리의 추정치를 확인합니다.
+ * <p>
+ * 메모리 추정은 Redis 7 + jemalloc(64bit) 기준입니다.
+ * key마다 main dict entry, key SDS, value 객체, expires dict entry, 두 dict의 bucket 포인터를 더하고
+ * 각 할당은 jemalloc size class로 올림합니다. 실제 값은 {@code MEMORY USAGE}로 확인할 수 있습니다.
+ */
+@Slf4j
+class BlacklistKeysTest {
+
+    private static final String TOKEN_ID = "AAECAwQFBgcICQoL";
+    private static final String[] USER_IDS = {
+            "a@b.co",
+            "zzw123@naver.com",
+            "very.long.user.name.for.benchmark@nhnacademy-aiot2-lucky7.example.com"
+    };
+
+    @Test
+    @DisplayName("jti가 있는 토큰의 key는 'bl:' + jti 12바이트의 15바이트 고정 길이여야 한다")
+    void compactKeyTest() {
+        VerifiedToken token = new VerifiedToken("raw", null, TOKEN_ID, 0L, 0L, null, null);
+
+        assertTrue(BlacklistKeys.hasCompactKey(token));
+        assertArrayEquals(new byte[]{'b', 'l', ':', 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11}, BlacklistKeys.keyOf(token));
+        assertEquals("bl:" + TOKEN_ID, BlacklistKeys.memberOf(token));
+        assertEquals(BlacklistKeys.memberOf(token), BlacklistKeys.memberOf(BlacklistKeys.keyOf(token)));
+    }
+
+    @Test
+    @DisplayName("jti가 없거나 형식이 다르면 기존 blacklist:{token} key를 사용해야 한다")
+    void legacyKeyTest() {
+        VerifiedToken noTokenId = new VerifiedToken("raw", null, "u", 0L, 0L);
+        VerifiedToken shortTokenId = new VerifiedToken("raw", null, "abc", 0L, 0L, null, null);
+        VerifiedToken invalidTokenId = new VerifiedToken("raw", null, "AAECAwQFBgcICQo=", 0L, 0L, null, null);
+
+        for (VerifiedToken token : new VerifiedToken[]{noTokenId, shortTokenId, invalidTokenId}) {
+            assertFalse(BlacklistKeys.hasCompactKey(token));
+            assertArrayEquals("blacklist:raw".getBytes(StandardCharsets.UTF_8), BlacklistKeys.keyOf(token));
+            assertEquals("blacklist:raw", BlacklistKeys.memberOf(token));
+        }
+        assertEquals("blacklist:raw", BlacklistKeys.memberOf("blacklist:raw".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("해시 태그를 사용하면 폐기 기준 시각 key가 같은 사용자의 세션 key와 같은 cluster slot에 있어야 한다")
+    void revokedBeforeHashTagTest() {
+        String userId = "user@nhnacademy.com";
+
+        assertEquals("revokedBefore:user@nhnacademy.com", BlacklistKeys.revokedBeforeKeyOf(userId, false));
+        assertEquals("revokedBefore:{user@nhnacademy.com}", BlacklistKeys.revokedBeforeKeyOf(userId, true));
+        assertEquals(ClusterSlotHashUtil.calculateSlot(RedisKeys.userKey("sessions:", userId, true)),
+                ClusterSlotHashUtil.calculateSlot(BlacklistKeys.revokedBeforeKeyOf(userId, true)));
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰 하나당 Redis 메모리 추정치를 비교한다")
+    void memoryReport() {
+        AESUtil aesUtil = new AESUtil();
+        aesUtil.setKey("test-aes-secret-key");
+        JwtProvider provider = new JwtProvider(new UserIdCipher() {
+            @Override
+            public String encrypt(String userId) {
+                return aesUtil.encrypt(userId);
+            }
+
+            @Override
+            public String decrypt(String cipherText) {
+                return aesUtil.decrypt(cipherText);
+            }
+        }, null, new MockEnvironment());
+        ReflectionTestUtils.setField(provider, "jwtSecretKey", "This-Secret-Key-Is-Test-Secret-Key111");
+        ReflectionTestUtils.setField(provider, "fastIssuerEnabled", true);
+        ReflectionTestUtils.setField(provider, "fastVerifierEnabled", true);
+        ReflectionTestUtils.setField(provider, "tokenProfile", "standard");
+        ReflectionTestUtils.setField(provider, "signingAlgorithm", "HS256");
+        provider.init();
+
+        for (String userId : USER_IDS) {
+            VerifiedToken token = provider.verify(provider.createAccessToken(userId));
+            assertTrue(BlacklistKeys.hasCompactKey(token));
+
+            int legacyKey = ("blacklist:" + token.getRawToken()).getBytes(StandardCharsets.UTF_8).length;
+            int compactKey = BlacklistKeys.keyOf(token).length;
+            long before = bytesPerEntry(legacyKey, "logout".length());
+            long after = bytesPerEntry(compactKey, 0);
+
+            log.info("[BlacklistMemory] userId={}B | key before={}B after={}B | per revoked token before≈{}B after≈{}B ({}% 절감)",
+                    userId.length(), legacyKey, compactKey, before, after, (before - after) * 100 / before);
+
+            assertEquals(15, compactKey);
+            assertTrue(after < before);
+        }
+    }
+
+    /**
+     * TTL이 있는 문자열 key 하나의 추정 메모리입니다.
+     */
+    private static long bytesPerEntry(int keyLength, int valueLength) {
+        long dictEntry = jemalloc(24);
+        long key = jemalloc(sdsHeader(keyLength) + keyLength + 1);
+        long value = jemalloc(16 + 3 + valueLength + 1);
+        long bucketPointers = 2 * 8;
+        return dictEntry + key + value + dictEntry + bucketPointers;
+    }
+
+    private static int sdsHeader(int length) {
+        if (length < 32) {
+            return 1;
+        }
+        return length < 256 ? 3 : 5;
+    }
+
+    private static long jemalloc(long size) {
+        if (size <= 8) {
+            return 8;
+        }
+        if (size <= 128) {
+            return (size + 15) / 16 * 16;
+        }
+        long step = Long.highestOneBit(size - 1) / 4;
+        return (size + step - 1) / step * step;
+    }
+}
@@ -1,29 +1,39 @@
 package com.nhnacademy.service.blacklist.impl;
 
+import com.nhnacademy.common.redis.RedisWriteBehindQueue;
+import com.nhnacademy.common.redis.TrackingNearCache;
+import com.nhnacademy.common.store.TokenStore;
 import com.nhnacademy.token.provider.JwtProvider;
+import com.nhnacademy.token.provider.VerifiedToken;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 
-import java.util.concurrent.TimeUnit;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @SpringBootTest
 class BlacklistServiceImplTest {
     @Mock
-    RedisTemplate<String, Object> template;
+    TokenStore store;
 
     @Mock
     JwtProvider jwtProvider;
 
     @Mock
-    ValueOperations<String, Object> valueOperations;
+    UserRevocationEpochs revocationEpochs;
 
     @InjectMocks
     BlacklistServiceImpl blacklistService;
@@ -34,16 +44,297 @@ class BlacklistServiceImplTest {
         String token = "access_token";
         long ttl = 3600000L;
 
-        when(jwtProvider.getRemainingExpiration(anyString())).thenReturn(ttl);
-        when(template.opsForValue()).thenReturn(valueOperations);
+        when(jwtProvider.verify(token)).thenReturn(new VerifiedToken(token, null, "user_id", 0L, System.currentTimeMillis() + ttl));
 
         blacklistService.addBlacklist(token);
 
-        verify(valueOperations, times(1)).set(
-                "blacklist:access_token",
-                "logout",
-                ttl,
-                TimeUnit.MILLISECONDS
+        verify(store, times(1)).put(
+                aryEq(utf8("blacklist:access_token")),
+                aryEq(utf8("logout")),
+                longThat(remaining -> remaining > 0 && remaining <= ttl)
         );
+        verify(jwtProvider, times(1)).evictVerified(token);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("검증된 토큰으로 블랙리스트 등록 시 토큰을 다시 파싱하지 않는다")
+    void addBlacklistWithVerifiedTokenTest() {
+        String token = "access_token";
+        long expiresAt = System.currentTimeMillis() + 3600000L;
+        VerifiedToken verifiedToken = new VerifiedToken(token, null, "user_id", 0L, expiresAt);
+
+        blacklistService.addBlacklist(verifiedToken);
+
+        verify(store, times(1)).put(
+                aryEq(utf8("blacklist:access_token")),
+                aryEq(utf8("logout")),
+                longThat(ttl -> ttl > 0 && ttl <= 3600000L)
+        );
+        verify(jwtProvider, times(1)).evictVerified(token);
+        verifyNoMoreInteractions(jwtProvider);
+    }
+
+    @Test
+    @DisplayName("여러 토큰의 블랙리스트 여부를 한 번에 조회한다")
+    void areBlacklistedTest() {
+        List<VerifiedToken> tokens = List.of(
+                new VerifiedToken("t1", null, "u", 0L, 0L),
+                new VerifiedToken("t2", null, "u", 0L, 0L),
+                new VerifiedToken("t3", null, "u", 0L, 0L));
+
+        when(store.getAll(anyList())).thenReturn(Arrays.asList(null, utf8("logout"), null));
+
+        assertEquals(List.of(false, true, false), blacklistService.areBlacklisted(tokens));
+        verify(store, times(1)).getAll(keys("blacklist:t1", "blacklist:t2", "blacklist:t3"));
+        verifyNoMoreInteractions(store);
+    }
+
+    @Test
+    @DisplayName("음성 캐시가 없다고 답하면 저장소를 조회하지 않는다")
+    void isBlacklistedWithNegativeCacheTest() {
+        BlacklistNegativeCache negativeCache = mock(BlacklistNegativeCache.class);
+        blacklistService.setNegativeCache(negativeCache);
+        VerifiedToken token = new VerifiedToken("t1", null, "u", 0L, 1000L);
+
+        when(negativeCache.mightBeBlacklisted("blacklist:t1", 1000L)).thenReturn(false);
+
+        assertFalse(blacklistService.isBlacklisted(token));
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    @DisplayName("음성 캐시가 있을 수 있다고 답하면 저장소로 확인하고 오탐을 기록한다")
+    void isBlacklistedFalsePositiveTest() {
+        BlacklistNegativeCache negativeCache = mock(BlacklistNegativeCache.class);
+        blacklistService.setNegativeCache(negativeCache);
+        VerifiedToken revoked = new VerifiedToken("revoked", null, "u", 0L, 1000L);
+        VerifiedToken active = new VerifiedToken("active", null, "u", 0L, 1000L);
+
+        when(negativeCache.mightBeBlacklisted(anyString(), anyLong())).thenReturn(true);
+        when(store.exists(aryEq(utf8("blacklist:revoked")))).thenReturn(true);
+        when(store.exists(aryEq(utf8("blacklist:active")))).thenReturn(false);
+
+        assertTrue(blacklistService.isBlacklisted(revoked));
+        assertFalse(blacklistService.isBlacklisted(active));
+        verify(negativeCache, times(1)).recordFalsePositive();
+    }
+
+    @Test
+    @DisplayName("일괄 조회 시 음성 캐시를 통과한 토큰만 저장소에서 조회한다")
+    void areBlacklistedWithNegativeCacheTest() {
+        BlacklistNegativeCache negativeCache = mock(BlacklistNegativeCache.class);
+        blacklistService.setNegativeCache(negativeCache);
+        List<VerifiedToken> tokens = List.of(
+                new VerifiedToken("t1", null, "u", 0L, 0L),
+                new VerifiedToken("t2", null, "u", 0L, 0L),
+                new VerifiedToken("t3", null, "u", 0L, 0L));
+
+        when(negativeCache.mightBeBlacklisted(anyString(), anyLong())).thenReturn(false);
+        when(negativeCache.mightBeBlacklisted("blacklist:t2", 0L)).thenReturn(true);
+        when(store.getAll(anyList())).thenReturn(List.of(new byte[0]));
+
+        assertEquals(List.of(false, true, false), blacklistService.areBlacklisted(tokens));
+        verify(store, times(1)).getAll(keys("blacklist:t2"));
+    }
+
+    @Test
+    @DisplayName("블랙리스트 등록 시 음성 캐시에 기록하고 전파한다")
+    void addBlacklistRecordsToNegativeCacheTest() {
+        BlacklistNegativeCache negativeCache = mock(BlacklistNegativeCache.class);
+        blacklistService.setNegativeCache(negativeCache);
+        VerifiedToken token = new VerifiedToken("t1", null, "u", 0L, System.currentTimeMillis() + 60_000L);
+
+        blacklistService.addBlacklist(token);
+
+        verify(negativeCache, times(1)).recordAdded(eq("blacklist:t1"), longThat(exp -> exp > System.currentTimeMillis()));
+    }
+
+    @Test
+    @DisplayName("jti가 있는 토큰은 15바이트 binary key와 빈 값으로 등록한다")
+    void addBlacklistWithTokenIdTest() {
+        String tokenId = "AAECAwQFBgcICQoL";
+        VerifiedToken token = new VerifiedToken("access_token", null, tokenId, 0L, System.currentTimeMillis() + 60_000L, "u", null);
+        byte[] expectedKey = {'b', 'l', ':', 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11};
+
+        blacklistService.addBlacklist(token);
+
+        verify(store, times(1)).put(
+                aryEq(expectedKey),
+                aryEq(new byte[0]),
+                longThat(ttl -> ttl > 0 && ttl <= 60_000L)
+        );
+        verify(jwtProvider, times(1)).evictVerified("access_token");
+    }
+
+    @Test
+    @DisplayName("jti가 있는 토큰은 binary key로, 이전 토큰은 기존 key로 조회한다")
+    void isBlacklistedWithTokenIdTest() {
+        VerifiedToken compact = new VerifiedToken("compact", null, "AAECAwQFBgcICQoL", 0L, 1000L, "u", null);
+        VerifiedToken legacy = new VerifiedToken("legacy", null, "u", 0L, 1000L);
+
+        when(store.exists(aryEq(new byte[]{'b', 'l', ':', 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11}))).thenReturn(true);
+        when(store.exists(aryEq(utf8("blacklist:legacy")))).thenReturn(true);
+
+        assertTrue(blacklistService.isBlacklisted(compact));
+        assertTrue(blacklistService.isBlacklisted(legacy));
+    }
+
+    @Test
+    @DisplayName("재발급으로 교체된 토큰은 교체 표시 값으로 등록하고, 그 값일 때만 교체된 토큰으로 본다")
+    void addRotatedTest() {
+        VerifiedToken rotated = new VerifiedToken("rotated", null, "AAECAwQFBgcICQoL", 0L, System.currentTimeMillis() + 60_000L, "u", null);
+        VerifiedToken loggedOut = new VerifiedToken("logged_out", null, "u", 0L, System.currentTimeMillis() + 60_000L);
+        byte[] rotatedKey = {'b', 'l', ':', 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11};
+
+        blacklistService.addRotated(rotated);
+
+        verify(store, times(1)).put(aryEq(rotatedKey), aryEq(utf8(BlacklistKeys.ROTATED_VALUE)),
+                longThat(ttl -> ttl > 0 && ttl <= 60_000L));
+        verify(jwtProvider, times(1)).evictVerified("rotated");
+
+        when(store.get(aryEq(rotatedKey))).thenReturn(utf8(BlacklistKeys.ROTATED_VALUE));
+        when(store.get(aryEq(utf8("blacklist:logged_out")))).thenReturn(utf8("logout"));
+
+        assertTrue(blacklistService.isRotated(rotated));
+        assertFalse(blacklistService.isRotated(loggedOut));
+    }
+
+    @Test
+    @DisplayName("교체된 토큰이라도 폐기 기준 시각 전에 발급되었으면 전체 로그아웃으로 폐기된 것으로 본다")
+    void isRotatedByRevocationEpochTest() {
+        VerifiedToken token = new VerifiedToken("t1", null, "AAECAwQFBgcICQoL", 1000L, 60_000L, "user", null);
+
+        when(revocationEpochs.isRevoked("user", 1000L)).thenReturn(true);
+
+        assertFalse(blacklistService.isRotated(token));
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    @DisplayName("사용자 전체 폐기는 폐기 기준 시각만 기록한다")
+    void revokeAllTest() {
+        blacklistService.revokeAll("user");
+
+        verify(revocationEpochs, times(1)).revokeAll("user");
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    @DisplayName("폐기 기준 시각 전에 발급된 토큰은 블랙리스트를 조회하지 않고 폐기된 것으로 본다")
+    void isBlacklistedByRevocationEpochTest() {
+        VerifiedToken token = new VerifiedToken("t1", null, "user", 1000L, 60_000L);
+
+        when(revocationEpochs.isRevoked("user", 1000L)).thenReturn(true);
+
+        assertTrue(blacklistService.isBlacklisted(token));
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    @DisplayName("일괄 조회 시 폐기 기준 시각 전에 발급된 토큰은 저장소 조회에서 제외한다")
+    void areBlacklistedByRevocationEpochTest() {
+        List<VerifiedToken> tokens = List.of(
+                new VerifiedToken("t1", null, "revoked", 1000L, 0L),
+                new VerifiedToken("t2", null, "active", 1000L, 0L),
+                new VerifiedToken("t3", null, "revoked", 3000L, 0L));
+
+        when(revocationEpochs.revokedBefore(List.of("revoked", "active", "revoked")))
+                .thenReturn(Map.of("revoked", 2000L, "active", 0L));
+        when(store.getAll(anyList())).thenReturn(Arrays.asList(null, null));
+
+        assertEquals(List.of(true, false, false), blacklistService.areBlacklisted(tokens));
+        verify(store, times(1)).getAll(keys("blacklist:t2", "blacklist:t3"));
+    }
+
+    @Test
+    @DisplayName("write-behind 큐가 있으면 블랙리스트 쓰기를 큐에 넣는다")
+    void addBlacklistWithWriteBehindQueueTest() {
+        RedisWriteBehindQueue writeBehindQueue = mock(RedisWriteBehindQueue.class);
+        when(writeBehindQueue.set(any(), any(), anyLong())).thenReturn(CompletableFuture.completedFuture(null));
+        blacklistService.setWriteBehindQueue(writeBehindQueue);
+        VerifiedToken compact = new VerifiedToken("compact", null, "AAECAwQFBgcICQoL", 0L, System.currentTimeMillis() + 60_000L, "u", null);
+        VerifiedToken legacy = new VerifiedToken("legacy", null, "u", 0L, System.currentTimeMillis() + 60_000L);
+
+        blacklistService.addBlacklist(compact);
+        blacklistService.addBlacklist(legacy);
+
+        verify(writeBehindQueue, times(1)).set(
+                aryEq(new byte[]{'b', 'l', ':', 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11}), aryEq(new byte[0]), longThat(ttl -> ttl > 0));
+        verify(writeBehindQueue, times(1)).set(
+                aryEq(utf8("blacklist:legacy")), aryEq(utf8("logout")), longThat(ttl -> ttl > 0));
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    @DisplayName("write-behind 쓰기가 반영되기 전에는 검증 캐시를 비우지 않는다")
+    void addBlacklistRecordsAfterWriteBehindFlushTest() {
+        RedisWriteBehindQueue writeBehindQueue = mock(RedisWriteBehindQueue.class);
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        when(writeBehindQueue.set(any(), any(), anyLong())).thenReturn(written);
+        blacklistService.setWriteBehindQueue(writeBehindQueue);
+        VerifiedToken token = new VerifiedToken("pending", null, "u", 0L, System.currentTimeMillis() + 60_000L);
+
+        blacklistService.addBlacklist(token);
+        verify(jwtProvider, never()).evictVerified("pending");
+
+        written.complete(null);
+        verify(jwtProvider, times(1)).evictVerified("pending");
+    }
+
+    @Test
+    @DisplayName("jti만으로 블랙리스트 등록 시 binary key로 등록하고, jti 형식이 아니면 무시한다")
+    void addBlacklistByTokenIdTest() {
+        blacklistService.addBlacklistByTokenId("AAECAwQFBgcICQoL", 60_000L);
+        blacklistService.addBlacklistByTokenId("not-a-token-id", 60_000L);
+
+        verify(store, times(1)).put(
+                aryEq(new byte[]{'b', 'l', ':', 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11}),
+                aryEq(new byte[0]),
+                longThat(ttl -> ttl > 0 && ttl <= 60_000L)
+        );
+        verifyNoMoreInteractions(store);
+    }
+
+    @Test
+    @DisplayName("이미 기록된 폐기는 저장소에 쓰지 않고 음성 캐시와 검증 캐시에만 반영한다")
+    void recordRevokedTest() {
+        BlacklistNegativeCache negativeCache = mock(BlacklistNegativeCache.class);
+        blacklistService.setNegativeCache(negativeCache);
+        long expiresAt = System.currentTimeMillis() + 60_000L;
+        VerifiedToken token = new VerifiedToken("access_token", null, "AAECAwQFBgcICQoL", 0L, expiresAt, "u", null);
+
+        blacklistService.recordRevoked(token);
+
+        verify(negativeCache, times(1)).recordAdded("bl:AAECAwQFBgcICQoL", expiresAt);
+        verify(jwtProvider, times(1)).evictVerified("access_token");
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    @DisplayName("near cache가 있으면 단건 조회를 near cache로 하고, 등록한 key는 로컬에서 바로 무효화한다")
+    void isBlacklistedWithNearCacheTest() {
+        TrackingNearCache nearCache = mock(TrackingNearCache.class);
+        blacklistService.setNearCache(nearCache);
+        VerifiedToken revoked = new VerifiedToken("revoked", null, "u", 0L, 1000L);
+        VerifiedToken active = new VerifiedToken("active", null, "u", 0L, 1000L);
+
+        when(nearCache.get(aryEq(utf8("blacklist:revoked")))).thenReturn(utf8("logout"));
+
+        assertTrue(blacklistService.isBlacklisted(revoked));
+        assertFalse(blacklistService.isBlacklisted(active));
+        verifyNoInteractions(store);
+
+        blacklistService.recordRevoked(active);
+
+        verify(nearCache, times(1)).invalidate(aryEq(utf8("blacklist:active")));
+    }
+
+    private static List<byte[]> keys(String... expected) {
+        return argThat(keys -> keys.size() == expected.length
+                && IntStream.range(0, expected.length).allMatch(i -> Arrays.equals(keys.get(i), utf8(expected[i]))));
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,91 @@
+package com.nhnacademy.service.blacklist.impl;
+
+import com.nhnacademy.common.store.TokenStore;
+import com.nhnacademy.token.provider.JwtProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.aryEq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserRevocationEpochsTest {
+    @Mock
+    TokenStore store;
+
+    @Mock
+    JwtProvider jwtProvider;
+
+    @InjectMocks
+    UserRevocationEpochs revocationEpochs;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(revocationEpochs, "cacheTtlMillis", 60_000L);
+    }
+
+    @Test
+    @DisplayName("전체 폐기는 초 단위로 내림한 기준 시각 key 하나를 refresh token 유효 기간 TTL로 저장한다")
+    void revokeAllTest() {
+        when(jwtProvider.getRefreshTokenValidity()).thenReturn(604800000L);
+
+        long revokedBefore = revocationEpochs.revokeAll("user@nhnacademy.com");
+
+        assertEquals(0, revokedBefore % 1000);
+        assertTrue(revokedBefore <= System.currentTimeMillis());
+        verify(store, times(1)).put(
+                aryEq(utf8("revokedBefore:user@nhnacademy.com")), aryEq(utf8(String.valueOf(revokedBefore))), eq(604800000L));
+        verifyNoMoreInteractions(store);
+    }
+
+    @Test
+    @DisplayName("기준 시각 전에 발급된 토큰만 폐기된 것으로 본다")
+    void isRevokedTest() {
+        when(store.get(aryEq(utf8("revokedBefore:user")))).thenReturn(utf8("5000"));
+
+        assertTrue(revocationEpochs.isRevoked("user", 4000L));
+        assertFalse(revocationEpochs.isRevoked("user", 5000L));
+        assertFalse(revocationEpochs.isRevoked("user", 6000L));
+    }
+
+    @Test
+    @DisplayName("기준 시각이 없는 사용자도 로컬에 캐시하여 저장소를 반복 조회하지 않는다")
+    void cacheTest() {
+        assertEquals(0L, revocationEpochs.revokedBefore("user"));
+        assertEquals(0L, revocationEpochs.revokedBefore("user"));
+
+        verify(store, times(1)).get(aryEq(utf8("revokedBefore:user")));
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 캐시에 없는 사용자만 한 번에 조회한다")
+    void revokedBeforeBatchTest() {
+        when(store.get(aryEq(utf8("revokedBefore:cached")))).thenReturn(utf8("1000"));
+        when(store.getAll(argThat(keys -> keys.size() == 2
+                && Arrays.equals(keys.get(0), utf8("revokedBefore:a"))
+                && Arrays.equals(keys.get(1), utf8("revokedBefore:b")))))
+                .thenReturn(Arrays.asList(utf8("2000"), null));
+
+        revocationEpochs.revokedBefore("cached");
+        Map<String, Long> result = revocationEpochs.revokedBefore(List.of("a", "cached", "b", "a"));
+
+        assertEquals(Map.of("a", 2000L, "b", 0L, "cached", 1000L), result);
+        verify(store, times(1)).getAll(anyList());
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
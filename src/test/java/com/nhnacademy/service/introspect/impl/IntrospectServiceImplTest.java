@@ -0,0 +1,118 @@
+package com.nhnacademy.service.introspect.impl;
+
+import com.nhnacademy.dto.TokenIntrospection;
+import com.nhnacademy.service.blacklist.BlacklistService;
+import com.nhnacademy.token.exception.TokenException;
+import com.nhnacademy.token.provider.JwtProvider;
+import com.nhnacademy.token.provider.VerifiedToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IntrospectServiceImplTest {
+    @Mock
+    JwtProvider jwtProvider;
+
+    @Mock
+    BlacklistService blacklistService;
+
+    @InjectMocks
+    IntrospectServiceImpl introspectService;
+
+    @Test
+    @DisplayName("유효, 폐기, 검증 실패, refresh token을 구분하고 블랙리스트는 한 번만 조회한다")
+    void introspectTest() {
+        long exp = System.currentTimeMillis() + 60_000;
+        VerifiedToken valid = new VerifiedToken("valid", null, "user@test.com", 1_000L, exp);
+        VerifiedToken revoked = new VerifiedToken("revoked", null, "user@test.com", 1_000L, exp);
+        VerifiedToken refresh = new VerifiedToken("refresh", null, null, 1_000L, exp);
+
+        when(jwtProvider.verify("valid")).thenReturn(valid);
+        when(jwtProvider.verify("revoked")).thenReturn(revoked);
+        when(jwtProvider.verify("refresh")).thenReturn(refresh);
+        when(jwtProvider.verify("broken")).thenThrow(new TokenException("토큰 파싱 중 예외 발생"));
+        when(blacklistService.areBlacklisted(List.of(valid, revoked, refresh)))
+                .thenReturn(List.of(false, true, false));
+
+        List<TokenIntrospection> results =
+                introspectService.introspect(List.of("valid", "broken", "revoked", "refresh"));
+
+        assertEquals(4, results.size());
+        assertTrue(results.get(0).isActive());
+        assertNull(results.get(0).getSubject());
+        assertEquals(exp / 1000, results.get(0).getExpiresAt());
+        assertEquals(1L, results.get(0).getIssuedAt());
+        assertFalse(results.get(1).isActive());
+        assertFalse(results.get(2).isActive());
+        assertFalse(results.get(3).isActive());
+        verify(blacklistService, times(1)).areBlacklisted(anyList());
+    }
+
+    @Test
+    @DisplayName("compact 프로필 토큰은 사용자 ID를 조회하지 않고 sub를 그대로 반환한다")
+    void introspectCompactTest() {
+        long exp = System.currentTimeMillis() + 60_000;
+        AtomicInteger lookups = new AtomicInteger();
+        VerifiedToken compact = new VerifiedToken("compact", "subject-1", "jti", 1_000L, exp, null, () -> {
+            lookups.incrementAndGet();
+            return "user@test.com";
+        });
+        when(jwtProvider.verify("compact")).thenReturn(compact);
+        when(blacklistService.areBlacklisted(List.of(compact))).thenReturn(List.of(false));
+
+        List<TokenIntrospection> results = introspectService.introspect(List.of("compact"));
+
+        assertTrue(results.get(0).isActive());
+        assertEquals("subject-1", results.get(0).getSubject());
+        assertEquals(0, lookups.get());
+    }
+
+    @Test
+    @DisplayName("모든 토큰이 검증에 실패하면 블랙리스트를 조회하지 않는다")
+    void introspectAllInvalidTest() {
+        when(jwtProvider.verify(anyString())).thenThrow(new TokenException("토큰 파싱 중 예외 발생"));
+
+        List<TokenIntrospection> results = introspectService.introspect(List.of("a", "b"));
+
+        assertFalse(results.get(0).isActive());
+        assertFalse(results.get(1).isActive());
+        verifyNoInteractions(blacklistService);
+    }
+
+    @Test
+    @DisplayName("큰 배치는 병렬로 검증해도 결과 순서가 입력 순서와 같아야 한다")
+    void introspectLargeBatchTest() {
+        long exp = System.currentTimeMillis() + 60_000;
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            String token = "token-" + i;
+            tokens.add(token);
+            lenient().when(jwtProvider.verify(token))
+                    .thenReturn(new VerifiedToken(token, "sub" + i, "user" + i, 0L, exp));
+        }
+        when(blacklistService.areBlacklisted(anyList()))
+                .thenAnswer(invocation -> {
+                    List<VerifiedToken> verified = invocation.getArgument(0);
+                    return verified.stream().map(v -> false).toList();
+                });
+
+        List<TokenIntrospection> results = introspectService.introspect(tokens);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals("sub" + i, results.get(i).getSubject());
+        }
+    }
+}
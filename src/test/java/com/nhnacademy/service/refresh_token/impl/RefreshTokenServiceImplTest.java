@@ -1,30 +1,48 @@
 package com.nhnacademy.service.refresh_token.impl;
 
+import com.nhnacademy.common.redis.RedisWriteBehindQueue;
+import com.nhnacademy.common.store.TokenStore;
+import com.nhnacademy.dto.RefreshSession;
 import com.nhnacademy.service.blacklist.BlacklistService;
 import com.nhnacademy.token.exception.InvalidRefreshTokenException;
 import com.nhnacademy.token.exception.RefreshTokenNotFoundException;
+import com.nhnacademy.token.exception.RefreshTokenReusedException;
+import com.nhnacademy.token.exception.TokenException;
 import com.nhnacademy.token.provider.JwtProvider;
+import com.nhnacademy.token.provider.VerifiedToken;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @SpringBootTest
 class RefreshTokenServiceImplTest {
     @Mock
-    RedisTemplate<String, Object> template;
-
-    @Mock
-    ValueOperations<String, Object> valueOperations;
+    TokenStore store;
 
     @Mock
     JwtProvider jwtProvider;
@@ -35,56 +53,297 @@ class RefreshTokenServiceImplTest {
     @InjectMocks
     RefreshTokenServiceImpl refreshTokenService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(refreshTokenService, "slidingExpiry", true);
+        ReflectionTestUtils.setField(refreshTokenService, "maxSessionsPerUser", 20);
+    }
+
     @Test
-    @DisplayName("refresh token 추가 테스트")
+    @DisplayName("refresh token 추가 테스트 : 세션 Hash에 만료 시각과 digest를 저장한다")
     void setRefreshTokenTest() {
-        String refreshToken = "refresh_token";
-        String userId = "user_id";
         long ttl = 3600000L;
 
         when(jwtProvider.getRefreshTokenValidity()).thenReturn(ttl);
-        when(template.opsForValue()).thenReturn(valueOperations);
+        when(jwtProvider.digestRefreshToken("refresh_token")).thenReturn("refresh_token_digest");
+        when(store.putField(any(), any(), any(), anyLong())).thenReturn(1L);
+
+        refreshTokenService.setRefreshToken("refresh_token", "user_id", "session_id");
+
+        ArgumentCaptor<byte[]> value = ArgumentCaptor.forClass(byte[].class);
+        verify(store, times(1)).putField(aryEq(utf8("sessions:user_id")), aryEq(utf8("session_id")), value.capture(), eq(ttl));
+        String stored = new String(value.getValue(), StandardCharsets.UTF_8);
+        assertTrue(stored.endsWith(":refresh_token_digest"));
+        assertTrue(RefreshTokenServiceImpl.expiresAtOf(stored) > System.currentTimeMillis());
+        verify(store, never()).getFields(any());
+    }
+
+    @Test
+    @DisplayName("refresh token 추가 테스트 : 세션 수가 상한을 넘으면 만료된 세션과 오래된 세션부터 정리한다")
+    void setRefreshTokenPruneTest() {
+        ReflectionTestUtils.setField(refreshTokenService, "maxSessionsPerUser", 2);
+        long now = System.currentTimeMillis();
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("expired", RefreshTokenServiceImpl.sessionValue(now - 1000L, "d1"));
+        entries.put("oldest", RefreshTokenServiceImpl.sessionValue(now + 1000L, "d2"));
+        entries.put("newer", RefreshTokenServiceImpl.sessionValue(now + 2000L, "d3"));
+        entries.put("newest", RefreshTokenServiceImpl.sessionValue(now + 3000L, "d4"));
+
+        when(jwtProvider.getRefreshTokenValidity()).thenReturn(3600000L);
+        when(jwtProvider.digestRefreshToken("refresh_token")).thenReturn("refresh_token_digest");
+        when(store.putField(any(), any(), any(), anyLong())).thenReturn(4L);
+        when(store.getFields(aryEq(utf8("sessions:user_id")))).thenReturn(fields(entries));
 
-        refreshTokenService.setRefreshToken(refreshToken, userId);
+        refreshTokenService.setRefreshToken("refresh_token", "user_id", "newest");
 
-        verify(template.opsForValue(), times(1)).set(
-                "refreshToken:user_id",
-                "refresh_token",
-                ttl,
-                TimeUnit.MILLISECONDS
-        );
+        verify(store, times(1)).deleteFields(aryEq(utf8("sessions:user_id")), keys("expired", "oldest"));
     }
 
     @Test
-    @DisplayName("refresh token 삭제 테스트")
+    @DisplayName("refresh token 추가 테스트 : write-behind 큐가 있으면 세션 쓰기를 큐에 넣고, 반영된 세션 수가 상한을 넘으면 정리한다")
+    void setRefreshTokenWithWriteBehindQueueTest() {
+        RedisWriteBehindQueue writeBehindQueue = mock(RedisWriteBehindQueue.class);
+        refreshTokenService.setWriteBehindQueue(writeBehindQueue);
+        ReflectionTestUtils.setField(refreshTokenService, "maxSessionsPerUser", 1);
+        CompletableFuture<Long> written = new CompletableFuture<>();
+
+        when(jwtProvider.getRefreshTokenValidity()).thenReturn(3600000L);
+        when(jwtProvider.digestRefreshToken("refresh_token")).thenReturn("refresh_token_digest");
+        when(writeBehindQueue.putField(any(), any(), any(), anyLong())).thenReturn(written);
+        when(store.getFields(aryEq(utf8("sessions:user_id")))).thenReturn(Map.of());
+
+        refreshTokenService.setRefreshToken("refresh_token", "user_id", "session_id");
+
+        verify(writeBehindQueue, times(1)).putField(aryEq(utf8("sessions:user_id")), aryEq(utf8("session_id")), any(), eq(3600000L));
+        verify(store, never()).putField(any(), any(), any(), anyLong());
+        verify(store, never()).getFields(any());
+
+        written.complete(2L);
+        verify(store, times(1)).getFields(aryEq(utf8("sessions:user_id")));
+    }
+
+    @Test
+    @DisplayName("refresh token 삭제 테스트 : 현재 세션과 전환 전 단일 세션 key만 한 번의 배치로 삭제한다")
     void removeRefreshTokenTest() {
-        String accessToken = "access_token";
-        String userId = "user_id";
+        when(jwtProvider.verify(anyString())).thenReturn(verifiedToken("access_token", "user_id"));
+        runBatchOnStore();
 
-        when(jwtProvider.getUserIdFromToken(anyString())).thenReturn(userId);
+        refreshTokenService.removeRefreshToken("access_token");
 
-        refreshTokenService.removeRefreshToken(accessToken);
+        verify(store, times(1)).writeBatch(any());
+        verify(store, times(1)).deleteFields(aryEq(utf8("sessions:user_id")), keys("session_id"));
+        verify(store, times(1)).delete(keys("refreshToken:user_id"));
+    }
+
+    @Test
+    @DisplayName("세션 목록 조회 테스트 : 만료된 세션은 빼고 늦게 만료되는 순서로 현재 세션을 표시한다")
+    void getSessionsTest() {
+        long now = System.currentTimeMillis();
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("expired", RefreshTokenServiceImpl.sessionValue(now - 1000L, "d1"));
+        entries.put("session_id", RefreshTokenServiceImpl.sessionValue(now + 1000L, "d2"));
+        entries.put("other", RefreshTokenServiceImpl.sessionValue(now + 2000L, "d3"));
 
-        verify(template, times(1)).delete("refreshToken:user_id");
+        when(store.getFields(aryEq(utf8("sessions:user_id")))).thenReturn(fields(entries));
+
+        List<RefreshSession> sessions = refreshTokenService.getSessions(verifiedToken("access_token", "user_id"));
+
+        assertEquals(2, sessions.size());
+        assertEquals("other", sessions.get(0).getSessionId());
+        assertFalse(sessions.get(0).isCurrent());
+        assertEquals("session_id", sessions.get(1).getSessionId());
+        assertTrue(sessions.get(1).isCurrent());
+    }
+
+    @Test
+    @DisplayName("세션 삭제 테스트")
+    void removeSessionTest() {
+        when(store.deleteFields(aryEq(utf8("sessions:user_id")), keys("session_id"))).thenReturn(1L);
+        when(store.deleteFields(aryEq(utf8("sessions:user_id")), keys("unknown"))).thenReturn(0L);
+
+        assertTrue(refreshTokenService.removeSession("user_id", "session_id"));
+        assertFalse(refreshTokenService.removeSession("user_id", "unknown"));
     }
 
     @Test
-    @DisplayName("access token 재발급 테스트")
+    @DisplayName("전체 세션 삭제 테스트")
+    void removeAllSessionsTest() {
+        refreshTokenService.removeAllSessions("user_id");
+
+        verify(store, times(1)).delete(keys("sessions:user_id", "refreshToken:user_id"));
+    }
+
+    @Test
+    @DisplayName("해시 태그 사용 시 사용자 ID를 중괄호로 감싼 key를 사용한다")
+    void hashTagKeyTest() {
+        ReflectionTestUtils.setField(refreshTokenService, "hashTags", true);
+        when(store.deleteFields(aryEq(utf8("sessions:{user_id}")), keys("session_id"))).thenReturn(1L);
+
+        assertTrue(refreshTokenService.removeSession("user_id", "session_id"));
+        refreshTokenService.removeAllSessions("user_id");
+
+        verify(store, times(1)).delete(keys("sessions:{user_id}", "refreshToken:{user_id}"));
+    }
+
+    @Test
+    @DisplayName("access token 재발급 테스트 : 세션 ID를 새 access token jti로 교체한다")
     void successReissueAccessTokenTest() {
+        String session = RefreshTokenServiceImpl.sessionValue(System.currentTimeMillis() + 3600000L, "digest");
+
+        when(jwtProvider.verify(anyString())).thenReturn(verifiedToken("access_token", "user_id"));
+        when(store.getField(aryEq(utf8("sessions:user_id")), aryEq(utf8("session_id")))).thenReturn(utf8(session));
+        when(store.replaceField(any(), any(), any(), any(), anyLong())).thenReturn(true);
+        when(jwtProvider.newAccessTokenId()).thenReturn("new_session_id");
+        when(jwtProvider.createAccessToken("user_id", "new_session_id")).thenReturn("new_access_token");
+
+        assertEquals("new_access_token", refreshTokenService.reissueAccessToken("access_token"));
+
+        verify(store, times(1)).replaceField(aryEq(utf8("sessions:user_id")), aryEq(utf8("session_id")),
+                aryEq(utf8("new_session_id")), aryEq(utf8(session)), eq(0L));
+        verify(blacklistService, times(1)).addRotated(any(VerifiedToken.class));
+    }
+
+    @Test
+    @DisplayName("access token 재발급 실패 테스트 : 조회한 세션이 교체 전에 다른 요청으로 교체되거나 삭제되면 서명하지 않고 실패한다")
+    void failedReissueAccessTokenTestWithConcurrentRotation() {
+        String session = RefreshTokenServiceImpl.sessionValue(System.currentTimeMillis() + 3600000L, "digest");
+        VerifiedToken token = verifiedToken("access_token", "user_id");
+
+        when(store.getField(aryEq(utf8("sessions:user_id")), aryEq(utf8("session_id")))).thenReturn(utf8(session));
+        when(store.replaceField(any(), any(), any(), any(), anyLong())).thenReturn(false);
+        when(jwtProvider.newAccessTokenId()).thenReturn("new_session_id");
+
+        assertThrows(RefreshTokenNotFoundException.class, () -> refreshTokenService.reissueAccessToken(token));
+
+        verify(jwtProvider, never()).createAccessToken(anyString(), any());
+        verify(blacklistService, never()).addRotated(any(VerifiedToken.class));
+        assertEquals(0L, refreshTokenService.getSlidingExpiryStats().getSkippedCount());
+    }
+
+    @Test
+    @DisplayName("access token 재발급 테스트 : 허용 시간 안에 만료된 access token은 블랙리스트에 등록하지 않는다")
+    void reissueWithExpiredAccessTokenTest() {
+        ReflectionTestUtils.setField(refreshTokenService, "expiredTokenWindowMillis", 600_000L);
+        long now = System.currentTimeMillis();
+        VerifiedToken expired = new VerifiedToken("access_token", null, "session_id", now - 120_000L, now - 60_000L, "user_id", null);
+
+        when(jwtProvider.verifyAllowingExpired("access_token", 600_000L)).thenReturn(expired);
+        when(store.getField(aryEq(utf8("sessions:user_id")), aryEq(utf8("session_id"))))
+                .thenReturn(utf8(RefreshTokenServiceImpl.sessionValue(now + 3600000L, "digest")));
+        when(store.replaceField(any(), any(), any(), any(), anyLong())).thenReturn(true);
+        when(jwtProvider.newAccessTokenId()).thenReturn("new_session_id");
+        when(jwtProvider.createAccessToken("user_id", "new_session_id")).thenReturn("new_access_token");
+
+        assertEquals("new_access_token", refreshTokenService.reissueAccessToken("access_token"));
+
+        verify(jwtProvider, never()).verify(anyString());
+        verify(blacklistService, never()).addRotated(any(VerifiedToken.class));
+    }
+
+    @Test
+    @DisplayName("재발급 스크립트 : 만료된 access token으로 재발급하면 로컬 블랙리스트 상태를 갱신하지 않는다")
+    void reissueWithScriptExpiredAccessTokenTest() {
+        ReissueScript reissueScript = mock(ReissueScript.class);
+        refreshTokenService.setReissueScript(reissueScript);
+        long now = System.currentTimeMillis();
+        VerifiedToken expired = new VerifiedToken("access_token", null, "session_id", now - 120_000L, now - 60_000L, "user_id", null);
+
+        when(jwtProvider.createAccessToken(eq("user_id"), any())).thenReturn("new_access_token");
+        when(reissueScript.reissue(eq("user_id"), eq(expired), any(), anyLong(), anyLong(), anyLong(), anyLong()))
+                .thenReturn(result(ReissueScript.Status.REISSUED));
+
+        assertEquals("new_access_token", refreshTokenService.reissueAccessToken(expired));
+
+        verify(blacklistService, never()).recordRevoked(any(VerifiedToken.class));
+        verify(blacklistService, never()).addRotated(any(VerifiedToken.class));
+    }
+
+    @Test
+    @DisplayName("슬라이딩 만료 테스트 : 남은 기간이 유효 기간의 절반보다 짧을 때만 세션을 연장한다")
+    void slidingExpiryTest() {
+        long ttl = 3600000L;
+        long now = System.currentTimeMillis();
+        String fresh = RefreshTokenServiceImpl.sessionValue(now + ttl - 60_000L, "digest");
+        String aging = RefreshTokenServiceImpl.sessionValue(now + 60_000L, "digest");
+
+        when(jwtProvider.getRefreshTokenValidity()).thenReturn(ttl);
+        when(store.getField(aryEq(utf8("sessions:user_id")), aryEq(utf8("fresh")))).thenReturn(utf8(fresh));
+        when(store.getField(aryEq(utf8("sessions:user_id")), aryEq(utf8("aging")))).thenReturn(utf8(aging));
+        when(store.replaceField(any(), any(), any(), any(), anyLong())).thenReturn(true);
+        when(jwtProvider.newAccessTokenId()).thenReturn("fresh_next", "aging_next");
+        when(jwtProvider.createAccessToken(eq("user_id"), any())).thenReturn("first_access_token", "second_access_token");
+
+        refreshTokenService.reissueAccessToken(new VerifiedToken("a1", null, "fresh", now, now + 60_000L, "user_id", null));
+        refreshTokenService.reissueAccessToken(new VerifiedToken("a2", null, "aging", now, now + 60_000L, "user_id", null));
+
+        verify(store, times(1)).replaceField(aryEq(utf8("sessions:user_id")), aryEq(utf8("fresh")),
+                aryEq(utf8("fresh_next")), aryEq(utf8(fresh)), eq(0L));
+        ArgumentCaptor<byte[]> extendedValue = ArgumentCaptor.forClass(byte[].class);
+        verify(store, times(1)).replaceField(aryEq(utf8("sessions:user_id")), aryEq(utf8("aging")),
+                aryEq(utf8("aging_next")), extendedValue.capture(), eq(ttl));
+        assertTrue(RefreshTokenServiceImpl.expiresAtOf(new String(extendedValue.getValue(), StandardCharsets.UTF_8)) >= now + ttl);
+
+        SlidingExpiryStats stats = refreshTokenService.getSlidingExpiryStats();
+        assertEquals(1L, stats.getExtendedCount());
+        assertEquals(1L, stats.getSkippedCount());
+    }
+
+    @Test
+    @DisplayName("재발급 스크립트 : 스크립트가 세션을 연장했는지 통계에 반영한다")
+    void reissueWithScriptSlidingExpiryStatsTest() {
+        ReissueScript reissueScript = mock(ReissueScript.class);
+        refreshTokenService.setReissueScript(reissueScript);
+        VerifiedToken first = verifiedToken("first", "user_id");
+        VerifiedToken second = new VerifiedToken("second", null, "other_session", 0L, System.currentTimeMillis() + 3600000L, "user_id", null);
+
+        when(jwtProvider.createAccessToken(eq("user_id"), any())).thenReturn("new_access_token");
+        when(reissueScript.reissue(eq("user_id"), any(VerifiedToken.class), any(), anyLong(), anyLong(), anyLong(), anyLong()))
+                .thenReturn(new ReissueScript.Result(ReissueScript.Status.REISSUED, null, true))
+                .thenReturn(result(ReissueScript.Status.REISSUED));
+
+        refreshTokenService.reissueAccessToken(first);
+        refreshTokenService.reissueAccessToken(second);
+
+        SlidingExpiryStats stats = refreshTokenService.getSlidingExpiryStats();
+        assertEquals(1L, stats.getExtendedCount());
+        assertEquals(1L, stats.getSkippedCount());
+        assertEquals(0.5, stats.getSkipRatio());
+    }
+
+    @Test
+    @DisplayName("access token 재발급 실패 테스트 : 만료된 세션은 삭제하고 실패한다")
+    void failedReissueAccessTokenTestWithExpiredSession() {
+        VerifiedToken token = verifiedToken("access_token", "user_id");
+
+        when(store.getField(aryEq(utf8("sessions:user_id")), aryEq(utf8("session_id"))))
+                .thenReturn(utf8(RefreshTokenServiceImpl.sessionValue(System.currentTimeMillis() - 1000L, "digest")));
+
+        assertThrows(RefreshTokenNotFoundException.class, () -> refreshTokenService.reissueAccessToken(token));
+        verify(store, times(1)).deleteFields(aryEq(utf8("sessions:user_id")), keys("session_id"));
+        verify(blacklistService, never()).addRotated(any(VerifiedToken.class));
+    }
+
+    @Test
+    @DisplayName("access token 재발급 테스트 : 전환 전 단일 세션 key는 세션으로 옮긴다")
+    void reissueFromLegacyKeyTest() {
         String accessToken = "access_token";
         String userId = "user_id";
         String refreshToken = "refresh_token";
         String newAccessToken = "new_access_token";
 
-        when(jwtProvider.getUserIdFromToken(anyString())).thenReturn(userId);
-        when(template.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(anyString())).thenReturn(refreshToken);
+        when(jwtProvider.verify(anyString())).thenReturn(verifiedToken(accessToken, userId));
+        when(store.get(aryEq(utf8("refreshToken:user_id")))).thenReturn(utf8(refreshToken));
         when(jwtProvider.validateRefreshToken(refreshToken)).thenReturn(true);
-        when(jwtProvider.createAccessToken(anyString())).thenReturn(newAccessToken);
+        when(jwtProvider.newAccessTokenId()).thenReturn("new_session_id");
+        when(jwtProvider.createAccessToken(userId, "new_session_id")).thenReturn(newAccessToken);
+        when(jwtProvider.getRefreshTokenValidity()).thenReturn(3600000L);
 
         assertEquals(newAccessToken, refreshTokenService.reissueAccessToken(accessToken));
 
-        verify(blacklistService, times(1)).addBlacklist(accessToken);
+        verify(jwtProvider, times(1)).verify(accessToken);
+        verify(store, times(1)).putField(aryEq(utf8("sessions:user_id")), aryEq(utf8("new_session_id")), any(), eq(3600000L));
+        verify(store, times(1)).delete(keys("refreshToken:user_id"));
+        verify(blacklistService, times(1)).addRotated(any(VerifiedToken.class));
     }
 
     @Test
@@ -93,9 +352,8 @@ class RefreshTokenServiceImplTest {
         String accessToken = "access_token";
         String userId = "user_id";
 
-        when(jwtProvider.getUserIdFromToken(anyString())).thenReturn(userId);
-        when(template.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(anyString())).thenReturn(null);
+        when(jwtProvider.verify(anyString())).thenReturn(verifiedToken(accessToken, userId));
+        when(store.get(any())).thenReturn(null);
 
         assertThrows(RefreshTokenNotFoundException.class, () -> refreshTokenService.reissueAccessToken(accessToken));
     }
@@ -107,12 +365,11 @@ class RefreshTokenServiceImplTest {
         String userId = "user_id";
         String refreshToken = "";
 
-        when(jwtProvider.getUserIdFromToken(anyString())).thenReturn(userId);
-        when(template.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(anyString())).thenReturn(refreshToken);
+        when(jwtProvider.verify(anyString())).thenReturn(verifiedToken(accessToken, userId));
+        when(store.get(any())).thenReturn(utf8(refreshToken));
 
         assertThrows(RefreshTokenNotFoundException.class, () -> refreshTokenService.reissueAccessToken(accessToken));
-        verifyNoMoreInteractions(blacklistService);
+        verify(blacklistService, never()).addRotated(any(VerifiedToken.class));
     }
 
     @Test
@@ -122,12 +379,351 @@ class RefreshTokenServiceImplTest {
         String userId = "user_id";
         String refreshToken = "invalid_refresh_token";
 
-        when(jwtProvider.getUserIdFromToken(anyString())).thenReturn(userId);
-        when(template.opsForValue()).thenReturn(valueOperations);
-        when(valueOperations.get(anyString())).thenReturn(refreshToken);
+        when(jwtProvider.verify(anyString())).thenReturn(verifiedToken(accessToken, userId));
+        when(store.get(any())).thenReturn(utf8(refreshToken));
         when(jwtProvider.validateRefreshToken(refreshToken)).thenReturn(false);
 
         assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.reissueAccessToken(accessToken));
-        verifyNoMoreInteractions(blacklistService);
+        verify(blacklistService, never()).addRotated(any(VerifiedToken.class));
+    }
+
+    @Test
+    @DisplayName("access token 재발급 실패 테스트 : 폐기된 access token")
+    void failedReissueAccessTokenTestWithRevokedAccessToken() {
+        String accessToken = "access_token";
+        String userId = "user_id";
+
+        when(jwtProvider.verify(anyString())).thenReturn(verifiedToken(accessToken, userId));
+        when(blacklistService.isBlacklisted(any(VerifiedToken.class))).thenReturn(true);
+
+        assertThrows(TokenException.class, () -> refreshTokenService.reissueAccessToken(accessToken));
+        verifyNoInteractions(store);
+        verify(jwtProvider, never()).createAccessToken(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("재발급 스크립트가 있으면 한 번의 실행으로 재발급하고 로컬 블랙리스트 상태만 갱신한다")
+    void reissueWithScriptTest() {
+        ReissueScript reissueScript = mock(ReissueScript.class);
+        refreshTokenService.setReissueScript(reissueScript);
+        VerifiedToken token = verifiedToken("access_token", "user_id");
+
+        when(jwtProvider.getRefreshTokenValidity()).thenReturn(3600000L);
+        when(jwtProvider.newAccessTokenId()).thenReturn("new_session_id");
+        when(jwtProvider.createAccessToken("user_id", "new_session_id")).thenReturn("new_access_token");
+        when(reissueScript.reissue(eq("user_id"), eq(token), eq("new_session_id"),
+                eq(3600000L), eq(1800000L), eq(0L), anyLong()))
+                .thenReturn(result(ReissueScript.Status.REISSUED));
+
+        assertEquals("new_access_token", refreshTokenService.reissueAccessToken(token));
+
+        verify(blacklistService, times(1)).recordRevoked(token);
+        verify(blacklistService, never()).addRotated(any(VerifiedToken.class));
+        verify(blacklistService, never()).isBlacklisted(any(VerifiedToken.class));
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    @DisplayName("재발급 스크립트 : refresh token이 없거나 이미 폐기된 access token이면 실패한다")
+    void reissueWithScriptFailureTest() {
+        ReissueScript reissueScript = mock(ReissueScript.class);
+        refreshTokenService.setReissueScript(reissueScript);
+        VerifiedToken token = verifiedToken("access_token", "user_id");
+
+        when(reissueScript.reissue(eq("user_id"), eq(token), any(), anyLong(), anyLong(), anyLong(), anyLong()))
+                .thenReturn(result(ReissueScript.Status.REFRESH_NOT_FOUND))
+                .thenReturn(result(ReissueScript.Status.REVOKED));
+
+        assertThrows(RefreshTokenNotFoundException.class, () -> refreshTokenService.reissueAccessToken(token));
+        TokenException revoked = assertThrows(TokenException.class, () -> refreshTokenService.reissueAccessToken(token));
+        assertEquals("폐기된 access token입니다.", revoked.getMessage());
+        verify(blacklistService, never()).recordRevoked(any(VerifiedToken.class));
+        verify(jwtProvider, never()).createAccessToken(anyString(), any());
+        verify(blacklistService, never()).revokeAll(anyString());
+    }
+
+    @Test
+    @DisplayName("재발급 스크립트 : 전환 전 JWT 저장값이면 기존 경로로 재발급한다")
+    void reissueWithScriptLegacyValueTest() {
+        ReissueScript reissueScript = mock(ReissueScript.class);
+        refreshTokenService.setReissueScript(reissueScript);
+        VerifiedToken token = verifiedToken("access_token", "user_id");
+
+        when(reissueScript.reissue(eq("user_id"), eq(token), any(), anyLong(), anyLong(), anyLong(), anyLong()))
+                .thenReturn(result(ReissueScript.Status.LEGACY_VALUE));
+        when(store.get(aryEq(utf8("refreshToken:user_id")))).thenReturn(utf8("legacy.refresh.jwt"));
+        when(jwtProvider.validateRefreshToken("legacy.refresh.jwt")).thenReturn(true);
+        when(jwtProvider.createAccessToken(eq("user_id"), any())).thenReturn("new_access_token");
+        when(jwtProvider.getRefreshTokenValidity()).thenReturn(3600000L);
+
+        assertEquals("new_access_token", refreshTokenService.reissueAccessToken(token));
+
+        verify(store, times(1)).delete(keys("refreshToken:user_id"));
+        verify(blacklistService, times(1)).addRotated(token);
+        verify(blacklistService, never()).recordRevoked(any(VerifiedToken.class));
+    }
+
+    @Test
+    @DisplayName("재발급 스크립트 : 재발급할 때 refresh token과 digest를 새로 만들지 않는다")
+    void reissueWithScriptKeepsDigestTest() {
+        ReissueScript reissueScript = mock(ReissueScript.class);
+        refreshTokenService.setReissueScript(reissueScript);
+        VerifiedToken token = verifiedToken("access_token", "user_id");
+
+        when(jwtProvider.getRefreshTokenValidity()).thenReturn(3600000L);
+        when(jwtProvider.newAccessTokenId()).thenReturn("new_session_id");
+        when(jwtProvider.createAccessToken("user_id", "new_session_id")).thenReturn("new_access_token");
+        when(reissueScript.reissue(eq("user_id"), eq(token), eq("new_session_id"),
+                eq(3600000L), eq(1800000L), eq(0L), anyLong()))
+                .thenReturn(result(ReissueScript.Status.REISSUED));
+
+        assertEquals("new_access_token", refreshTokenService.reissueAccessToken(token));
+        verify(jwtProvider, never()).createRefreshToken();
+        verify(jwtProvider, never()).digestRefreshToken(anyString());
+    }
+
+    @Test
+    @DisplayName("재발급 스크립트 : 유예 시간 안의 동시 재발급은 먼저 예약된 jti로 access token을 받는다")
+    void reissueWithScriptCoalescedTest() {
+        ReissueScript reissueScript = mock(ReissueScript.class);
+        refreshTokenService.setReissueScript(reissueScript);
+        VerifiedToken token = verifiedToken("access_token", "user_id");
+
+        when(jwtProvider.newAccessTokenId()).thenReturn("unused_session_id");
+        when(jwtProvider.createAccessToken("user_id", "first_session_id")).thenReturn("first_session_access_token");
+        when(reissueScript.reissue(eq("user_id"), eq(token), any(), anyLong(), anyLong(), anyLong(), anyLong()))
+                .thenReturn(new ReissueScript.Result(ReissueScript.Status.COALESCED, "first_session_id"));
+
+        assertEquals("first_session_access_token", refreshTokenService.reissueAccessToken(token));
+        verify(jwtProvider, never()).createAccessToken("user_id", "unused_session_id");
+        verify(blacklistService, never()).recordRevoked(any(VerifiedToken.class));
+    }
+
+    @Test
+    @DisplayName("재발급 스크립트 : 유예 시간이 지난 뒤 교체된 토큰을 다시 쓰면 세션 전체를 폐기한다")
+    void reissueWithScriptReuseTest() {
+        ReissueScript reissueScript = mock(ReissueScript.class);
+        refreshTokenService.setReissueScript(reissueScript);
+        VerifiedToken token = verifiedToken("access_token", "user_id");
+
+        when(reissueScript.reissue(eq("user_id"), eq(token), any(), anyLong(), anyLong(), anyLong(), anyLong()))
+                .thenReturn(result(ReissueScript.Status.REUSED));
+
+        assertThrows(RefreshTokenReusedException.class, () -> refreshTokenService.reissueAccessToken(token));
+        verify(blacklistService, times(1)).revokeAll("user_id");
+        verify(store, times(1)).delete(keys("sessions:user_id", "refreshToken:user_id"));
+    }
+
+    @Test
+    @DisplayName("재발급 스크립트 : 유예 시간 안의 동시 재발급이라도 예약된 세션이 그 사이 폐기되었으면 서명하지 않는다")
+    void reissueWithScriptCoalescedRevokedTest() {
+        ReissueScript reissueScript = mock(ReissueScript.class);
+        refreshTokenService.setReissueScript(reissueScript);
+        VerifiedToken token = verifiedToken("access_token", "user_id");
+
+        when(reissueScript.reissue(eq("user_id"), eq(token), any(), anyLong(), anyLong(), anyLong(), anyLong()))
+                .thenReturn(new ReissueScript.Result(ReissueScript.Status.COALESCED, "first_session_id"));
+        when(blacklistService.isBlacklisted(argThat(reserved ->
+                reserved != null && "first_session_id".equals(reserved.getTokenId())))).thenReturn(true);
+
+        assertThrows(TokenException.class, () -> refreshTokenService.reissueAccessToken(token));
+        verify(jwtProvider, never()).createAccessToken(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("스크립트 없이 재발급하면 교체된 access token을 교체 표시로 등록하고, 유예 시간 동안 새 세션 ID를 예약한다")
+    void reissueReservesSessionIdTest() {
+        ReflectionTestUtils.setField(refreshTokenService, "graceWindowMillis", 10_000L);
+        String session = RefreshTokenServiceImpl.sessionValue(System.currentTimeMillis() + 3600000L, "digest");
+        VerifiedToken token = verifiedToken("access_token", "user_id");
+
+        when(store.getField(aryEq(utf8("sessions:user_id")), aryEq(utf8("session_id")))).thenReturn(utf8(session));
+        when(store.putIfAbsent(any(), any(), anyLong())).thenReturn(true);
+        when(store.replaceField(any(), any(), any(), any(), anyLong())).thenReturn(true);
+        when(jwtProvider.newAccessTokenId()).thenReturn("new_session_id");
+        when(jwtProvider.createAccessToken("user_id", "new_session_id")).thenReturn("new_access_token");
+
+        assertEquals("new_access_token", refreshTokenService.reissueAccessToken(token));
+
+        verify(store, times(1)).putIfAbsent(aryEq(utf8("reissued:session_id")), aryEq(utf8("new_session_id")), eq(10_000L));
+        verify(blacklistService, times(1)).addRotated(token);
+        verify(blacklistService, never()).addRotated(argThat(other -> other != token));
+    }
+
+    @Test
+    @DisplayName("스크립트 없이 재발급할 때 다른 인스턴스가 먼저 예약했으면 세션을 교체하지 않고 예약된 jti로 서명한다")
+    void reissueCoalescesWithReservationTest() {
+        ReflectionTestUtils.setField(refreshTokenService, "graceWindowMillis", 10_000L);
+        String session = RefreshTokenServiceImpl.sessionValue(System.currentTimeMillis() + 3600000L, "digest");
+        VerifiedToken token = verifiedToken("access_token", "user_id");
+
+        when(store.getField(aryEq(utf8("sessions:user_id")), aryEq(utf8("session_id")))).thenReturn(utf8(session));
+        when(store.putIfAbsent(any(), any(), anyLong())).thenReturn(false);
+        when(store.get(aryEq(utf8("reissued:session_id")))).thenReturn(utf8("first_session_id"));
+        when(jwtProvider.newAccessTokenId()).thenReturn("unused_session_id");
+        when(jwtProvider.createAccessToken("user_id", "first_session_id")).thenReturn("first_session_access_token");
+
+        assertEquals("first_session_access_token", refreshTokenService.reissueAccessToken(token));
+
+        verify(store, never()).replaceField(any(), any(), any(), any(), anyLong());
+        verify(blacklistService, never()).addRotated(any(VerifiedToken.class));
+    }
+
+    @Test
+    @DisplayName("스크립트 없이 재발급할 때 예약 뒤 세션 교체에 실패하면 예약을 지우고 예약한 jti를 폐기한다")
+    void reissueReleasesReservationTest() {
+        ReflectionTestUtils.setField(refreshTokenService, "graceWindowMillis", 10_000L);
+        String session = RefreshTokenServiceImpl.sessionValue(System.currentTimeMillis() + 3600000L, "digest");
+        VerifiedToken token = verifiedToken("access_token", "user_id");
+
+        when(store.getField(aryEq(utf8("sessions:user_id")), aryEq(utf8("session_id")))).thenReturn(utf8(session));
+        when(store.putIfAbsent(any(), any(), anyLong())).thenReturn(true);
+        when(store.replaceField(any(), any(), any(), any(), anyLong())).thenReturn(false);
+        when(jwtProvider.newAccessTokenId()).thenReturn("new_session_id");
+        when(jwtProvider.getAccessTokenValidity()).thenReturn(1800000L);
+
+        assertThrows(RefreshTokenNotFoundException.class, () -> refreshTokenService.reissueAccessToken(token));
+
+        verify(store, times(1)).delete(keys("reissued:session_id"));
+        verify(blacklistService, times(1)).addBlacklistByTokenId("new_session_id", 1800000L);
+        verify(jwtProvider, never()).createAccessToken(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("스크립트 없이 재발급할 때 교체된 access token을 예약 없이 다시 쓰면 세션 전체를 폐기한다")
+    void reissueReuseTest() {
+        ReflectionTestUtils.setField(refreshTokenService, "graceWindowMillis", 10_000L);
+        VerifiedToken token = verifiedToken("access_token", "user_id");
+
+        when(blacklistService.isBlacklisted(token)).thenReturn(true);
+        when(blacklistService.isRotated(token)).thenReturn(true);
+
+        assertThrows(RefreshTokenReusedException.class, () -> refreshTokenService.reissueAccessToken(token));
+
+        verify(store, times(1)).get(aryEq(utf8("reissued:session_id")));
+        verify(blacklistService, times(1)).revokeAll("user_id");
+        verify(store, times(1)).delete(keys("sessions:user_id", "refreshToken:user_id"));
+        verify(jwtProvider, never()).createAccessToken(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("스크립트 없이 재발급할 때 유예 시간 안에 교체된 access token을 다시 쓰면 예약된 jti로 서명한다")
+    void reissueRotatedWithinGraceWindowTest() {
+        ReflectionTestUtils.setField(refreshTokenService, "graceWindowMillis", 10_000L);
+        VerifiedToken token = verifiedToken("access_token", "user_id");
+
+        when(blacklistService.isBlacklisted(token)).thenReturn(true);
+        when(blacklistService.isRotated(token)).thenReturn(true);
+        when(store.get(aryEq(utf8("reissued:session_id")))).thenReturn(utf8("first_session_id"));
+        when(jwtProvider.createAccessToken("user_id", "first_session_id")).thenReturn("first_session_access_token");
+
+        assertEquals("first_session_access_token", refreshTokenService.reissueAccessToken(token));
+
+        verify(blacklistService, never()).revokeAll(anyString());
+        verify(store, never()).getField(any(), any());
+    }
+
+    @Test
+    @DisplayName("유예 시간 안의 재요청이라도 로컬에 보관한 새 access token이 그 사이 폐기되었으면 돌려주지 않는다")
+    void reissueWithinGraceWindowAfterRevocationTest() {
+        ReflectionTestUtils.setField(refreshTokenService, "graceWindowMillis", 10_000L);
+        VerifiedToken token = verifiedToken("access_token", "user_id");
+        VerifiedToken issued = new VerifiedToken("new_access_token", null, "new_session_id", 0L,
+                System.currentTimeMillis() + 3600000L, "user_id", null);
+
+        when(store.get(aryEq(utf8("refreshToken:user_id")))).thenReturn(utf8("refresh_token_digest"));
+        when(jwtProvider.validateRefreshToken("refresh_token_digest")).thenReturn(true);
+        when(jwtProvider.createAccessToken(eq("user_id"), any())).thenReturn("new_access_token");
+        when(jwtProvider.verify("new_access_token")).thenReturn(issued);
+
+        assertEquals("new_access_token", refreshTokenService.reissueAccessToken(token));
+
+        when(blacklistService.isBlacklisted(issued)).thenReturn(true);
+
+        assertThrows(TokenException.class, () -> refreshTokenService.reissueAccessToken(token));
+        verify(jwtProvider, times(1)).createAccessToken(eq("user_id"), any());
+    }
+
+    @Test
+    @DisplayName("유예 시간 안에 같은 access token으로 다시 요청하면 저장소를 거치지 않고 같은 토큰을 돌려준다")
+    void reissueWithinGraceWindowTest() {
+        ReflectionTestUtils.setField(refreshTokenService, "graceWindowMillis", 10_000L);
+        VerifiedToken token = verifiedToken("access_token", "user_id");
+
+        when(store.get(aryEq(utf8("refreshToken:user_id")))).thenReturn(utf8("refresh_token_digest"));
+        when(jwtProvider.validateRefreshToken("refresh_token_digest")).thenReturn(true);
+        when(jwtProvider.createAccessToken(eq("user_id"), any())).thenReturn("new_access_token", "another_access_token");
+
+        assertEquals("new_access_token", refreshTokenService.reissueAccessToken(token));
+        assertEquals("new_access_token", refreshTokenService.reissueAccessToken(token));
+
+        verify(jwtProvider, times(1)).createAccessToken(eq("user_id"), any());
+        verify(blacklistService, times(1)).addRotated(token);
+    }
+
+    @Test
+    @DisplayName("같은 access token으로 동시에 들어온 재발급은 한 번만 처리하고 결과를 공유한다")
+    void concurrentReissueTest() throws Exception {
+        VerifiedToken token = verifiedToken("access_token", "user_id");
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(store.get(aryEq(utf8("refreshToken:user_id")))).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return utf8("refresh_token_digest");
+        });
+        when(jwtProvider.validateRefreshToken("refresh_token_digest")).thenReturn(true);
+        when(jwtProvider.createAccessToken(eq("user_id"), any())).thenReturn("new_access_token", "another_access_token");
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> refreshTokenService.reissueAccessToken(token));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            Future<String> second = executor.submit(() -> refreshTokenService.reissueAccessToken(token));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertEquals("new_access_token", first.get(5, TimeUnit.SECONDS));
+            assertEquals("new_access_token", second.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(jwtProvider, times(1)).createAccessToken(eq("user_id"), any());
+        verify(blacklistService, times(1)).addRotated(token);
+    }
+
+    private static ReissueScript.Result result(ReissueScript.Status status) {
+        return new ReissueScript.Result(status, null);
+    }
+
+    private static VerifiedToken verifiedToken(String accessToken, String userId) {
+        long now = System.currentTimeMillis();
+        return new VerifiedToken(accessToken, null, "session_id", now, now + 3600000L, userId, null);
+    }
+
+    /**
+     * 배치 안의 쓰기를 같은 mock 저장소로 보냅니다.
+     */
+    private void runBatchOnStore() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TokenStore>>getArgument(0).accept(store);
+            return null;
+        }).when(store).writeBatch(any());
+    }
+
+    private static Map<byte[], byte[]> fields(Map<String, String> entries) {
+        Map<byte[], byte[]> fields = new LinkedHashMap<>();
+        entries.forEach((field, value) -> fields.put(utf8(field), utf8(value)));
+        return fields;
+    }
+
+    private static List<byte[]> keys(String... expected) {
+        return argThat(keys -> keys != null && keys.size() == expected.length
+                && IntStream.range(0, expected.length).allMatch(i -> Arrays.equals(keys.get(i), utf8(expected[i]))));
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
     }
 }
\ No newline at end of file
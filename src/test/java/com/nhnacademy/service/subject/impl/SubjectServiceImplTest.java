@@ -0,0 +1,68 @@
+package com.nhnacademy.service.subject.impl;
+
+import com.nhnacademy.common.store.TokenStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.aryEq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SubjectServiceImplTest {
+    @Mock
+    TokenStore store;
+
+    @InjectMocks
+    SubjectServiceImpl subjectService;
+
+    @Test
+    @DisplayName("subject 매핑은 토큰 유효 기간의 2배 TTL로 저장되어야 한다")
+    void registerTest() {
+        subjectService.register("subjectId", () -> "encrypted", 1000L);
+
+        verify(store, times(1)).put(aryEq(utf8("subject:subjectId")), aryEq(utf8("encrypted")), eq(2000L));
+    }
+
+    @Test
+    @DisplayName("최근에 등록한 subject는 다시 저장하거나 암호화하지 않아야 한다")
+    void registerTwiceTest() {
+        AtomicInteger encryptCount = new AtomicInteger();
+
+        subjectService.register("subjectId", () -> "encrypted" + encryptCount.incrementAndGet(), 60000L);
+        subjectService.register("subjectId", () -> "encrypted" + encryptCount.incrementAndGet(), 60000L);
+
+        assertEquals(1, encryptCount.get());
+        verify(store, times(1)).put(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("조회에서 매핑을 찾지 못한 subject는 다음 등록 때 다시 저장해야 한다")
+    void registerAgainAfterMissTest() {
+        subjectService.register("subjectId", () -> "encrypted", 60000L);
+        assertNull(subjectService.findEncryptedUserId("subjectId"));
+        subjectService.register("subjectId", () -> "encrypted", 60000L);
+
+        verify(store, times(2)).put(aryEq(utf8("subject:subjectId")), aryEq(utf8("encrypted")), eq(120000L));
+    }
+
+    @Test
+    @DisplayName("subject로 암호화된 사용자 ID를 조회한다")
+    void findEncryptedUserIdTest() {
+        when(store.get(aryEq(utf8("subject:subjectId")))).thenReturn(utf8("encrypted"));
+
+        assertEquals("encrypted", subjectService.findEncryptedUserId("subjectId"));
+        assertNull(subjectService.findEncryptedUserId("unknown"));
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
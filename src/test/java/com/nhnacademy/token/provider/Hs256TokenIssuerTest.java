@@ -0,0 +1,96 @@
+package com.nhnacademy.token.provider;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Hs256TokenIssuerTest {
+
+    private static final Key KEY =
+            Keys.hmacShaKeyFor("This-Secret-Key-Is-Test-Secret-Key111".getBytes(StandardCharsets.UTF_8));
+    private static final long IAT = 1_750_000_000L;
+    private static final long EXP = IAT + 3 * 60 * 60;
+
+    private final Hs256TokenIssuer issuer = new Hs256TokenIssuer(KEY);
+
+    @Test
+    @DisplayName("user_id가 있는 토큰은 jjwt 빌더와 바이트 단위로 같아야 한다")
+    void shouldMatchJjwtOutput_withUserId() {
+        String userId = "q1w2E3r4T5y6U7i8O9p0+/AbCdEf==";
+
+        assertEquals(jjwt(userId), issuer.issue(IAT, EXP, null, null, userId));
+    }
+
+    @Test
+    @DisplayName("user_id가 없는 토큰은 jjwt 빌더와 바이트 단위로 같아야 한다")
+    void shouldMatchJjwtOutput_withoutUserId() {
+        assertEquals(jjwt(null), issuer.issue(IAT, EXP, null, null, null));
+    }
+
+    @Test
+    @DisplayName("jti와 sub가 있는 토큰은 jjwt 빌더와 바이트 단위로 같아야 한다")
+    void shouldMatchJjwtOutput_withTokenIdAndSubject() {
+        String expected = Jwts.builder()
+                .setIssuedAt(new Date(IAT * 1000))
+                .setExpiration(new Date(EXP * 1000))
+                .signWith(KEY, SignatureAlgorithm.HS256)
+                .setId("AbCdEf0123456789")
+                .setSubject("Zy-x_w9876543210")
+                .compact();
+
+        assertEquals(expected, issuer.issue(IAT, EXP, "AbCdEf0123456789", "Zy-x_w9876543210", null));
+    }
+
+    @Test
+    @DisplayName("초기 버퍼보다 긴 클레임도 발급하고 jjwt로 검증되어야 한다")
+    void shouldGrowBuffer_forLongClaim() {
+        String userId = "A".repeat(1024);
+
+        String token = issuer.issue(IAT, EXP, null, null, userId);
+
+        assertEquals(jjwt(userId), token);
+        assertEquals(jjwt("short"), issuer.issue(IAT, EXP, null, null, "short"));
+    }
+
+    @Test
+    @DisplayName("이스케이프가 필요하거나 ASCII가 아닌 클레임은 빠른 경로에서 처리하지 않아야 한다")
+    void shouldReturnNull_forClaimsNeedingEscape() {
+        assertNull(issuer.issue(IAT, EXP, null, null, "quote\"inside"));
+        assertNull(issuer.issue(IAT, EXP, null, null, "back\\slash"));
+        assertNull(issuer.issue(IAT, EXP, null, null, "한글"));
+        assertNull(issuer.issue(IAT, EXP, null, null, "line\nbreak"));
+    }
+
+    @Test
+    @DisplayName("발급된 토큰은 jjwt 파서로 검증되어야 한다")
+    void shouldBeParsableByJjwt() {
+        long now = System.currentTimeMillis() / 1000;
+        String token = issuer.issue(now, now + 60, null, null, "user");
+
+        Claims claims = Jwts.parserBuilder().setSigningKey(KEY).build().parseClaimsJws(token).getBody();
+
+        assertEquals("user", claims.get("user_id", String.class));
+        assertEquals(new Date(now * 1000), claims.getIssuedAt());
+        assertEquals(new Date((now + 60) * 1000), claims.getExpiration());
+    }
+
+    private static String jjwt(String userId) {
+        var builder = Jwts.builder()
+                .setIssuedAt(new Date(IAT * 1000))
+                .setExpiration(new Date(EXP * 1000))
+                .signWith(KEY, SignatureAlgorithm.HS256);
+        if (userId != null) {
+            builder.claim("user_id", userId);
+        }
+        return builder.compact();
+    }
+}
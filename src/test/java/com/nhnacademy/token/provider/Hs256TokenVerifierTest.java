@@ -0,0 +1,182 @@
+package com.nhnacademy.token.provider;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link Hs256TokenVerifier}와 jjwt 파서의 차등(differential) 테스트입니다.
+ * <p>
+ * JwtProvider는 빠른 검증기가 통과시킨 토큰만 그대로 쓰고 나머지는 jjwt로 다시 검증합니다.
+ * 따라서 "빠른 검증기가 통과시킨 토큰은 jjwt도 통과시키고 클레임 값이 같다"가 성립하면
+ * JwtProvider가 거절하는 토큰 집합은 jjwt 단독일 때와 정확히 같습니다.
+ */
+class Hs256TokenVerifierTest {
+
+    private static final Key KEY =
+            Keys.hmacShaKeyFor("This-Secret-Key-Is-Test-Secret-Key111".getBytes(StandardCharsets.UTF_8));
+    private static final Key OTHER_KEY =
+            Keys.hmacShaKeyFor("This-Secret-Key-Is-Test-Secret-Key222".getBytes(StandardCharsets.UTF_8));
+    private static final String HEADER = "{\"alg\":\"HS256\"}";
+
+    private final Hs256TokenVerifier verifier = new Hs256TokenVerifier(KEY);
+    private final Hs256TokenIssuer issuer = new Hs256TokenIssuer(KEY);
+    private final JwtParser jjwt = Jwts.parserBuilder().setSigningKey(KEY).build();
+
+    @Test
+    @DisplayName("직접 발급한 토큰은 빠른 경로로 검증되고 jjwt와 같은 클레임을 반환해야 한다")
+    void shouldAcceptOwnTokens() {
+        long now = System.currentTimeMillis();
+        String accessToken = issuer.issue(now / 1000, now / 1000 + 3600, null, null, "ZW5jcnlwdGVk");
+        String refreshToken = issuer.issue(now / 1000, now / 1000 + 3600, null, null, null);
+
+        ParsedClaims access = verifier.verify(accessToken, now);
+        ParsedClaims refresh = verifier.verify(refreshToken, now);
+
+        assertNotNull(access);
+        assertNotNull(refresh);
+        assertSameAsJjwt(accessToken, access);
+        assertSameAsJjwt(refreshToken, refresh);
+        assertNull(refresh.userIdClaim());
+    }
+
+    @Test
+    @DisplayName("한 글자씩 변조한 토큰은 jjwt가 통과시키지 않는 한 빠른 경로에서도 통과하지 않아야 한다")
+    void shouldNeverAcceptMoreThanJjwt_forSingleCharMutations() {
+        long now = System.currentTimeMillis();
+        String token = issuer.issue(now / 1000, now / 1000 + 3600, null, null, "ZW5jcnlwdGVkLXVzZXItaWQ=");
+        char[] replacements = {'A', 'B', 'g', 'Q', '-', '_', '.', '=', ' ', '+', '/', '가'};
+
+        int checked = 0;
+        for (int i = 0; i < token.length(); i++) {
+            for (char replacement : replacements) {
+                if (token.charAt(i) == replacement) {
+                    continue;
+                }
+                String mutated = token.substring(0, i) + replacement + token.substring(i + 1);
+                assertDifferentialProperty(mutated, now);
+                checked++;
+            }
+        }
+        assertTrue(checked > token.length());
+    }
+
+    @Test
+    @DisplayName("서명은 맞지만 형태가 다른 payload는 jjwt와 같은 판단을 내리거나 jjwt로 넘겨야 한다")
+    void shouldMatchJjwt_forCorrectlySignedEdgeCases() {
+        long now = System.currentTimeMillis();
+        long exp = now / 1000 + 3600;
+
+        List<String> tokens = new ArrayList<>();
+        for (String payload : List.of(
+                "{\"iat\":1,\"exp\":" + exp + "}",
+                "{\"exp\":" + exp + ",\"iat\":1}",
+                "{\"exp\":" + exp + "}",
+                "{\"iat\":1}",
+                "{}",
+                "{ \"exp\": " + exp + " }",
+                "{\"exp\":" + exp + ".0}",
+                "{\"exp\":\"" + exp + "\"}",
+                "{\"exp\":0" + exp + "}",
+                "{\"exp\":-1}",
+                "{\"exp\":" + exp + ",\"exp\":1}",
+                "{\"exp\":" + exp + ",\"nbf\":" + exp + "}",
+                "{\"exp\":" + exp + ",\"sub\":\"user\"}",
+                "{\"exp\":" + exp + ",\"user_id\":\"a\\\"b\"}",
+                "{\"exp\":" + exp + ",\"user_id\":\"\\u0041\"}",
+                "{\"exp\":" + exp + ",\"user_id\":\"한글\"}",
+                "{\"exp\":" + exp + ",\"user_id\":123}",
+                "{\"exp\":" + exp + ",\"user_id\":null}",
+                "{\"exp\":" + exp + ",\"user_id\":{\"a\":1}}",
+                "{\"exp\":" + exp + "}garbage",
+                "{\"exp\":" + exp + ",}",
+                "{\"exp\":" + (now / 1000 - 1) + "}",
+                "{\"exp\":" + now / 1000 + "}",
+                "{\"exp\":99999999999999999999}",
+                "[1,2,3]",
+                "not json"
+        )) {
+            tokens.add(sign(KEY, HEADER, payload));
+        }
+        tokens.add(sign(KEY, "{\"alg\":\"HS256\",\"typ\":\"JWT\"}", "{\"exp\":" + exp + "}"));
+        tokens.add(sign(KEY, "{\"alg\":\"HS256\",\"zip\":\"DEF\"}", "{\"exp\":" + exp + "}"));
+        tokens.add(sign(OTHER_KEY, HEADER, "{\"exp\":" + exp + "}"));
+        tokens.add(Jwts.builder().setExpiration(new Date(exp * 1000)).signWith(OTHER_KEY, SignatureAlgorithm.HS256).compact());
+        tokens.add(encode("{\"alg\":\"none\"}") + "." + encode("{\"exp\":" + exp + "}") + ".");
+        tokens.add(encode(HEADER) + "." + encode("{\"exp\":" + exp + "}") + "=.sig");
+
+        for (String token : tokens) {
+            assertDifferentialProperty(token, now);
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 입력에는 null을 반환하여 jjwt로 넘겨야 한다")
+    void shouldReturnNull_forMalformedInput() {
+        long now = System.currentTimeMillis();
+
+        assertNull(verifier.verify(null, now));
+        assertNull(verifier.verify("", now));
+        assertNull(verifier.verify("a.b.c", now));
+        assertNull(verifier.verify(Hs256TokenIssuer.ENCODED_HEADER + ".", now));
+        assertNull(verifier.verify("x".repeat(10_000), now));
+    }
+
+    @Test
+    @DisplayName("만료 시각과 같거나 지난 토큰은 빠른 경로에서 통과시키지 않아야 한다")
+    void shouldLeaveExpiryBoundaryToJjwt() {
+        long nowSeconds = System.currentTimeMillis() / 1000;
+        String token = issuer.issue(nowSeconds - 10, nowSeconds, null, null, "user");
+
+        assertNotNull(verifier.verify(token, nowSeconds * 1000 - 1));
+        assertNull(verifier.verify(token, nowSeconds * 1000));
+        assertNull(verifier.verify(token, nowSeconds * 1000 + 1));
+    }
+
+    private void assertDifferentialProperty(String token, long now) {
+        ParsedClaims fast = verifier.verify(token, now);
+        if (fast != null) {
+            assertSameAsJjwt(token, fast);
+        }
+    }
+
+    private void assertSameAsJjwt(String token, ParsedClaims fast) {
+        Claims claims = assertDoesNotThrow(() -> jjwt.parseClaimsJws(token).getBody(),
+                "빠른 경로가 통과시킨 토큰을 jjwt가 거절함: " + token);
+        assertEquals(claims.getSubject(), fast.subject());
+        assertEquals(claims.getId(), fast.tokenId());
+        assertEquals(claims.get("user_id"), fast.userIdClaim());
+        assertEquals(claims.getExpiration().getTime(), fast.expiresAt());
+        assertEquals(claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0L, fast.issuedAt());
+    }
+
+    private static String sign(Key key, String header, String payload) {
+        try {
+            String signingInput = encode(header) + "." + encode(payload);
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(key);
+            byte[] signature = mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+            return signingInput + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
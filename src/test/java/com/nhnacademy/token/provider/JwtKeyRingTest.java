@@ -0,0 +1,165 @@
+package com.nhnacademy.token.provider;
+
+import com.nhnacademy.common.config.UserIdCipher;
+import com.nhnacademy.service.subject.SubjectService;
+import com.nhnacademy.token.exception.TokenException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class JwtKeyRingTest {
+
+    private static final String LEGACY_SECRET = "This-Secret-Key-Is-Test-Secret-Key111";
+    private static final String SECRET_2025 = "This-Secret-Key-Is-Rotation-Key-2025";
+    private static final String SECRET_2026 = "This-Secret-Key-Is-Rotation-Key-2026";
+    private static final String SECRET_2027 = "This-Secret-Key-Is-Rotation-Key-2027";
+
+    private final UserIdCipher cipher = new UserIdCipher() {
+        @Override
+        public String encrypt(String userId) {
+            return "enc:" + userId;
+        }
+
+        @Override
+        public String decrypt(String cipherText) {
+            return cipherText.substring("enc:".length());
+        }
+    };
+
+    @Test
+    @DisplayName("서명 키를 교체해도 이전 키로 발급된 토큰은 계속 검증되어야 한다")
+    void shouldKeepVerifyingOldTokens_afterRotation() {
+        MockEnvironment environment = baseEnvironment()
+                .withProperty("jwt.keys[0].kid", "2025")
+                .withProperty("jwt.keys[0].secret", SECRET_2025);
+        JwtProvider provider = provider(environment);
+        String legacyToken = provider.createAccessToken("legacy@nhnacademy.com");
+
+        environment.setProperty("jwt.signing.active-kid", "2025");
+        provider.reloadKeys();
+        String token2025 = provider.createAccessToken("user@nhnacademy.com");
+
+        assertEquals("2025", JwtKeyRing.readKeyId(token2025));
+        assertNull(JwtKeyRing.readKeyId(legacyToken));
+        assertEquals("legacy@nhnacademy.com", provider.getUserIdFromToken(legacyToken));
+        assertEquals("user@nhnacademy.com", provider.getUserIdFromToken(token2025));
+    }
+
+    @Test
+    @DisplayName("키 링에서 제거된 kid의 토큰은 거절되어야 한다")
+    void shouldRejectTokensOfRemovedKey() {
+        MockEnvironment environment = baseEnvironment()
+                .withProperty("jwt.keys[0].kid", "2025")
+                .withProperty("jwt.keys[0].secret", SECRET_2025)
+                .withProperty("jwt.keys[1].kid", "2026")
+                .withProperty("jwt.keys[1].secret", SECRET_2026)
+                .withProperty("jwt.signing.active-kid", "2025");
+        JwtProvider provider = provider(environment);
+        String token2025 = provider.createAccessToken("user@nhnacademy.com");
+
+        environment.setProperty("jwt.keys[0].kid", "2026");
+        environment.setProperty("jwt.keys[0].secret", SECRET_2026);
+        environment.setProperty("jwt.keys[1].kid", "2027");
+        environment.setProperty("jwt.keys[1].secret", SECRET_2027);
+        environment.setProperty("jwt.signing.active-kid", "2026");
+        provider.onEnvironmentChange(new EnvironmentChangeEvent(Set.of("jwt.keys[0].kid")));
+
+        assertThrows(TokenException.class, () -> provider.verify(token2025));
+        String token2026 = provider.createAccessToken("user@nhnacademy.com");
+        assertEquals("user@nhnacademy.com", provider.getUserIdFromToken(token2026));
+    }
+
+    @Test
+    @DisplayName("잘못된 키 설정으로 갱신하면 기존 키 링이 유지되어야 한다")
+    void shouldKeepPreviousRing_whenReloadFails() {
+        MockEnvironment environment = baseEnvironment();
+        JwtProvider provider = provider(environment);
+        String token = provider.createAccessToken("user@nhnacademy.com");
+
+        environment.setProperty("jwt.signing.active-kid", "missing");
+        provider.onEnvironmentChange(new EnvironmentChangeEvent(Set.of("jwt.signing.active-kid")));
+
+        assertEquals("user@nhnacademy.com", provider.getUserIdFromToken(token));
+        assertNull(JwtKeyRing.readKeyId(provider.createAccessToken("user@nhnacademy.com")));
+        assertEquals("", ReflectionTestUtils.getField(provider, "signingActiveKid"));
+    }
+
+    @Test
+    @DisplayName("kid가 다른 키의 것이면 같은 비밀 키라도 다른 키 파서로 통과하지 않아야 한다")
+    void shouldBindKidToKey() {
+        MockEnvironment environment = baseEnvironment()
+                .withProperty("jwt.keys[0].kid", "2025")
+                .withProperty("jwt.keys[0].secret", SECRET_2025);
+        JwtProvider provider = provider(environment);
+
+        String forged = Jwts.builder()
+                .setHeaderParam("kid", "2025")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .claim("user_id", "enc:attacker@nhnacademy.com")
+                .signWith(Keys.hmacShaKeyFor(LEGACY_SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThrows(TokenException.class, () -> provider.verify(forged));
+    }
+
+    @Test
+    @DisplayName("헤더의 kid를 읽고, 읽을 수 없는 헤더는 null을 반환해야 한다")
+    void shouldReadKeyIdFromHeader() {
+        assertEquals("k1", JwtKeyRing.readKeyId(header("{\"kid\":\"k1\",\"alg\":\"HS256\"}") + ".e30.sig"));
+        assertEquals("k 2", JwtKeyRing.readKeyId(header("{\"alg\":\"ES256\", \"kid\" : \"k 2\"}") + ".e30.sig"));
+        assertNull(JwtKeyRing.readKeyId(header("{\"alg\":\"HS256\"}") + ".e30.sig"));
+        assertNull(JwtKeyRing.readKeyId(header("{\"kid\":\"a\\\"b\"}") + ".e30.sig"));
+        assertNull(JwtKeyRing.readKeyId("not-a-token"));
+        assertNull(JwtKeyRing.readKeyId(null));
+    }
+
+    @Test
+    @DisplayName("kid가 중복되면 키 링을 만들 수 없어야 한다")
+    void shouldRejectDuplicateKid() {
+        JwtKeyProperties first = new JwtKeyProperties();
+        first.setKid("dup");
+        first.setSecret(SECRET_2025);
+        JwtKeyProperties second = new JwtKeyProperties();
+        second.setKid("dup");
+        second.setSecret(SECRET_2026);
+
+        assertThrows(IllegalStateException.class,
+                () -> JwtKeyRing.create(LEGACY_SECRET, List.of(first, second), null, true, true, true));
+    }
+
+    private JwtProvider provider(MockEnvironment environment) {
+        JwtProvider provider = new JwtProvider(cipher, mock(SubjectService.class), environment);
+        ReflectionTestUtils.setField(provider, "jwtSecretKey", LEGACY_SECRET);
+        ReflectionTestUtils.setField(provider, "fastIssuerEnabled", true);
+        ReflectionTestUtils.setField(provider, "fastVerifierEnabled", true);
+        ReflectionTestUtils.setField(provider, "tokenProfile", "standard");
+        ReflectionTestUtils.setField(provider, "signingAlgorithm", "HS256");
+        ReflectionTestUtils.setField(provider, "signingActiveKid", environment.getProperty("jwt.signing.active-kid", ""));
+        ReflectionTestUtils.setField(provider, "hs256FallbackEnabled", true);
+        provider.init();
+        return provider;
+    }
+
+    private static MockEnvironment baseEnvironment() {
+        return new MockEnvironment().withProperty("jwt.secret", LEGACY_SECRET);
+    }
+
+    private static String header(String json) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
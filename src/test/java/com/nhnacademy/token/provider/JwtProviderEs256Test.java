@@ -0,0 +1,161 @@
+package com.nhnacademy.token.provider;
+
+import com.nhnacademy.common.config.UserIdCipher;
+import com.nhnacademy.service.subject.SubjectService;
+import com.nhnacademy.token.exception.TokenException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.AlgorithmParameters;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.ECPoint;
+import java.security.spec.ECPublicKeySpec;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class JwtProviderEs256Test {
+
+    private static final String JWT_SECRET = "This-Secret-Key-Is-Test-Secret-Key111";
+
+    private static KeyPair keyPair;
+
+    private final UserIdCipher cipher = new UserIdCipher() {
+        @Override
+        public String encrypt(String userId) {
+            return "enc:" + userId;
+        }
+
+        @Override
+        public String decrypt(String cipherText) {
+            return cipherText.substring("enc:".length());
+        }
+    };
+
+    @BeforeAll
+    static void generateKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        keyPair = generator.generateKeyPair();
+    }
+
+    @Test
+    @DisplayName("ES256 모드 토큰은 kid 헤더를 가지고 다시 검증되어야 한다")
+    void shouldSignWithEs256AndKid() {
+        JwtProvider provider = es256Provider(true);
+
+        String token = provider.createAccessToken("user@nhnacademy.com");
+        Jws<Claims> jws = Jwts.parserBuilder().setSigningKey(keyPair.getPublic()).build().parseClaimsJws(token);
+
+        assertEquals("ES256", jws.getHeader().getAlgorithm());
+        assertEquals("key-1", jws.getHeader().getKeyId());
+        assertEquals("user@nhnacademy.com", provider.getUserIdFromToken(token));
+        assertTrue(provider.validateRefreshToken(provider.createRefreshToken()));
+    }
+
+    @Test
+    @DisplayName("JWKS의 공개 키만으로 토큰을 검증할 수 있어야 한다")
+    void shouldVerifyWithPublishedJwk() throws Exception {
+        JwtProvider provider = es256Provider(true);
+        String token = provider.createAccessToken("user@nhnacademy.com");
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) provider.getJwkSet().get("keys");
+        assertEquals(1, keys.size());
+        Map<String, Object> jwk = keys.get(0);
+        assertEquals("EC", jwk.get("kty"));
+        assertEquals("P-256", jwk.get("crv"));
+        assertEquals("key-1", jwk.get("kid"));
+        assertEquals(43, ((String) jwk.get("x")).length());
+        assertEquals(43, ((String) jwk.get("y")).length());
+
+        PublicKey publicKey = fromJwk(jwk);
+        assertDoesNotThrow(() -> Jwts.parserBuilder().setSigningKey(publicKey).build().parseClaimsJws(token));
+    }
+
+    @Test
+    @DisplayName("HS256 허용 시 전환 전 HS256 토큰도 검증되고, 허용하지 않으면 거절되어야 한다")
+    void shouldHonorHs256Fallback() {
+        String hs256Token = Jwts.builder()
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .claim("user_id", "enc:old@nhnacademy.com")
+                .signWith(Keys.hmacShaKeyFor(JWT_SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertEquals("old@nhnacademy.com", es256Provider(true).getUserIdFromToken(hs256Token));
+        assertThrows(TokenException.class, () -> es256Provider(false).getUserIdFromToken(hs256Token));
+    }
+
+    @Test
+    @DisplayName("다른 kid로 서명된 ES256 토큰은 거절되어야 한다")
+    void shouldRejectUnknownKid() {
+        String token = Jwts.builder()
+                .setHeaderParam("kid", "unknown")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(keyPair.getPrivate(), SignatureAlgorithm.ES256)
+                .compact();
+
+        assertThrows(TokenException.class, () -> es256Provider(true).verify(token));
+    }
+
+    @Test
+    @DisplayName("HS256 모드의 JWKS는 비어 있어야 한다")
+    void shouldPublishNoKeys_inHs256Mode() {
+        JwtProvider provider = provider("HS256", true);
+
+        assertEquals(List.of(), provider.getJwkSet().get("keys"));
+    }
+
+    private JwtProvider es256Provider(boolean hs256Fallback) {
+        return provider("ES256", hs256Fallback);
+    }
+
+    private JwtProvider provider(String algorithm, boolean hs256Fallback) {
+        JwtProvider provider = new JwtProvider(cipher, mock(SubjectService.class), new MockEnvironment());
+        ReflectionTestUtils.setField(provider, "jwtSecretKey", JWT_SECRET);
+        ReflectionTestUtils.setField(provider, "fastIssuerEnabled", true);
+        ReflectionTestUtils.setField(provider, "fastVerifierEnabled", true);
+        ReflectionTestUtils.setField(provider, "tokenProfile", "standard");
+        ReflectionTestUtils.setField(provider, "signingAlgorithm", algorithm);
+        ReflectionTestUtils.setField(provider, "signingKeyId", "key-1");
+        ReflectionTestUtils.setField(provider, "signingPrivateKey",
+                Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        ReflectionTestUtils.setField(provider, "signingPublicKey",
+                Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        ReflectionTestUtils.setField(provider, "hs256FallbackEnabled", hs256Fallback);
+        provider.init();
+        return provider;
+    }
+
+    private static PublicKey fromJwk(Map<String, Object> jwk) throws Exception {
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        BigInteger x = new BigInteger(1, decoder.decode((String) jwk.get("x")));
+        BigInteger y = new BigInteger(1, decoder.decode((String) jwk.get("y")));
+
+        AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+        parameters.init(new ECGenParameterSpec("secp256r1"));
+        ECParameterSpec spec = parameters.getParameterSpec(ECParameterSpec.class);
+
+        return KeyFactory.getInstance("EC").generatePublic(new ECPublicKeySpec(new ECPoint(x, y), spec));
+    }
+}
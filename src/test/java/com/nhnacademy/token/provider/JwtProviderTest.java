@@ -3,7 +3,6 @@ package com.nhnacademy.token.provider;
 import com.common.AESUtil;
 import com.nhnacademy.token.exception.FailCreateAccessTokenException;
 import com.nhnacademy.token.exception.TokenException;
-import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -20,11 +19,13 @@ import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.nio.charset.StandardCharsets;
-import java.security.Key;
 import java.util.Date;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @Slf4j
@@ -38,13 +39,13 @@ class JwtProviderTest {
     AESUtil aesUtil;
 
     @Test
-    @DisplayName("init() 실행 시 key와 parser가 초기화되어야 한다")
+    @DisplayName("init() 실행 시 키 링과 서명 키가 초기화되어야 한다")
     void shouldInitializeKeyAndParser_whenInitIsCalled() {
-        Key key = (Key) ReflectionTestUtils.getField(jwtProvider, "key");
-        JwtParser parser = (JwtParser) ReflectionTestUtils.getField(jwtProvider, "parser");
+        JwtKeyRing keyRing = (JwtKeyRing) ReflectionTestUtils.getField(jwtProvider, "keyRing");
 
-        assertNotNull(key);
-        assertNotNull(parser);
+        assertNotNull(keyRing);
+        assertNotNull(keyRing.signing().signingKey());
+        assertNotNull(keyRing.signing().parser());
     }
 
     @ParameterizedTest
@@ -66,6 +67,17 @@ class JwtProviderTest {
         assertNotNull(token);
     }
 
+    @Test
+    @DisplayName("지정한 jti로 AccessToken을 발급할 수 있어야 한다")
+    void shouldCreateAccessToken_givenTokenId() {
+        String tokenId = jwtProvider.newAccessTokenId();
+
+        String token = jwtProvider.createAccessToken("test@nhnacademy.com", tokenId);
+
+        assertEquals(16, tokenId.length());
+        assertEquals(tokenId, jwtProvider.verify(token).getTokenId());
+    }
+
     @Test
     @DisplayName("암호화 실패 시 FailCreateAccessTokenException 예외가 발생해야 한다")
     void shouldThrowFailCreateAccessTokenException_whenEncryptionFails() {
@@ -84,6 +96,31 @@ class JwtProviderTest {
         assertNotNull(token);
     }
 
+    @Test
+    @DisplayName("RefreshToken은 서명 없는 256비트 난수이고, 발급마다 달라야 한다")
+    void shouldCreateOpaqueRandomRefreshToken() {
+        String first = jwtProvider.createRefreshToken();
+        String second = jwtProvider.createRefreshToken();
+
+        assertEquals(43, first.length());
+        assertFalse(first.contains("."));
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("RefreshToken digest는 SHA-256이며 원본 토큰과 달라야 한다")
+    void shouldDigestRefreshTokenWithSha256() throws Exception {
+        String token = jwtProvider.createRefreshToken();
+
+        String digest = jwtProvider.digestRefreshToken(token);
+
+        byte[] expected = java.security.MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+        assertEquals(java.util.Base64.getUrlEncoder().withoutPadding().encodeToString(expected), digest);
+        assertNotEquals(token, digest);
+        assertEquals(digest, jwtProvider.digestRefreshToken(token));
+        assertTrue(jwtProvider.validateRefreshToken(digest));
+    }
+
     @Test
     @DisplayName("AccessToken에서 사용자 ID를 추출할 수 있어야 한다")
     void shouldExtractUserIdFromAccessToken() {
@@ -95,6 +132,77 @@ class JwtProviderTest {
         assertEquals(userId, savedId);
     }
 
+    @Test
+    @DisplayName("verify()는 한 번의 파싱으로 사용자 ID와 발급/만료 시각을 모두 반환해야 한다")
+    void shouldReturnVerifiedTokenWithAllClaims() {
+        String userId = "zzw123@naver.com";
+        String token = jwtProvider.createAccessToken(userId);
+
+        VerifiedToken verifiedToken = jwtProvider.verify(token);
+
+        assertEquals(token, verifiedToken.getRawToken());
+        assertEquals(userId, verifiedToken.getUserId());
+        assertTrue(verifiedToken.getIssuedAt() <= System.currentTimeMillis());
+        assertEquals(jwtProvider.getAccessTokenValidity(), verifiedToken.getExpiresAt() - verifiedToken.getIssuedAt());
+        assertTrue(verifiedToken.getRemainingExpiration() > 0);
+    }
+
+    @Test
+    @DisplayName("RefreshToken은 JWT가 아니므로 verify()와 사용자 ID 추출 시 TokenException이 발생해야 한다")
+    void shouldThrowTokenException_whenVerifyingRefreshToken() {
+        String refreshToken = jwtProvider.createRefreshToken();
+
+        assertThrows(TokenException.class, () -> jwtProvider.verify(refreshToken));
+        assertThrows(TokenException.class, () -> jwtProvider.getUserIdFromToken(refreshToken));
+    }
+
+    @Test
+    @DisplayName("검증 캐시가 켜져 있으면 같은 토큰은 한 번만 복호화하고, evict 후에는 다시 검증해야 한다")
+    void shouldReuseVerifiedToken_whenCacheEnabled() {
+        ReflectionTestUtils.setField(jwtProvider, "verifiedTokenCacheEnabled", true);
+        jwtProvider.init();
+        try {
+            String token = jwtProvider.createAccessToken("cache@nhnacademy.com");
+
+            VerifiedToken first = jwtProvider.verify(token);
+            VerifiedToken second = jwtProvider.verify(token);
+
+            assertSame(first, second);
+            verify(aesUtil, times(1)).decrypt(anyString());
+            assertEquals(1, jwtProvider.getVerifiedTokenCacheStats().getHitCount());
+
+            jwtProvider.evictVerified(token);
+            assertNotSame(first, jwtProvider.verify(token));
+            verify(aesUtil, times(2)).decrypt(anyString());
+        } finally {
+            ReflectionTestUtils.setField(jwtProvider, "verifiedTokenCacheEnabled", false);
+            jwtProvider.init();
+        }
+    }
+
+    @Test
+    @DisplayName("캐시를 놓친 검증 도중 같은 토큰이 evict되면 그 검증 결과는 캐시에 남지 않아야 한다")
+    void shouldNotCacheVerifiedToken_whenEvictedDuringVerification() {
+        ReflectionTestUtils.setField(jwtProvider, "verifiedTokenCacheEnabled", true);
+        jwtProvider.init();
+        try {
+            String token = jwtProvider.createAccessToken("race@nhnacademy.com");
+            doAnswer(invocation -> {
+                jwtProvider.evictVerified(token);
+                return invocation.callRealMethod();
+            }).when(aesUtil).decrypt(anyString());
+
+            VerifiedToken first = jwtProvider.verify(token);
+
+            assertNotSame(first, jwtProvider.verify(token));
+            verify(aesUtil, times(2)).decrypt(anyString());
+            assertEquals(0, jwtProvider.getVerifiedTokenCacheStats().getHitCount());
+        } finally {
+            ReflectionTestUtils.setField(jwtProvider, "verifiedTokenCacheEnabled", false);
+            jwtProvider.init();
+        }
+    }
+
     @Test
     @DisplayName("null 토큰에서 사용자 ID 추출 시 TokenException이 발생해야 한다")
     void shouldThrowTokenException_whenTokenIsNullForUserIdExtraction() {
@@ -102,21 +210,17 @@ class JwtProviderTest {
     }
 
     @Test
-    @DisplayName("AccessToken과 RefreshToken에서 만료 시각을 추출할 수 있어야 한다")
+    @DisplayName("AccessToken에서 만료 시각을 추출할 수 있어야 한다")
     void shouldExtractExpirationTimeFromTokens() {
         String userId = "zzw123@naver.com";
         String accessToken = jwtProvider.createAccessToken(userId);
-        String refreshToken = jwtProvider.createRefreshToken();
         Long millis = System.currentTimeMillis();
 
         Long accessTokenExpiration = jwtProvider.getExpiredAtFromToken(accessToken);
-        Long refreshTokenExpiration = jwtProvider.getExpiredAtFromToken(refreshToken);
 
         assertNotNull(accessTokenExpiration);
-        assertNotNull(refreshTokenExpiration);
 
         assertTrue(accessTokenExpiration - millis < 60 * 60 * 1000L);
-        assertTrue(refreshTokenExpiration - millis < 7 * 24 * 60 * 60 * 1000L);
     }
 
     @Test
@@ -130,16 +234,12 @@ class JwtProviderTest {
     void shouldReturnRemainingExpirationTimeFromTokens() {
         String userId = "zzw123@naver.com";
         String accessToken = jwtProvider.createAccessToken(userId);
-        String refreshToken = jwtProvider.createRefreshToken();
 
         Long accessTokenExpiration = jwtProvider.getRemainingExpiration(accessToken);
-        Long refreshTokenExpiration = jwtProvider.getRemainingExpiration(refreshToken);
 
         assertNotNull(accessTokenExpiration);
-        assertNotNull(refreshTokenExpiration);
 
         assertTrue(accessTokenExpiration < 60 * 60 * 1000L);
-        assertTrue(refreshTokenExpiration < 7 * 24 * 60 * 60 * 1000L);
     }
 
     @Test
@@ -162,6 +262,28 @@ class JwtProviderTest {
         assertTrue(jwtProvider.validateRefreshToken(refreshToken));
     }
 
+    @Test
+    @DisplayName("형식이 다른 RefreshToken이면 false를 반환해야 한다")
+    void shouldReturnFalse_whenRefreshTokenHasInvalidFormat() {
+        assertFalse(jwtProvider.validateRefreshToken(null));
+        assertFalse(jwtProvider.validateRefreshToken("short"));
+        assertFalse(jwtProvider.validateRefreshToken(jwtProvider.createRefreshToken().substring(1) + "="));
+    }
+
+    @Test
+    @DisplayName("전환 전에 저장된 JWT RefreshToken은 서명이 맞으면 true를 반환해야 한다")
+    void shouldReturnTrue_whenLegacyRefreshTokenHasValidSignature() {
+        JwtKeyRing keyRing = (JwtKeyRing) ReflectionTestUtils.getField(jwtProvider, "keyRing");
+        Date now = new Date();
+        String refreshToken = Jwts.builder()
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + jwtProvider.getRefreshTokenValidity()))
+                .signWith(keyRing.signing().signingKey(), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertTrue(jwtProvider.validateRefreshToken(refreshToken));
+    }
+
     @Test
     @DisplayName("서명 검증에 실패한 RefreshToken이면 false를 반환해야 한다")
     void shouldReturnFalse_whenRefreshTokenHasInvalidSignature() {
@@ -176,4 +298,37 @@ class JwtProviderTest {
 
         assertFalse(jwtProvider.validateRefreshToken(refreshToken));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("서명이 올바르고 만료 후 허용 시간 이내인 토큰은 재발급용 검증을 통과해야 한다")
+    void shouldVerifyRecentlyExpiredToken_whenWithinAllowedWindow() {
+        JwtKeyRing keyRing = (JwtKeyRing) ReflectionTestUtils.getField(jwtProvider, "keyRing");
+        long now = System.currentTimeMillis();
+        String expiredToken = Jwts.builder()
+                .setId("AAECAwQFBgcICQoL")
+                .setIssuedAt(new Date(now - 120_000L))
+                .setExpiration(new Date(now - 60_000L))
+                .signWith(keyRing.signing().signingKey(), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThrows(TokenException.class, () -> jwtProvider.verify(expiredToken));
+        assertThrows(TokenException.class, () -> jwtProvider.verifyAllowingExpired(expiredToken, 30_000L));
+
+        VerifiedToken verified = jwtProvider.verifyAllowingExpired(expiredToken, 600_000L);
+        assertEquals("AAECAwQFBgcICQoL", verified.getTokenId());
+        assertTrue(verified.getRemainingExpiration() <= 0);
+    }
+
+    @Test
+    @DisplayName("서명이 맞지 않는 만료 토큰은 허용 시간 이내여도 재발급용 검증에 실패해야 한다")
+    void shouldRejectExpiredToken_whenSignatureIsInvalid() {
+        long now = System.currentTimeMillis();
+        String expiredToken = Jwts.builder()
+                .setIssuedAt(new Date(now - 120_000L))
+                .setExpiration(new Date(now - 60_000L))
+                .signWith(Keys.hmacShaKeyFor("This-Secret-Key-Is-Test-Secret-Key222".getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThrows(TokenException.class, () -> jwtProvider.verifyAllowingExpired(expiredToken, 600_000L));
+    }
+}
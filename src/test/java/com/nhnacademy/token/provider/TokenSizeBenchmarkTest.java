@@ -0,0 +1,168 @@
+package com.nhnacademy.token.provider;
+
+import com.common.AESUtil;
+import com.nhnacademy.common.config.UserIdCipher;
+import com.nhnacademy.service.subject.SubjectService;
+import com.nhnacademy.token.exception.TokenException;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * standard 프로필과 compact 프로필 access token의 크기를 비교합니다.
+ * <p>
+ * 토큰 자체, {@code accessToken} 쿠키 헤더, 블랙리스트 Redis key의 바이트 수를 로그로 남기고,
+ * compact 토큰이 항상 더 작고 사용자 ID 길이와 무관하게 고정 크기인지 확인합니다.
+ */
+@Slf4j
+class TokenSizeBenchmarkTest {
+
+    private static final String JWT_SECRET = "This-Secret-Key-Is-Test-Secret-Key111";
+    private static final String AES_SECRET = "test-aes-secret-key";
+    private static final String[] USER_IDS = {
+            "a@b.co",
+            "zzw123@naver.com",
+            "very.long.user.name.for.benchmark@nhnacademy-aiot2-lucky7.example.com"
+    };
+
+    private final InMemorySubjectService subjectService = new InMemorySubjectService();
+
+    @Test
+    @DisplayName("compact 토큰은 standard 토큰보다 작고 사용자 ID 길이와 무관하게 크기가 같아야 한다")
+    void compareTokenSizes() {
+        AESUtil aesUtil = new AESUtil();
+        aesUtil.setKey(AES_SECRET);
+        UserIdCipher legacy = new UserIdCipher() {
+            @Override
+            public String encrypt(String userId) {
+                return aesUtil.encrypt(userId);
+            }
+
+            @Override
+            public String decrypt(String cipherText) {
+                return aesUtil.decrypt(cipherText);
+            }
+        };
+
+        JwtProvider standard = provider(legacy, "standard");
+        JwtProvider compact = provider(legacy, "compact");
+
+        int compactLength = -1;
+        for (String userId : USER_IDS) {
+            String standardToken = standard.createAccessToken(userId);
+            String compactToken = compact.createAccessToken(userId);
+
+            log.info("[TokenSize] userId={}B | token standard={}B compact={}B | cookie standard={}B compact={}B | blacklist key standard={}B compact={}B",
+                    bytes(userId),
+                    bytes(standardToken), bytes(compactToken),
+                    bytes(cookie(standardToken)), bytes(cookie(compactToken)),
+                    bytes("blacklist:" + standardToken), bytes("blacklist:" + compactToken));
+
+            assertTrue(compactToken.length() < standardToken.length());
+            if (compactLength < 0) {
+                compactLength = compactToken.length();
+            }
+            assertEquals(compactLength, compactToken.length());
+        }
+    }
+
+    @Test
+    @DisplayName("compact 토큰의 사용자 ID는 처음 조회할 때 subject 매핑으로 한 번만 복원되어야 한다")
+    void shouldResolveUserIdLazily_forCompactToken() {
+        JwtProvider compact = provider(new PlainCipher(), "compact");
+
+        String token = compact.createAccessToken("zzw123@naver.com");
+        int lookups = subjectService.lookups;
+        VerifiedToken verified = compact.verify(token);
+
+        assertNotNull(verified.getTokenId());
+        assertEquals(compact.subjectIdOf("zzw123@naver.com"), verified.getSubject());
+        assertEquals(lookups, subjectService.lookups);
+
+        assertEquals("zzw123@naver.com", verified.getUserId());
+        assertEquals("zzw123@naver.com", verified.getUserId());
+        assertEquals(lookups + 1, subjectService.lookups);
+    }
+
+    @Test
+    @DisplayName("compact 토큰은 발급마다 jti가 다르고 같은 사용자의 subject는 같아야 한다")
+    void shouldUseRandomTokenId_andStableSubject() {
+        JwtProvider compact = provider(new PlainCipher(), "compact");
+
+        VerifiedToken first = compact.verify(compact.createAccessToken("user@nhnacademy.com"));
+        VerifiedToken second = compact.verify(compact.createAccessToken("user@nhnacademy.com"));
+        VerifiedToken other = compact.verify(compact.createAccessToken("other@nhnacademy.com"));
+
+        assertNotEquals(first.getTokenId(), second.getTokenId());
+        assertEquals(first.getSubject(), second.getSubject());
+        assertNotEquals(first.getSubject(), other.getSubject());
+    }
+
+    @Test
+    @DisplayName("subject 매핑이 없으면 사용자 ID 조회 시 TokenException이 발생해야 한다")
+    void shouldThrow_whenSubjectMappingIsMissing() {
+        JwtProvider compact = provider(new PlainCipher(), "compact");
+
+        String token = compact.createAccessToken("user@nhnacademy.com");
+        subjectService.mappings.clear();
+
+        VerifiedToken verified = compact.verify(token);
+        assertThrows(TokenException.class, verified::getUserId);
+    }
+
+    private JwtProvider provider(UserIdCipher cipher, String profile) {
+        JwtProvider provider = new JwtProvider(cipher, subjectService, new MockEnvironment());
+        ReflectionTestUtils.setField(provider, "jwtSecretKey", JWT_SECRET);
+        ReflectionTestUtils.setField(provider, "fastIssuerEnabled", true);
+        ReflectionTestUtils.setField(provider, "fastVerifierEnabled", true);
+        ReflectionTestUtils.setField(provider, "tokenProfile", profile);
+        ReflectionTestUtils.setField(provider, "signingAlgorithm", "HS256");
+        provider.init();
+        return provider;
+    }
+
+    private static String cookie(String token) {
+        return "accessToken=" + token;
+    }
+
+    private static int bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static final class PlainCipher implements UserIdCipher {
+        @Override
+        public String encrypt(String userId) {
+            return "enc:" + userId;
+        }
+
+        @Override
+        public String decrypt(String cipherText) {
+            return cipherText.substring("enc:".length());
+        }
+    }
+
+    private static final class InMemorySubjectService implements SubjectService {
+        private final Map<String, String> mappings = new HashMap<>();
+        private int lookups;
+
+        @Override
+        public void register(String subjectId, Supplier<String> encryptedUserId, long tokenLifetimeMillis) {
+            mappings.computeIfAbsent(subjectId, id -> encryptedUserId.get());
+        }
+
+        @Override
+        public String findEncryptedUserId(String subjectId) {
+            lookups++;
+            return mappings.get(subjectId);
+        }
+    }
+}